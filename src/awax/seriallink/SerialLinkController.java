@@ -27,16 +27,29 @@ import java.awt.Color;
 import java.awt.Font;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import javax.swing.SwingUtilities;
 
 import org.apache.log4j.Logger;
 
+import awax.seriallink.seriallink.OverflowPolicy;
+import awax.seriallink.seriallink.ReceiveMode;
+import awax.seriallink.seriallink.ReconfigurePolicy;
+import awax.seriallink.seriallink.SerialLinkAutodetector;
 import awax.seriallink.seriallink.SerialLinkClient;
 import awax.seriallink.seriallink.SerialLinkConnectionException;
+import awax.seriallink.seriallink.SerialLinkDiscovery;
 import awax.seriallink.seriallink.SerialLinkEvent;
 import awax.seriallink.seriallink.SerialLinkEventListener;
+import awax.seriallink.seriallink.SerialLinkFuture;
+import awax.seriallink.seriallink.SerialLinkFutureListener;
 import awax.seriallink.seriallink.SerialLinkParameters;
+import awax.seriallink.seriallink.SerialLinkState;
+import awax.seriallink.seriallink.SerialLinkStateListener;
+import awax.seriallink.seriallink.SerialLinkSupervisor;
+import awax.seriallink.seriallink.TransmitPriority;
 
 /**
  * Contrôleur de la fenêtre de gestion de la liaison série.
@@ -45,11 +58,19 @@ import awax.seriallink.seriallink.SerialLinkParameters;
  * @created 28 avr. 2014
  * @version 1.0
  */
-public class SerialLinkController implements SerialLinkEventListener {
+public class SerialLinkController implements SerialLinkEventListener, SerialLinkStateListener {
+
+	/** Nombre maximal de messages en attente d'affichage dans la console. */
+	private static final int CONSOLE_QUEUE_CAPACITY = 256;
+
+	/** Durée maximale de la détection automatique, en secondes. */
+	private static final long AUTODETECT_TIMEOUT = 10;
 
 	private final SerialLinkModel model;
 	private final SerialLinkView view;
 	private final Logger logger;
+	private final SerialLinkSupervisor supervisor;
+	private final SerialLinkDiscovery discovery;
 
 	/**
 	 * Permet d'intancier le contrôleur de la fenêtre de gestion de la liaison
@@ -62,6 +83,18 @@ public class SerialLinkController implements SerialLinkEventListener {
 		this.model = model;
 		this.view = new SerialLinkView(model, this);
 		this.logger = Logger.getLogger(SerialLinkController.class);
+		// Les ports sont énumérés en arrière-plan dès le démarrage
+		this.discovery = new SerialLinkDiscovery("SerialLink");
+		this.discovery.getPortsAsync();
+		if (model.getSerialLinkClient() != null) {
+			model.getSerialLinkClient().addStateListener(this);
+			// La liaison est rouverte automatiquement si le périphérique
+			// disparaît
+			this.supervisor = new SerialLinkSupervisor(model.getSerialLinkClient());
+			this.supervisor.start();
+		} else {
+			this.supervisor = null;
+		}
 	}
 
 	@Override
@@ -109,6 +142,34 @@ public class SerialLinkController implements SerialLinkEventListener {
 		}
 	}
 
+	@Override
+	public void onStateChanged (SerialLinkClient client, SerialLinkState oldState, SerialLinkState newState) {
+		this.logger.debug(client.getSerialParams().getComId() + " : " + oldState + " -> " + newState);
+		this.view.setState(newState);
+		if (newState == SerialLinkState.DEGRADED) {
+			appendConsole(client.getSerialParams().getComId() + " is degraded", Color.red);
+		}
+	}
+
+	/**
+	 * Permet de proposer à la vue les ports série présents, tels que connus du
+	 * service de découverte. Les ports sont énumérés hors du thread de
+	 * l'interface graphique si le cache du service n'est plus à jour.
+	 */
+	public void refreshAvailablePorts () {
+		this.discovery.getPortsAsync().addListener(new SerialLinkFutureListener<List<String>>() {
+
+			@Override
+			public void onComplete (SerialLinkFuture<List<String>> future) {
+				if (future.isSuccess()) {
+					view.setAvailablePorts(future.getNow());
+				} else {
+					logger.error("Failed to list the serial ports", future.getCause());
+				}
+			}
+		});
+	}
+
 	/**
 	 * Permet d'afficher l'interface graphique de l'application.
 	 */
@@ -125,33 +186,29 @@ public class SerialLinkController implements SerialLinkEventListener {
 		// Tentative de connexion
 		if (client != null) {
 			if (!client.isConnected()) {
-				SwingUtilities.invokeLater(new Runnable() {
+				this.logger.info("Opening " + serialParams.getComId() + "...");
+				appendConsole("Opening " + serialParams.getComId() + "...", Color.blue);
+				// Le client travaille sur sa propre copie des paramètres saisis
+				client.setSerialParams(new SerialLinkParameters(serialParams));
+				// L'ouverture peut bloquer : elle est réalisée hors du thread de
+				// l'interface graphique, qui suit l'état de la liaison
+				client.openAsync().addListener(new SerialLinkFutureListener<Void>() {
 
 					@Override
-					public void run () {
-						try {
-							logger.info("Opening " + serialParams.getComId() + "...");
-							appendConsole("Opening " + serialParams.getComId() + "...", Color.blue);
-							client.setSerialParams(model.getSerialParams());
-							client.open();
-							client.addSerialEventListener(SerialLinkController.this);
-
-							// Si la connexion a réussie
-							if (client.isConnected()) {
-								logger.info(serialParams.getComId() + " now connected");
-								appendConsole(serialParams.getComId() + " now connected", Color.blue);
-								view.setConnected(client.isConnected());
-							} else {
-								logger.error(serialParams.getComId() + " connection failed");
-								appendConsole(serialParams.getComId() + " connection failed", Color.red);
-								view.appendError("Connection failed", "Connection to port "
-										+ client.getSerialParams().getComId() + " failed.");
-							}
-						} catch (SerialLinkConnectionException e) {
-							logger.error("Connection to " + client.getSerialParams().getComId() + " failed", e);
-							appendConsole("Connection to " + client.getSerialParams().getComId() + " failed", Color.red);
-							view.appendError("Connection failed", "Connection to port "
-									+ client.getSerialParams().getComId() + " failed.\n\n" + e.getMessage());
+					public void onComplete (SerialLinkFuture<Void> future) {
+						if (future.isSuccess()) {
+							// La console est notifiée de manière asynchrone pour ne
+							// jamais ralentir la réception
+							client.addSerialEventListener(SerialLinkController.this, CONSOLE_QUEUE_CAPACITY,
+									OverflowPolicy.COALESCE, null);
+							logger.info(serialParams.getComId() + " now connected");
+							appendConsole(serialParams.getComId() + " now connected", Color.blue);
+						} else {
+							Throwable cause = future.getCause();
+							logger.error("Connection to " + serialParams.getComId() + " failed", cause);
+							appendConsole("Connection to " + serialParams.getComId() + " failed", Color.red);
+							view.appendError("Connection failed", "Connection to port " + serialParams.getComId()
+									+ " failed." + (cause != null ? "\n\n" + cause.getMessage() : ""));
 						}
 					}
 				});
@@ -165,34 +222,145 @@ public class SerialLinkController implements SerialLinkEventListener {
 	 * Permet de déconnecter la liaison série.
 	 */
 	public void disconnectSerialLink () {
-		SerialLinkParameters serialParams = this.model.getSerialParams();
-		SerialLinkClient client = this.model.getSerialLinkClient();
+		final SerialLinkParameters serialParams = this.model.getSerialParams();
+		final SerialLinkClient client = this.model.getSerialLinkClient();
 		if (client != null) {
-			client.close();
+			if (this.supervisor != null) {
+				this.supervisor.cancel();
+			}
 			client.removeSerialEventListener(this);
-			this.logger.info(serialParams.getComId() + " is now disconnected");
-			appendConsole(serialParams.getComId() + " is now disconnected", Color.blue);
-			this.view.setConnected(client.isConnected());
+			client.closeAsync().addListener(new SerialLinkFutureListener<Void>() {
+
+				@Override
+				public void onComplete (SerialLinkFuture<Void> future) {
+					logger.info(serialParams.getComId() + " is now disconnected");
+					appendConsole(serialParams.getComId() + " is now disconnected", Color.blue);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Permet d'appliquer les paramètres saisis à la liaison ouverte, sans la
+	 * fermer. Les écritures en attente sont transmises au préalable.
+	 */
+	public void reconfigureSerialLink () {
+		final SerialLinkClient client = this.model.getSerialLinkClient();
+		if (client == null || !client.isConnected()) {
+			return;
+		}
+		final String comId = client.getSerialParams().getComId();
+		client.reconfigureAsync(this.model.getSerialParams(), ReconfigurePolicy.DRAIN).addListener(
+				new SerialLinkFutureListener<Void>() {
+
+					@Override
+					public void onComplete (SerialLinkFuture<Void> future) {
+						if (future.isSuccess()) {
+							logger.info(comId + " reconfigured");
+							appendConsole(comId + " reconfigured", Color.blue);
+						} else {
+							logger.error("Reconfiguration of " + comId + " failed", future.getCause());
+							appendConsole("Reconfiguration of " + comId + " failed", Color.red);
+							view.appendError("Reconfiguration failed", "The parameters of " + comId
+									+ " could not be changed.\n\n" + future.getCause().getMessage());
+						}
+					}
+				});
+	}
+
+	/**
+	 * Permet de détecter le débit et le format de trame de la liaison ouverte
+	 * d'après le trafic reçu. Les paramètres détectés sont appliqués sans
+	 * fermer le port puis affichés.
+	 */
+	public void autodetectSerialLink () {
+		final SerialLinkClient client = this.model.getSerialLinkClient();
+		if (client == null || !client.isConnected()) {
+			this.view.appendError("Autodetect failed", "The serial link must be open to detect its parameters.");
+			return;
 		}
+		final String comId = client.getSerialParams().getComId();
+		this.logger.info("Detecting the parameters of " + comId + "...");
+		appendConsole("Detecting the parameters of " + comId + "...", Color.blue);
+		new SerialLinkAutodetector(client).detectAsync(AUTODETECT_TIMEOUT, TimeUnit.SECONDS).addListener(
+				new SerialLinkFutureListener<SerialLinkParameters>() {
+
+					@Override
+					public void onComplete (SerialLinkFuture<SerialLinkParameters> future) {
+						if (future.isSuccess()) {
+							final SerialLinkParameters params = future.getNow();
+							logger.info(comId + " detected at " + params.getBaudRate() + " bauds");
+							appendConsole(comId + " detected at " + params.getBaudRate() + " bauds", Color.blue);
+							SwingUtilities.invokeLater(new Runnable() {
+
+								@Override
+								public void run () {
+									view.updateParameters(params);
+								}
+							});
+						} else {
+							logger.error("Parameters detection of " + comId + " failed", future.getCause());
+							appendConsole("Parameters detection of " + comId + " failed", Color.red);
+						}
+					}
+				});
 	}
 
 	/**
-	 * Permet d'envoyer un message sur la liaison série.
+	 * Permet d'envoyer un message sur la liaison série. L'envoi est
+	 * asynchrone afin de ne pas bloquer le thread de l'interface graphique
+	 * pendant la transmission ; un échec est affiché dans la console.
 	 * 
 	 * @param msg
 	 *            Message à envoyer sur la liaison série.
 	 * @throws SerialLinkConnectionException
-	 *             Si une erreur survient pendant l'envoi, une exception est
+	 *             Si la liaison série n'est pas connectée, une exception est
 	 *             lancée.
 	 */
 	public void sendMessage (String msg) throws SerialLinkConnectionException {
-		SerialLinkParameters serialParams = this.model.getSerialParams();
+		sendMessage(msg, TransmitPriority.NORMAL);
+	}
+
+	/**
+	 * Permet d'envoyer un message sur la liaison série dans la voie de
+	 * transmission spécifiée : un message envoyé dans la voie
+	 * {@link TransmitPriority#URGENT} passe devant les messages en attente
+	 * dans les autres voies. Dans la voie {@link TransmitPriority#BULK}, le
+	 * message est découpé en morceaux bornés, après ses fins de ligne si
+	 * possible, entre lesquels les messages urgents sont transmis ; dans les
+	 * autres voies, il forme une seule trame, jamais découpée.
+	 * 
+	 * @param msg
+	 *            Message à envoyer sur la liaison série.
+	 * @param priority
+	 *            Voie de transmission.
+	 * @throws SerialLinkConnectionException
+	 *             Si la liaison série n'est pas connectée, une exception est
+	 *             lancée.
+	 */
+	public void sendMessage (String msg, TransmitPriority priority) throws SerialLinkConnectionException {
+		final SerialLinkParameters serialParams = this.model.getSerialParams();
 		SerialLinkClient client = this.model.getSerialLinkClient();
 		// Si le client est connecté
 		if (client != null && client.isConnected()) {
 			this.logger.info("Sending a message on " + serialParams.getComId());
 			appendConsole("Sending a message on " + serialParams.getComId(), Color.green.darker());
-			client.write(msg);
+			final SerialLinkFuture<Void> future;
+			if (priority == TransmitPriority.BULK) {
+				future = client.writeBulkAsync(msg.getBytes());
+			} else {
+				future = client.writeAsync(msg.getBytes(), priority);
+			}
+			future.addListener(new SerialLinkFutureListener<Void>() {
+
+				@Override
+				public void onComplete (SerialLinkFuture<Void> future) {
+					if (!future.isSuccess()) {
+						logger.error("Sending a message on " + serialParams.getComId() + " failed", future.getCause());
+						appendConsole("Sending a message on " + serialParams.getComId() + " failed", Color.red);
+					}
+				}
+			});
 		} else {
 			throw new SerialLinkConnectionException("Client disconnected");
 		}
@@ -231,9 +399,11 @@ public class SerialLinkController implements SerialLinkEventListener {
 	 *            Type de parité.
 	 * @param recvTimeout
 	 *            Temps de timeout sur la réception.
+	 * @param receiveMode
+	 *            Mode de détection de la fin de réception.
 	 */
 	public void updateSerialParameters (String comId, int baudRate, String flowControlIn, String flowControlOut,
-			int databits, String stopbits, String parity, int recvTimeout) {
+			int databits, String stopbits, String parity, int recvTimeout, ReceiveMode receiveMode) {
 		SerialLinkParameters params = this.model.getSerialParams();
 		params.setComId(comId);
 		params.setBaudRate(baudRate);
@@ -243,6 +413,7 @@ public class SerialLinkController implements SerialLinkEventListener {
 		params.setStopbits(stopbits);
 		params.setParity(parity);
 		params.setRecvTimeout(recvTimeout);
+		params.setReceiveMode(receiveMode);
 	}
 
 	/*
@@ -27,7 +27,9 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.List;
 
+import javax.swing.DefaultComboBoxModel;
 import javax.swing.JButton;
 import javax.swing.JComboBox;
 import javax.swing.JFrame;
@@ -36,10 +38,11 @@ import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JSpinner;
-import javax.swing.JTextField;
 import javax.swing.JTextPane;
 import javax.swing.SpinnerNumberModel;
 import javax.swing.SwingUtilities;
+import javax.swing.event.PopupMenuEvent;
+import javax.swing.event.PopupMenuListener;
 import javax.swing.text.BadLocationException;
 import javax.swing.text.Style;
 import javax.swing.text.StyleConstants;
@@ -50,7 +53,9 @@ import org.apache.log4j.Logger;
 
 import awax.seriallink.seriallink.FlowControl;
 import awax.seriallink.seriallink.Parity;
+import awax.seriallink.seriallink.ReceiveMode;
 import awax.seriallink.seriallink.SerialLinkParameters;
+import awax.seriallink.seriallink.SerialLinkState;
 import net.miginfocom.swing.MigLayout;
 
 /**
@@ -76,6 +81,7 @@ public class SerialLinkView extends JFrame implements ActionListener {
 	private JLabel lblStopBits;
 	private JLabel lblParity;
 	private JLabel lblRecvTimeout;
+	private JLabel lblReceiveMode;
 	private JLabel lblState;
 	private JLabel lblLedConnected;
 	private JLabel lblActivity;
@@ -88,11 +94,14 @@ public class SerialLinkView extends JFrame implements ActionListener {
 	private JComboBox<String> boxStopBits;
 	private JComboBox<Parity> boxParity;
 	private JSpinner spRecvTimeout;
+	private JComboBox<ReceiveMode> boxReceiveMode;
 
 	private JButton btnOpenPort;
 	private JButton btnClosePort;
+	private JButton btnApply;
+	private JButton btnAutodetect;
 
-	private JTextField tfPortName;
+	private JComboBox<String> boxPortName;
 	private JTextPane console;
 
 	/**
@@ -134,6 +143,65 @@ public class SerialLinkView extends JFrame implements ActionListener {
 		this.lblLedConnected.setIcon(isConnected ? SerialLinkModel.LED_GREEN : SerialLinkModel.LED_RED);
 	}
 
+	/**
+	 * Permet d'afficher l'état de la liaison série. La LED est grise pendant
+	 * l'ouverture et la fermeture, et les boutons ne sont actifs que dans les
+	 * états où leur action est possible. Peut être appelée depuis n'importe
+	 * quel thread.
+	 * 
+	 * @param state
+	 *            Etat de la liaison série.
+	 */
+	public void setState (final SerialLinkState state) {
+		SwingUtilities.invokeLater(new Runnable() {
+
+			@Override
+			public void run () {
+				switch (state) {
+					case OPEN:
+						lblLedConnected.setIcon(SerialLinkModel.LED_GREEN);
+						break;
+					case OPENING:
+					case CLOSING:
+						lblLedConnected.setIcon(SerialLinkModel.LED_GRAY);
+						break;
+					default:
+						lblLedConnected.setIcon(SerialLinkModel.LED_RED);
+						break;
+				}
+				lblLedConnected.setToolTipText(state.name());
+				btnOpenPort.setEnabled(state == SerialLinkState.CLOSED);
+				btnClosePort.setEnabled(state.isOpen());
+				btnApply.setEnabled(state.isOpen());
+				btnAutodetect.setEnabled(state.isOpen());
+			}
+		});
+	}
+
+	/**
+	 * Permet de proposer les ports spécifiés dans la liste des ports, le nom
+	 * saisi étant conservé. Peut être appelée depuis n'importe quel thread.
+	 * 
+	 * @param ports
+	 *            Noms des ports présents.
+	 */
+	public void setAvailablePorts (final List<String> ports) {
+		final Runnable update = new Runnable() {
+
+			@Override
+			public void run () {
+				Object current = boxPortName.getEditor().getItem();
+				boxPortName.setModel(new DefaultComboBoxModel<>(ports.toArray(new String[0])));
+				boxPortName.setSelectedItem(current);
+			}
+		};
+		if (SwingUtilities.isEventDispatchThread()) {
+			update.run();
+		} else {
+			SwingUtilities.invokeLater(update);
+		}
+	}
+
 	/**
 	 * Permet de mettre à jour l'interface graphique avec les paramètres
 	 * précisés.
@@ -142,7 +210,7 @@ public class SerialLinkView extends JFrame implements ActionListener {
 	 *            Nouveaux paramètres à prendre en compte.
 	 */
 	public void updateParameters (final SerialLinkParameters params) {
-		this.tfPortName.setText(params.getComId());
+		this.boxPortName.setSelectedItem(params.getComId());
 		this.boxBaudRate.setSelectedItem(params.getBaudRate());
 		this.boxFlowControlIn.setSelectedItem(SerialLinkParameters.getFlowControl(params.getFlowControlIn()));
 		this.boxFlowControlOut.setSelectedItem(SerialLinkParameters.getFlowControl(params.getFlowControlOut()));
@@ -150,6 +218,7 @@ public class SerialLinkView extends JFrame implements ActionListener {
 		this.boxStopBits.setSelectedItem(params.getStopbits());
 		this.boxParity.setSelectedItem(params.getParity());
 		this.spRecvTimeout.setValue(params.getRecvTimeout());
+		this.boxReceiveMode.setSelectedItem(params.getReceiveMode());
 	}
 
 	/**
@@ -244,13 +313,17 @@ public class SerialLinkView extends JFrame implements ActionListener {
 		this.lblStopBits = new JLabel("Stop Bits :");
 		this.lblParity = new JLabel("Parity : ");
 		this.lblRecvTimeout = new JLabel("Receive Timeout (ms) :");
+		this.lblReceiveMode = new JLabel("Receive Mode :");
 		this.lblState = new JLabel("State :");
 		this.lblActivity = new JLabel("Activity :");
 		this.lblLedConnected = new JLabel(SerialLinkModel.LED_GRAY);
 		this.lblIncomingMsgLED = new JLabel(SerialLinkModel.LED_GRAY);
 
-		String[] baudRates =
-				{"300", "1200", "2400", "4800", "9600", "14400", "19200", "28800", "38400", "57600", "115200", "230400" };
+		int[] standardBaudRates = SerialLinkParameters.getStandardBaudRates();
+		String[] baudRates = new String[standardBaudRates.length];
+		for (int i = 0; i < standardBaudRates.length; i++) {
+			baudRates[i] = String.valueOf(standardBaudRates[i]);
+		}
 		String[] databits = {"5", "6", "7", "8" };
 		String[] stopbits = {"1", "1.5", "2" };
 		this.boxBaudRate = new JComboBox<>(baudRates);
@@ -261,11 +334,36 @@ public class SerialLinkView extends JFrame implements ActionListener {
 		this.boxParity = new JComboBox<>(Parity.values());
 		this.spRecvTimeout =
 				new JSpinner(new SpinnerNumberModel(this.model.getSerialParams().getRecvTimeout(), 1, 10000, 1));
+		this.boxReceiveMode = new JComboBox<>(ReceiveMode.values());
 
 		this.btnOpenPort = new JButton("Open Port");
 		this.btnClosePort = new JButton("Close Port");
+		this.btnApply = new JButton("Apply");
+		this.btnApply.setToolTipText("Apply the parameters to the open port");
+		this.btnApply.setEnabled(false);
+		this.btnAutodetect = new JButton("Autodetect");
+		this.btnAutodetect.setToolTipText("Detect the baud rate and frame format from the incoming traffic");
+		this.btnAutodetect.setEnabled(false);
+
+		// Les ports découverts sont proposés, la saisie d'un nom restant
+		// possible
+		this.boxPortName = new JComboBox<>();
+		this.boxPortName.setEditable(true);
+		this.boxPortName.addPopupMenuListener(new PopupMenuListener() {
+
+			@Override
+			public void popupMenuWillBecomeVisible (PopupMenuEvent e) {
+				controller.refreshAvailablePorts();
+			}
 
-		this.tfPortName = new JTextField();
+			@Override
+			public void popupMenuWillBecomeInvisible (PopupMenuEvent e) {
+			}
+
+			@Override
+			public void popupMenuCanceled (PopupMenuEvent e) {
+			}
+		});
 
 		this.console = new JTextPane();
 		this.console.setEditable(false);
@@ -280,7 +378,7 @@ public class SerialLinkView extends JFrame implements ActionListener {
 	private void setStyle () {
 		JPanel paramsPanel = new JPanel(new MigLayout("", "[][100]20[][100]", ""));
 		paramsPanel.add(this.lblPortName, "");
-		paramsPanel.add(this.tfPortName, "grow");
+		paramsPanel.add(this.boxPortName, "grow");
 		paramsPanel.add(this.lblBaudRate, "");
 		paramsPanel.add(this.boxBaudRate, "grow, wrap");
 		paramsPanel.add(this.lblFlowControlIn, "");
@@ -294,12 +392,16 @@ public class SerialLinkView extends JFrame implements ActionListener {
 		paramsPanel.add(this.lblParity, "");
 		paramsPanel.add(this.boxParity, "grow");
 		paramsPanel.add(this.lblRecvTimeout, "");
-		paramsPanel.add(this.spRecvTimeout, "grow");
+		paramsPanel.add(this.spRecvTimeout, "grow, wrap");
+		paramsPanel.add(this.lblReceiveMode, "");
+		paramsPanel.add(this.boxReceiveMode, "grow");
 
 		JPanel mainPanel = new JPanel(new MigLayout(""));
 		mainPanel.add(paramsPanel, "wrap");
-		mainPanel.add(this.btnOpenPort, "split 6, span, center");
+		mainPanel.add(this.btnOpenPort, "split 8, span, center");
 		mainPanel.add(this.btnClosePort, "");
+		mainPanel.add(this.btnApply, "");
+		mainPanel.add(this.btnAutodetect, "");
 		mainPanel.add(this.lblState, "");
 		mainPanel.add(this.lblLedConnected, "");
 		mainPanel.add(this.lblActivity, "");
@@ -315,6 +417,8 @@ public class SerialLinkView extends JFrame implements ActionListener {
 	private void setOnListeners () {
 		this.btnOpenPort.addActionListener(this);
 		this.btnClosePort.addActionListener(this);
+		this.btnApply.addActionListener(this);
+		this.btnAutodetect.addActionListener(this);
 	}
 
 	@Override
@@ -327,18 +431,34 @@ public class SerialLinkView extends JFrame implements ActionListener {
 
 			// Open Port
 			if (this.btnOpenPort.equals(btn)) {
-				this.controller.updateSerialParameters(this.tfPortName.getText(), Integer.parseInt(this.boxBaudRate
-						.getSelectedItem().toString()), this.boxFlowControlIn.getSelectedItem().toString(),
-						this.boxFlowControlOut.getSelectedItem().toString(), Integer.parseInt(this.boxDataBits
-								.getSelectedItem().toString()), this.boxStopBits.getSelectedItem().toString(),
-						this.boxParity.getSelectedItem().toString(), Integer.parseInt(this.spRecvTimeout.getValue()
-								.toString()));
+				updateSerialParameters();
 				this.controller.connectSerialLink();
 			}
 			// Close Port
 			else if (this.btnClosePort.equals(btn)) {
 				this.controller.disconnectSerialLink();
 			}
+			// Apply
+			else if (this.btnApply.equals(btn)) {
+				updateSerialParameters();
+				this.controller.reconfigureSerialLink();
+			}
+			// Autodetect
+			else if (this.btnAutodetect.equals(btn)) {
+				this.controller.autodetectSerialLink();
+			}
 		}
 	}
+
+	/**
+	 * Permet de transmettre au contrôleur les paramètres saisis.
+	 */
+	private void updateSerialParameters () {
+		this.controller.updateSerialParameters(String.valueOf(this.boxPortName.getEditor().getItem()),
+				Integer.parseInt(this.boxBaudRate.getSelectedItem().toString()), this.boxFlowControlIn
+						.getSelectedItem().toString(), this.boxFlowControlOut.getSelectedItem().toString(),
+				Integer.parseInt(this.boxDataBits.getSelectedItem().toString()), this.boxStopBits.getSelectedItem()
+						.toString(), this.boxParity.getSelectedItem().toString(), Integer.parseInt(this.spRecvTimeout
+						.getValue().toString()), (ReceiveMode) this.boxReceiveMode.getSelectedItem());
+	}
 }
\ No newline at end of file
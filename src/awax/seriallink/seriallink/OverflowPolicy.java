@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+/**
+ * Permet de spécifier le comportement d'un abonné asynchrone lorsque sa file
+ * d'attente est pleine.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public enum OverflowPolicy {
+	/** Le thread de réception attend que de la place se libère. */
+	BLOCK,
+	/** L'évènement le plus ancien de la file est abandonné. */
+	DROP_OLDEST,
+	/** Le nouvel évènement est abandonné. */
+	DROP_NEWEST,
+	/**
+	 * Les évènements en attente et le nouvel évènement sont fusionnés en un
+	 * seul. Les limites entre les réceptions sont perdues : cette politique
+	 * est refusée lorsque le client découpe le flux en trames.
+	 */
+	COALESCE;
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+/**
+ * Permet de spécifier la manière dont la fin d'une réception est détectée,
+ * c'est-à-dire le compromis entre latence et regroupement des données.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public enum ReceiveMode {
+	/**
+	 * Les données sont lues jusqu'à expiration du timeout de réception : chaque
+	 * réception est retardée de ce timeout.
+	 */
+	TIMEOUT,
+	/**
+	 * Les lectures sont débloquées dès le premier octet disponible, le timeout
+	 * étant ramené à la durée du silence inter-caractères (arrondie à la
+	 * milliseconde supérieure).
+	 */
+	THRESHOLD,
+	/**
+	 * Les données sont lues sans blocage et la réception est notifiée dès que
+	 * la ligne est restée silencieuse pendant la durée du silence
+	 * inter-caractères, mesurée à la nanoseconde.
+	 */
+	GAP;
+}
\ No newline at end of file
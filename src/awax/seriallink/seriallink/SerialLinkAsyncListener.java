@@ -0,0 +1,361 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Abonné asynchrone disposant de sa propre file d'attente bornée et de son
+ * propre exécuteur. Les données reçues sont copiées dans la file puis
+ * notifiées à l'abonné cible depuis l'exécuteur, de sorte qu'un abonné lent ne
+ * ralentisse ni la réception ni les autres abonnés. Le comportement lorsque la
+ * file est pleine est défini par une {@link OverflowPolicy}.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class SerialLinkAsyncListener implements SerialLinkDataListener {
+
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+	private final Logger logger;
+	private final SerialLinkDataListener target;
+	private final int capacity;
+	private final OverflowPolicy policy;
+	private final Executor executor;
+	private final boolean ownExecutor;
+	private final ArrayDeque<SerialLinkDataEvent> queue;
+	private final ReentrantLock lock;
+	private final Condition notFull;
+	private final Runnable drainTask;
+	private final SerialLinkEventPool pool;
+
+	private boolean scheduled;
+	private volatile boolean closed;
+	private volatile int maxQueueDepth;
+	private volatile long droppedCount;
+	private volatile long coalescedCount;
+
+	/**
+	 * Permet d'instancier un abonné asynchrone.
+	 * 
+	 * @param target
+	 *            Abonné cible.
+	 * @param capacity
+	 *            Nombre maximal d'évènements en attente.
+	 * @param policy
+	 *            Comportement lorsque la file d'attente est pleine.
+	 * @param executor
+	 *            Exécuteur sur lequel l'abonné cible est notifié, ou
+	 *            <code>null</code> pour utiliser un thread dédié.
+	 */
+	public SerialLinkAsyncListener (final SerialLinkDataListener target, final int capacity,
+			final OverflowPolicy policy, final Executor executor) {
+		this(target, capacity, policy, executor, false);
+	}
+
+	/**
+	 * Permet d'instancier un abonné asynchrone, éventuellement sans allocation
+	 * en régime établi. Dans ce cas les évènements mis en file sont recyclés
+	 * après notification et ne sont valides que pendant l'appel à l'abonné
+	 * cible.
+	 * 
+	 * @param target
+	 *            Abonné cible.
+	 * @param capacity
+	 *            Nombre maximal d'évènements en attente.
+	 * @param policy
+	 *            Comportement lorsque la file d'attente est pleine.
+	 * @param executor
+	 *            Exécuteur sur lequel l'abonné cible est notifié, ou
+	 *            <code>null</code> pour utiliser un thread dédié.
+	 * @param pooled
+	 *            <code>true</code> pour recycler les évènements mis en file.
+	 */
+	public SerialLinkAsyncListener (final SerialLinkDataListener target, final int capacity,
+			final OverflowPolicy policy, final Executor executor, final boolean pooled) {
+		if (target == null || policy == null) {
+			throw new NullPointerException("Target listener and overflow policy cannot be null");
+		}
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Invalid queue capacity : " + capacity);
+		}
+		this.logger = Logger.getLogger(SerialLinkAsyncListener.class);
+		this.target = target;
+		this.capacity = capacity;
+		this.policy = policy;
+		this.ownExecutor = executor == null;
+		this.executor = executor != null ? executor : Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+			@Override
+			public Thread newThread (Runnable r) {
+				Thread thread = new Thread(r, "SerialLink-listener-" + THREAD_COUNT.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		this.queue = new ArrayDeque<>(capacity);
+		this.lock = new ReentrantLock();
+		this.notFull = this.lock.newCondition();
+		this.drainTask = new Runnable() {
+
+			@Override
+			public void run () {
+				drain();
+			}
+		};
+		// Une place supplémentaire pour l'évènement en cours de notification
+		this.pool = pooled ? new SerialLinkEventPool(capacity + 1) : null;
+		this.scheduled = false;
+		this.closed = false;
+		this.maxQueueDepth = 0;
+		this.droppedCount = 0;
+		this.coalescedCount = 0;
+	}
+
+	@Override
+	public void onData (SerialLinkDataEvent event) {
+		if (this.closed) {
+			return;
+		}
+		boolean schedule = false;
+		this.lock.lock();
+		try {
+			if (this.queue.size() >= this.capacity) {
+				switch (this.policy) {
+					case BLOCK:
+						while (this.queue.size() >= this.capacity && !this.closed) {
+							this.notFull.awaitUninterruptibly();
+						}
+						if (this.closed) {
+							return;
+						}
+						break;
+					case DROP_OLDEST:
+						recycle(this.queue.pollFirst());
+						this.droppedCount++;
+						break;
+					case DROP_NEWEST:
+						this.droppedCount++;
+						return;
+					case COALESCE:
+						this.queue.addLast(coalesce(event));
+						this.coalescedCount++;
+						return;
+				}
+			}
+			this.queue.addLast(this.pool != null ? this.pool.acquire(event) : event.copy());
+			if (this.queue.size() > this.maxQueueDepth) {
+				this.maxQueueDepth = this.queue.size();
+			}
+			if (!this.scheduled) {
+				this.scheduled = true;
+				schedule = true;
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		if (schedule) {
+			this.executor.execute(this.drainTask);
+		}
+	}
+
+	/**
+	 * Permet de fusionner les évènements en attente avec le nouvel évènement.
+	 * Doit être appelée avec le verrou de la file, une tâche de vidage étant
+	 * forcément déjà planifiée puisque la file n'est pas vide. Si le recyclage
+	 * est activé, les données sont ajoutées au buffer du premier évènement en
+	 * attente, qui n'est agrandi que si nécessaire.
+	 * 
+	 * @param event
+	 *            Nouvel évènement.
+	 * @return Evènement fusionné.
+	 */
+	private SerialLinkDataEvent coalesce (final SerialLinkDataEvent event) {
+		if (this.pool != null) {
+			SerialLinkDataEvent merged = this.queue.pollFirst();
+			SerialLinkDataEvent pending;
+			while ((pending = this.queue.pollFirst()) != null) {
+				merged.append(pending);
+				recycle(pending);
+			}
+			merged.append(event);
+			return merged;
+		}
+		int length = event.getLength();
+		for (SerialLinkDataEvent pending : this.queue) {
+			length += pending.getLength();
+		}
+		ByteBuffer batch = ByteBuffer.allocate(length);
+		SerialLinkDataEvent first = this.queue.peekFirst();
+		SerialLinkDataEvent pending;
+		while ((pending = this.queue.pollFirst()) != null) {
+			batch.put(pending.getData());
+			if (pending != first) {
+				recycle(pending);
+			}
+		}
+		batch.put(event.getData());
+		batch.flip();
+		SerialLinkDataEvent merged = new SerialLinkDataEvent(first.getSource(), event.getParameters(),
+				batch.asReadOnlyBuffer(), 0, length, event.getEventType(), first.getTimestamp(), first.getSequence());
+		recycle(first);
+		return merged;
+	}
+
+	/**
+	 * Permet de rendre un évènement à la réserve si le recyclage est activé.
+	 * 
+	 * @param event
+	 *            Evènement à recycler, peut être <code>null</code>.
+	 */
+	private void recycle (final SerialLinkDataEvent event) {
+		if (this.pool != null && event != null) {
+			this.pool.release(event);
+		}
+	}
+
+	/**
+	 * Permet de notifier l'abonné cible des évènements en attente.
+	 */
+	private void drain () {
+		while (true) {
+			SerialLinkDataEvent event;
+			this.lock.lock();
+			try {
+				event = this.queue.pollFirst();
+				if (event == null) {
+					this.scheduled = false;
+					return;
+				}
+				this.notFull.signal();
+			} finally {
+				this.lock.unlock();
+			}
+			try {
+				this.target.onData(event);
+			} catch (RuntimeException e) {
+				this.logger.error("An asynchronous listener failed while processing received data", e);
+			} finally {
+				recycle(event);
+			}
+		}
+	}
+
+	/**
+	 * Permet d'arrêter l'abonné. Les évènements en attente sont abandonnés et
+	 * le thread dédié est arrêté s'il a été créé par l'abonné.
+	 */
+	public void close () {
+		this.closed = true;
+		this.lock.lock();
+		try {
+			this.queue.clear();
+			this.notFull.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+		if (this.ownExecutor) {
+			((ExecutorService) this.executor).shutdown();
+		}
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	public SerialLinkDataListener getTarget () {
+		return this.target;
+	}
+
+	public OverflowPolicy getPolicy () {
+		return this.policy;
+	}
+
+	public int getCapacity () {
+		return this.capacity;
+	}
+
+	/**
+	 * Renvoie la réserve d'évènements recyclés.
+	 * 
+	 * @return Réserve d'évènements, ou <code>null</code> si le recyclage n'est
+	 *         pas activé.
+	 */
+	public SerialLinkEventPool getEventPool () {
+		return this.pool;
+	}
+
+	/**
+	 * Renvoie le nombre d'évènements en attente de notification.
+	 * 
+	 * @return Profondeur actuelle de la file d'attente.
+	 */
+	public int getQueueDepth () {
+		this.lock.lock();
+		try {
+			return this.queue.size();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Renvoie la profondeur maximale atteinte par la file d'attente.
+	 * 
+	 * @return Profondeur maximale atteinte.
+	 */
+	public int getMaxQueueDepth () {
+		return this.maxQueueDepth;
+	}
+
+	/**
+	 * Renvoie le nombre d'évènements abandonnés parce que la file était pleine.
+	 * 
+	 * @return Nombre d'évènements abandonnés.
+	 */
+	public long getDroppedCount () {
+		return this.droppedCount;
+	}
+
+	/**
+	 * Renvoie le nombre de fusions effectuées parce que la file était pleine.
+	 * 
+	 * @return Nombre de fusions.
+	 */
+	public long getCoalescedCount () {
+		return this.coalescedCount;
+	}
+}
\ No newline at end of file
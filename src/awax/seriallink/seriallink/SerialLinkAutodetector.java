@@ -0,0 +1,402 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Logger;
+
+import awax.seriallink.seriallink.transport.SerialTransport;
+
+/**
+ * Moteur de détection automatique du débit et du format de trame d'une
+ * liaison ouverte. Le trafic entrant est échantillonné successivement avec
+ * chaque combinaison candidate, appliquée au transport sans fermer le port,
+ * et chaque échantillon est noté d'après le taux d'erreurs de trame et de
+ * parité et, pour un trafic textuel, la proportion d'octets imprimables.
+ * <p>
+ * Les débits usuels ({@link SerialLinkParameters#getStandardBaudRates()}) sont
+ * d'abord essayés avec le format courant, le débit actuel en premier ; les
+ * formats 7 ou 8 bits de données combinés aux parités {@link Parity#NONE},
+ * {@link Parity#EVEN} et {@link Parity#ODD} sont ensuite essayés au meilleur
+ * débit. La recherche s'arrête dès qu'un échantillon est irréprochable. Le
+ * nombre de bits de stop, que le récepteur ne vérifie pas au-delà du premier,
+ * est conservé.
+ * <p>
+ * Les erreurs de trame et de parité ne sont mesurées que si le transport les
+ * signale ; leur notification est activée par la détection.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class SerialLinkAutodetector implements SerialLinkDataListener {
+
+	/** Nombre d'octets par défaut d'un échantillon. */
+	public static final int DEFAULT_SAMPLE_BYTES = 32;
+
+	/** Durée minimale par défaut d'un échantillon, en millisecondes. */
+	public static final long DEFAULT_SAMPLE_WINDOW = 100;
+
+	/** Proportion minimale d'octets imprimables d'un échantillon irréprochable. */
+	private static final double PRINTABLE_THRESHOLD = 0.98;
+
+	private static final long MIN_SETTLE_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+	private static final long MAX_SETTLE_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+	private final Logger logger;
+	private final SerialLinkClient client;
+	private volatile int sampleBytes;
+	private volatile long sampleWindowNanos;
+	private volatile boolean textTraffic;
+	private boolean sampling;
+	private int bytes;
+	private int printable;
+
+	/**
+	 * Permet d'instancier le moteur de détection d'une liaison.
+	 * 
+	 * @param client
+	 *            Client de la liaison série, qui doit être ouverte lors de la
+	 *            détection.
+	 */
+	public SerialLinkAutodetector (final SerialLinkClient client) {
+		if (client == null) {
+			throw new NullPointerException("Serial link client cannot be null");
+		}
+		this.logger = Logger.getLogger(SerialLinkAutodetector.class);
+		this.client = client;
+		this.sampleBytes = DEFAULT_SAMPLE_BYTES;
+		this.sampleWindowNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_SAMPLE_WINDOW);
+		this.textTraffic = true;
+		this.sampling = false;
+	}
+
+	/**
+	 * Permet de détecter les paramètres de la liaison. Les paramètres retenus
+	 * sont appliqués à la liaison ; en cas d'échec, les paramètres initiaux
+	 * sont rétablis.
+	 * 
+	 * @param timeout
+	 *            Durée maximale de la détection.
+	 * @param unit
+	 *            Unité de la durée.
+	 * @return Paramètres détectés.
+	 * @throws SerialLinkConnectionException
+	 *             Si la liaison est fermée ou si aucun trafic n'a été reçu.
+	 * @throws InterruptedException
+	 *             Si l'appelant est interrompu pendant la détection.
+	 */
+	public SerialLinkParameters detect (final long timeout, final TimeUnit unit) throws SerialLinkConnectionException,
+			InterruptedException {
+		final SerialTransport transport = this.client.getTransport();
+		if (transport == null || !this.client.isConnected()) {
+			throw new SerialLinkConnectionException("Serial link is closed");
+		}
+		transport.setNotification(SerialLinkEvent.FE, true);
+		transport.setNotification(SerialLinkEvent.PE, true);
+		final long deadline = System.nanoTime() + unit.toNanos(timeout);
+		final SerialLinkParameters original = this.client.getSerialParams();
+		boolean success = false;
+		this.client.addSerialDataListener(this);
+		try {
+			Sample best = null;
+			// Débit, avec le format de trame courant
+			for (int baudRate : candidateBaudRates(original.getBaudRate())) {
+				final SerialLinkParameters params = new SerialLinkParameters(original);
+				params.setBaudRate(baudRate);
+				final Sample sample = sample(params, deadline);
+				best = sample.isBetterThan(best) ? sample : best;
+				if (best.isConclusive() || System.nanoTime() >= deadline) {
+					break;
+				}
+			}
+			if (best == null || !best.hasTraffic()) {
+				throw new SerialLinkConnectionException("No traffic received on " + original.getComId());
+			}
+			// Format de trame, au meilleur débit
+			if (!best.isConclusive()) {
+				for (SerialLinkParameters params : candidateFormats(best.params)) {
+					if (System.nanoTime() >= deadline) {
+						break;
+					}
+					final Sample sample = sample(params, deadline);
+					best = sample.isBetterThan(best) ? sample : best;
+					if (best.isConclusive()) {
+						break;
+					}
+				}
+			}
+			this.client.reconfigure(best.params, ReconfigurePolicy.IMMEDIATE);
+			this.logger.info("Detected " + best.params.getBaudRate() + " bauds on " + original.getComId()
+					+ " (score " + best.score() + ")");
+			success = true;
+			return best.params;
+		} finally {
+			this.client.removeSerialDataListener(this);
+			if (!success && this.client.isConnected()) {
+				this.client.reconfigure(original, ReconfigurePolicy.IMMEDIATE);
+			}
+		}
+	}
+
+	/**
+	 * Permet de détecter les paramètres de la liaison sur l'exécuteur du cycle
+	 * de vie du client, sans bloquer l'appelant.
+	 * 
+	 * @param timeout
+	 *            Durée maximale de la détection.
+	 * @param unit
+	 *            Unité de la durée.
+	 * @return Paramètres détectés.
+	 * @see #detect(long, TimeUnit)
+	 */
+	public SerialLinkFuture<SerialLinkParameters> detectAsync (final long timeout, final TimeUnit unit) {
+		final SerialLinkFuture<SerialLinkParameters> future = new SerialLinkFuture<>();
+		this.client.getLifecycleExecutor().execute(new Runnable() {
+
+			@Override
+			public void run () {
+				try {
+					future.complete(detect(timeout, unit));
+				} catch (SerialLinkConnectionException e) {
+					future.fail(e);
+				} catch (InterruptedException e) {
+					future.fail(e);
+					Thread.currentThread().interrupt();
+				} catch (RuntimeException e) {
+					future.fail(e);
+				}
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * Permet d'échantillonner le trafic reçu avec les paramètres spécifiés.
+	 * 
+	 * @param params
+	 *            Paramètres à appliquer.
+	 * @param deadline
+	 *            Echéance de la détection.
+	 * @return Echantillon noté.
+	 * @throws SerialLinkConnectionException
+	 *             Si les paramètres ne peuvent pas être appliqués.
+	 * @throws InterruptedException
+	 *             Si l'appelant est interrompu.
+	 */
+	private Sample sample (final SerialLinkParameters params, final long deadline)
+			throws SerialLinkConnectionException, InterruptedException {
+		this.client.reconfigure(params, ReconfigurePolicy.IMMEDIATE);
+		// Les octets reçus avant le changement sont écartés
+		final long charNanos = params.getCharTimeNanos();
+		TimeUnit.NANOSECONDS.sleep(Math.max(MIN_SETTLE_NANOS, Math.min(MAX_SETTLE_NANOS, 10 * charNanos)));
+		final long fe = this.client.getLineEventCount(SerialLinkEvent.FE);
+		final long pe = this.client.getLineEventCount(SerialLinkEvent.PE);
+		final int target = this.sampleBytes;
+		final long window = Math.max(this.sampleWindowNanos, 2L * target * charNanos);
+		final long end = Math.min(System.nanoTime() + window, deadline);
+		final Sample sample = new Sample(params);
+		synchronized (this) {
+			this.bytes = 0;
+			this.printable = 0;
+			this.sampling = true;
+			try {
+				long remaining;
+				while (this.bytes < target && (remaining = end - System.nanoTime()) > 0) {
+					TimeUnit.NANOSECONDS.timedWait(this, remaining);
+				}
+			} finally {
+				this.sampling = false;
+			}
+			sample.bytes = this.bytes;
+			sample.printable = this.printable;
+		}
+		sample.errors = (this.client.getLineEventCount(SerialLinkEvent.FE) - fe)
+				+ (this.client.getLineEventCount(SerialLinkEvent.PE) - pe);
+		this.logger.debug("Sampled " + params.getBaudRate() + " bauds, " + params.getDatabits() + " bits, parity "
+				+ params.getParity() + " : score " + sample.score());
+		return sample;
+	}
+
+	@Override
+	public synchronized void onData (SerialLinkDataEvent event) {
+		if (!this.sampling) {
+			return;
+		}
+		final ByteBuffer data = event.getData();
+		for (int i = data.position(); i < data.limit(); i++) {
+			final int b = data.get(i) & 0xFF;
+			if ((b >= 0x20 && b < 0x7F) || b == '\r' || b == '\n' || b == '\t') {
+				this.printable++;
+			}
+		}
+		this.bytes += data.remaining();
+		if (this.bytes >= this.sampleBytes) {
+			notifyAll();
+		}
+	}
+
+	/**
+	 * Renvoie les débits candidats, le débit courant en premier.
+	 * 
+	 * @param current
+	 *            Débit courant.
+	 * @return Débits candidats.
+	 */
+	private static List<Integer> candidateBaudRates (final int current) {
+		final List<Integer> baudRates = new ArrayList<>();
+		baudRates.add(current);
+		for (int baudRate : SerialLinkParameters.getStandardBaudRates()) {
+			if (baudRate != current) {
+				baudRates.add(baudRate);
+			}
+		}
+		return baudRates;
+	}
+
+	/**
+	 * Renvoie les formats de trame candidats au débit des paramètres
+	 * spécifiés, hormis le format de ces paramètres.
+	 * 
+	 * @param base
+	 *            Paramètres de base.
+	 * @return Paramètres candidats.
+	 */
+	private static List<SerialLinkParameters> candidateFormats (final SerialLinkParameters base) {
+		final List<SerialLinkParameters> formats = new ArrayList<>();
+		for (int databits = 8; databits >= 7; databits--) {
+			for (Parity parity : new Parity[] {Parity.NONE, Parity.EVEN, Parity.ODD }) {
+				final SerialLinkParameters params = new SerialLinkParameters(base);
+				params.setDatabits(databits);
+				params.setParity(parity.name());
+				if (params.getDatabits() != base.getDatabits() || params.getParity() != base.getParity()) {
+					formats.add(params);
+				}
+			}
+		}
+		return formats;
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	public SerialLinkClient getClient () {
+		return this.client;
+	}
+
+	public int getSampleBytes () {
+		return this.sampleBytes;
+	}
+
+	/**
+	 * Permet de spécifier le nombre d'octets au-delà duquel un échantillon est
+	 * complet.
+	 * 
+	 * @param sampleBytes
+	 *            Nombre d'octets d'un échantillon.
+	 */
+	public void setSampleBytes (final int sampleBytes) {
+		if (sampleBytes <= 0) {
+			throw new IllegalArgumentException("Invalid sample size : " + sampleBytes);
+		}
+		this.sampleBytes = sampleBytes;
+	}
+
+	/**
+	 * Permet de spécifier la durée minimale d'un échantillon, prolongée aux
+	 * débits lents le temps de recevoir un échantillon complet.
+	 * 
+	 * @param window
+	 *            Durée d'un échantillon.
+	 * @param unit
+	 *            Unité de la durée.
+	 */
+	public void setSampleWindow (final long window, final TimeUnit unit) {
+		this.sampleWindowNanos = unit.toNanos(window);
+	}
+
+	public boolean isTextTraffic () {
+		return this.textTraffic;
+	}
+
+	/**
+	 * Permet de préciser si le trafic attendu est textuel. Dans le cas
+	 * contraire, seuls les taux d'erreurs sont pris en compte.
+	 * 
+	 * @param textTraffic
+	 *            <code>true</code> si le trafic est textuel.
+	 */
+	public void setTextTraffic (final boolean textTraffic) {
+		this.textTraffic = textTraffic;
+	}
+
+	/**
+	 * Echantillon de trafic reçu avec des paramètres candidats.
+	 */
+	private final class Sample {
+
+		private final SerialLinkParameters params;
+		private int bytes;
+		private int printable;
+		private long errors;
+
+		Sample (final SerialLinkParameters params) {
+			this.params = params;
+		}
+
+		boolean hasTraffic () {
+			return this.bytes > 0 || this.errors > 0;
+		}
+
+		/**
+		 * Renvoie la note de l'échantillon : la proportion d'octets
+		 * imprimables pour un trafic textuel, pénalisée par le taux
+		 * d'erreurs.
+		 * 
+		 * @return Note, au plus 1.
+		 */
+		double score () {
+			if (!hasTraffic()) {
+				return Double.NEGATIVE_INFINITY;
+			}
+			final double errorRate = (double) this.errors / (this.bytes + this.errors);
+			final double quality = textTraffic && this.bytes > 0 ? (double) this.printable / this.bytes : 1.0;
+			return quality * (1.0 - errorRate) - errorRate;
+		}
+
+		boolean isConclusive () {
+			return this.bytes >= sampleBytes && this.errors == 0
+					&& (!textTraffic || this.printable >= PRINTABLE_THRESHOLD * this.bytes);
+		}
+
+		boolean isBetterThan (final Sample other) {
+			return other == null || score() > other.score();
+		}
+	}
+}
\ No newline at end of file
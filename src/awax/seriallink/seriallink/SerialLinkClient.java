@@ -24,42 +24,118 @@
 package awax.seriallink.seriallink;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.TooManyListenersException;
-
-import javax.comm.CommPortIdentifier;
-import javax.comm.CommPortOwnershipListener;
-import javax.comm.NoSuchPortException;
-import javax.comm.PortInUseException;
-import javax.comm.SerialPort;
-import javax.comm.SerialPortEvent;
-import javax.comm.SerialPortEventListener;
-import javax.comm.UnsupportedCommOperationException;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 
 import org.apache.log4j.Logger;
 
+import awax.seriallink.seriallink.framing.SerialLinkFrameSink;
+import awax.seriallink.seriallink.framing.SerialLinkFramer;
+import awax.seriallink.seriallink.transport.SerialTransport;
+import awax.seriallink.seriallink.transport.SerialTransportListener;
+import awax.seriallink.seriallink.transport.SerialTransports;
+
 /**
  * Classe permettant de gérer une liaison série, c'est-à-dire de contrôler
- * l'état de la liaison ainsi que de lire et écrire depuis celle-ci.
+ * l'état de la liaison ainsi que de lire et écrire depuis celle-ci. L'accès
+ * au port est délégué à un {@link SerialTransport}, choisi à l'ouverture
+ * d'après les paramètres de la liaison. Les changements d'état de la liaison
+ * ({@link SerialLinkState}) sont notifiés aux {@link SerialLinkStateListener}.
  * 
  * @author AwaX
  * @created 28 avr. 2014
  * @version 1.0
  */
-public class SerialLinkClient implements CommPortOwnershipListener, SerialPortEventListener {
+public class SerialLinkClient implements SerialTransportListener {
+
+	/** Taille initiale du buffer de réception réutilisé d'une lecture à l'autre. */
+	public static final int INITIAL_RECV_BUFFER_SIZE = 1024;
+
+	/** Nombre maximal par défaut d'écritures asynchrones en attente. */
+	public static final int DEFAULT_WRITE_QUEUE_CAPACITY = 1024;
+
+	/** Taille maximale par défaut d'un lot de trames de la voie BULK. */
+	public static final int DEFAULT_BULK_BATCH_SIZE = 256;
+
+	/** Nombre maximal par défaut de requêtes en attente de réponse. */
+	public static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 16;
+
+	/** Délai maximal de vidange des écritures lors d'une reconfiguration. */
+	public static final long RECONFIGURE_TIMEOUT = 5000;
+
+	private static final AtomicInteger LIFECYCLE_THREAD_COUNT = new AtomicInteger();
+
+	/** Exécuteur par défaut des ouvertures et fermetures asynchrones. */
+	private static final ExecutorService LIFECYCLE_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+
+		@Override
+		public Thread newThread (Runnable r) {
+			Thread thread = new Thread(r, "SerialLink-lifecycle-" + LIFECYCLE_THREAD_COUNT.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	});
 
 	private final Logger logger;
 	private final String appName;
-	private final ArrayList<SerialLinkEventListener> listeners;
+	private final SerialLinkListenerRegistry<SerialLinkDataListener> listeners;
+	private final SerialLinkStringAdapter stringAdapter;
+	private final SerialLinkListenerRegistry<SerialLinkStateListener> stateListeners;
+	private final AtomicReference<SerialLinkState> state;
+	private final ConcurrentLinkedQueue<StateChange> stateChanges;
+	private final AtomicBoolean notifyingState;
+	private final Object lifecycleLock;
+	private volatile Executor lifecycleExecutor;
+
+	private volatile SerialTransport transport;
+	private volatile SerialLinkParameters serialParams;
+	private volatile boolean isOpen;
 
-	private CommPortIdentifier portId;
-	private SerialPort serialPort;
-	private SerialLinkParameters serialParams;
-	private OutputStream output;
-	private InputStream input;
-	private boolean isOpen;
+	private byte[] recvBuffer;
+	private ByteBuffer recvTarget;
+	private ByteBuffer recvView;
+	private final SerialLinkDataEvent dataEvent;
+	private final SerialLinkFrameSink frameSink;
+	private volatile SerialLinkFramer framer;
+	private long recvEventCount;
+	private long recvAllocationCount;
+	private volatile long bytesReceived;
+	private final AtomicLongArray lineEvents;
+	private volatile long bytesWrittenBefore;
+	private volatile long recvTimestamp;
+	private long dispatchSequence;
+	private volatile boolean eventPooling;
+
+	private int ringCapacity;
+	private WaitStrategy waitStrategy;
+	private SerialLinkRingBuffer ring;
+	private ByteBuffer ringTarget;
+	private ByteBuffer ringView;
+	private SerialLinkDispatcher dispatcher;
+
+	private int writeQueueCapacity;
+	private int bulkBatchSize;
+	private int maxInFlightRequests;
+	private volatile SerialLinkRequester requester;
+	private int transmitBurst;
+	private double frameGapChars;
+	private volatile SerialLinkWriter writer;
+
+	private SerialLinkReactor reactor;
+	private SerialLinkReactor activeReactor;
 
 	/**
 	 * Permet d'instancier un client de liaison série. La liaison série est
@@ -73,24 +149,69 @@ public class SerialLinkClient implements CommPortOwnershipListener, SerialPortEv
 	 *            à cette application.
 	 * @param params
 	 *            Instance de {@link SerialLinkParameters} contenant tous les
-	 *            paramètres concernant la liaison série.
+	 *            paramètres concernant la liaison série, dont le client
+	 *            conserve une copie.
 	 */
 	public SerialLinkClient (final String appName, final SerialLinkParameters params) {
 		this.logger = Logger.getLogger(SerialLinkClient.class);
 		this.appName = appName;
-		this.serialParams = params;
-		this.listeners = new ArrayList<>();
-		this.portId = null;
-		this.serialPort = null;
-		this.output = null;
-		this.input = null;
+		this.serialParams = new SerialLinkParameters(params);
+		this.listeners = new SerialLinkListenerRegistry<>(SerialLinkDataListener.class);
+		this.stringAdapter = new SerialLinkStringAdapter();
+		this.listeners.add(this.stringAdapter);
+		this.stateListeners = new SerialLinkListenerRegistry<>(SerialLinkStateListener.class);
+		this.state = new AtomicReference<>(SerialLinkState.CLOSED);
+		this.stateChanges = new ConcurrentLinkedQueue<>();
+		this.notifyingState = new AtomicBoolean();
+		this.lifecycleLock = new Object();
+		this.lifecycleExecutor = LIFECYCLE_EXECUTOR;
+		this.dataEvent = new SerialLinkDataEvent(this);
+		this.frameSink = new SerialLinkFrameSink() {
+
+			@Override
+			public void onFrame (ByteBuffer frame) {
+				notifyListeners(frame, SerialLinkEvent.DATA_AVAILABLE);
+			}
+		};
+		this.framer = null;
+		this.transport = null;
 		this.isOpen = false;
+		this.recvBuffer = new byte[INITIAL_RECV_BUFFER_SIZE];
+		this.recvTarget = ByteBuffer.wrap(this.recvBuffer);
+		this.recvView = this.recvTarget.asReadOnlyBuffer();
+		this.recvEventCount = 0;
+		this.recvAllocationCount = 0;
+		this.bytesReceived = 0;
+		this.lineEvents = new AtomicLongArray(SerialLinkEvent.BI + 1);
+		this.bytesWrittenBefore = 0;
+		this.recvTimestamp = 0;
+		this.dispatchSequence = 0;
+		this.eventPooling = false;
+		this.ringCapacity = 0;
+		this.waitStrategy = WaitStrategy.PARK;
+		this.ring = null;
+		this.ringTarget = null;
+		this.ringView = null;
+		this.dispatcher = null;
+		this.writeQueueCapacity = DEFAULT_WRITE_QUEUE_CAPACITY;
+		this.bulkBatchSize = DEFAULT_BULK_BATCH_SIZE;
+		this.maxInFlightRequests = DEFAULT_MAX_IN_FLIGHT_REQUESTS;
+		this.requester = null;
+		this.transmitBurst = 0;
+		this.frameGapChars = 0;
+		this.writer = null;
+		this.reactor = null;
+		this.activeReactor = null;
 	}
 
 	/**
 	 * Permet d'ouvrir la connexion sur la liaison série à partir des paramètres
-	 * spécifiés. Un timeout sur le portOpen est appliqué pour permettre aux
-	 * autres applications de libérer le port s'il est ouvert mais plus utilisé.
+	 * spécifiés. Le transport est choisi d'après les paramètres de la liaison
+	 * puis ouvert et paramétré. La liaison passe par l'état
+	 * {@link SerialLinkState#OPENING} puis {@link SerialLinkState#OPEN}, ou
+	 * revient à {@link SerialLinkState#CLOSED} en cas d'échec. L'appel peut
+	 * bloquer le temps que le port soit libéré : depuis l'interface graphique,
+	 * utiliser {@link #openAsync()}.
 	 * 
 	 * @throws SerialLinkConnectionException
 	 *             Si une erreur survient lors de l'ouverture de la liaison
@@ -98,85 +219,185 @@ public class SerialLinkClient implements CommPortOwnershipListener, SerialPortEv
 	 *             {@link SerialLinkConnectionException} est levée.
 	 */
 	public void open () throws SerialLinkConnectionException {
-		if (this.serialPort == null) {
-			boolean error = false;
-			try {
-				this.logger.debug("Getting port identifier " + this.serialParams.getComId());
-				this.portId = CommPortIdentifier.getPortIdentifier(this.serialParams.getComId());
-				if (this.portId.getPortType() != CommPortIdentifier.PORT_SERIAL) {
+		try {
+			synchronized (this.lifecycleLock) {
+				if (this.transport == null) {
+					openTransport();
+				}
+			}
+		} finally {
+			fireStateChanges();
+		}
+	}
 
-					throw new SerialLinkConnectionException(this.portId.getName() + " is not a serial port");
+	/**
+	 * Permet d'ouvrir et de paramétrer le transport de la liaison série.
+	 * 
+	 * @throws SerialLinkConnectionException
+	 *             Si une erreur survient lors de l'ouverture.
+	 */
+	private void openTransport () throws SerialLinkConnectionException {
+		setState(SerialLinkState.OPENING);
+		boolean error = true;
+		SerialTransport transport = null;
+		try {
+			transport = SerialTransports.create(this.serialParams);
+			try {
+				this.logger.debug("Opening port " + this.serialParams.getComId() + " with transport "
+						+ transport.getName());
+				if (this.reactor == null) {
+					startDispatcher();
+				}
+				// Le transport doit être connu avant les premiers évènements
+				this.transport = transport;
+				transport.setListener(this);
+				if (this.reactor != null) {
+					// Les données sont lues par le réacteur dès l'ouverture
+					transport.setNotification(SerialLinkEvent.DATA_AVAILABLE, false);
 				}
-				// Permet d'ouvrir la connexion avec un timeout permettant à une
-				// autre application de libérer le port si elle ne s'en sert
-				// plus
-				this.logger.debug("Opening port " + this.serialParams.getComId());
-				this.serialPort = (SerialPort) this.portId.open(this.appName, 2000);
-
-				// Paramètrage de la liaison série
-				setParameters(this.serialParams);
-
-				// Récupération des flux d'entrée/sortie
-				this.input = this.serialPort.getInputStream();
-				this.output = this.serialPort.getOutputStream();
-
-				this.serialPort.notifyOnBreakInterrupt(true);
-				this.serialPort.notifyOnDataAvailable(true);
-				this.serialPort.enableReceiveTimeout(this.serialParams.getRecvTimeout());
-				this.portId.addPortOwnershipListener(this);
-				this.serialPort.addEventListener(this);
+				transport.open(this.appName, this.serialParams);
+				SerialLinkPacer pacer = null;
+				if (this.transmitBurst > 0) {
+					pacer = new SerialLinkPacer(this.transmitBurst, this.frameGapChars,
+							this.serialParams.getCharTimeNanos());
+					// Le seau est rempli dès que le pilote a tout émis
+					transport.setNotification(SerialLinkEvent.OUTPUT_BUFFER_EMPTY, true);
+				}
+				this.writer = new SerialLinkWriter(this, transport, this.writeQueueCapacity, this.bulkBatchSize,
+						"SerialLink-writer-" + this.serialParams.getComId(), pacer);
 				this.isOpen = true;
-			} catch (NoSuchPortException e) {
-				error = true;
-				throw new SerialLinkConnectionException(e.getMessage(), e);
-			} catch (PortInUseException e) {
-				error = true;
-				throw new SerialLinkConnectionException(e.getMessage(), e);
-			} catch (IOException e) {
-				error = true;
-				throw new SerialLinkConnectionException(e.getMessage(), e);
-			} catch (UnsupportedCommOperationException e) {
-				error = true;
-				throw new SerialLinkConnectionException(e.getMessage(), e);
-			} catch (TooManyListenersException e) {
-				error = true;
-				throw new SerialLinkConnectionException(e.getMessage(), e);
-			} catch (UnsatisfiedLinkError e) {
-				error = true;
-				throw new SerialLinkConnectionException(
-						"An error occured in the native library :\n\n" + e.getMessage(), e);
-			} catch (Exception e) {
-				error = true;
+				if (this.reactor != null) {
+					this.activeReactor = this.reactor;
+					this.activeReactor.register(this);
+				}
+				error = false;
+			} catch (RuntimeException e) {
 				throw new SerialLinkConnectionException(e.getMessage(), e);
-			} finally {
-				if (error && this.serialPort != null) {
-					this.serialPort.close();
-					this.serialPort = null;
+			}
+		} finally {
+			if (error) {
+				if (transport != null) {
+					transport.close();
 				}
+				this.transport = null;
+				stopDispatcher();
+				stopWriter();
+				this.isOpen = false;
+				setState(SerialLinkState.CLOSED);
+			} else {
+				setState(SerialLinkState.OPEN);
 			}
 		}
 	}
 
 	/**
-	 * Permet de fermer la connexion série et ses éléments associés.
+	 * Permet d'ouvrir la liaison série sur l'exécuteur du cycle de vie, sans
+	 * bloquer l'appelant.
+	 * 
+	 * @return Résultat de l'ouverture.
+	 * @see #open()
+	 */
+	public SerialLinkFuture<Void> openAsync () {
+		final SerialLinkFuture<Void> future = new SerialLinkFuture<>();
+		this.lifecycleExecutor.execute(new Runnable() {
+
+			@Override
+			public void run () {
+				if (future.isCancelled()) {
+					return;
+				}
+				try {
+					open();
+					future.complete(null);
+				} catch (SerialLinkConnectionException e) {
+					future.fail(e);
+				} catch (RuntimeException e) {
+					future.fail(e);
+				}
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * Permet de fermer la liaison série sur l'exécuteur du cycle de vie, sans
+	 * bloquer l'appelant.
+	 * 
+	 * @return Résultat de la fermeture.
+	 * @see #close()
+	 */
+	public SerialLinkFuture<Void> closeAsync () {
+		final SerialLinkFuture<Void> future = new SerialLinkFuture<>();
+		this.lifecycleExecutor.execute(new Runnable() {
+
+			@Override
+			public void run () {
+				try {
+					close();
+					future.complete(null);
+				} catch (RuntimeException e) {
+					future.fail(e);
+				}
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * Permet de fermer la connexion série et ses éléments associés. La
+	 * liaison passe par l'état {@link SerialLinkState#CLOSING} puis
+	 * {@link SerialLinkState#CLOSED}.
 	 */
 	public void close () {
-		if (this.serialPort != null) {
-			try {
-				this.output.close();
-				this.input.close();
-			} catch (IOException e) {
-				this.logger.error("An error occured while closing the serial link", e);
+		try {
+			synchronized (this.lifecycleLock) {
+				final boolean wasOpen = this.state.get() != SerialLinkState.CLOSED;
+				if (wasOpen) {
+					setState(SerialLinkState.CLOSING);
+				}
+				closeTransport();
+				if (wasOpen) {
+					setState(SerialLinkState.CLOSED);
+				}
 			}
-			this.serialPort.close();
-			this.serialPort = null;
-			this.portId.removePortOwnershipListener(this);
+		} finally {
+			fireStateChanges();
+		}
+	}
+
+	/**
+	 * Permet de fermer le transport et de réinitialiser la réception.
+	 */
+	private void closeTransport () {
+		if (this.activeReactor != null) {
+			this.activeReactor.unregister(this);
+			this.activeReactor = null;
+		}
+		stopWriter();
+		final SerialLinkRequester requester = this.requester;
+		if (requester != null) {
+			requester.failAll("Serial link is closed");
+		}
+		final SerialTransport transport = this.transport;
+		if (transport != null) {
+			// La fermeture attend la fin du thread de notification, qui peut
+			// encore lire le transport
+			transport.close();
+			this.transport = null;
+		}
+		stopDispatcher();
+		if (this.framer != null) {
+			this.framer.reset();
 		}
+		this.stringAdapter.reset();
 		this.isOpen = false;
 	}
 
 	/**
-	 * Permet d'écrire le message spécifié sur la liaison série.
+	 * Permet d'écrire le message spécifié sur la liaison série. L'écriture
+	 * passe par la file d'écriture afin de conserver l'ordre avec les
+	 * écritures asynchrones, et l'appelant est bloqué jusqu'à sa transmission
+	 * au pilote.
 	 * 
 	 * @param msg
 	 *            Message à envoyer sur la liaison série.
@@ -185,13 +406,264 @@ public class SerialLinkClient implements CommPortOwnershipListener, SerialPortEv
 	 *             levée.
 	 */
 	public void write (final String msg) throws SerialLinkConnectionException {
-		if (this.serialPort != null && this.isOpen) {
+		if (this.transport != null && this.isOpen) {
 			try {
-				this.output.write(msg.getBytes());
-			} catch (IOException e) {
-				throw new SerialLinkConnectionException(e.getMessage(), e);
+				writeAsync(msg.getBytes()).get();
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof SerialLinkConnectionException) {
+					throw (SerialLinkConnectionException) e.getCause();
+				}
+				throw new SerialLinkConnectionException(e.getMessage(), e.getCause());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new SerialLinkConnectionException("Interrupted while writing on the serial link", e);
+			}
+		}
+	}
+
+	/**
+	 * Permet d'écrire les octets spécifiés de manière asynchrone. L'écriture
+	 * est placée dans une file bornée puis transmise au pilote par le thread
+	 * d'écriture du client, qui regroupe les petites écritures successives. Le
+	 * tableau ne doit pas être modifié avant l'achèvement de l'écriture.
+	 * 
+	 * @param data
+	 *            Octets à envoyer sur la liaison série.
+	 * @return Résultat achevé lorsque les octets ont été transmis au pilote,
+	 *         ou en erreur si la liaison est fermée, si la file est pleine ou
+	 *         si l'écriture échoue.
+	 */
+	public SerialLinkFuture<Void> writeAsync (final byte[] data) {
+		return writeAsync(ByteBuffer.wrap(data));
+	}
+
+	/**
+	 * Permet d'écrire les octets spécifiés de manière asynchrone, dans la voie
+	 * de transmission spécifiée.
+	 * 
+	 * @param data
+	 *            Octets à envoyer sur la liaison série.
+	 * @param priority
+	 *            Voie de transmission.
+	 * @return Résultat achevé lorsque les octets ont été transmis au pilote,
+	 *         ou en erreur si la liaison est fermée, si la file est pleine ou
+	 *         si l'écriture échoue.
+	 * @see #writeAsync(ByteBuffer, TransmitPriority)
+	 */
+	public SerialLinkFuture<Void> writeAsync (final byte[] data, final TransmitPriority priority) {
+		return writeAsync(ByteBuffer.wrap(data), priority);
+	}
+
+	/**
+	 * Permet d'écrire les octets compris entre la position et la limite du
+	 * buffer spécifié de manière asynchrone. Le buffer ne doit pas être modifié
+	 * avant l'achèvement de l'écriture.
+	 * 
+	 * @param data
+	 *            Octets à envoyer sur la liaison série.
+	 * @return Résultat achevé lorsque les octets ont été transmis au pilote,
+	 *         ou en erreur si la liaison est fermée, si la file est pleine ou
+	 *         si l'écriture échoue.
+	 * @see #writeAsync(byte[])
+	 */
+	public SerialLinkFuture<Void> writeAsync (final ByteBuffer data) {
+		return writeAsync(data, TransmitPriority.NORMAL);
+	}
+
+	/**
+	 * Permet d'écrire les octets compris entre la position et la limite du
+	 * buffer spécifié de manière asynchrone, dans la voie de transmission
+	 * spécifiée. Les voies sont servies par ordre de priorité ; le buffer
+	 * forme une seule trame, qui n'est jamais découpée. Un transfert
+	 * volumineux dans la voie {@link TransmitPriority#BULK} doit donc être
+	 * écrit trame par trame au moyen de
+	 * {@link #writeAsync(ByteBuffer[], TransmitPriority)}, ou au moyen de
+	 * {@link #writeBulkAsync(ByteBuffer)} s'il ne comporte pas de trames.
+	 * 
+	 * @param data
+	 *            Octets à envoyer sur la liaison série.
+	 * @param priority
+	 *            Voie de transmission.
+	 * @return Résultat achevé lorsque tous les octets ont été transmis au
+	 *         pilote, ou en erreur si la liaison est fermée, si la file de la
+	 *         voie est pleine ou si l'écriture échoue.
+	 */
+	public SerialLinkFuture<Void> writeAsync (final ByteBuffer data, final TransmitPriority priority) {
+		return writeAsync(new ByteBuffer[] {data }, priority);
+	}
+
+	/**
+	 * Permet d'écrire une suite de trames de manière asynchrone, dans la voie
+	 * de transmission spécifiée. Les trames occupent une seule place dans la
+	 * file de la voie et sont transmises dans l'ordre, sans jamais être
+	 * découpées. Dans la voie {@link TransmitPriority#BULK}, elles sont
+	 * transmises par lots de trames entières d'au plus
+	 * {@link #getBulkBatchSize()} octets, entre lesquels les écritures en
+	 * attente dans les autres voies sont transmises en entier. Une trame
+	 * urgente n'attend ainsi pas plus que la transmission d'un lot, ou d'une
+	 * trame si celle-ci est plus grande. Les buffers ne doivent pas être
+	 * modifiés avant l'achèvement de l'écriture.
+	 * 
+	 * @param frames
+	 *            Trames à envoyer sur la liaison série, chacune entre la
+	 *            position et la limite de son buffer.
+	 * @param priority
+	 *            Voie de transmission.
+	 * @return Résultat achevé lorsque toutes les trames ont été transmises au
+	 *         pilote, ou en erreur si la liaison est fermée, si la file de la
+	 *         voie est pleine ou si l'écriture échoue.
+	 */
+	public SerialLinkFuture<Void> writeAsync (final ByteBuffer[] frames, final TransmitPriority priority) {
+		final SerialLinkWriter writer = this.writer;
+		if (writer == null || !this.isOpen) {
+			return SerialLinkFuture.failed(new SerialLinkConnectionException("Serial link is closed"));
+		}
+		return writer.submit(frames, priority);
+	}
+
+	/**
+	 * Permet d'écrire un flux d'octets sans structure de trame, par exemple
+	 * du texte, de manière asynchrone dans la voie
+	 * {@link TransmitPriority#BULK}.
+	 * 
+	 * @param data
+	 *            Octets à envoyer sur la liaison série.
+	 * @return Résultat achevé lorsque tous les octets ont été transmis au
+	 *         pilote.
+	 * @see #writeBulkAsync(ByteBuffer)
+	 */
+	public SerialLinkFuture<Void> writeBulkAsync (final byte[] data) {
+		return writeBulkAsync(ByteBuffer.wrap(data));
+	}
+
+	/**
+	 * Permet d'écrire un flux d'octets sans structure de trame, par exemple
+	 * du texte, de manière asynchrone dans la voie
+	 * {@link TransmitPriority#BULK}. Le flux est découpé en morceaux d'au plus
+	 * {@link #getBulkBatchSize()} octets, coupés si possible après une fin de
+	 * ligne, puis écrit comme une suite de trames : une écriture urgente
+	 * n'attend ainsi pas plus que la transmission d'un morceau. Les octets
+	 * d'un protocole tramé doivent au contraire être écrits trame par trame
+	 * au moyen de {@link #writeAsync(ByteBuffer[], TransmitPriority)}, afin
+	 * qu'aucune écriture ne s'intercale au milieu d'une trame. Le buffer ne
+	 * doit pas être modifié avant l'achèvement de l'écriture.
+	 * 
+	 * @param data
+	 *            Octets à envoyer sur la liaison série, entre la position et
+	 *            la limite du buffer.
+	 * @return Résultat achevé lorsque tous les octets ont été transmis au
+	 *         pilote, ou en erreur si la liaison est fermée, si la file de la
+	 *         voie est pleine ou si l'écriture échoue.
+	 */
+	public SerialLinkFuture<Void> writeBulkAsync (final ByteBuffer data) {
+		final SerialLinkWriter writer = this.writer;
+		if (writer == null || !this.isOpen) {
+			return SerialLinkFuture.failed(new SerialLinkConnectionException("Serial link is closed"));
+		}
+		final int size = writer.getBulkBatchSize();
+		final int limit = data.limit();
+		final List<ByteBuffer> chunks = new ArrayList<>();
+		int position = data.position();
+		while (position < limit) {
+			int end = Math.min(position + size, limit);
+			if (end < limit) {
+				// Coupure après la dernière fin de ligne du morceau
+				for (int i = end - 1; i > position; i--) {
+					if (data.get(i) == '\n') {
+						end = i + 1;
+						break;
+					}
+				}
+			}
+			final ByteBuffer chunk = data.duplicate();
+			chunk.limit(end);
+			chunk.position(position);
+			chunks.add(chunk);
+			position = end;
+		}
+		return writer.submit(chunks.toArray(new ByteBuffer[chunks.size()]), TransmitPriority.BULK);
+	}
+
+	/**
+	 * Permet d'envoyer une requête et d'attendre sa réponse de manière
+	 * asynchrone. La réponse est la première trame reçue dont la clé de
+	 * corrélation est celle de la requête ; un découpeur doit donc être
+	 * installé afin que les données reçues soient notifiées trame par trame.
+	 * <p>
+	 * Plusieurs requêtes peuvent être en attente de réponse simultanément,
+	 * dans la limite de {@link #getMaxInFlightRequests()} : les requêtes
+	 * excédentaires sont transmises dès qu'une réponse ou un délai expiré
+	 * libère une place ; le délai de réponse d'une requête ne court qu'à
+	 * partir de son entrée en vol. Les délais sont gérés par la minuterie
+	 * partagée {@link SerialLinkTimer#getDefault()}, sans thread ni tâche
+	 * planifiée par requête.
+	 * 
+	 * @param frame
+	 *            Trame de la requête, qui ne doit pas être modifiée avant sa
+	 *            transmission.
+	 * @param matcher
+	 *            Stratégie de corrélation de la réponse.
+	 * @param timeout
+	 *            Délai de réponse.
+	 * @param unit
+	 *            Unité du délai.
+	 * @return Réponse à la requête, en erreur si la liaison est fermée, si
+	 *         la transmission échoue ou, avec une
+	 *         {@link java.util.concurrent.TimeoutException}, si aucune réponse
+	 *         n'est reçue dans le délai.
+	 * @see SerialLinkCorrelators
+	 */
+	public SerialLinkFuture<byte[]> request (final ByteBuffer frame, final SerialLinkCorrelator matcher,
+			final long timeout, final TimeUnit unit) {
+		if (!this.isOpen) {
+			return SerialLinkFuture.failed(new SerialLinkConnectionException("Serial link is closed"));
+		}
+		SerialLinkRequester requester = this.requester;
+		if (requester == null) {
+			synchronized (this.lifecycleLock) {
+				requester = this.requester;
+				if (requester == null) {
+					requester = new SerialLinkRequester(this, SerialLinkTimer.getDefault(),
+							this.maxInFlightRequests);
+					this.listeners.add(requester);
+					this.requester = requester;
+				}
 			}
 		}
+		return requester.submit(frame, matcher, unit.toNanos(timeout));
+	}
+
+	/**
+	 * Permet d'envoyer une requête et d'attendre sa réponse de manière
+	 * asynchrone.
+	 * 
+	 * @param frame
+	 *            Trame de la requête.
+	 * @param matcher
+	 *            Stratégie de corrélation de la réponse.
+	 * @param timeout
+	 *            Délai de réponse.
+	 * @param unit
+	 *            Unité du délai.
+	 * @return Réponse à la requête.
+	 * @see #request(ByteBuffer, SerialLinkCorrelator, long, TimeUnit)
+	 */
+	public SerialLinkFuture<byte[]> request (final byte[] frame, final SerialLinkCorrelator matcher,
+			final long timeout, final TimeUnit unit) {
+		return request(ByteBuffer.wrap(frame), matcher, timeout, unit);
+	}
+
+	/**
+	 * Permet d'arrêter le thread d'écriture, les écritures en attente
+	 * échouant.
+	 */
+	private void stopWriter () {
+		final SerialLinkWriter writer = this.writer;
+		if (writer != null) {
+			this.writer = null;
+			writer.stop();
+			this.bytesWrittenBefore += writer.getBytesWritten();
+		}
 	}
 
 	/**
@@ -204,141 +676,1255 @@ public class SerialLinkClient implements CommPortOwnershipListener, SerialPortEv
 	 *             levée.
 	 */
 	public void sendBreak (int millis) throws SerialLinkConnectionException {
-		if (this.serialPort != null && this.isOpen) {
-			this.serialPort.sendBreak(millis);
+		final SerialTransport transport = this.transport;
+		if (transport != null && this.isOpen) {
+			transport.sendBreak(millis);
 		} else {
 			throw new SerialLinkConnectionException("Serial link is closed");
 		}
 	}
 
 	/**
-	 * Permet de paramétrer la liaison série avec les paramètres spécifiés. Si
-	 * le paramétrage échoue alors les paramètres par défaut sont rétablis et
-	 * une exception est levée.
+	 * Permet de modifier les paramètres de la liaison en vidant au préalable
+	 * les écritures en attente.
 	 * 
 	 * @param params
-	 *            Paramètres de la liaison série.
+	 *            Nouveaux paramètres.
 	 * @throws SerialLinkConnectionException
-	 *             Si une erreur survient lors de l'ouverture de la liaison
-	 *             série, une exception est levée.
+	 *             Si les paramètres ne peuvent pas être appliqués.
+	 * @see #reconfigure(SerialLinkParameters, ReconfigurePolicy)
+	 */
+	public void reconfigure (final SerialLinkParameters params) throws SerialLinkConnectionException {
+		reconfigure(params, ReconfigurePolicy.DRAIN);
+	}
+
+	/**
+	 * Permet de modifier les paramètres de la liaison sans la fermer. La
+	 * transmission est suspendue pendant le changement, les écritures en
+	 * attente étant traitées selon la politique spécifiée, et les données
+	 * déjà reçues sont conservées. Si le transport refuse les nouveaux
+	 * paramètres, les précédents sont rétablis.
+	 * <p>
+	 * Une copie des paramètres est conservée et publiée en une seule fois :
+	 * la réception utilise soit les anciens, soit les nouveaux paramètres,
+	 * jamais un mélange des deux. Le port et le transport ne pouvant être
+	 * changés qu'en rouvrant la liaison, ils doivent être identiques. Si la
+	 * liaison est fermée, les paramètres sont simplement conservés pour la
+	 * prochaine ouverture.
+	 * 
+	 * @param params
+	 *            Nouveaux paramètres.
+	 * @param policy
+	 *            Traitement des écritures en attente.
+	 * @throws SerialLinkConnectionException
+	 *             Si les paramètres ne peuvent pas être appliqués ou si les
+	 *             écritures en attente n'ont pas pu être vidées à temps.
 	 */
-	private void setParameters (final SerialLinkParameters params) throws SerialLinkConnectionException {
-		// Application des paramètres
+	public void reconfigure (final SerialLinkParameters params, final ReconfigurePolicy policy)
+			throws SerialLinkConnectionException {
+		final SerialLinkParameters snapshot = new SerialLinkParameters(params);
 		try {
-			this.serialPort.setSerialPortParams(params.getBaudRate(), params.getDatabits(), params.getStopbits(),
-					params.getParity());
-			int flowControl = params.getFlowControlIn() | params.getFlowControlOut();
-			this.serialPort.setFlowControlMode(flowControl);
-			if (this.serialPort.getFlowControlMode() != flowControl) {
-				throw new SerialLinkConnectionException("Failed to update flow control mode");
+			synchronized (this.lifecycleLock) {
+				final SerialTransport transport = this.transport;
+				final SerialLinkParameters previous = this.serialParams;
+				if (transport == null) {
+					this.serialParams = snapshot;
+					return;
+				}
+				if (!equals(snapshot.getComId(), previous.getComId())
+						|| !equals(snapshot.getTransport(), previous.getTransport())) {
+					throw new SerialLinkConnectionException("Changing the port requires reopening the serial link");
+				}
+				final SerialLinkWriter writer = this.writer;
+				try {
+					if (!writer.suspend(policy, TimeUnit.MILLISECONDS.toNanos(RECONFIGURE_TIMEOUT))) {
+						throw new SerialLinkConnectionException("Pending writes not drained in time");
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new SerialLinkConnectionException("Interrupted while draining pending writes", e);
+				}
+				try {
+					transport.configure(snapshot);
+					this.serialParams = snapshot;
+					if (writer.getPacer() != null) {
+						writer.getPacer().setCharNanos(snapshot.getCharTimeNanos());
+					}
+				} catch (SerialLinkConnectionException e) {
+					// Retour aux paramètres précédents
+					try {
+						transport.configure(previous);
+					} catch (SerialLinkConnectionException e2) {
+						this.logger.error("Failed to restore the parameters of " + previous.getComId(), e2);
+						e.addSuppressed(e2);
+						degrade();
+					}
+					throw e;
+				} finally {
+					writer.resume();
+				}
 			}
-		} catch (UnsupportedCommOperationException e) {
-			throw new SerialLinkConnectionException("Unsupported parameters for serial link", e);
+		} finally {
+			fireStateChanges();
 		}
 	}
 
 	/**
-	 * Permet de lire les messages reçus depuis la liaison série.
+	 * Permet de modifier les paramètres de la liaison sur l'exécuteur du cycle
+	 * de vie, sans bloquer l'appelant.
+	 * 
+	 * @param params
+	 *            Nouveaux paramètres.
+	 * @param policy
+	 *            Traitement des écritures en attente.
+	 * @return Résultat de la reconfiguration.
+	 * @see #reconfigure(SerialLinkParameters, ReconfigurePolicy)
+	 */
+	public SerialLinkFuture<Void> reconfigureAsync (final SerialLinkParameters params,
+			final ReconfigurePolicy policy) {
+		final SerialLinkParameters snapshot = new SerialLinkParameters(params);
+		final SerialLinkFuture<Void> future = new SerialLinkFuture<>();
+		this.lifecycleExecutor.execute(new Runnable() {
+
+			@Override
+			public void run () {
+				try {
+					reconfigure(snapshot, policy);
+					future.complete(null);
+				} catch (SerialLinkConnectionException e) {
+					future.fail(e);
+				} catch (RuntimeException e) {
+					future.fail(e);
+				}
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * Permet de comparer deux chaînes pouvant être nulles.
+	 * 
+	 * @param a
+	 *            Première chaîne.
+	 * @param b
+	 *            Seconde chaîne.
+	 * @return <code>true</code> si les chaînes sont égales.
+	 */
+	private static boolean equals (final String a, final String b) {
+		return a == null ? b == null : a.equals(b);
+	}
+
+	/**
+	 * Permet de lire les données reçues depuis la liaison série. Les données
+	 * sont lues par blocs dimensionnés à partir du nombre d'octets disponibles
+	 * sur le transport dans un buffer propre au client et
+	 * réutilisé d'une lecture à l'autre. Aucune allocation n'est effectuée tant
+	 * que le buffer n'a pas besoin d'être agrandi.
 	 * 
-	 * @return Message reçu depuis la liaison série.
+	 * @return Nombre d'octets lus dans le buffer de réception, ou
+	 *         <code>-1</code> si une erreur est survenue.
 	 */
-	private String read () {
-		StringBuffer buffer = new StringBuffer();
-		int newData = 0;
+	private int read () {
+		final SerialTransport transport = this.transport;
+		if (transport == null) {
+			return 0;
+		}
+		this.recvEventCount++;
+		if (this.serialParams.getReceiveMode() == ReceiveMode.GAP) {
+			return readUntilGap(transport);
+		}
+		int length = 0;
 		// Tant qu'il y a des données en réception
-		while (newData != -1) {
-			try {
-				newData = this.input.read();
-				if (newData == -1) {
+		try {
+			while (true) {
+				int available = transport.available();
+				// Sans données disponibles, lecture bloquante jusqu'au timeout
+				int toRead = available > 0 ? available : 1;
+				int count = readRecv(transport, length, toRead);
+				if (count <= 0) {
 					break;
 				}
-				// Substitution des \r
-				if ('\r' == (char) newData) {
-					buffer.append('\n');
-				} else {
-					buffer.append((char) newData);
+				length += count;
+			}
+		} catch (IOException e1) {
+			this.logger.error("An error occured while reading the serial link", e1);
+			degrade();
+			return -1;
+		}
+		return length;
+	}
+
+	/**
+	 * Permet de lire les données reçues sans jamais bloquer dans le flux
+	 * d'entrée, jusqu'à ce que la ligne reste silencieuse pendant la durée du
+	 * silence inter-caractères calculée à partir des paramètres de la liaison.
+	 * 
+	 * @param transport
+	 *            Transport à lire.
+	 * @return Nombre d'octets lus dans le buffer de réception, ou
+	 *         <code>-1</code> si une erreur est survenue.
+	 */
+	private int readUntilGap (final SerialTransport transport) {
+		final long gapNanos = this.serialParams.getGapNanos();
+		// Attente par fractions du silence pour limiter la latence ajoutée
+		final long pollNanos = Math.max(1000L, gapNanos / 4);
+		int length = 0;
+		long lastByte = System.nanoTime();
+		try {
+			while (true) {
+				int available = transport.available();
+				if (available > 0) {
+					int count = readRecv(transport, length, available);
+					if (count > 0) {
+						length += count;
+						lastByte = System.nanoTime();
+						continue;
+					}
+				}
+				if (System.nanoTime() - lastByte >= gapNanos) {
+					break;
 				}
-			} catch (IOException e1) {
-				this.logger.error("An error occured while reading the serial input stream", e1);
-				return null;
+				LockSupport.parkNanos(pollNanos);
+			}
+		} catch (IOException e1) {
+			this.logger.error("An error occured while reading the serial link", e1);
+			degrade();
+			return -1;
+		}
+		return length;
+	}
+
+	/**
+	 * Permet au réacteur de lire sans bloquer au plus le nombre d'octets
+	 * spécifié parmi les octets disponibles, puis de les distribuer aux
+	 * abonnés depuis son thread.
+	 * 
+	 * @param budget
+	 *            Nombre maximal d'octets à lire.
+	 * @return Nombre d'octets lus.
+	 */
+	int poll (final int budget) {
+		final SerialTransport transport = this.transport;
+		if (transport == null || !this.isOpen) {
+			return 0;
+		}
+		int length;
+		try {
+			final int available = transport.available();
+			if (available <= 0) {
+				return 0;
+			}
+			this.recvTimestamp = System.nanoTime();
+			this.recvEventCount++;
+			length = readRecv(transport, 0, Math.min(available, budget));
+		} catch (IOException e1) {
+			this.logger.error("An error occured while reading the serial link", e1);
+			degrade();
+			return 0;
+		}
+		if (length <= 0) {
+			return 0;
+		}
+		dispatch(this.recvView, 0, length, SerialLinkEvent.DATA_AVAILABLE);
+		return length;
+	}
+
+	/**
+	 * Permet de lire depuis le transport dans le buffer de réception, agrandi
+	 * si nécessaire.
+	 * 
+	 * @param transport
+	 *            Transport à lire.
+	 * @param offset
+	 *            Position de destination dans le buffer de réception.
+	 * @param count
+	 *            Nombre maximal d'octets à lire.
+	 * @return Nombre d'octets lus, <code>0</code> ou <code>-1</code> si aucune
+	 *         donnée n'a été reçue.
+	 * @throws IOException
+	 *             Si une erreur survient sur le transport.
+	 */
+	private int readRecv (final SerialTransport transport, final int offset, final int count) throws IOException {
+		ensureRecvCapacity(offset + count);
+		this.recvTarget.limit(offset + count);
+		this.recvTarget.position(offset);
+		return transport.read(this.recvTarget);
+	}
+
+	/**
+	 * Permet de s'assurer que le buffer de réception peut contenir le nombre
+	 * d'octets spécifié. Le buffer est agrandi par doublement de sa taille en
+	 * conservant les données déjà lues.
+	 * 
+	 * @param capacity
+	 *            Nombre d'octets que doit pouvoir contenir le buffer.
+	 */
+	private void ensureRecvCapacity (final int capacity) {
+		if (capacity > this.recvBuffer.length) {
+			int newLength = this.recvBuffer.length;
+			while (newLength < capacity) {
+				newLength <<= 1;
 			}
+			byte[] newBuffer = new byte[newLength];
+			System.arraycopy(this.recvBuffer, 0, newBuffer, 0, this.recvBuffer.length);
+			this.recvBuffer = newBuffer;
+			this.recvTarget = ByteBuffer.wrap(newBuffer);
+			this.recvView = this.recvTarget.asReadOnlyBuffer();
+			this.recvAllocationCount++;
 		}
-		return buffer.toString();
 	}
 
 	/*
 	 * Accesseurs
 	 */
 
+	/**
+	 * Renvoie les paramètres courants de la liaison. L'instance renvoyée est
+	 * celle utilisée par la réception et ne doit pas être modifiée : une
+	 * modification passe par {@link #setSerialParams(SerialLinkParameters)}
+	 * ou {@link #reconfigure(SerialLinkParameters, ReconfigurePolicy)}.
+	 * 
+	 * @return Paramètres de la liaison série.
+	 */
 	public SerialLinkParameters getSerialParams () {
 		return this.serialParams;
 	}
 
+	/**
+	 * Permet de remplacer les paramètres de la liaison. Le client en conserve
+	 * une copie, publiée en une seule fois. Le transport n'étant paramétré
+	 * qu'à l'ouverture, une liaison ouverte se reparamètre plutôt par
+	 * {@link #reconfigure(SerialLinkParameters, ReconfigurePolicy)}.
+	 * 
+	 * @param serialParams
+	 *            Nouveaux paramètres de la liaison série.
+	 */
 	public void setSerialParams (SerialLinkParameters serialParams) {
-		this.serialParams = serialParams;
+		this.serialParams = new SerialLinkParameters(serialParams);
 	}
 
 	/**
-	 * Permet d'ajouter un écouteur aux notifications du client de la liaison
-	 * série.
+	 * Permet d'activer la distribution des données reçues par un thread dédié.
+	 * Le thread de notification de la liaison série se contente alors de
+	 * copier les octets disponibles dans un buffer circulaire préalloué, et les
+	 * abonnés sont notifiés depuis le thread de distribution. Le paramétrage est
+	 * pris en compte à la prochaine ouverture de la liaison.
 	 * 
-	 * @param listener
-	 *            Abonné aux notifications du client de la liaison série.
+	 * @param capacity
+	 *            Capacité du buffer circulaire en octets, ou <code>0</code>
+	 *            pour notifier les abonnés depuis le thread de notification.
+	 * @param strategy
+	 *            Stratégie d'attente du thread de distribution.
 	 */
-	public void addSerialEventListener (final SerialLinkEventListener listener) {
-		if (listener != null) {
-			this.listeners.add(listener);
+	public void setReceiveRing (int capacity, WaitStrategy strategy) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Invalid ring buffer capacity : " + capacity);
 		}
+		if (strategy == null) {
+			throw new NullPointerException("Wait strategy cannot be null");
+		}
+		this.ringCapacity = capacity;
+		this.waitStrategy = strategy;
 	}
 
 	/**
-	 * Permet de retirer un écouteur aux notifications du client de la liaison
-	 * série.
+	 * Renvoie le buffer circulaire de réception, permettant de consulter ses
+	 * métriques (niveau maximal atteint, octets abandonnés).
 	 * 
-	 * @param listener
-	 *            Abonné aux notifications du client de la liaison série.
-	 * @return Renvoie <code>true</code> si l'écouteur a été retiré,
-	 *         <code>false</code> sinon.
+	 * @return Buffer circulaire de réception, ou <code>null</code> s'il n'est
+	 *         pas activé.
 	 */
-	public boolean removeSerialEventListener (final SerialLinkEventListener listener) {
-		if (listener != null && this.listeners.contains(listener)) {
-			this.listeners.remove(listener);
-			return true;
+	public SerialLinkRingBuffer getReceiveRing () {
+		return this.ring;
+	}
+
+	public int getWriteQueueCapacity () {
+		return this.writeQueueCapacity;
+	}
+
+	/**
+	 * Permet de spécifier le nombre maximal d'écritures asynchrones en attente,
+	 * pris en compte à la prochaine ouverture de la liaison.
+	 * 
+	 * @param capacity
+	 *            Nombre maximal d'écritures en attente.
+	 */
+	public void setWriteQueueCapacity (int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Invalid write queue capacity : " + capacity);
 		}
-		return false;
+		this.writeQueueCapacity = capacity;
 	}
 
-	@Override
-	public void serialEvent (SerialPortEvent e) {
-		String msg = "";
-		if (e.getEventType() == SerialPortEvent.DATA_AVAILABLE) {
-			// Acquisition du message
-			msg = read();
-		}
-		// Notification des abonnés
-		if (msg != null && !msg.isEmpty()) {
-			for (SerialLinkEventListener listener : this.listeners) {
-				listener.onNotify(new SerialLinkEvent(this, this.serialParams, msg, e.getEventType()));
-			}
+	public int getBulkBatchSize () {
+		return this.bulkBatchSize;
+	}
+
+	/**
+	 * Permet de spécifier la taille maximale d'un lot de trames de la voie
+	 * {@link TransmitPriority#BULK} transmis d'un seul tenant, prise en compte
+	 * à la prochaine ouverture de la liaison. Un lot contient toujours au
+	 * moins une trame entière. La taille borne le délai d'attente des
+	 * écritures prioritaires, au prix d'un plus grand nombre d'écritures du
+	 * pilote.
+	 * 
+	 * @param batchSize
+	 *            Taille maximale d'un lot en octets.
+	 */
+	public void setBulkBatchSize (int batchSize) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("Invalid bulk batch size : " + batchSize);
 		}
+		this.bulkBatchSize = batchSize;
 	}
 
-	@Override
-	public void ownershipChange (int type) {
-		this.logger.warn("OWNERSHIP CHANGED");
+	public int getMaxInFlightRequests () {
+		return this.maxInFlightRequests;
 	}
 
-	/*
-	 * Accesseurs
+	/**
+	 * Permet de spécifier le nombre maximal de requêtes en attente de
+	 * réponse. Une augmentation transmet immédiatement les requêtes
+	 * retenues.
+	 * 
+	 * @param maxInFlight
+	 *            Nombre maximal de requêtes en vol, 1 pour un échange
+	 *            commande-réponse strict.
 	 */
+	public void setMaxInFlightRequests (int maxInFlight) {
+		if (maxInFlight <= 0) {
+			throw new IllegalArgumentException("Invalid in-flight request limit : " + maxInFlight);
+		}
+		this.maxInFlightRequests = maxInFlight;
+		final SerialLinkRequester requester = this.requester;
+		if (requester != null) {
+			requester.setMaxInFlight(maxInFlight);
+		}
+	}
 
 	/**
-	 * Permet de dire si la liaison série est connectée ou non.
+	 * Renvoie le nombre de requêtes transmises en attente de réponse.
 	 * 
-	 * @return <code>true</code> si la liaison série est connectée,
-	 *         <code>false</code> sinon.
+	 * @return Nombre de requêtes en vol.
 	 */
-	public boolean isConnected () {
-		return this.isOpen;
+	public int getInFlightRequestCount () {
+		final SerialLinkRequester requester = this.requester;
+		return requester == null ? 0 : requester.getInFlightCount();
+	}
+
+	/**
+	 * Renvoie le nombre de requêtes retenues par la limite de requêtes en
+	 * vol.
+	 * 
+	 * @return Nombre de requêtes en attente de transmission.
+	 */
+	public int getWaitingRequestCount () {
+		final SerialLinkRequester requester = this.requester;
+		return requester == null ? 0 : requester.getWaitingCount();
+	}
+
+	/**
+	 * Renvoie le nombre de requêtes arrivées à expiration sans réponse.
+	 * 
+	 * @return Nombre de requêtes expirées.
+	 */
+	public long getRequestTimeoutCount () {
+		final SerialLinkRequester requester = this.requester;
+		return requester == null ? 0 : requester.getTimeoutCount();
+	}
+
+	/**
+	 * Renvoie le nombre de trames reçues ne correspondant à aucune requête en
+	 * vol, par exemple des réponses arrivées après expiration.
+	 * 
+	 * @return Nombre de trames non associées.
+	 */
+	public long getUnmatchedReplyCount () {
+		final SerialLinkRequester requester = this.requester;
+		return requester == null ? 0 : requester.getUnmatchedCount();
+	}
+
+	public int getTransmitBurst () {
+		return this.transmitBurst;
+	}
+
+	public double getFrameGapChars () {
+		return this.frameGapChars;
+	}
+
+	/**
+	 * Permet de réguler la transmission au rythme de la ligne, pris en compte
+	 * à la prochaine ouverture de la liaison. Les octets sont confiés au
+	 * pilote par paquets d'au plus <code>burst</code> octets, regénérés au
+	 * rythme du temps caractère de la liaison ; un périphérique sans contrôle
+	 * de flux ne reçoit ainsi jamais plus que sa FIFO ne peut absorber. Chaque
+	 * écriture est considérée comme une trame, suivie du silence spécifié.
+	 * 
+	 * @param burst
+	 *            Nombre maximal d'octets transmis d'un coup, inférieur à la
+	 *            taille de la FIFO du périphérique pour laisser une marge au
+	 *            lecteur, ou 0 pour transmettre sans régulation.
+	 * @param frameGapChars
+	 *            Silence à respecter entre deux écritures, en temps
+	 *            caractère.
+	 */
+	public void setTransmitPacing (final int burst, final double frameGapChars) {
+		if (burst < 0 || frameGapChars < 0) {
+			throw new IllegalArgumentException("Invalid transmit pacing : " + burst + ", " + frameGapChars);
+		}
+		this.transmitBurst = burst;
+		this.frameGapChars = frameGapChars;
+	}
+
+	/**
+	 * Renvoie la durée cumulée d'attente du thread d'écriture imposée par la
+	 * régulation de la transmission depuis l'ouverture de la liaison.
+	 * 
+	 * @return Durée d'attente en nanosecondes.
+	 */
+	public long getTransmitPacingWaitNanos () {
+		final SerialLinkWriter writer = this.writer;
+		return writer == null || writer.getPacer() == null ? 0 : writer.getPacer().getWaitNanos();
+	}
+
+	/**
+	 * Renvoie le nombre d'écritures asynchrones en attente.
+	 * 
+	 * @return Profondeur de la file d'écriture.
+	 */
+	public int getWriteQueueDepth () {
+		final SerialLinkWriter writer = this.writer;
+		return writer == null ? 0 : writer.getQueueDepth();
+	}
+
+	/**
+	 * Renvoie le nombre d'écritures asynchrones en attente dans la voie
+	 * spécifiée.
+	 * 
+	 * @param priority
+	 *            Voie de transmission.
+	 * @return Profondeur de la file de la voie.
+	 */
+	public int getWriteQueueDepth (final TransmitPriority priority) {
+		final SerialLinkWriter writer = this.writer;
+		return writer == null ? 0 : writer.getQueueDepth(priority);
+	}
+
+	/**
+	 * Renvoie le délai moyen d'attente des écritures de la voie spécifiée,
+	 * entre leur soumission et le début de leur transmission, depuis
+	 * l'ouverture de la liaison.
+	 * 
+	 * @param priority
+	 *            Voie de transmission.
+	 * @return Délai moyen d'attente en nanosecondes.
+	 */
+	public long getAverageWriteLatencyNanos (final TransmitPriority priority) {
+		final SerialLinkWriter writer = this.writer;
+		return writer == null ? 0 : writer.getAverageLatencyNanos(priority);
+	}
+
+	/**
+	 * Renvoie le délai maximal d'attente des écritures de la voie spécifiée
+	 * depuis l'ouverture de la liaison.
+	 * 
+	 * @param priority
+	 *            Voie de transmission.
+	 * @return Délai maximal d'attente en nanosecondes.
+	 * @see #getAverageWriteLatencyNanos(TransmitPriority)
+	 */
+	public long getMaxWriteLatencyNanos (final TransmitPriority priority) {
+		final SerialLinkWriter writer = this.writer;
+		return writer == null ? 0 : writer.getMaxLatencyNanos(priority);
+	}
+
+	/**
+	 * Renvoie la profondeur maximale atteinte par la file d'écriture depuis
+	 * l'ouverture de la liaison.
+	 * 
+	 * @return Profondeur maximale de la file d'écriture.
+	 */
+	public int getMaxWriteQueueDepth () {
+		final SerialLinkWriter writer = this.writer;
+		return writer == null ? 0 : writer.getMaxQueueDepth();
+	}
+
+	/**
+	 * Renvoie le nombre d'écritures transmises au transport par
+	 * le thread d'écriture depuis l'ouverture de la liaison. Comparé au nombre
+	 * d'écritures asynchrones, il mesure l'efficacité du regroupement.
+	 * 
+	 * @return Nombre d'écritures transmises au pilote.
+	 */
+	public long getDriverWriteCount () {
+		final SerialLinkWriter writer = this.writer;
+		return writer == null ? 0 : writer.getWriteCount();
+	}
+
+	/**
+	 * Renvoie le nombre d'écritures asynchrones achevées depuis l'ouverture de
+	 * la liaison.
+	 * 
+	 * @return Nombre d'écritures asynchrones achevées.
+	 */
+	public long getAsyncWriteCount () {
+		final SerialLinkWriter writer = this.writer;
+		return writer == null ? 0 : writer.getRequestCount();
+	}
+
+	public boolean isEventPooling () {
+		return this.eventPooling;
+	}
+
+	/**
+	 * Permet d'activer le recyclage des évènements transmis aux écouteurs
+	 * asynchrones ajoutés par la suite. Les données reçues sont alors recopiées
+	 * dans des évènements réutilisés, sans allocation en régime établi, et ne
+	 * sont valides que pendant l'appel à l'écouteur.
+	 * 
+	 * @param eventPooling
+	 *            <code>true</code> pour recycler les évènements.
+	 */
+	public void setEventPooling (boolean eventPooling) {
+		this.eventPooling = eventPooling;
+	}
+
+	public SerialLinkReactor getReactor () {
+		return this.reactor;
+	}
+
+	/**
+	 * Permet de rattacher le client à un réacteur partagé, pris en compte à la
+	 * prochaine ouverture de la liaison. Les données reçues sont alors lues et
+	 * distribuées par une boucle du réacteur, sans buffer circulaire ni
+	 * attente du timeout de réception.
+	 * 
+	 * @param reactor
+	 *            Réacteur interrogeant la liaison, ou <code>null</code> pour
+	 *            être notifié par le transport.
+	 */
+	public void setReactor (SerialLinkReactor reactor) {
+		this.reactor = reactor;
+	}
+
+	public SerialLinkFramer getFramer () {
+		return this.framer;
+	}
+
+	/**
+	 * Permet de spécifier le découpeur de trames appliqué au flux de réception.
+	 * Les abonnés sont alors notifiés une fois par trame complète, l'état des
+	 * trames partielles étant conservé d'une réception à l'autre. Le découpeur
+	 * est réinitialisé à la fermeture de la liaison série.
+	 * 
+	 * @param framer
+	 *            Découpeur de trames, ou <code>null</code> pour notifier les
+	 *            données telles qu'elles sont lues.
+	 * @throws IllegalStateException
+	 *             Si un abonné asynchrone fusionnant les évènements est
+	 *             enregistré, la fusion effaçant les limites des trames.
+	 */
+	public void setFramer (SerialLinkFramer framer) {
+		if (framer != null) {
+			for (SerialLinkDataListener registered : this.listeners.snapshot()) {
+				if (registered instanceof SerialLinkAsyncListener) {
+					checkOverflowPolicy(((SerialLinkAsyncListener) registered).getPolicy(), framer);
+				}
+			}
+			framer.reset();
+		}
+		this.framer = framer;
+	}
+
+	/**
+	 * Permet de vérifier qu'une politique de débordement est compatible avec
+	 * le découpeur de trames : la fusion des évènements effacerait les limites
+	 * des trames notifiées.
+	 * 
+	 * @param policy
+	 *            Politique de débordement d'un abonné asynchrone.
+	 * @param framer
+	 *            Découpeur de trames, peut être <code>null</code>.
+	 * @throws IllegalStateException
+	 *             Si la politique fusionne les évènements alors qu'un
+	 *             découpeur de trames est défini.
+	 */
+	private static void checkOverflowPolicy (final OverflowPolicy policy, final SerialLinkFramer framer) {
+		if (policy == OverflowPolicy.COALESCE && framer != null) {
+			throw new IllegalStateException("Coalescing listeners cannot be used with framed reception");
+		}
+	}
+
+	/**
+	 * Permet d'ajouter un écouteur aux notifications du client de la liaison
+	 * série.
+	 * 
+	 * @param listener
+	 *            Abonné aux notifications du client de la liaison série.
+	 */
+	public void addSerialEventListener (final SerialLinkEventListener listener) {
+		this.stringAdapter.addListener(listener);
+	}
+
+	/**
+	 * Permet de retirer un écouteur aux notifications du client de la liaison
+	 * série.
+	 * 
+	 * @param listener
+	 *            Abonné aux notifications du client de la liaison série.
+	 * @return Renvoie <code>true</code> si l'écouteur a été retiré,
+	 *         <code>false</code> sinon.
+	 */
+	public boolean removeSerialEventListener (final SerialLinkEventListener listener) {
+		if (this.stringAdapter.removeListener(listener)) {
+			return true;
+		}
+		for (SerialLinkDataListener registered : this.listeners.snapshot()) {
+			if (registered instanceof SerialLinkAsyncListener) {
+				SerialLinkAsyncListener async = (SerialLinkAsyncListener) registered;
+				if (async.getTarget() instanceof SerialLinkStringAdapter
+						&& ((SerialLinkStringAdapter) async.getTarget()).contains(listener)
+						&& this.listeners.remove(async)) {
+					async.close();
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Permet d'ajouter un écouteur notifié de manière asynchrone, avec sa
+	 * propre file d'attente bornée et son propre exécuteur. Le décodage des
+	 * messages est alors effectué sur l'exécuteur de l'écouteur.
+	 * 
+	 * @param listener
+	 *            Abonné aux notifications du client de la liaison série.
+	 * @param queueCapacity
+	 *            Nombre maximal d'évènements en attente.
+	 * @param policy
+	 *            Comportement lorsque la file d'attente est pleine.
+	 * @param executor
+	 *            Exécuteur sur lequel l'écouteur est notifié, ou
+	 *            <code>null</code> pour utiliser un thread dédié.
+	 * @return Abonné asynchrone permettant de consulter les métriques de la
+	 *         file d'attente.
+	 * @throws IllegalStateException
+	 *             Si la politique {@link OverflowPolicy#COALESCE} est demandée
+	 *             alors qu'un découpeur de trames est défini.
+	 */
+	public SerialLinkAsyncListener addSerialEventListener (final SerialLinkEventListener listener,
+			final int queueCapacity, final OverflowPolicy policy, final Executor executor) {
+		if (listener == null) {
+			return null;
+		}
+		checkOverflowPolicy(policy, this.framer);
+		SerialLinkStringAdapter adapter = new SerialLinkStringAdapter();
+		adapter.addListener(listener);
+		SerialLinkAsyncListener async =
+				new SerialLinkAsyncListener(adapter, queueCapacity, policy, executor, this.eventPooling);
+		this.listeners.add(async);
+		return async;
+	}
+
+	/**
+	 * Permet d'ajouter un écouteur aux données brutes reçues par le client de
+	 * la liaison série.
+	 * 
+	 * @param listener
+	 *            Abonné aux données brutes de la liaison série.
+	 * @throws IllegalStateException
+	 *             Si l'abonné est un abonné asynchrone fusionnant les
+	 *             évènements alors qu'un découpeur de trames est défini.
+	 */
+	public void addSerialDataListener (final SerialLinkDataListener listener) {
+		if (listener instanceof SerialLinkAsyncListener) {
+			checkOverflowPolicy(((SerialLinkAsyncListener) listener).getPolicy(), this.framer);
+		}
+		if (listener != null) {
+			this.listeners.add(listener);
+		}
+	}
+
+	/**
+	 * Permet de retirer un écouteur aux données brutes reçues par le client de
+	 * la liaison série.
+	 * 
+	 * @param listener
+	 *            Abonné aux données brutes de la liaison série.
+	 * @return Renvoie <code>true</code> si l'écouteur a été retiré,
+	 *         <code>false</code> sinon.
+	 */
+	public boolean removeSerialDataListener (final SerialLinkDataListener listener) {
+		if (listener != null && listener != this.stringAdapter && this.listeners.remove(listener)) {
+			if (listener instanceof SerialLinkAsyncListener) {
+				((SerialLinkAsyncListener) listener).close();
+			}
+			return true;
+		}
+		for (SerialLinkDataListener registered : this.listeners.snapshot()) {
+			if (registered instanceof SerialLinkAsyncListener
+					&& ((SerialLinkAsyncListener) registered).getTarget() == listener
+					&& this.listeners.remove(registered)) {
+				((SerialLinkAsyncListener) registered).close();
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Permet d'ajouter un écouteur aux données brutes notifié de manière
+	 * asynchrone, avec sa propre file d'attente bornée et son propre exécuteur.
+	 * 
+	 * @param listener
+	 *            Abonné aux données brutes de la liaison série.
+	 * @param queueCapacity
+	 *            Nombre maximal d'évènements en attente.
+	 * @param policy
+	 *            Comportement lorsque la file d'attente est pleine.
+	 * @param executor
+	 *            Exécuteur sur lequel l'écouteur est notifié, ou
+	 *            <code>null</code> pour utiliser un thread dédié.
+	 * @return Abonné asynchrone permettant de consulter les métriques de la
+	 *         file d'attente.
+	 * @throws IllegalStateException
+	 *             Si la politique {@link OverflowPolicy#COALESCE} est demandée
+	 *             alors qu'un découpeur de trames est défini.
+	 */
+	public SerialLinkAsyncListener addSerialDataListener (final SerialLinkDataListener listener,
+			final int queueCapacity, final OverflowPolicy policy, final Executor executor) {
+		if (listener == null) {
+			return null;
+		}
+		checkOverflowPolicy(policy, this.framer);
+		SerialLinkAsyncListener async =
+				new SerialLinkAsyncListener(listener, queueCapacity, policy, executor, this.eventPooling);
+		this.listeners.add(async);
+		return async;
+	}
+
+	@Override
+	public void onTransportEvent (int eventType, boolean newValue) {
+		if (eventType > SerialLinkEvent.DATA_AVAILABLE && eventType < this.lineEvents.length() && newValue) {
+			this.lineEvents.incrementAndGet(eventType);
+		}
+		if (eventType == SerialLinkEvent.OUTPUT_BUFFER_EMPTY) {
+			final SerialLinkWriter writer = this.writer;
+			if (writer != null) {
+				writer.outputEmpty();
+			}
+			return;
+		}
+		if (eventType == SerialLinkEvent.DATA_AVAILABLE) {
+			this.recvTimestamp = System.nanoTime();
+			if (this.ring != null) {
+				// Copie des données, la notification est faite par le thread
+				// de distribution
+				fillRing();
+				return;
+			}
+			// Acquisition des données
+			int length = read();
+			// Notification des abonnés
+			if (length > 0) {
+				dispatch(this.recvView, 0, length, eventType);
+			}
+		}
+	}
+
+	/**
+	 * Permet de copier les données disponibles directement dans le buffer
+	 * circulaire de réception, sans attendre le timeout de réception. Si le
+	 * buffer est plein, les données en excès sont abandonnées et
+	 * comptabilisées.
+	 */
+	private void fillRing () {
+		this.recvEventCount++;
+		final SerialLinkRingBuffer ring = this.ring;
+		final SerialTransport transport = this.transport;
+		if (transport == null) {
+			return;
+		}
+		try {
+			int available;
+			while ((available = transport.available()) > 0) {
+				final int writable = ring.claim(available);
+				if (writable == 0) {
+					ring.drop(discard(transport, available));
+					break;
+				}
+				final int index = ring.writeIndex();
+				this.ringTarget.limit(index + Math.min(available, writable));
+				this.ringTarget.position(index);
+				final int count = transport.read(this.ringTarget);
+				if (count <= 0) {
+					break;
+				}
+				ring.publish(count);
+			}
+		} catch (IOException e1) {
+			this.logger.error("An error occured while reading the serial link", e1);
+			degrade();
+		}
+	}
+
+	/**
+	 * Permet de lire et d'abandonner le nombre d'octets spécifié, le buffer de
+	 * réception servant de zone de transit.
+	 * 
+	 * @param transport
+	 *            Transport à lire.
+	 * @param count
+	 *            Nombre d'octets à abandonner.
+	 * @return Nombre d'octets effectivement abandonnés.
+	 * @throws IOException
+	 *             Si une erreur survient sur le transport.
+	 */
+	private long discard (final SerialTransport transport, final int count) throws IOException {
+		long discarded = 0;
+		while (discarded < count) {
+			this.recvTarget.limit((int) Math.min(this.recvBuffer.length, count - discarded));
+			this.recvTarget.position(0);
+			final int read = transport.read(this.recvTarget);
+			if (read <= 0) {
+				break;
+			}
+			discarded += read;
+		}
+		return discarded;
+	}
+
+	/**
+	 * Permet au thread de distribution de traiter les données présentes dans
+	 * le buffer circulaire de réception.
+	 * 
+	 * @param index
+	 *            Position des données dans le buffer circulaire.
+	 * @param count
+	 *            Nombre d'octets à traiter.
+	 */
+	void dispatchRing (final int index, final int count) {
+		dispatch(this.ringView, index, count, SerialLinkEvent.DATA_AVAILABLE);
+	}
+
+	/**
+	 * Permet de démarrer le thread de distribution si un buffer circulaire de
+	 * réception a été configuré. Le buffer est conservé d'une ouverture à
+	 * l'autre tant que sa capacité n'est pas modifiée.
+	 */
+	private void startDispatcher () {
+		if (this.ringCapacity > 0) {
+			if (this.ring == null || this.ring.getCapacity() < this.ringCapacity) {
+				this.ring = new SerialLinkRingBuffer(this.ringCapacity);
+				this.ringTarget = ByteBuffer.wrap(this.ring.array());
+				this.ringView = this.ringTarget.asReadOnlyBuffer();
+			}
+			this.dispatcher = new SerialLinkDispatcher(this, this.ring, this.waitStrategy, "SerialLink-dispatcher-"
+					+ this.serialParams.getComId());
+			this.dispatcher.start();
+		} else {
+			this.ring = null;
+			this.ringTarget = null;
+			this.ringView = null;
+		}
+	}
+
+	/**
+	 * Permet d'arrêter le thread de distribution après distribution des
+	 * données restantes.
+	 */
+	private void stopDispatcher () {
+		if (this.dispatcher != null) {
+			this.dispatcher.stop();
+			this.dispatcher = null;
+		}
+	}
+
+	/**
+	 * Permet de traiter les données reçues. Si un découpeur est défini, les
+	 * abonnés sont notifiés une fois par trame complète, sinon une fois pour
+	 * l'ensemble des données lues.
+	 * 
+	 * @param view
+	 *            Vue en lecture seule sur le buffer contenant les données.
+	 * @param offset
+	 *            Position des données dans le buffer.
+	 * @param length
+	 *            Nombre d'octets à notifier.
+	 * @param eventType
+	 *            Type d'évènement reçu.
+	 */
+	private void dispatch (final ByteBuffer view, final int offset, final int length, final int eventType) {
+		this.bytesReceived += length;
+		if (this.state.get() == SerialLinkState.DEGRADED) {
+			recover();
+		}
+		view.limit(offset + length);
+		view.position(offset);
+		if (this.framer != null) {
+			this.framer.decode(view, this.frameSink);
+		} else {
+			notifyListeners(view, eventType);
+		}
+	}
+
+	/**
+	 * Permet de notifier les abonnés des données spécifiées. Le même évènement
+	 * et la même vue sont partagés par tous les abonnés ; la vue est replacée
+	 * sur les données avant chaque notification. L'évènement est horodaté avec
+	 * l'instant du dernier évènement de réception de la liaison série.
+	 * 
+	 * @param data
+	 *            Vue en lecture seule sur les données à notifier.
+	 * @param eventType
+	 *            Type d'évènement reçu.
+	 */
+	private void notifyListeners (final ByteBuffer data, final int eventType) {
+		final SerialLinkDataEvent event = this.dataEvent;
+		event.update(this.serialParams, data, data.position(), data.remaining(), eventType, this.recvTimestamp,
+				++this.dispatchSequence);
+		final SerialLinkDataListener[] listeners = this.listeners.snapshot();
+		for (int i = 0; i < listeners.length; i++) {
+			event.rewind();
+			listeners[i].onData(event);
+		}
+	}
+
+	/**
+	 * Permet de changer l'état de la liaison et de notifier les écouteurs si
+	 * l'état a effectivement changé. Sous le verrou du cycle de vie, la
+	 * notification est différée jusqu'à sa libération.
+	 * 
+	 * @param newState
+	 *            Nouvel état.
+	 */
+	private void setState (final SerialLinkState newState) {
+		final SerialLinkState oldState = this.state.getAndSet(newState);
+		if (oldState != newState) {
+			this.stateChanges.add(new StateChange(oldState, newState));
+			fireStateChanges();
+		}
+	}
+
+	/**
+	 * Permet de signaler l'échec d'une lecture ou d'une écriture, la liaison
+	 * ouverte passant à l'état {@link SerialLinkState#DEGRADED}.
+	 */
+	void degrade () {
+		if (this.state.compareAndSet(SerialLinkState.OPEN, SerialLinkState.DEGRADED)) {
+			this.stateChanges.add(new StateChange(SerialLinkState.OPEN, SerialLinkState.DEGRADED));
+			fireStateChanges();
+		}
+	}
+
+	/**
+	 * Permet de signaler le succès d'une lecture ou d'une écriture, la
+	 * liaison dégradée revenant à l'état {@link SerialLinkState#OPEN}.
+	 */
+	void recover () {
+		if (this.state.compareAndSet(SerialLinkState.DEGRADED, SerialLinkState.OPEN)) {
+			this.stateChanges.add(new StateChange(SerialLinkState.DEGRADED, SerialLinkState.OPEN));
+			fireStateChanges();
+		}
+	}
+
+	/**
+	 * Permet de notifier les écouteurs des changements d'état en attente,
+	 * dans leur ordre, hors du verrou du cycle de vie : un écouteur peut ainsi
+	 * prendre ses propres verrous sans risque d'interblocage avec une
+	 * ouverture ou une fermeture. Un seul thread notifie à la fois ; les
+	 * changements survenus pendant une notification, y compris ceux
+	 * provoqués par un écouteur, sont notifiés par ce même thread.
+	 */
+	private void fireStateChanges () {
+		if (Thread.holdsLock(this.lifecycleLock)) {
+			// Notification à la libération du verrou
+			return;
+		}
+		while (!this.stateChanges.isEmpty() && this.notifyingState.compareAndSet(false, true)) {
+			try {
+				StateChange change;
+				while ((change = this.stateChanges.poll()) != null) {
+					for (SerialLinkStateListener listener : this.stateListeners.snapshot()) {
+						try {
+							listener.onStateChanged(this, change.oldState, change.newState);
+						} catch (RuntimeException e) {
+							this.logger.error("A state listener failed", e);
+						}
+					}
+				}
+			} finally {
+				this.notifyingState.set(false);
+			}
+		}
+	}
+
+	@Override
+	public void onOwnershipChange (int type) {
+		this.logger.warn("OWNERSHIP CHANGED");
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	/**
+	 * Permet de dire si la liaison série est connectée ou non.
+	 * 
+	 * @return <code>true</code> si la liaison série est connectée,
+	 *         <code>false</code> sinon.
+	 */
+	public boolean isConnected () {
+		return this.isOpen;
+	}
+
+	/**
+	 * Renvoie l'état courant de la liaison série.
+	 * 
+	 * @return Etat de la liaison.
+	 */
+	public SerialLinkState getState () {
+		return this.state.get();
+	}
+
+	/**
+	 * Permet d'ajouter un écouteur des changements d'état de la liaison.
+	 * 
+	 * @param listener
+	 *            Ecouteur des changements d'état.
+	 */
+	public void addStateListener (final SerialLinkStateListener listener) {
+		if (listener != null) {
+			this.stateListeners.add(listener);
+		}
+	}
+
+	/**
+	 * Permet de retirer un écouteur des changements d'état de la liaison.
+	 * 
+	 * @param listener
+	 *            Ecouteur des changements d'état.
+	 * @return <code>true</code> si l'écouteur a été retiré.
+	 */
+	public boolean removeStateListener (final SerialLinkStateListener listener) {
+		return this.stateListeners.remove(listener);
+	}
+
+	public Executor getLifecycleExecutor () {
+		return this.lifecycleExecutor;
+	}
+
+	/**
+	 * Permet de spécifier l'exécuteur des ouvertures et fermetures
+	 * asynchrones.
+	 * 
+	 * @param executor
+	 *            Exécuteur du cycle de vie, ou <code>null</code> pour utiliser
+	 *            l'exécuteur partagé par défaut.
+	 */
+	public void setLifecycleExecutor (final Executor executor) {
+		this.lifecycleExecutor = executor != null ? executor : LIFECYCLE_EXECUTOR;
+	}
+
+	/**
+	 * Renvoie le transport de la liaison série, permettant notamment de
+	 * piloter les signaux du modem.
+	 * 
+	 * @return Transport de la liaison série, ou <code>null</code> si elle est
+	 *         fermée.
+	 */
+	public SerialTransport getTransport () {
+		return this.transport;
+	}
+
+	/**
+	 * Renvoie le nombre de lectures effectuées suite à un évènement
+	 * <code>DATA_AVAILABLE</code>.
+	 * 
+	 * @return Nombre de lectures effectuées depuis la création du client.
+	 */
+	public long getReceiveEventCount () {
+		return this.recvEventCount;
+	}
+
+	/**
+	 * Renvoie le nombre d'évènements de ligne d'un type donné reçus depuis la
+	 * création du client, par exemple les erreurs de trame
+	 * {@link SerialLinkEvent#FE}. Seuls les évènements dont la notification
+	 * est activée sur le transport sont comptés.
+	 * 
+	 * @param eventType
+	 *            Type d'évènement, voir {@link SerialLinkEvent}.
+	 * @return Nombre d'évènements reçus.
+	 */
+	public long getLineEventCount (final int eventType) {
+		if (eventType <= SerialLinkEvent.DATA_AVAILABLE || eventType >= this.lineEvents.length()) {
+			return 0;
+		}
+		return this.lineEvents.get(eventType);
+	}
+
+	/**
+	 * Renvoie le nombre total d'octets reçus depuis la création du client.
+	 * 
+	 * @return Nombre d'octets reçus.
+	 */
+	public long getBytesReceived () {
+		return this.bytesReceived;
+	}
+
+	/**
+	 * Renvoie le nombre total d'octets transmis au transport par le thread
+	 * d'écriture depuis la création du client.
+	 * 
+	 * @return Nombre d'octets écrits.
+	 */
+	public long getBytesWritten () {
+		final SerialLinkWriter writer = this.writer;
+		return this.bytesWrittenBefore + (writer == null ? 0 : writer.getBytesWritten());
+	}
+
+	/**
+	 * Renvoie le nombre d'allocations effectuées par le chemin de réception en
+	 * dehors des messages délivrés (agrandissements du buffer de réception).
+	 * En régime établi, ce compteur n'évolue plus alors que
+	 * {@link #getReceiveEventCount()} continue de croître.
+	 * 
+	 * @return Nombre d'allocations internes du chemin de réception.
+	 */
+	public long getReceiveAllocationCount () {
+		return this.recvAllocationCount;
+	}
+
+	/**
+	 * Renvoie le nombre moyen d'allocations internes par lecture.
+	 * 
+	 * @return Nombre moyen d'allocations par évènement de réception.
+	 */
+	public double getAllocationsPerEvent () {
+		return this.recvEventCount == 0 ? 0 : (double) this.recvAllocationCount / this.recvEventCount;
+	}
+
+	/**
+	 * Changement d'état en attente de notification.
+	 */
+	private static class StateChange {
+
+		private final SerialLinkState oldState;
+		private final SerialLinkState newState;
+
+		/**
+		 * Permet d'instancier un changement d'état.
+		 * 
+		 * @param oldState
+		 *            Etat précédent.
+		 * @param newState
+		 *            Nouvel état.
+		 */
+		StateChange (SerialLinkState oldState, SerialLinkState newState) {
+			this.oldState = oldState;
+			this.newState = newState;
+		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Permet d'associer les réponses reçues aux requêtes en attente, au moyen
+ * d'une clé de corrélation extraite de chaque trame (numéro de séquence,
+ * adresse de l'esclave, écho de la commande...). Une réponse est associée à
+ * la plus ancienne requête en attente de même clé.
+ * <p>
+ * Les trames sont transmises entre leur position et leur limite ; elles ne
+ * doivent pas être modifiées et les réponses ne sont valides que pendant
+ * l'appel. Les clés sont comparées par {@link Object#equals(Object)}, une
+ * implémentation doit donc définir <code>equals</code> et
+ * <code>hashCode</code> afin que des instances équivalentes partagent leurs
+ * requêtes en attente.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ * @see SerialLinkClient#request(ByteBuffer, SerialLinkCorrelator, long, java.util.concurrent.TimeUnit)
+ * @see SerialLinkCorrelators
+ */
+public interface SerialLinkCorrelator {
+
+	/**
+	 * Renvoie la clé de corrélation d'une requête.
+	 * 
+	 * @param request
+	 *            Trame de la requête.
+	 * @return Clé de corrélation, non <code>null</code>.
+	 */
+	public Object getRequestKey (ByteBuffer request);
+
+	/**
+	 * Renvoie la clé de corrélation d'une trame reçue. La clé ne doit pas
+	 * référencer la trame au-delà de l'appel.
+	 * 
+	 * @param reply
+	 *            Trame reçue.
+	 * @return Clé de corrélation, ou <code>null</code> si la trame n'est pas
+	 *         une réponse.
+	 */
+	public Object getReplyKey (ByteBuffer reply);
+}
\ No newline at end of file
@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fabrique des stratégies de corrélation usuelles.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public final class SerialLinkCorrelators {
+
+	private static final Object ANY = new Object();
+	private static final Integer[] BYTE_KEYS = new Integer[256];
+
+	static {
+		for (int i = 0; i < BYTE_KEYS.length; i++) {
+			BYTE_KEYS[i] = i;
+		}
+	}
+
+	/**
+	 * Constructeur privé, classe utilitaire.
+	 */
+	private SerialLinkCorrelators () {
+	}
+
+	/**
+	 * Renvoie une corrélation par ordre d'arrivée : chaque trame reçue est la
+	 * réponse de la plus ancienne requête en attente. Convient aux
+	 * équipements répondant dans l'ordre des commandes.
+	 * 
+	 * @return Corrélation par ordre d'arrivée.
+	 */
+	public static SerialLinkCorrelator sequential () {
+		return new ByteCorrelator(-1);
+	}
+
+	/**
+	 * Renvoie une corrélation par l'octet situé au décalage spécifié de la
+	 * requête et de la réponse : numéro de séquence, adresse de l'esclave...
+	 * Les requêtes de même octet sont servies dans l'ordre.
+	 * 
+	 * @param offset
+	 *            Décalage de l'octet par rapport au début de la trame.
+	 * @return Corrélation par octet.
+	 */
+	public static SerialLinkCorrelator byteAt (final int offset) {
+		if (offset < 0) {
+			throw new IllegalArgumentException("Invalid offset : " + offset);
+		}
+		return new ByteCorrelator(offset);
+	}
+
+	/**
+	 * Renvoie une corrélation par écho : la réponse reprend, au décalage
+	 * spécifié, les premiers octets de la requête.
+	 * 
+	 * @param offset
+	 *            Décalage de l'écho par rapport au début de la réponse.
+	 * @param length
+	 *            Nombre d'octets de la requête repris dans la réponse.
+	 * @return Corrélation par écho.
+	 */
+	public static SerialLinkCorrelator echo (final int offset, final int length) {
+		if (offset < 0 || length <= 0) {
+			throw new IllegalArgumentException("Invalid echo : " + offset + ", " + length);
+		}
+		return new EchoCorrelator(offset, length);
+	}
+
+	/**
+	 * Corrélation par un octet de la trame, ou par ordre d'arrivée si le
+	 * décalage est négatif. Les clés sont partagées, sans allocation.
+	 */
+	private static final class ByteCorrelator implements SerialLinkCorrelator {
+
+		private final int offset;
+
+		ByteCorrelator (int offset) {
+			this.offset = offset;
+		}
+
+		@Override
+		public Object getRequestKey (ByteBuffer request) {
+			return getKey(request);
+		}
+
+		@Override
+		public Object getReplyKey (ByteBuffer reply) {
+			return getKey(reply);
+		}
+
+		private Object getKey (ByteBuffer frame) {
+			if (this.offset < 0) {
+				return ANY;
+			}
+			if (frame.remaining() <= this.offset) {
+				return null;
+			}
+			return BYTE_KEYS[frame.get(frame.position() + this.offset) & 0xFF];
+		}
+
+		@Override
+		public boolean equals (Object obj) {
+			return obj instanceof ByteCorrelator && ((ByteCorrelator) obj).offset == this.offset;
+		}
+
+		@Override
+		public int hashCode () {
+			return this.offset;
+		}
+	}
+
+	/**
+	 * Corrélation par écho des premiers octets de la requête. La clé d'une
+	 * réponse est une vue sur la trame reçue, utilisée le temps de la
+	 * recherche.
+	 */
+	private static final class EchoCorrelator implements SerialLinkCorrelator {
+
+		private final int offset;
+		private final int length;
+
+		EchoCorrelator (int offset, int length) {
+			this.offset = offset;
+			this.length = length;
+		}
+
+		@Override
+		public Object getRequestKey (ByteBuffer request) {
+			final ByteBuffer key = ByteBuffer.allocate(this.length);
+			final ByteBuffer source = request.duplicate();
+			source.limit(source.position() + Math.min(this.length, source.remaining()));
+			key.put(source);
+			key.flip();
+			return key;
+		}
+
+		@Override
+		public Object getReplyKey (ByteBuffer reply) {
+			if (reply.remaining() < this.offset + this.length) {
+				return null;
+			}
+			final ByteBuffer key = reply.duplicate();
+			key.position(reply.position() + this.offset);
+			key.limit(key.position() + this.length);
+			return key;
+		}
+
+		@Override
+		public boolean equals (Object obj) {
+			if (!(obj instanceof EchoCorrelator)) {
+				return false;
+			}
+			final EchoCorrelator other = (EchoCorrelator) obj;
+			return other.offset == this.offset && other.length == this.length;
+		}
+
+		@Override
+		public int hashCode () {
+			return 31 * this.offset + this.length;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Objet émis via l'interface {@link SerialLinkDataListener} lorsque des données
+ * sont reçues sur une liaison série. Les données sont exposées sous la forme
+ * d'une vue en lecture seule sur le buffer de réception du client, sans copie.
+ * Chaque évènement porte l'instant de réception (<code>System.nanoTime()</code>)
+ * et un numéro de séquence propre au client.
+ * <p>
+ * Une instance n'est valide que pendant l'appel à
+ * {@link SerialLinkDataListener#onData(SerialLinkDataEvent)}. La méthode
+ * {@link #copy()} permet d'obtenir un évènement détaché pouvant être conservé.
+ * </p>
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class SerialLinkDataEvent {
+
+	private SerialLinkClient source;
+	private SerialLinkParameters parameters;
+	private ByteBuffer data;
+	private int offset;
+	private int length;
+	private int eventType;
+	private long timestamp;
+	private long sequence;
+
+	// Buffer propre aux évènements recyclés
+	private ByteBuffer ownBuffer;
+	private ByteBuffer ownView;
+
+	/**
+	 * Permet d'instancier un évènement réutilisable par le client spécifié.
+	 * 
+	 * @param source
+	 *            Source de l'évènement.
+	 */
+	SerialLinkDataEvent (final SerialLinkClient source) {
+		this.source = source;
+		this.parameters = null;
+		this.data = null;
+		this.offset = 0;
+		this.length = 0;
+		this.eventType = 0;
+		this.timestamp = 0;
+		this.sequence = 0;
+		this.ownBuffer = null;
+		this.ownView = null;
+	}
+
+	/**
+	 * Permet d'instancier un évènement portant les données spécifiées.
+	 * 
+	 * @param source
+	 *            Source de l'évènement.
+	 * @param params
+	 *            Paramètres de la liaison série.
+	 * @param data
+	 *            Vue en lecture seule sur les données reçues.
+	 * @param offset
+	 *            Position du premier octet dans la vue.
+	 * @param length
+	 *            Nombre d'octets reçus.
+	 * @param type
+	 *            Type d'évènement reçu.
+	 * @param timestamp
+	 *            Instant de réception en nanosecondes.
+	 * @param sequence
+	 *            Numéro de séquence de l'évènement.
+	 */
+	SerialLinkDataEvent (SerialLinkClient source, SerialLinkParameters params, ByteBuffer data, int offset,
+			int length, int type, long timestamp, long sequence) {
+		this(source);
+		update(params, data, offset, length, type, timestamp, sequence);
+	}
+
+	/**
+	 * Permet de mettre à jour l'évènement avant sa notification aux abonnés.
+	 * 
+	 * @param params
+	 *            Paramètres de la liaison série.
+	 * @param data
+	 *            Vue en lecture seule sur le buffer de réception.
+	 * @param offset
+	 *            Position du premier octet reçu dans la vue.
+	 * @param length
+	 *            Nombre d'octets reçus.
+	 * @param type
+	 *            Type d'évènement reçu.
+	 * @param timestamp
+	 *            Instant de réception en nanosecondes.
+	 * @param sequence
+	 *            Numéro de séquence de l'évènement.
+	 */
+	void update (SerialLinkParameters params, ByteBuffer data, int offset, int length, int type, long timestamp,
+			long sequence) {
+		this.parameters = params;
+		this.data = data;
+		this.offset = offset;
+		this.length = length;
+		this.eventType = type;
+		this.timestamp = timestamp;
+		this.sequence = sequence;
+		rewind();
+	}
+
+	/**
+	 * Permet de recopier l'évènement spécifié dans le buffer propre à cette
+	 * instance, qui n'est agrandi que si nécessaire. Utilisée par les
+	 * évènements recyclés via un {@link SerialLinkEventPool}.
+	 * 
+	 * @param event
+	 *            Evènement à recopier.
+	 */
+	void copyFrom (final SerialLinkDataEvent event) {
+		if (this.ownBuffer == null || this.ownBuffer.capacity() < event.length) {
+			this.ownBuffer = ByteBuffer.allocate(Math.max(event.length, SerialLinkClient.INITIAL_RECV_BUFFER_SIZE));
+			this.ownView = this.ownBuffer.asReadOnlyBuffer();
+		}
+		this.ownBuffer.clear();
+		event.rewind();
+		this.ownBuffer.put(event.data);
+		event.rewind();
+		this.source = event.source;
+		update(event.parameters, this.ownView, 0, event.length, event.eventType, event.timestamp, event.sequence);
+	}
+
+	/**
+	 * Permet d'ajouter les données de l'évènement spécifié à la suite de celles
+	 * de cet évènement recyclé, dont le buffer propre n'est agrandi que si
+	 * nécessaire. L'instant et le numéro de séquence sont conservés, les
+	 * paramètres et le type sont ceux de l'évènement ajouté. Utilisée par les
+	 * abonnés asynchrones lors de la fusion des évènements en attente.
+	 * 
+	 * @param event
+	 *            Evènement dont les données sont ajoutées.
+	 */
+	void append (final SerialLinkDataEvent event) {
+		final int merged = this.length + event.length;
+		this.ownBuffer.clear();
+		this.ownBuffer.position(this.length);
+		if (this.ownBuffer.capacity() < merged) {
+			this.ownBuffer.flip();
+			ByteBuffer grown = ByteBuffer.allocate(Math.max(merged, 2 * this.ownBuffer.capacity()));
+			grown.put(this.ownBuffer);
+			this.ownBuffer = grown;
+			this.ownView = grown.asReadOnlyBuffer();
+		}
+		event.rewind();
+		this.ownBuffer.put(event.data);
+		event.rewind();
+		update(event.parameters, this.ownView, 0, merged, event.eventType, this.timestamp, this.sequence);
+	}
+
+	/**
+	 * Permet de replacer la position et la limite de la vue sur les données
+	 * reçues, un abonné ayant pu consommer le buffer par lectures relatives.
+	 */
+	void rewind () {
+		if (this.data != null) {
+			this.data.limit(this.offset + this.length);
+			this.data.position(this.offset);
+		}
+	}
+
+	/**
+	 * Renvoie une copie détachée de l'évènement. Les données sont copiées dans
+	 * un nouveau buffer et peuvent être conservées après la notification.
+	 * 
+	 * @return Copie de l'évènement.
+	 */
+	public SerialLinkDataEvent copy () {
+		ByteBuffer copy = ByteBuffer.allocate(this.length);
+		ByteBuffer view = this.data.duplicate();
+		view.limit(this.offset + this.length);
+		view.position(this.offset);
+		copy.put(view);
+		copy.flip();
+		return new SerialLinkDataEvent(this.source, this.parameters, copy.asReadOnlyBuffer(), 0, this.length,
+				this.eventType, this.timestamp, this.sequence);
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	public SerialLinkClient getSource () {
+		return this.source;
+	}
+
+	public SerialLinkParameters getParameters () {
+		return this.parameters;
+	}
+
+	/**
+	 * Renvoie la vue en lecture seule sur les données reçues. La position et la
+	 * limite du buffer délimitent les octets reçus.
+	 * 
+	 * @return Données reçues.
+	 */
+	public ByteBuffer getData () {
+		return this.data;
+	}
+
+	/**
+	 * Renvoie le nombre d'octets reçus.
+	 * 
+	 * @return Nombre d'octets reçus.
+	 */
+	public int getLength () {
+		return this.length;
+	}
+
+	public int getEventType () {
+		return this.eventType;
+	}
+
+	/**
+	 * Renvoie l'instant de réception des données.
+	 * 
+	 * @return Instant de réception, en nanosecondes selon
+	 *         <code>System.nanoTime()</code>.
+	 */
+	public long getTimestamp () {
+		return this.timestamp;
+	}
+
+	/**
+	 * Renvoie le numéro de séquence de l'évènement, incrémenté à chaque
+	 * notification par le client.
+	 * 
+	 * @return Numéro de séquence.
+	 */
+	public long getSequence () {
+		return this.sequence;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+/**
+ * Ecouteur des données brutes reçues sur la liaison série. Contrairement à
+ * {@link SerialLinkEventListener}, aucun décodage en chaîne de caractères n'est
+ * effectué : les octets sont transmis tels quels via un
+ * {@link java.nio.ByteBuffer} en lecture seule.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public interface SerialLinkDataListener {
+
+	/**
+	 * Cette méthode est appelée lorsque des données sont reçues sur la liaison
+	 * série. L'évènement et son buffer ne sont valides que pendant l'appel :
+	 * ils sont réutilisés par le client pour la réception suivante. Un abonné
+	 * souhaitant conserver les données doit appeler
+	 * {@link SerialLinkDataEvent#copy()}.
+	 * 
+	 * @param event
+	 *            Evènement survenu sur la liaison série.
+	 */
+	public void onData (SerialLinkDataEvent event);
+}
\ No newline at end of file
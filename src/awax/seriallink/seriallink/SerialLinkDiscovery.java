@@ -0,0 +1,335 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.apache.log4j.Logger;
+
+import awax.seriallink.seriallink.transport.CommPortIdentifiers;
+import awax.seriallink.seriallink.transport.SerialTransports;
+
+/**
+ * Service de découverte des ports série. Les ports présents sont énumérés une
+ * seule fois auprès des transports puis conservés en cache ; le cache est
+ * invalidé lorsqu'une entrée de <code>/dev</code> apparaît ou disparaît, ou
+ * explicitement par {@link #invalidate()}.
+ * <p>
+ * Les ports peuvent en outre être sondés en parallèle : chaque port est
+ * ouvert, une chaîne d'identification y est envoyée et la réponse est
+ * comparée au motif attendu, le tout dans une limite de temps globale. Les
+ * délais d'ouverture des ports ne s'additionnent donc pas.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class SerialLinkDiscovery {
+
+	/** Répertoire des périphériques. */
+	private static final Path DEVICE_DIRECTORY = Paths.get("/dev");
+
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+	private final Logger logger;
+	private final String appName;
+	private final ExecutorService executor;
+	private WatchService watchService;
+	private volatile List<String> ports;
+	private volatile boolean running;
+
+	/**
+	 * Permet d'instancier le service de découverte.
+	 * 
+	 * @param appName
+	 *            Nom de l'application propriétaire des ports sondés.
+	 */
+	public SerialLinkDiscovery (final String appName) {
+		this.logger = Logger.getLogger(SerialLinkDiscovery.class);
+		this.appName = appName;
+		this.executor = Executors.newCachedThreadPool(new ThreadFactory() {
+
+			@Override
+			public Thread newThread (Runnable r) {
+				Thread thread = new Thread(r, "SerialLink-discovery-" + THREAD_COUNT.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		this.ports = null;
+		this.running = true;
+		startWatcher();
+	}
+
+	/**
+	 * Permet de surveiller le répertoire des périphériques afin d'invalider le
+	 * cache à chaque branchement ou débranchement.
+	 */
+	private void startWatcher () {
+		final Path dir = DEVICE_DIRECTORY;
+		if (!Files.isDirectory(dir)) {
+			return;
+		}
+		try {
+			final WatchService watchService = FileSystems.getDefault().newWatchService();
+			dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE);
+			this.watchService = watchService;
+			this.executor.execute(new Runnable() {
+
+				@Override
+				public void run () {
+					try {
+						while (SerialLinkDiscovery.this.running) {
+							WatchKey key = watchService.take();
+							key.pollEvents();
+							invalidate();
+							key.reset();
+						}
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} catch (ClosedWatchServiceException e) {
+						// Arrêt du service
+					}
+				}
+			});
+		} catch (IOException e) {
+			this.logger.warn("Cannot watch " + dir + ", ports are cached until invalidated", e);
+		}
+	}
+
+	/**
+	 * Renvoie les ports présents, depuis le cache si celui-ci est à jour.
+	 * 
+	 * @return Noms des ports, utilisables comme identifiant de port.
+	 */
+	public List<String> getPorts () {
+		List<String> ports = this.ports;
+		if (ports == null) {
+			ports = Collections.unmodifiableList(SerialTransports.listPorts());
+			this.ports = ports;
+		}
+		return ports;
+	}
+
+	/**
+	 * Permet d'énumérer les ports présents sans bloquer l'appelant.
+	 * 
+	 * @return Noms des ports.
+	 */
+	public SerialLinkFuture<List<String>> getPortsAsync () {
+		final List<String> ports = this.ports;
+		if (ports != null) {
+			return SerialLinkFuture.succeeded(ports);
+		}
+		final SerialLinkFuture<List<String>> future = new SerialLinkFuture<>();
+		this.executor.execute(new Runnable() {
+
+			@Override
+			public void run () {
+				try {
+					future.complete(getPorts());
+				} catch (RuntimeException e) {
+					future.fail(e);
+				}
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * Permet d'invalider le cache des ports, par exemple après la création
+	 * d'un port virtuel.
+	 */
+	public void invalidate () {
+		this.ports = null;
+		CommPortIdentifiers.invalidateAll();
+	}
+
+	/**
+	 * Permet de sonder en parallèle tous les ports présents.
+	 * 
+	 * @param params
+	 *            Paramètres de liaison à utiliser.
+	 * @param identify
+	 *            Chaîne d'identification à envoyer, ou <code>null</code>.
+	 * @param reply
+	 *            Motif recherché dans les messages reçus.
+	 * @param timeout
+	 *            Délai global de la recherche.
+	 * @param unit
+	 *            Unité du délai.
+	 * @return Réponse de chaque port ayant répondu.
+	 * @throws InterruptedException
+	 *             Si l'appelant est interrompu pendant la recherche.
+	 * @see #probe(Collection, SerialLinkParameters, String, Pattern, long,
+	 *      TimeUnit)
+	 */
+	public Map<String, String> probeAll (final SerialLinkParameters params, final String identify,
+			final Pattern reply, final long timeout, final TimeUnit unit) throws InterruptedException {
+		return probe(getPorts(), params, identify, reply, timeout, unit);
+	}
+
+	/**
+	 * Permet de sonder en parallèle les ports spécifiés. Chaque port est
+	 * ouvert avec une copie des paramètres spécifiés, la chaîne
+	 * d'identification y est envoyée puis le premier message reçu
+	 * correspondant au motif est retenu. Les sondes encore en cours à
+	 * l'expiration du délai global sont abandonnées.
+	 * 
+	 * @param ports
+	 *            Noms des ports à sonder.
+	 * @param params
+	 *            Paramètres de liaison à utiliser, dont l'identifiant de port
+	 *            est ignoré.
+	 * @param identify
+	 *            Chaîne d'identification à envoyer, ou <code>null</code> pour
+	 *            se contenter d'écouter.
+	 * @param reply
+	 *            Motif recherché dans les messages reçus.
+	 * @param timeout
+	 *            Délai global de la recherche.
+	 * @param unit
+	 *            Unité du délai.
+	 * @return Réponse de chaque port ayant répondu, dans l'ordre des ports.
+	 * @throws InterruptedException
+	 *             Si l'appelant est interrompu pendant la recherche.
+	 */
+	public Map<String, String> probe (final Collection<String> ports, final SerialLinkParameters params,
+			final String identify, final Pattern reply, final long timeout, final TimeUnit unit)
+			throws InterruptedException {
+		final long deadline = System.nanoTime() + unit.toNanos(timeout);
+		final List<String> names = new ArrayList<>(ports);
+		final List<Callable<String>> probes = new ArrayList<>(names.size());
+		for (String port : names) {
+			probes.add(new Probe(port, params, identify, reply, deadline));
+		}
+		final List<Future<String>> results = this.executor.invokeAll(probes, timeout, unit);
+		final Map<String, String> replies = new LinkedHashMap<>();
+		for (int i = 0; i < names.size(); i++) {
+			try {
+				final String answer = results.get(i).get();
+				if (answer != null) {
+					replies.put(names.get(i), answer);
+				}
+			} catch (CancellationException e) {
+				this.logger.debug("Probe of " + names.get(i) + " timed out");
+			} catch (ExecutionException e) {
+				this.logger.debug("Probe of " + names.get(i) + " failed", e.getCause());
+			}
+		}
+		return replies;
+	}
+
+	/**
+	 * Permet d'arrêter le service et les sondes en cours.
+	 */
+	public void shutdown () {
+		this.running = false;
+		if (this.watchService != null) {
+			try {
+				this.watchService.close();
+			} catch (IOException e) {
+				this.logger.error("Failed to close the device watch service", e);
+			}
+		}
+		this.executor.shutdownNow();
+	}
+
+	/**
+	 * Sonde d'un port, ouvert le temps de recevoir la réponse attendue.
+	 */
+	private class Probe implements Callable<String> {
+
+		private final SerialLinkParameters params;
+		private final String identify;
+		private final Pattern reply;
+		private final long deadline;
+
+		Probe (final String port, final SerialLinkParameters params, final String identify, final Pattern reply,
+				final long deadline) {
+			this.params = new SerialLinkParameters(params);
+			this.params.setComId(port);
+			this.identify = identify;
+			this.reply = reply;
+			this.deadline = deadline;
+		}
+
+		@Override
+		public String call () throws Exception {
+			final SerialLinkClient client = new SerialLinkClient(SerialLinkDiscovery.this.appName, this.params);
+			final SerialLinkFuture<String> answer = new SerialLinkFuture<>();
+			client.addSerialEventListener(new SerialLinkEventListener() {
+
+				@Override
+				public void onNotify (SerialLinkEvent event) {
+					final String msg = event.getMessage();
+					if (event.getEventType() == SerialLinkEvent.DATA_AVAILABLE && msg != null
+							&& Probe.this.reply.matcher(msg).find()) {
+						answer.complete(msg);
+					}
+				}
+			});
+			try {
+				client.open();
+				if (this.identify != null) {
+					client.write(this.identify);
+				}
+				return answer.get(this.deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+			} catch (SerialLinkConnectionException e) {
+				SerialLinkDiscovery.this.logger.debug("Cannot probe " + this.params.getComId() + " : "
+						+ e.getMessage());
+				return null;
+			} catch (TimeoutException e) {
+				return null;
+			} finally {
+				client.close();
+			}
+		}
+	}
+}
\ No newline at end of file
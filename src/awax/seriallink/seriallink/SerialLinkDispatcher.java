@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Thread de distribution consommant le buffer circulaire de réception d'un
+ * client et notifiant ses abonnés, afin que le thread de notification de la
+ * liaison série ne soit jamais bloqué par un abonné lent.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+class SerialLinkDispatcher implements Runnable {
+
+	private final Logger logger;
+	private final SerialLinkClient client;
+	private final SerialLinkRingBuffer ring;
+	private final WaitStrategy waitStrategy;
+	private final Thread thread;
+	private volatile boolean running;
+
+	/**
+	 * Permet d'instancier le thread de distribution.
+	 * 
+	 * @param client
+	 *            Client dont les abonnés doivent être notifiés.
+	 * @param ring
+	 *            Buffer circulaire de réception.
+	 * @param waitStrategy
+	 *            Stratégie d'attente lorsque le buffer est vide.
+	 * @param name
+	 *            Nom du thread.
+	 */
+	SerialLinkDispatcher (SerialLinkClient client, SerialLinkRingBuffer ring, WaitStrategy waitStrategy,
+			String name) {
+		this.logger = Logger.getLogger(SerialLinkDispatcher.class);
+		this.client = client;
+		this.ring = ring;
+		this.waitStrategy = waitStrategy;
+		this.thread = new Thread(this, name);
+		this.thread.setDaemon(true);
+		this.running = false;
+	}
+
+	/**
+	 * Permet de démarrer le thread de distribution.
+	 */
+	void start () {
+		this.running = true;
+		this.thread.start();
+	}
+
+	/**
+	 * Permet d'arrêter le thread de distribution après distribution des
+	 * données restantes.
+	 */
+	void stop () {
+		this.running = false;
+		if (Thread.currentThread() != this.thread) {
+			try {
+				this.thread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Override
+	public void run () {
+		final SerialLinkRingBuffer ring = this.ring;
+		while (this.running || ring.size() > 0) {
+			final int count = ring.readable();
+			if (count == 0) {
+				ring.await(this.waitStrategy);
+			} else {
+				try {
+					this.client.dispatchRing(ring.readIndex(), count);
+				} catch (RuntimeException e) {
+					this.logger.error("A listener failed while dispatching received data", e);
+				}
+				ring.release(count);
+			}
+		}
+	}
+}
\ No newline at end of file
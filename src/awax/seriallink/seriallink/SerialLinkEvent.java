@@ -50,6 +50,8 @@ public class SerialLinkEvent {
 	private final SerialLinkParameters parameters;
 	private final String message;
 	private final int eventType;
+	private final long timestamp;
+	private final long sequence;
 
 	/**
 	 * Permet d'instancier un évènement.
@@ -64,10 +66,33 @@ public class SerialLinkEvent {
 	 *            Type d'évènement reçu.
 	 */
 	public SerialLinkEvent (SerialLinkClient source, SerialLinkParameters params, String msg, int type) {
+		this(source, params, msg, type, System.nanoTime(), 0);
+	}
+
+	/**
+	 * Permet d'instancier un évènement horodaté.
+	 * 
+	 * @param source
+	 *            Source de l'évènement.
+	 * @param params
+	 *            Paramètres de la liaison série.
+	 * @param msg
+	 *            Message reçu depuis la liaison série s'il y en a un.
+	 * @param type
+	 *            Type d'évènement reçu.
+	 * @param timestamp
+	 *            Instant de réception en nanosecondes.
+	 * @param sequence
+	 *            Numéro de séquence de l'évènement.
+	 */
+	public SerialLinkEvent (SerialLinkClient source, SerialLinkParameters params, String msg, int type,
+			long timestamp, long sequence) {
 		this.source = source;
 		this.parameters = params;
 		this.message = msg;
 		this.eventType = type;
+		this.timestamp = timestamp;
+		this.sequence = sequence;
 	}
 
 	public SerialLinkClient getSource () {
@@ -85,4 +110,23 @@ public class SerialLinkEvent {
 	public int getEventType () {
 		return this.eventType;
 	}
+
+	/**
+	 * Renvoie l'instant de réception du message.
+	 * 
+	 * @return Instant de réception, en nanosecondes selon
+	 *         <code>System.nanoTime()</code>.
+	 */
+	public long getTimestamp () {
+		return this.timestamp;
+	}
+
+	/**
+	 * Renvoie le numéro de séquence de l'évènement.
+	 * 
+	 * @return Numéro de séquence.
+	 */
+	public long getSequence () {
+		return this.sequence;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Réserve d'évènements recyclables. Les évènements sont recopiés dans un
+ * buffer qui leur est propre et rendus à la réserve après notification, ce qui
+ * permet de transmettre les données reçues à un autre thread sans allocation
+ * en régime établi.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class SerialLinkEventPool {
+
+	private final ArrayBlockingQueue<SerialLinkDataEvent> pool;
+	private volatile long allocationCount;
+
+	/**
+	 * Permet d'instancier une réserve.
+	 * 
+	 * @param capacity
+	 *            Nombre maximal d'évènements conservés dans la réserve.
+	 */
+	public SerialLinkEventPool (final int capacity) {
+		this.pool = new ArrayBlockingQueue<>(capacity);
+		this.allocationCount = 0;
+	}
+
+	/**
+	 * Renvoie un évènement recyclé contenant une copie de l'évènement
+	 * spécifié. Un nouvel évènement n'est alloué que si la réserve est vide.
+	 * 
+	 * @param event
+	 *            Evènement à recopier.
+	 * @return Evènement recyclé.
+	 */
+	public SerialLinkDataEvent acquire (final SerialLinkDataEvent event) {
+		SerialLinkDataEvent pooled = this.pool.poll();
+		if (pooled == null) {
+			pooled = new SerialLinkDataEvent(event.getSource());
+			this.allocationCount++;
+		}
+		pooled.copyFrom(event);
+		return pooled;
+	}
+
+	/**
+	 * Permet de rendre un évènement à la réserve. L'évènement ne doit plus être
+	 * utilisé par l'appelant.
+	 * 
+	 * @param event
+	 *            Evènement à recycler.
+	 */
+	public void release (final SerialLinkDataEvent event) {
+		this.pool.offer(event);
+	}
+
+	/**
+	 * Renvoie le nombre d'évènements alloués par la réserve.
+	 * 
+	 * @return Nombre d'évènements alloués.
+	 */
+	public long getAllocationCount () {
+		return this.allocationCount;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Résultat d'une opération asynchrone sur la liaison série. Le résultat est
+ * fixé une seule fois par l'opération, et des écouteurs peuvent être notifiés
+ * de son achèvement sans bloquer de thread.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ * @param <V>
+ *            Type du résultat.
+ */
+public class SerialLinkFuture<V> implements Future<V> {
+
+	private static final int PENDING = 0;
+	private static final int SUCCEEDED = 1;
+	private static final int FAILED = 2;
+	private static final int CANCELLED = 3;
+
+	private int state;
+	private V value;
+	private Throwable cause;
+	private List<SerialLinkFutureListener<V>> listeners;
+
+	/**
+	 * Permet d'instancier un résultat en attente.
+	 */
+	public SerialLinkFuture () {
+		this.state = PENDING;
+		this.value = null;
+		this.cause = null;
+		this.listeners = null;
+	}
+
+	/**
+	 * Renvoie un résultat déjà achevé avec succès.
+	 * 
+	 * @param value
+	 *            Valeur du résultat.
+	 * @return Résultat achevé.
+	 */
+	public static <V> SerialLinkFuture<V> succeeded (final V value) {
+		SerialLinkFuture<V> future = new SerialLinkFuture<>();
+		future.complete(value);
+		return future;
+	}
+
+	/**
+	 * Renvoie un résultat déjà achevé en erreur.
+	 * 
+	 * @param cause
+	 *            Cause de l'erreur.
+	 * @return Résultat achevé.
+	 */
+	public static <V> SerialLinkFuture<V> failed (final Throwable cause) {
+		SerialLinkFuture<V> future = new SerialLinkFuture<>();
+		future.fail(cause);
+		return future;
+	}
+
+	/**
+	 * Permet d'achever l'opération avec succès.
+	 * 
+	 * @param value
+	 *            Valeur du résultat.
+	 * @return <code>false</code> si l'opération était déjà achevée.
+	 */
+	public boolean complete (final V value) {
+		synchronized (this) {
+			if (this.state != PENDING) {
+				return false;
+			}
+			this.value = value;
+			this.state = SUCCEEDED;
+			notifyAll();
+		}
+		fireComplete();
+		return true;
+	}
+
+	/**
+	 * Permet d'achever l'opération en erreur.
+	 * 
+	 * @param cause
+	 *            Cause de l'erreur.
+	 * @return <code>false</code> si l'opération était déjà achevée.
+	 */
+	public boolean fail (final Throwable cause) {
+		synchronized (this) {
+			if (this.state != PENDING) {
+				return false;
+			}
+			this.cause = cause;
+			this.state = FAILED;
+			notifyAll();
+		}
+		fireComplete();
+		return true;
+	}
+
+	@Override
+	public boolean cancel (boolean mayInterruptIfRunning) {
+		synchronized (this) {
+			if (this.state != PENDING) {
+				return false;
+			}
+			this.state = CANCELLED;
+			notifyAll();
+		}
+		fireComplete();
+		return true;
+	}
+
+	/**
+	 * Permet d'ajouter un écouteur notifié à l'achèvement de l'opération. Si
+	 * l'opération est déjà achevée, l'écouteur est notifié immédiatement depuis
+	 * le thread appelant.
+	 * 
+	 * @param listener
+	 *            Ecouteur à notifier.
+	 */
+	public void addListener (final SerialLinkFutureListener<V> listener) {
+		synchronized (this) {
+			if (this.state == PENDING) {
+				if (this.listeners == null) {
+					this.listeners = new ArrayList<>(2);
+				}
+				this.listeners.add(listener);
+				return;
+			}
+		}
+		listener.onComplete(this);
+	}
+
+	/**
+	 * Permet de notifier les écouteurs de l'achèvement de l'opération.
+	 */
+	private void fireComplete () {
+		List<SerialLinkFutureListener<V>> toNotify;
+		synchronized (this) {
+			toNotify = this.listeners;
+			this.listeners = null;
+		}
+		if (toNotify != null) {
+			for (SerialLinkFutureListener<V> listener : toNotify) {
+				listener.onComplete(this);
+			}
+		}
+	}
+
+	@Override
+	public synchronized boolean isCancelled () {
+		return this.state == CANCELLED;
+	}
+
+	@Override
+	public synchronized boolean isDone () {
+		return this.state != PENDING;
+	}
+
+	/**
+	 * Permet de savoir si l'opération s'est achevée avec succès.
+	 * 
+	 * @return <code>true</code> si l'opération s'est achevée avec succès.
+	 */
+	public synchronized boolean isSuccess () {
+		return this.state == SUCCEEDED;
+	}
+
+	/**
+	 * Renvoie la cause de l'échec de l'opération.
+	 * 
+	 * @return Cause de l'échec, ou <code>null</code> si l'opération n'a pas
+	 *         échoué.
+	 */
+	public synchronized Throwable getCause () {
+		return this.cause;
+	}
+
+	/**
+	 * Renvoie la valeur du résultat si l'opération s'est achevée avec succès,
+	 * sans bloquer.
+	 * 
+	 * @return Valeur du résultat, ou <code>null</code>.
+	 */
+	public synchronized V getNow () {
+		return this.value;
+	}
+
+	@Override
+	public synchronized V get () throws InterruptedException, ExecutionException {
+		while (this.state == PENDING) {
+			wait();
+		}
+		return report();
+	}
+
+	@Override
+	public synchronized V get (long timeout, TimeUnit unit) throws InterruptedException, ExecutionException,
+			TimeoutException {
+		final long deadline = System.nanoTime() + unit.toNanos(timeout);
+		while (this.state == PENDING) {
+			final long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				throw new TimeoutException();
+			}
+			TimeUnit.NANOSECONDS.timedWait(this, remaining);
+		}
+		return report();
+	}
+
+	/**
+	 * Renvoie le résultat d'une opération achevée.
+	 * 
+	 * @return Valeur du résultat.
+	 * @throws ExecutionException
+	 *             Si l'opération a échoué.
+	 */
+	private V report () throws ExecutionException {
+		if (this.state == CANCELLED) {
+			throw new CancellationException();
+		} else if (this.state == FAILED) {
+			throw new ExecutionException(this.cause);
+		}
+		return this.value;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.lang.reflect.Array;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Registre d'abonnés sans verrou par copie à l'écriture. Chaque ajout ou
+ * retrait publie atomiquement un nouveau tableau immuable ; la distribution
+ * parcourt un instantané du tableau sans verrou ni allocation d'itérateur, et
+ * n'est jamais perturbée par une modification concurrente.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ * @param <T>
+ *            Type des abonnés.
+ */
+public class SerialLinkListenerRegistry<T> {
+
+	private final AtomicReference<T[]> listeners;
+
+	/**
+	 * Permet d'instancier un registre vide.
+	 * 
+	 * @param type
+	 *            Type des abonnés, nécessaire à la création des tableaux.
+	 */
+	@SuppressWarnings("unchecked")
+	public SerialLinkListenerRegistry (final Class<T> type) {
+		this.listeners = new AtomicReference<>((T[]) Array.newInstance(type, 0));
+	}
+
+	/**
+	 * Permet d'ajouter un abonné en fin de registre.
+	 * 
+	 * @param listener
+	 *            Abonné à ajouter.
+	 */
+	public void add (final T listener) {
+		if (listener == null) {
+			return;
+		}
+		T[] current;
+		T[] updated;
+		do {
+			current = this.listeners.get();
+			updated = copyOf(current, current.length + 1);
+			updated[current.length] = listener;
+		} while (!this.listeners.compareAndSet(current, updated));
+	}
+
+	/**
+	 * Permet de retirer la première occurrence d'un abonné.
+	 * 
+	 * @param listener
+	 *            Abonné à retirer.
+	 * @return <code>true</code> si l'abonné a été retiré, <code>false</code>
+	 *         s'il n'était pas présent.
+	 */
+	public boolean remove (final T listener) {
+		T[] current;
+		T[] updated;
+		do {
+			current = this.listeners.get();
+			int index = indexOf(current, listener);
+			if (index < 0) {
+				return false;
+			}
+			updated = copyOf(current, current.length - 1);
+			System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+		} while (!this.listeners.compareAndSet(current, updated));
+		return true;
+	}
+
+	/**
+	 * Permet de savoir si un abonné est présent dans le registre.
+	 * 
+	 * @param listener
+	 *            Abonné recherché.
+	 * @return <code>true</code> si l'abonné est présent.
+	 */
+	public boolean contains (final T listener) {
+		return indexOf(this.listeners.get(), listener) >= 0;
+	}
+
+	/**
+	 * Renvoie l'instantané courant des abonnés. Le tableau renvoyé ne doit pas
+	 * être modifié.
+	 * 
+	 * @return Abonnés enregistrés.
+	 */
+	public T[] snapshot () {
+		return this.listeners.get();
+	}
+
+	/**
+	 * Renvoie la position d'un abonné dans le tableau spécifié.
+	 * 
+	 * @param array
+	 *            Tableau d'abonnés.
+	 * @param listener
+	 *            Abonné recherché.
+	 * @return Position de l'abonné ou <code>-1</code>.
+	 */
+	private static int indexOf (final Object[] array, final Object listener) {
+		if (listener != null) {
+			for (int i = 0; i < array.length; i++) {
+				if (listener.equals(array[i])) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Permet de copier le début d'un tableau dans un nouveau tableau de même
+	 * type.
+	 * 
+	 * @param array
+	 *            Tableau source.
+	 * @param length
+	 *            Taille du nouveau tableau.
+	 * @return Nouveau tableau.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T[] copyOf (final T[] array, final int length) {
+		T[] copy = (T[]) Array.newInstance(array.getClass().getComponentType(), length);
+		System.arraycopy(array, 0, copy, 0, Math.min(array.length, length));
+		return copy;
+	}
+}
\ No newline at end of file
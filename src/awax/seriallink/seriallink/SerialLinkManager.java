@@ -0,0 +1,361 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Gestionnaire de plusieurs liaisons série, identifiées par un nom. Les
+ * liaisons sont ouvertes et fermées en parallèle sur un exécuteur dédié, de
+ * sorte que l'attente de libération d'un port ne retarde pas les autres. Si un
+ * réacteur est fourni, toutes les liaisons y sont rattachées et leurs
+ * réceptions sont servies par ses quelques threads, quel que soit le nombre
+ * de ports.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class SerialLinkManager {
+
+	/** Nombre par défaut d'ouvertures et de fermetures simultanées. */
+	public static final int DEFAULT_PARALLELISM = 8;
+
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+	private final Logger logger;
+	private final String appName;
+	private final SerialLinkReactor reactor;
+	private final ConcurrentSkipListMap<String, SerialLinkClient> clients;
+	private final ExecutorService executor;
+	private final Map<String, long[]> lastSamples;
+	private long lastSampleTime;
+	private volatile SerialLinkThroughput totalThroughput;
+
+	/**
+	 * Permet d'instancier un gestionnaire sans réacteur, chaque liaison étant
+	 * notifiée par son transport.
+	 * 
+	 * @param appName
+	 *            Nom de l'application réservant les ports.
+	 */
+	public SerialLinkManager (final String appName) {
+		this(appName, null, DEFAULT_PARALLELISM);
+	}
+
+	/**
+	 * Permet d'instancier un gestionnaire.
+	 * 
+	 * @param appName
+	 *            Nom de l'application réservant les ports.
+	 * @param reactor
+	 *            Réacteur auquel rattacher les liaisons, ou <code>null</code>.
+	 *            Le réacteur est démarré si nécessaire.
+	 * @param parallelism
+	 *            Nombre maximal d'ouvertures et de fermetures simultanées.
+	 */
+	public SerialLinkManager (final String appName, final SerialLinkReactor reactor, final int parallelism) {
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("Invalid parallelism : " + parallelism);
+		}
+		this.logger = Logger.getLogger(SerialLinkManager.class);
+		this.appName = appName;
+		this.reactor = reactor;
+		this.clients = new ConcurrentSkipListMap<>();
+		this.executor = Executors.newFixedThreadPool(parallelism, new ThreadFactory() {
+
+			@Override
+			public Thread newThread (Runnable r) {
+				Thread thread = new Thread(r, "SerialLink-manager-" + THREAD_COUNT.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		this.lastSamples = new LinkedHashMap<>();
+		this.lastSampleTime = System.nanoTime();
+		this.totalThroughput = new SerialLinkThroughput("total", 0, 0, 0, 0);
+		if (reactor != null) {
+			reactor.start();
+		}
+	}
+
+	/**
+	 * Permet d'enregistrer une nouvelle liaison, non ouverte.
+	 * 
+	 * @param name
+	 *            Nom de la liaison.
+	 * @param params
+	 *            Paramètres de la liaison série.
+	 * @return Client de la liaison série.
+	 * @throws IllegalStateException
+	 *             Si une liaison porte déjà ce nom.
+	 */
+	public SerialLinkClient add (final String name, final SerialLinkParameters params) {
+		SerialLinkClient client = new SerialLinkClient(this.appName, params);
+		client.setReactor(this.reactor);
+		client.setLifecycleExecutor(this.executor);
+		if (this.clients.putIfAbsent(name, client) != null) {
+			throw new IllegalStateException("Serial link already exists : " + name);
+		}
+		return client;
+	}
+
+	/**
+	 * Permet de fermer et de retirer une liaison.
+	 * 
+	 * @param name
+	 *            Nom de la liaison.
+	 * @return Client retiré, ou <code>null</code> si aucune liaison ne porte
+	 *         ce nom.
+	 */
+	public SerialLinkClient remove (final String name) {
+		SerialLinkClient client = this.clients.remove(name);
+		if (client != null) {
+			client.close();
+		}
+		return client;
+	}
+
+	/**
+	 * Permet d'ouvrir une liaison sur l'exécuteur du gestionnaire.
+	 * 
+	 * @param name
+	 *            Nom de la liaison.
+	 * @return Résultat de l'ouverture.
+	 */
+	public SerialLinkFuture<Void> open (final String name) {
+		final SerialLinkClient client = this.clients.get(name);
+		if (client == null) {
+			return SerialLinkFuture.failed(new SerialLinkConnectionException("Unknown serial link : " + name));
+		}
+		final SerialLinkFuture<Void> future = client.openAsync();
+		future.addListener(new SerialLinkFutureListener<Void>() {
+
+			@Override
+			public void onComplete (SerialLinkFuture<Void> future) {
+				if (!future.isSuccess() && !future.isCancelled()) {
+					SerialLinkManager.this.logger.error("Failed to open serial link " + name, future.getCause());
+				}
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * Permet de fermer une liaison sur l'exécuteur du gestionnaire.
+	 * 
+	 * @param name
+	 *            Nom de la liaison.
+	 * @return Résultat de la fermeture.
+	 */
+	public SerialLinkFuture<Void> close (final String name) {
+		final SerialLinkClient client = this.clients.get(name);
+		if (client == null) {
+			return SerialLinkFuture.failed(new SerialLinkConnectionException("Unknown serial link : " + name));
+		}
+		return client.closeAsync();
+	}
+
+	/**
+	 * Permet d'ouvrir en parallèle toutes les liaisons enregistrées.
+	 * 
+	 * @return Résultat achevé lorsque toutes les ouvertures sont terminées, en
+	 *         erreur si au moins l'une d'elles a échoué.
+	 */
+	public SerialLinkFuture<Void> openAll () {
+		List<SerialLinkFuture<Void>> futures = new ArrayList<>();
+		for (String name : this.clients.keySet()) {
+			futures.add(open(name));
+		}
+		return allOf(futures, "Failed to open serial links");
+	}
+
+	/**
+	 * Permet de fermer en parallèle toutes les liaisons enregistrées.
+	 * 
+	 * @return Résultat achevé lorsque toutes les fermetures sont terminées.
+	 */
+	public SerialLinkFuture<Void> closeAll () {
+		List<SerialLinkFuture<Void>> futures = new ArrayList<>();
+		for (String name : this.clients.keySet()) {
+			futures.add(close(name));
+		}
+		return allOf(futures, "Failed to close serial links");
+	}
+
+	/**
+	 * Permet de fermer toutes les liaisons, d'arrêter l'exécuteur et le
+	 * réacteur éventuel.
+	 */
+	public void shutdown () {
+		for (SerialLinkClient client : this.clients.values()) {
+			client.close();
+		}
+		this.executor.shutdown();
+		try {
+			this.executor.awaitTermination(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (this.reactor != null) {
+			this.reactor.stop();
+		}
+	}
+
+	/**
+	 * Permet de regrouper plusieurs résultats en un seul, achevé lorsque tous
+	 * sont terminés.
+	 * 
+	 * @param futures
+	 *            Résultats à regrouper.
+	 * @param message
+	 *            Message de l'erreur levée si certains résultats échouent.
+	 * @return Résultat regroupé.
+	 */
+	private static SerialLinkFuture<Void> allOf (final List<SerialLinkFuture<Void>> futures, final String message) {
+		final SerialLinkFuture<Void> all = new SerialLinkFuture<>();
+		if (futures.isEmpty()) {
+			all.complete(null);
+			return all;
+		}
+		final AtomicInteger remaining = new AtomicInteger(futures.size());
+		final SerialLinkConnectionException error = new SerialLinkConnectionException(message);
+		for (SerialLinkFuture<Void> future : futures) {
+			future.addListener(new SerialLinkFutureListener<Void>() {
+
+				@Override
+				public void onComplete (SerialLinkFuture<Void> future) {
+					if (!future.isSuccess()) {
+						synchronized (error) {
+							error.addSuppressed(future.getCause());
+						}
+					}
+					if (remaining.decrementAndGet() == 0) {
+						if (error.getSuppressed().length == 0) {
+							all.complete(null);
+						} else {
+							all.fail(error);
+						}
+					}
+				}
+			});
+		}
+		return all;
+	}
+
+	/**
+	 * Permet de mesurer le débit de chaque liaison depuis l'échantillonnage
+	 * précédent. Le débit cumulé de toutes les liaisons est ensuite disponible
+	 * via {@link #getTotalThroughput()}.
+	 * 
+	 * @return Débit de chaque liaison, par nom de liaison.
+	 */
+	public synchronized Map<String, SerialLinkThroughput> sampleThroughput () {
+		final long now = System.nanoTime();
+		final double seconds = Math.max(1e-9, (now - this.lastSampleTime) / 1e9);
+		Map<String, SerialLinkThroughput> result = new LinkedHashMap<>();
+		long totalReceived = 0;
+		long totalWritten = 0;
+		double totalReceiveRate = 0;
+		double totalWriteRate = 0;
+		for (Map.Entry<String, SerialLinkClient> entry : this.clients.entrySet()) {
+			final long received = entry.getValue().getBytesReceived();
+			final long written = entry.getValue().getBytesWritten();
+			long[] last = this.lastSamples.get(entry.getKey());
+			if (last == null) {
+				last = new long[2];
+				this.lastSamples.put(entry.getKey(), last);
+			}
+			final double receiveRate = Math.max(0, received - last[0]) / seconds;
+			final double writeRate = Math.max(0, written - last[1]) / seconds;
+			last[0] = received;
+			last[1] = written;
+			result.put(entry.getKey(),
+					new SerialLinkThroughput(entry.getKey(), received, written, receiveRate, writeRate));
+			totalReceived += received;
+			totalWritten += written;
+			totalReceiveRate += receiveRate;
+			totalWriteRate += writeRate;
+		}
+		this.lastSamples.keySet().retainAll(this.clients.keySet());
+		this.lastSampleTime = now;
+		this.totalThroughput =
+				new SerialLinkThroughput("total", totalReceived, totalWritten, totalReceiveRate, totalWriteRate);
+		return result;
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	/**
+	 * Renvoie le client de la liaison portant le nom spécifié.
+	 * 
+	 * @param name
+	 *            Nom de la liaison.
+	 * @return Client de la liaison série, ou <code>null</code>.
+	 */
+	public SerialLinkClient get (final String name) {
+		return this.clients.get(name);
+	}
+
+	/**
+	 * Renvoie les noms des liaisons enregistrées, par ordre alphabétique.
+	 * 
+	 * @return Noms des liaisons.
+	 */
+	public Set<String> getNames () {
+		return this.clients.keySet();
+	}
+
+	public int size () {
+		return this.clients.size();
+	}
+
+	public SerialLinkReactor getReactor () {
+		return this.reactor;
+	}
+
+	/**
+	 * Renvoie le débit cumulé de toutes les liaisons lors du dernier
+	 * échantillonnage.
+	 * 
+	 * @return Débit cumulé.
+	 */
+	public SerialLinkThroughput getTotalThroughput () {
+		return this.totalThroughput;
+	}
+}
\ No newline at end of file
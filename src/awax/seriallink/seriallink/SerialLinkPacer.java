@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Régulateur de la transmission d'un client, fondé sur un seau à jetons : un
+ * jeton correspond à un caractère et les jetons sont regénérés au rythme
+ * effectif de la ligne, déduit du temps caractère de la liaison. La capacité
+ * du seau borne le nombre d'octets confiés d'un coup au pilote, de sorte que
+ * le périphérique ne reçoive jamais plus que ce que sa FIFO peut absorber.
+ * Un silence peut en outre être imposé entre deux trames.
+ * <p>
+ * Le régulateur n'est utilisé que par le thread d'écriture. Un évènement
+ * {@link SerialLinkEvent#OUTPUT_BUFFER_EMPTY} signalé par le transport remplit
+ * le seau et réveille le thread d'écriture, qui attend sinon par
+ * {@link LockSupport#parkNanos(long)} le délai calculé.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+final class SerialLinkPacer {
+
+	private final int capacity;
+	private final double frameGapChars;
+	private volatile long charNanos;
+	private volatile long emptyTime;
+	private volatile Thread waiter;
+	private long lastEmptyTime;
+	private double tokens;
+	private long lastRefill;
+	private long notBefore;
+	private volatile long waitCount;
+	private volatile long waitNanos;
+
+	/**
+	 * Permet d'instancier un régulateur.
+	 * 
+	 * @param capacity
+	 *            Capacité du seau, en octets.
+	 * @param frameGapChars
+	 *            Silence à respecter entre deux trames, en temps caractère.
+	 * @param charNanos
+	 *            Temps caractère de la liaison, en nanosecondes.
+	 */
+	SerialLinkPacer (final int capacity, final double frameGapChars, final long charNanos) {
+		this.capacity = capacity;
+		this.frameGapChars = frameGapChars;
+		this.charNanos = Math.max(1, charNanos);
+		this.tokens = capacity;
+		this.lastRefill = System.nanoTime();
+		this.notBefore = this.lastRefill;
+		this.emptyTime = 0;
+		this.lastEmptyTime = 0;
+	}
+
+	/**
+	 * Permet d'obtenir des jetons pour transmettre au plus le nombre d'octets
+	 * spécifié, en attendant qu'au moins un jeton soit disponible.
+	 * 
+	 * @param wanted
+	 *            Nombre d'octets à transmettre.
+	 * @return Nombre d'octets pouvant être transmis immédiatement.
+	 * @throws InterruptedException
+	 *             Si le thread d'écriture est interrompu.
+	 */
+	int acquire (final int wanted) throws InterruptedException {
+		while (true) {
+			final long now = System.nanoTime();
+			refill(now);
+			long delay = this.notBefore - now;
+			if (delay <= 0) {
+				if (this.tokens >= 1) {
+					final int count = (int) Math.min(wanted, (long) this.tokens);
+					this.tokens -= count;
+					return count;
+				}
+				delay = (long) Math.ceil((1 - this.tokens) * this.charNanos);
+			}
+			this.waitCount++;
+			this.waiter = Thread.currentThread();
+			if (this.emptyTime == this.lastEmptyTime) {
+				LockSupport.parkNanos(this, delay);
+			}
+			this.waiter = null;
+			this.waitNanos += System.nanoTime() - now;
+			if (Thread.interrupted()) {
+				throw new InterruptedException();
+			}
+		}
+	}
+
+	/**
+	 * Permet de signaler la fin d'une trame : la trame suivante n'est pas
+	 * transmise avant que la ligne ait émis les octets en cours puis respecté
+	 * le silence inter-trames.
+	 */
+	void endFrame () {
+		if (this.frameGapChars > 0) {
+			final long inFlight = (long) Math.ceil((this.capacity - this.tokens) * this.charNanos);
+			this.notBefore = System.nanoTime() + inFlight + (long) Math.ceil(this.frameGapChars * this.charNanos);
+		}
+	}
+
+	/**
+	 * Permet de signaler que le tampon de sortie du pilote est vide. Peut être
+	 * appelée depuis n'importe quel thread. La notification n'est prise en
+	 * compte que si le thread d'écriture attend : reçue pendant une
+	 * transmission, elle peut concerner des octets antérieurs et ne garantit
+	 * pas que la ligne soit libre.
+	 */
+	void outputEmpty () {
+		final Thread waiter = this.waiter;
+		if (waiter != null) {
+			this.emptyTime = System.nanoTime();
+			LockSupport.unpark(waiter);
+		}
+	}
+
+	/**
+	 * Permet de regénérer les jetons écoulés depuis le dernier calcul.
+	 * 
+	 * @param now
+	 *            Instant courant.
+	 */
+	private void refill (final long now) {
+		final long emptyTime = this.emptyTime;
+		if (emptyTime != this.lastEmptyTime) {
+			// Tout a été émis : le seau est plein et le silence court depuis
+			this.lastEmptyTime = emptyTime;
+			this.tokens = this.capacity;
+			if (this.frameGapChars > 0) {
+				this.notBefore = Math.min(this.notBefore,
+						emptyTime + (long) Math.ceil(this.frameGapChars * this.charNanos));
+			}
+		} else {
+			this.tokens = Math.min(this.capacity, this.tokens + (double) (now - this.lastRefill) / this.charNanos);
+		}
+		this.lastRefill = now;
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	/**
+	 * Permet de mettre à jour le temps caractère, après une reconfiguration de
+	 * la liaison.
+	 * 
+	 * @param charNanos
+	 *            Temps caractère en nanosecondes.
+	 */
+	void setCharNanos (final long charNanos) {
+		this.charNanos = Math.max(1, charNanos);
+	}
+
+	int getCapacity () {
+		return this.capacity;
+	}
+
+	long getWaitCount () {
+		return this.waitCount;
+	}
+
+	long getWaitNanos () {
+		return this.waitNanos;
+	}
+}
\ No newline at end of file
@@ -23,6 +23,9 @@
  *******************************************************************************/
 package awax.seriallink.seriallink;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
 import javax.comm.SerialPort;
 
 /**
@@ -34,6 +37,12 @@ import javax.comm.SerialPort;
  */
 public class SerialLinkParameters {
 
+	/** Durée par défaut du silence inter-caractères, en temps caractère. */
+	public static final double DEFAULT_GAP_CHARS = 3.5;
+
+	private static final int[] STANDARD_BAUD_RATES = {300, 1200, 2400, 4800, 9600, 14400, 19200, 28800, 38400,
+			57600, 115200, 230400 };
+
 	private String comId;
 	private int baudRate;
 	private int flowControlIn;
@@ -42,6 +51,11 @@ public class SerialLinkParameters {
 	private int stopbits;
 	private int parity;
 	private int recvTimeout;
+	private ReceiveMode receiveMode;
+	private double gapChars;
+	private Charset charset;
+	private NewlinePolicy newlinePolicy;
+	private String transport;
 
 	/**
 	 * Permet d'instancier un set de paramètres par défaut (sans nom, 9600
@@ -83,6 +97,36 @@ public class SerialLinkParameters {
 		this.stopbits = stopbits;
 		this.parity = parity;
 		this.recvTimeout = recvTimeout;
+		this.receiveMode = ReceiveMode.TIMEOUT;
+		this.gapChars = DEFAULT_GAP_CHARS;
+		this.charset = StandardCharsets.ISO_8859_1;
+		this.newlinePolicy = NewlinePolicy.CR;
+		this.transport = null;
+	}
+
+	/**
+	 * Permet d'instancier une copie du set de paramètres spécifié.
+	 * 
+	 * @param params
+	 *            Paramètres à copier.
+	 */
+	public SerialLinkParameters (final SerialLinkParameters params) {
+		this(params.comId, params.baudRate, params.flowControlIn, params.flowControlOut, params.databits,
+				params.stopbits, params.parity, params.recvTimeout);
+		this.receiveMode = params.receiveMode;
+		this.gapChars = params.gapChars;
+		this.charset = params.charset;
+		this.newlinePolicy = params.newlinePolicy;
+		this.transport = params.transport;
+	}
+
+	/**
+	 * Renvoie les débits usuels des liaisons série, par ordre croissant.
+	 * 
+	 * @return Débits en bauds.
+	 */
+	public static int[] getStandardBaudRates () {
+		return STANDARD_BAUD_RATES.clone();
 	}
 
 	/**
@@ -111,6 +155,48 @@ public class SerialLinkParameters {
 		}
 	}
 
+	/**
+	 * Renvoie le nombre de bits transmis par caractère : bit de start, bits de
+	 * data, bit de parité éventuel et bits de stop.
+	 * 
+	 * @return Nombre de bits par caractère.
+	 */
+	public double getBitsPerChar () {
+		double stop;
+		switch (this.stopbits) {
+			case SerialPort.STOPBITS_1_5:
+				stop = 1.5;
+				break;
+			case SerialPort.STOPBITS_2:
+				stop = 2;
+				break;
+			default:
+				stop = 1;
+				break;
+		}
+		return 1 + this.databits + (this.parity == SerialPort.PARITY_NONE ? 0 : 1) + stop;
+	}
+
+	/**
+	 * Renvoie la durée de transmission d'un caractère au taux de transfert
+	 * courant.
+	 * 
+	 * @return Temps caractère en nanosecondes.
+	 */
+	public long getCharTimeNanos () {
+		return (long) Math.ceil(getBitsPerChar() * 1000000000d / this.baudRate);
+	}
+
+	/**
+	 * Renvoie la durée du silence inter-caractères au-delà de laquelle une
+	 * réception est considérée comme terminée.
+	 * 
+	 * @return Durée du silence inter-caractères en nanosecondes.
+	 */
+	public long getGapNanos () {
+		return (long) Math.ceil(this.gapChars * getCharTimeNanos());
+	}
+
 	/*
 	 * Accesseurs
 	 */
@@ -322,4 +408,120 @@ public class SerialLinkParameters {
 	public void setRecvTimeout (int tMillis) {
 		this.recvTimeout = tMillis;
 	}
+
+	/**
+	 * Renvoie la manière dont la fin d'une réception est détectée.
+	 * 
+	 * @return Mode de réception.
+	 */
+	public ReceiveMode getReceiveMode () {
+		return this.receiveMode;
+	}
+
+	/**
+	 * Permet de spécifier la manière dont la fin d'une réception est détectée.
+	 * 
+	 * @param mode
+	 *            Mode de réception.
+	 */
+	public void setReceiveMode (ReceiveMode mode) {
+		if (mode == null) {
+			throw new IllegalArgumentException("Invalid receive mode value");
+		}
+		this.receiveMode = mode;
+	}
+
+	/**
+	 * Renvoie la durée du silence inter-caractères marquant la fin d'une
+	 * réception.
+	 * 
+	 * @return Durée du silence en temps caractère.
+	 */
+	public double getGapChars () {
+		return this.gapChars;
+	}
+
+	/**
+	 * Permet de spécifier la durée du silence inter-caractères marquant la fin
+	 * d'une réception, utilisée par les modes {@link ReceiveMode#THRESHOLD} et
+	 * {@link ReceiveMode#GAP}.
+	 * 
+	 * @param chars
+	 *            Durée du silence en temps caractère.
+	 */
+	public void setGapChars (double chars) {
+		if (chars <= 0) {
+			throw new IllegalArgumentException("Invalid gap value : " + chars);
+		}
+		this.gapChars = chars;
+	}
+
+	/**
+	 * Renvoie le jeu de caractères utilisé pour décoder les messages texte.
+	 * 
+	 * @return Jeu de caractères des messages texte.
+	 */
+	public Charset getCharset () {
+		return this.charset;
+	}
+
+	/**
+	 * Permet de spécifier le jeu de caractères utilisé pour décoder les
+	 * messages texte (ISO-8859-1 par défaut).
+	 * 
+	 * @param charset
+	 *            Jeu de caractères des messages texte.
+	 */
+	public void setCharset (Charset charset) {
+		if (charset == null) {
+			throw new IllegalArgumentException("Invalid charset value");
+		}
+		this.charset = charset;
+	}
+
+	/**
+	 * Renvoie la convention de fin de ligne de l'équipement.
+	 * 
+	 * @return Convention de fin de ligne.
+	 */
+	public NewlinePolicy getNewlinePolicy () {
+		return this.newlinePolicy;
+	}
+
+	/**
+	 * Permet de spécifier la convention de fin de ligne de l'équipement, selon
+	 * laquelle les fins de ligne des messages texte sont normalisées en
+	 * <code>\n</code> ({@link NewlinePolicy#CR} par défaut).
+	 * 
+	 * @param policy
+	 *            Convention de fin de ligne.
+	 */
+	public void setNewlinePolicy (NewlinePolicy policy) {
+		if (policy == null) {
+			throw new IllegalArgumentException("Invalid newline policy value");
+		}
+		this.newlinePolicy = policy;
+	}
+
+	/**
+	 * Renvoie le nom du transport imposé pour accéder au port.
+	 * 
+	 * @return Nom du transport, ou <code>null</code> si le transport est choisi
+	 *         d'après le nom du port.
+	 */
+	public String getTransport () {
+		return this.transport;
+	}
+
+	/**
+	 * Permet d'imposer le transport utilisé pour accéder au port, par exemple
+	 * <code>comm</code> pour l'API javax.comm.
+	 * 
+	 * @param transport
+	 *            Nom du transport, ou <code>null</code> pour le choisir d'après
+	 *            le nom du port.
+	 */
+	public void setTransport (String transport) {
+		this.transport = transport;
+	}
 }
\ No newline at end of file
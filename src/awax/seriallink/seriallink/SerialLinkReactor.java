@@ -0,0 +1,355 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Réacteur partagé par plusieurs clients de liaison série. Au lieu d'être
+ * notifié par le transport de chaque port, un client rattaché au réacteur est
+ * interrogé par l'une de ses boucles d'évènements : chaque boucle parcourt à
+ * tour de rôle les ports qui lui sont confiés, lit sans bloquer les octets
+ * disponibles et les distribue aux abonnés du client depuis son propre thread.
+ * Quelques boucles suffisent ainsi à servir des centaines de ports.
+ * <p>
+ * Le nombre d'octets lus sur un port à chaque tour est borné, de sorte qu'un
+ * port très bavard ne puisse pas retarder les autres : le reliquat est lu au
+ * tour suivant.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ * @see SerialLinkClient#setReactor(SerialLinkReactor)
+ */
+public class SerialLinkReactor {
+
+	/** Nombre maximal par défaut d'octets lus sur un port à chaque tour. */
+	public static final int DEFAULT_BYTE_BUDGET = 4096;
+
+	/** Intervalle par défaut entre deux tours sans données. */
+	public static final long DEFAULT_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private final Logger logger;
+	private final EventLoop[] loops;
+	private final int byteBudget;
+	private final WaitStrategy waitStrategy;
+	private final long pollNanos;
+	private volatile boolean running;
+
+	/**
+	 * Permet d'instancier un réacteur à une seule boucle, avec le budget par
+	 * port et l'intervalle d'interrogation par défaut.
+	 */
+	public SerialLinkReactor () {
+		this(1, DEFAULT_BYTE_BUDGET, WaitStrategy.PARK, DEFAULT_POLL_NANOS);
+	}
+
+	/**
+	 * Permet d'instancier un réacteur.
+	 * 
+	 * @param threads
+	 *            Nombre de boucles d'évènements, et donc de threads.
+	 * @param byteBudget
+	 *            Nombre maximal d'octets lus sur un port à chaque tour.
+	 * @param waitStrategy
+	 *            Stratégie d'attente d'une boucle lorsqu'aucun de ses ports
+	 *            n'a de données.
+	 * @param pollNanos
+	 *            Intervalle entre deux tours sans données avec la stratégie
+	 *            {@link WaitStrategy#PARK}, en nanosecondes.
+	 */
+	public SerialLinkReactor (final int threads, final int byteBudget, final WaitStrategy waitStrategy,
+			final long pollNanos) {
+		if (threads <= 0) {
+			throw new IllegalArgumentException("Invalid thread count : " + threads);
+		}
+		if (byteBudget <= 0) {
+			throw new IllegalArgumentException("Invalid byte budget : " + byteBudget);
+		}
+		if (waitStrategy == null) {
+			throw new NullPointerException("Wait strategy cannot be null");
+		}
+		this.logger = Logger.getLogger(SerialLinkReactor.class);
+		this.byteBudget = byteBudget;
+		this.waitStrategy = waitStrategy;
+		this.pollNanos = Math.max(1000L, pollNanos);
+		this.loops = new EventLoop[threads];
+		for (int i = 0; i < threads; i++) {
+			this.loops[i] = new EventLoop("SerialLink-reactor-" + i);
+		}
+		this.running = false;
+	}
+
+	/**
+	 * Permet de démarrer les boucles d'évènements.
+	 */
+	public synchronized void start () {
+		if (!this.running) {
+			this.running = true;
+			for (EventLoop loop : this.loops) {
+				loop.start();
+			}
+		}
+	}
+
+	/**
+	 * Permet d'arrêter les boucles d'évènements. Les clients rattachés ne
+	 * sont plus interrogés jusqu'au prochain démarrage.
+	 */
+	public synchronized void stop () {
+		if (this.running) {
+			this.running = false;
+			for (EventLoop loop : this.loops) {
+				loop.stop();
+			}
+		}
+	}
+
+	/**
+	 * Permet de confier un client ouvert à la boucle servant le moins de
+	 * ports.
+	 * 
+	 * @param client
+	 *            Client à interroger.
+	 */
+	void register (final SerialLinkClient client) {
+		EventLoop target = this.loops[0];
+		for (EventLoop loop : this.loops) {
+			if (loop.clients.snapshot().length < target.clients.snapshot().length) {
+				target = loop;
+			}
+		}
+		target.clients.add(client);
+		target.wakeUp();
+	}
+
+	/**
+	 * Permet de retirer un client de sa boucle. Lorsque l'appel n'est pas fait
+	 * depuis la boucle elle-même, il ne rend la main qu'une fois le tour en
+	 * cours achevé, le client n'étant alors plus interrogé.
+	 * 
+	 * @param client
+	 *            Client à retirer.
+	 */
+	void unregister (final SerialLinkClient client) {
+		for (EventLoop loop : this.loops) {
+			if (loop.clients.remove(client)) {
+				// Le tour lu après le retrait peut encore interroger le client,
+				// contrairement au suivant
+				loop.awaitRound(loop.round);
+			}
+		}
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	public boolean isRunning () {
+		return this.running;
+	}
+
+	public int getThreadCount () {
+		return this.loops.length;
+	}
+
+	public int getByteBudget () {
+		return this.byteBudget;
+	}
+
+	/**
+	 * Renvoie le nombre de clients rattachés au réacteur.
+	 * 
+	 * @return Nombre de clients interrogés.
+	 */
+	public int getClientCount () {
+		int count = 0;
+		for (EventLoop loop : this.loops) {
+			count += loop.clients.snapshot().length;
+		}
+		return count;
+	}
+
+	/**
+	 * Renvoie le nombre de tours effectués par l'ensemble des boucles.
+	 * 
+	 * @return Nombre de tours.
+	 */
+	public long getRoundCount () {
+		long count = 0;
+		for (EventLoop loop : this.loops) {
+			count += loop.round;
+		}
+		return count;
+	}
+
+	/**
+	 * Renvoie le nombre total d'octets lus par l'ensemble des boucles.
+	 * 
+	 * @return Nombre d'octets lus.
+	 */
+	public long getBytesRead () {
+		long count = 0;
+		for (EventLoop loop : this.loops) {
+			count += loop.bytesRead;
+		}
+		return count;
+	}
+
+	/**
+	 * Renvoie le nombre de lectures ayant atteint le budget d'un port, dont le
+	 * reliquat a été reporté au tour suivant.
+	 * 
+	 * @return Nombre de lectures limitées par le budget.
+	 */
+	public long getBudgetExhaustedCount () {
+		long count = 0;
+		for (EventLoop loop : this.loops) {
+			count += loop.budgetExhausted;
+		}
+		return count;
+	}
+
+	/**
+	 * Boucle d'évènements interrogeant à tour de rôle les ports qui lui sont
+	 * confiés.
+	 */
+	private class EventLoop implements Runnable {
+
+		private final String name;
+		private final SerialLinkListenerRegistry<SerialLinkClient> clients;
+		private Thread thread;
+		private volatile boolean active;
+		private volatile long round;
+		private volatile long bytesRead;
+		private volatile long budgetExhausted;
+
+		/**
+		 * Permet d'instancier une boucle d'évènements.
+		 * 
+		 * @param name
+		 *            Nom du thread.
+		 */
+		EventLoop (final String name) {
+			this.name = name;
+			this.clients = new SerialLinkListenerRegistry<>(SerialLinkClient.class);
+			this.thread = null;
+			this.active = false;
+			this.round = 0;
+			this.bytesRead = 0;
+			this.budgetExhausted = 0;
+		}
+
+		/**
+		 * Permet de démarrer le thread de la boucle.
+		 */
+		void start () {
+			this.active = true;
+			this.thread = new Thread(this, this.name);
+			this.thread.setDaemon(true);
+			this.thread.start();
+		}
+
+		/**
+		 * Permet d'arrêter le thread de la boucle.
+		 */
+		void stop () {
+			this.active = false;
+			final Thread thread = this.thread;
+			if (thread != null && thread != Thread.currentThread()) {
+				LockSupport.unpark(thread);
+				try {
+					thread.join();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			this.thread = null;
+		}
+
+		/**
+		 * Permet de réveiller la boucle si elle est en attente.
+		 */
+		void wakeUp () {
+			final Thread thread = this.thread;
+			if (thread != null) {
+				LockSupport.unpark(thread);
+			}
+		}
+
+		/**
+		 * Permet d'attendre la fin du tour en cours.
+		 * 
+		 * @param round
+		 *            Numéro du tour en cours lors du retrait d'un client.
+		 */
+		void awaitRound (final long round) {
+			final Thread thread = this.thread;
+			if (thread == null || thread == Thread.currentThread()) {
+				return;
+			}
+			LockSupport.unpark(thread);
+			while (this.active && this.round == round) {
+				LockSupport.parkNanos(SerialLinkReactor.this.pollNanos / 10 + 1);
+			}
+		}
+
+		@Override
+		public void run () {
+			final int budget = SerialLinkReactor.this.byteBudget;
+			while (this.active) {
+				final SerialLinkClient[] clients = this.clients.snapshot();
+				long count = 0;
+				for (int i = 0; i < clients.length; i++) {
+					try {
+						final int read = clients[i].poll(budget);
+						if (read == budget) {
+							this.budgetExhausted++;
+						}
+						count += read;
+					} catch (RuntimeException e) {
+						SerialLinkReactor.this.logger.error("A listener failed while dispatching received data", e);
+					}
+				}
+				this.bytesRead += count;
+				this.round++;
+				if (count == 0) {
+					switch (SerialLinkReactor.this.waitStrategy) {
+						case BUSY_SPIN:
+							break;
+						case YIELD:
+							Thread.yield();
+							break;
+						case PARK:
+							LockSupport.parkNanos(this, SerialLinkReactor.this.pollNanos);
+							break;
+					}
+				}
+			}
+		}
+	}
+}
\ No newline at end of file
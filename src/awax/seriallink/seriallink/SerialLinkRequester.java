@@ -0,0 +1,399 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Moteur de requêtes d'un client : associe les trames reçues aux requêtes en
+ * attente selon leur stratégie de corrélation. Le nombre de requêtes en vol
+ * est borné, les requêtes excédentaires attendant qu'une réponse ou un délai
+ * expiré libère une place. Les délais de réponse sont confiés à une
+ * minuterie à roue partagée, sans thread ni tâche planifiée par requête.
+ * <p>
+ * Le moteur reçoit les trames reçues comme un abonné aux données brutes : un
+ * découpeur doit être installé sur le client pour que chaque notification
+ * corresponde à une trame complète.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+final class SerialLinkRequester implements SerialLinkDataListener {
+
+	private final SerialLinkClient client;
+	private final SerialLinkTimer timer;
+	private final Map<SerialLinkCorrelator, Map<Object, ArrayDeque<Request>>> outstanding;
+	private final ArrayDeque<Request> waiting;
+	private final ArrayList<Request> ready;
+	private final Object transmitLock;
+	private volatile int maxInFlight;
+	private volatile int inFlight;
+	private volatile long timeoutCount;
+	private volatile long unmatchedCount;
+
+	/**
+	 * Permet d'instancier le moteur de requêtes d'un client.
+	 * 
+	 * @param client
+	 *            Client transmettant les requêtes.
+	 * @param timer
+	 *            Minuterie des délais de réponse.
+	 * @param maxInFlight
+	 *            Nombre maximal de requêtes en vol.
+	 */
+	SerialLinkRequester (final SerialLinkClient client, final SerialLinkTimer timer, final int maxInFlight) {
+		this.client = client;
+		this.timer = timer;
+		this.outstanding = new HashMap<>();
+		this.waiting = new ArrayDeque<>();
+		this.ready = new ArrayList<>();
+		this.transmitLock = new Object();
+		this.maxInFlight = maxInFlight;
+		this.inFlight = 0;
+		this.timeoutCount = 0;
+		this.unmatchedCount = 0;
+	}
+
+	/**
+	 * Permet de soumettre une requête. Elle est transmise immédiatement si le
+	 * nombre de requêtes en vol le permet, sinon dès qu'une place se libère.
+	 * Le délai de réponse court à partir de l'entrée en vol.
+	 * 
+	 * @param frame
+	 *            Trame de la requête.
+	 * @param correlator
+	 *            Stratégie de corrélation de la réponse.
+	 * @param timeoutNanos
+	 *            Délai de réponse en nanosecondes.
+	 * @return Réponse à la requête.
+	 */
+	SerialLinkFuture<byte[]> submit (final ByteBuffer frame, final SerialLinkCorrelator correlator,
+			final long timeoutNanos) {
+		final Object key = correlator.getRequestKey(frame);
+		if (key == null) {
+			throw new IllegalArgumentException("No correlation key in request");
+		}
+		final Request request = new Request(frame.duplicate(), correlator, key, timeoutNanos);
+		synchronized (this) {
+			if (this.inFlight < this.maxInFlight) {
+				start(request);
+				this.ready.add(request);
+			} else {
+				this.waiting.add(request);
+			}
+		}
+		transmitReady();
+		return request.future;
+	}
+
+	/**
+	 * Permet d'inscrire une requête parmi les requêtes en vol, avant sa
+	 * transmission afin qu'une réponse rapide la trouve, et d'armer son délai
+	 * de réponse.
+	 * 
+	 * @param request
+	 *            Requête à inscrire.
+	 */
+	private void start (final Request request) {
+		Map<Object, ArrayDeque<Request>> requests = this.outstanding.get(request.correlator);
+		if (requests == null) {
+			requests = new HashMap<>();
+			this.outstanding.put(request.correlator, requests);
+		}
+		ArrayDeque<Request> queue = requests.get(request.key);
+		if (queue == null) {
+			queue = new ArrayDeque<>(2);
+			requests.put(request.key, queue);
+		}
+		queue.add(request);
+		this.inFlight++;
+		request.timeout = this.timer.newTimeout(request, request.timeoutNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Permet de retirer une requête des requêtes en vol ou en attente et de
+	 * faire entrer en vol les requêtes en attente pour lesquelles une place
+	 * s'est libérée.
+	 * 
+	 * @param request
+	 *            Requête à retirer.
+	 * @return <code>true</code> si la requête était en vol ou en attente.
+	 */
+	private boolean remove (final Request request) {
+		if (this.waiting.remove(request)) {
+			return true;
+		}
+		final Map<Object, ArrayDeque<Request>> requests = this.outstanding.get(request.correlator);
+		if (requests == null) {
+			return false;
+		}
+		final ArrayDeque<Request> queue = requests.get(request.key);
+		if (queue == null || !queue.remove(request)) {
+			return false;
+		}
+		release(requests, request);
+		return true;
+	}
+
+	/**
+	 * Permet de libérer la place d'une requête retirée des requêtes en vol.
+	 * 
+	 * @param requests
+	 *            Requêtes en vol de la même corrélation.
+	 * @param request
+	 *            Requête retirée.
+	 */
+	private void release (final Map<Object, ArrayDeque<Request>> requests, final Request request) {
+		if (requests.get(request.key).isEmpty()) {
+			requests.remove(request.key);
+			if (requests.isEmpty()) {
+				this.outstanding.remove(request.correlator);
+			}
+		}
+		this.inFlight--;
+		Request next;
+		while (this.inFlight < this.maxInFlight && (next = this.waiting.poll()) != null) {
+			start(next);
+			this.ready.add(next);
+		}
+	}
+
+	/**
+	 * Permet de transmettre les requêtes entrées en vol, hors du verrou du
+	 * moteur mais dans leur ordre d'entrée, dont dépend une corrélation par
+	 * ordre d'arrivée.
+	 */
+	private void transmitReady () {
+		synchronized (this.transmitLock) {
+			Request[] requests;
+			synchronized (this) {
+				if (this.ready.isEmpty()) {
+					return;
+				}
+				requests = this.ready.toArray(new Request[this.ready.size()]);
+				this.ready.clear();
+			}
+			for (final Request request : requests) {
+				this.client.writeAsync(request.frame).addListener(new SerialLinkFutureListener<Void>() {
+
+					@Override
+					public void onComplete (SerialLinkFuture<Void> future) {
+						if (!future.isSuccess()) {
+							fail(request, future.getCause());
+						}
+					}
+				});
+			}
+		}
+	}
+
+	/**
+	 * Permet de faire échouer une requête en vol ou en attente.
+	 * 
+	 * @param request
+	 *            Requête en échec.
+	 * @param cause
+	 *            Cause de l'échec.
+	 */
+	private void fail (final Request request, final Throwable cause) {
+		final boolean removed;
+		synchronized (this) {
+			removed = remove(request);
+		}
+		if (removed) {
+			request.cancelTimeout();
+			request.future.fail(cause);
+			transmitReady();
+		}
+	}
+
+	/**
+	 * Permet de faire échouer toutes les requêtes, par exemple à la fermeture
+	 * de la liaison.
+	 * 
+	 * @param message
+	 *            Cause de l'échec.
+	 */
+	void failAll (final String message) {
+		final ArrayList<Request> failed = new ArrayList<>();
+		synchronized (this) {
+			for (Map<Object, ArrayDeque<Request>> requests : this.outstanding.values()) {
+				for (ArrayDeque<Request> queue : requests.values()) {
+					failed.addAll(queue);
+				}
+			}
+			failed.addAll(this.waiting);
+			this.outstanding.clear();
+			this.waiting.clear();
+			this.ready.clear();
+			this.inFlight = 0;
+		}
+		for (Request request : failed) {
+			request.cancelTimeout();
+			request.future.fail(new SerialLinkConnectionException(message));
+		}
+	}
+
+	@Override
+	public void onData (final SerialLinkDataEvent event) {
+		final ByteBuffer reply = event.getData();
+		Request matched = null;
+		synchronized (this) {
+			final Iterator<Map.Entry<SerialLinkCorrelator, Map<Object, ArrayDeque<Request>>>> entries = this.outstanding
+					.entrySet().iterator();
+			while (matched == null && entries.hasNext()) {
+				final Map.Entry<SerialLinkCorrelator, Map<Object, ArrayDeque<Request>>> entry = entries.next();
+				final Object key = entry.getKey().getReplyKey(reply);
+				if (key != null) {
+					final ArrayDeque<Request> queue = entry.getValue().get(key);
+					if (queue != null) {
+						matched = queue.poll();
+						release(entry.getValue(), matched);
+					}
+				}
+			}
+		}
+		if (matched == null) {
+			this.unmatchedCount++;
+			return;
+		}
+		matched.cancelTimeout();
+		final byte[] data = new byte[reply.remaining()];
+		reply.duplicate().get(data);
+		matched.future.complete(data);
+		transmitReady();
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	int getMaxInFlight () {
+		return this.maxInFlight;
+	}
+
+	/**
+	 * Permet de modifier le nombre maximal de requêtes en vol. Une
+	 * augmentation fait entrer en vol les requêtes en attente.
+	 * 
+	 * @param maxInFlight
+	 *            Nombre maximal de requêtes en vol.
+	 */
+	void setMaxInFlight (final int maxInFlight) {
+		synchronized (this) {
+			this.maxInFlight = maxInFlight;
+			Request next;
+			while (this.inFlight < maxInFlight && (next = this.waiting.poll()) != null) {
+				start(next);
+				this.ready.add(next);
+			}
+		}
+		transmitReady();
+	}
+
+	int getInFlightCount () {
+		return this.inFlight;
+	}
+
+	synchronized int getWaitingCount () {
+		return this.waiting.size();
+	}
+
+	long getTimeoutCount () {
+		return this.timeoutCount;
+	}
+
+	long getUnmatchedCount () {
+		return this.unmatchedCount;
+	}
+
+	/**
+	 * Requête en vol ou en attente, tâche d'expiration de son délai de
+	 * réponse.
+	 */
+	private class Request implements Runnable {
+
+		private final ByteBuffer frame;
+		private final SerialLinkCorrelator correlator;
+		private final Object key;
+		private final long timeoutNanos;
+		private final SerialLinkFuture<byte[]> future;
+		private volatile SerialLinkTimer.Timeout timeout;
+
+		/**
+		 * Permet d'instancier une requête.
+		 * 
+		 * @param frame
+		 *            Trame de la requête.
+		 * @param correlator
+		 *            Stratégie de corrélation de la réponse.
+		 * @param key
+		 *            Clé de corrélation de la requête.
+		 * @param timeoutNanos
+		 *            Délai de réponse en nanosecondes.
+		 */
+		Request (ByteBuffer frame, SerialLinkCorrelator correlator, Object key, long timeoutNanos) {
+			this.frame = frame;
+			this.correlator = correlator;
+			this.key = key;
+			this.timeoutNanos = timeoutNanos;
+			this.future = new SerialLinkFuture<>();
+			this.timeout = null;
+		}
+
+		/**
+		 * Permet d'annuler l'expiration du délai de réponse, armé à l'entrée
+		 * en vol.
+		 */
+		void cancelTimeout () {
+			final SerialLinkTimer.Timeout timeout = this.timeout;
+			if (timeout != null) {
+				timeout.cancel();
+			}
+		}
+
+		@Override
+		public void run () {
+			// Délai de réponse expiré
+			final SerialLinkRequester requester = SerialLinkRequester.this;
+			final boolean removed;
+			synchronized (requester) {
+				removed = requester.remove(this);
+			}
+			if (removed) {
+				requester.timeoutCount++;
+				this.future.fail(new TimeoutException("No reply within the request timeout"));
+				requester.transmitReady();
+			}
+		}
+	}
+}
\ No newline at end of file
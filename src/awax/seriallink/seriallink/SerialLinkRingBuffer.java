@@ -0,0 +1,255 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Buffer circulaire d'octets sans verrou à un seul producteur et un seul
+ * consommateur. Le producteur (thread de notification de la liaison série)
+ * écrit directement dans le tableau sous-jacent puis publie les octets écrits ;
+ * le consommateur (thread de distribution) lit les octets publiés puis les
+ * libère. La mémoire est allouée une fois pour toutes à la construction.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class SerialLinkRingBuffer {
+
+	private static final long PARK_NANOS = 1000000L;
+
+	private final byte[] buffer;
+	private final int capacity;
+	private final int mask;
+	private final AtomicLong writeSequence;
+	private final AtomicLong readSequence;
+
+	// Champs propres au producteur
+	private long cachedReadSequence;
+	private volatile long highWatermark;
+	private volatile long droppedBytes;
+
+	// Champs propres au consommateur
+	private long cachedWriteSequence;
+	private volatile Thread consumer;
+	private volatile boolean consumerParked;
+
+	/**
+	 * Permet d'instancier un buffer circulaire.
+	 * 
+	 * @param capacity
+	 *            Capacité en octets, arrondie à la puissance de deux
+	 *            supérieure.
+	 */
+	public SerialLinkRingBuffer (final int capacity) {
+		if (capacity <= 0 || capacity > (1 << 30)) {
+			throw new IllegalArgumentException("Invalid ring buffer capacity : " + capacity);
+		}
+		this.capacity = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+		this.mask = this.capacity - 1;
+		this.buffer = new byte[this.capacity];
+		this.writeSequence = new AtomicLong();
+		this.readSequence = new AtomicLong();
+		this.cachedReadSequence = 0;
+		this.cachedWriteSequence = 0;
+		this.highWatermark = 0;
+		this.droppedBytes = 0;
+		this.consumer = null;
+		this.consumerParked = false;
+	}
+
+	/*
+	 * Producteur
+	 */
+
+	/**
+	 * Renvoie le nombre d'octets pouvant être écrits de manière contiguë à
+	 * partir de {@link #writeIndex()}.
+	 * 
+	 * @param wanted
+	 *            Nombre d'octets que le producteur souhaite écrire.
+	 * @return Nombre d'octets contigus libres, éventuellement inférieur au
+	 *         nombre souhaité.
+	 */
+	int claim (final int wanted) {
+		final long write = this.writeSequence.get();
+		long free = this.capacity - (write - this.cachedReadSequence);
+		if (free < wanted) {
+			this.cachedReadSequence = this.readSequence.get();
+			free = this.capacity - (write - this.cachedReadSequence);
+		}
+		final int index = (int) (write & this.mask);
+		return (int) Math.min(free, this.capacity - index);
+	}
+
+	/**
+	 * Renvoie la position dans le tableau sous-jacent à laquelle le producteur
+	 * doit écrire.
+	 * 
+	 * @return Position d'écriture.
+	 */
+	int writeIndex () {
+		return (int) (this.writeSequence.get() & this.mask);
+	}
+
+	/**
+	 * Permet de publier les octets écrits par le producteur et de réveiller le
+	 * consommateur s'il est endormi.
+	 * 
+	 * @param count
+	 *            Nombre d'octets écrits.
+	 */
+	void publish (final int count) {
+		final long write = this.writeSequence.get() + count;
+		this.writeSequence.lazySet(write);
+		final long used = write - this.readSequence.get();
+		if (used > this.highWatermark) {
+			this.highWatermark = used;
+		}
+		if (this.consumerParked) {
+			LockSupport.unpark(this.consumer);
+		}
+	}
+
+	/**
+	 * Permet de comptabiliser les octets abandonnés faute de place.
+	 * 
+	 * @param count
+	 *            Nombre d'octets abandonnés.
+	 */
+	void drop (final long count) {
+		this.droppedBytes += count;
+	}
+
+	/*
+	 * Consommateur
+	 */
+
+	/**
+	 * Renvoie le nombre d'octets publiés pouvant être lus de manière contiguë à
+	 * partir de {@link #readIndex()}.
+	 * 
+	 * @return Nombre d'octets contigus disponibles.
+	 */
+	int readable () {
+		final long read = this.readSequence.get();
+		if (this.cachedWriteSequence == read) {
+			this.cachedWriteSequence = this.writeSequence.get();
+		}
+		final int index = (int) (read & this.mask);
+		return (int) Math.min(this.cachedWriteSequence - read, this.capacity - index);
+	}
+
+	/**
+	 * Renvoie la position dans le tableau sous-jacent à laquelle le
+	 * consommateur doit lire.
+	 * 
+	 * @return Position de lecture.
+	 */
+	int readIndex () {
+		return (int) (this.readSequence.get() & this.mask);
+	}
+
+	/**
+	 * Permet de libérer les octets lus par le consommateur.
+	 * 
+	 * @param count
+	 *            Nombre d'octets lus.
+	 */
+	void release (final int count) {
+		this.readSequence.lazySet(this.readSequence.get() + count);
+	}
+
+	/**
+	 * Permet au consommateur d'attendre l'arrivée de nouvelles données selon la
+	 * stratégie spécifiée.
+	 * 
+	 * @param strategy
+	 *            Stratégie d'attente.
+	 */
+	void await (final WaitStrategy strategy) {
+		switch (strategy) {
+			case BUSY_SPIN:
+				break;
+			case YIELD:
+				Thread.yield();
+				break;
+			case PARK:
+				this.consumer = Thread.currentThread();
+				this.consumerParked = true;
+				// Nouveau test pour ne pas manquer une publication concurrente
+				if (this.writeSequence.get() == this.readSequence.get()) {
+					LockSupport.parkNanos(this, PARK_NANOS);
+				}
+				this.consumerParked = false;
+				break;
+		}
+	}
+
+	/**
+	 * Renvoie le tableau sous-jacent.
+	 * 
+	 * @return Tableau sous-jacent.
+	 */
+	byte[] array () {
+		return this.buffer;
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	public int getCapacity () {
+		return this.capacity;
+	}
+
+	/**
+	 * Renvoie le nombre d'octets en attente de distribution.
+	 * 
+	 * @return Nombre d'octets en attente.
+	 */
+	public long size () {
+		return this.writeSequence.get() - this.readSequence.get();
+	}
+
+	/**
+	 * Renvoie le taux de remplissage maximal atteint, en octets.
+	 * 
+	 * @return Niveau maximal atteint.
+	 */
+	public long getHighWatermark () {
+		return this.highWatermark;
+	}
+
+	/**
+	 * Renvoie le nombre d'octets abandonnés parce que le buffer était plein.
+	 * 
+	 * @return Nombre d'octets abandonnés.
+	 */
+	public long getDroppedBytes () {
+		return this.droppedBytes;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+/**
+ * Etats du cycle de vie d'une liaison série.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ * @see SerialLinkStateListener
+ */
+public enum SerialLinkState {
+	/** Liaison fermée. */
+	CLOSED,
+	/** Ouverture et paramétrage du port en cours. */
+	OPENING,
+	/** Liaison ouverte et opérationnelle. */
+	OPEN,
+	/** Liaison ouverte mais dont la dernière lecture ou écriture a échoué. */
+	DEGRADED,
+	/** Fermeture du port en cours. */
+	CLOSING;
+
+	/**
+	 * Permet de dire si la liaison est ouverte, éventuellement dégradée.
+	 * 
+	 * @return <code>true</code> si le port est ouvert.
+	 */
+	public boolean isOpen () {
+		return this == OPEN || this == DEGRADED;
+	}
+}
\ No newline at end of file
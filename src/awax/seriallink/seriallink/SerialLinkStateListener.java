@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+/**
+ * Interface permettant d'être notifié des changements d'état d'une liaison
+ * série. Les notifications sont faites dans l'ordre des changements, hors
+ * des verrous du client, depuis le thread provoquant le changement (thread
+ * d'ouverture, de réception ou d'écriture) ou depuis celui qui notifie déjà
+ * un changement précédent. Elles ne doivent pas bloquer.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public interface SerialLinkStateListener {
+
+	/**
+	 * Méthode appelée lorsque l'état de la liaison série change.
+	 * 
+	 * @param client
+	 *            Client de la liaison série.
+	 * @param oldState
+	 *            Etat précédent.
+	 * @param newState
+	 *            Nouvel état.
+	 */
+	public void onStateChanged (SerialLinkClient client, SerialLinkState oldState, SerialLinkState newState);
+}
\ No newline at end of file
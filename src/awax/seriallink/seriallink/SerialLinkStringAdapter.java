@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.nio.charset.Charset;
+
+/**
+ * Adaptateur permettant de notifier des {@link SerialLinkEventListener} à
+ * partir des données brutes reçues. Les octets sont décodés une seule fois par
+ * réception, quel que soit le nombre d'abonnés, selon le jeu de caractères et
+ * la convention de fin de ligne des paramètres de la liaison série. Un unique
+ * évènement immuable est partagé par tous les abonnés.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class SerialLinkStringAdapter implements SerialLinkDataListener {
+
+	private final SerialLinkListenerRegistry<SerialLinkEventListener> listeners;
+	private SerialLinkTextDecoder decoder;
+
+	/**
+	 * Permet d'instancier un adaptateur sans abonnés.
+	 */
+	public SerialLinkStringAdapter () {
+		this.listeners = new SerialLinkListenerRegistry<>(SerialLinkEventListener.class);
+		this.decoder = null;
+	}
+
+	/**
+	 * Permet d'ajouter un abonné aux messages décodés.
+	 * 
+	 * @param listener
+	 *            Abonné aux messages décodés.
+	 */
+	public void addListener (final SerialLinkEventListener listener) {
+		this.listeners.add(listener);
+	}
+
+	/**
+	 * Permet de retirer un abonné aux messages décodés.
+	 * 
+	 * @param listener
+	 *            Abonné aux messages décodés.
+	 * @return Renvoie <code>true</code> si l'abonné a été retiré,
+	 *         <code>false</code> sinon.
+	 */
+	public boolean removeListener (final SerialLinkEventListener listener) {
+		return this.listeners.remove(listener);
+	}
+
+	/**
+	 * Permet de savoir si l'abonné spécifié est notifié par cet adaptateur.
+	 * 
+	 * @param listener
+	 *            Abonné aux messages décodés.
+	 * @return <code>true</code> si l'abonné est notifié par l'adaptateur.
+	 */
+	public boolean contains (final SerialLinkEventListener listener) {
+		return this.listeners.contains(listener);
+	}
+
+	@Override
+	public void onData (SerialLinkDataEvent event) {
+		final SerialLinkEventListener[] listeners = this.listeners.snapshot();
+		if (listeners.length == 0) {
+			return;
+		}
+		String msg = getDecoder(event.getParameters()).decode(event.getData());
+		if (!msg.isEmpty()) {
+			final SerialLinkEvent shared = new SerialLinkEvent(event.getSource(), event.getParameters(), msg,
+					event.getEventType(), event.getTimestamp(), event.getSequence());
+			for (int i = 0; i < listeners.length; i++) {
+				listeners[i].onNotify(shared);
+			}
+		}
+	}
+
+	/**
+	 * Permet d'abandonner le texte partiellement décodé, par exemple à la
+	 * fermeture de la liaison série.
+	 */
+	public void reset () {
+		if (this.decoder != null) {
+			this.decoder.reset();
+		}
+	}
+
+	/**
+	 * Renvoie le décodeur correspondant aux paramètres spécifiés. Le décodeur
+	 * n'est recréé que si le jeu de caractères ou la convention de fin de
+	 * ligne ont changé.
+	 * 
+	 * @param params
+	 *            Paramètres de la liaison série.
+	 * @return Décodeur de texte.
+	 */
+	private SerialLinkTextDecoder getDecoder (final SerialLinkParameters params) {
+		final Charset charset = params.getCharset();
+		final NewlinePolicy policy = params.getNewlinePolicy();
+		if (this.decoder == null || !this.decoder.getCharset().equals(charset)
+				|| this.decoder.getNewlinePolicy() != policy) {
+			this.decoder = new SerialLinkTextDecoder(charset, policy);
+		}
+		return this.decoder;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,533 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Superviseur d'une liaison série, chargé de la rouvrir automatiquement
+ * lorsque le périphérique disparaît, par exemple lors de la réinitialisation
+ * d'un adaptateur USB-série.
+ * <p>
+ * La perte du périphérique est détectée soit par le passage de la liaison à
+ * l'état {@link SerialLinkState#DEGRADED} suite à une erreur de lecture ou
+ * d'écriture, soit par la suppression de son entrée dans <code>/dev</code>,
+ * surveillée au moyen d'un {@link WatchService}. La liaison est alors fermée
+ * puis rouverte avec un délai exponentiel aléatoirement perturbé entre deux
+ * tentatives ; la réapparition de l'entrée déclenche une tentative immédiate.
+ * Les paramètres et les abonnés du client étant conservés par celui-ci, ils
+ * sont rétablis avec la liaison.
+ * <p>
+ * Une fermeture demandée par l'utilisateur alors que la liaison est ouverte
+ * n'est pas considérée comme une perte ; une reconnexion déjà engagée est
+ * abandonnée au moyen de {@link #cancel()}. La durée de chaque interruption, de la détection à
+ * la réouverture, est mesurée.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class SerialLinkSupervisor implements SerialLinkStateListener {
+
+	/** Délai par défaut avant la première tentative, en millisecondes. */
+	public static final long DEFAULT_INITIAL_DELAY = 100;
+
+	/** Délai maximal par défaut entre deux tentatives, en millisecondes. */
+	public static final long DEFAULT_MAX_DELAY = 30000;
+
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+	private final Logger logger;
+	private final SerialLinkClient client;
+	private final long initialDelayNanos;
+	private final long maxDelayNanos;
+	private final ScheduledExecutorService scheduler;
+	private WatchService watchService;
+	private Thread watcher;
+	private volatile Path device;
+	private volatile boolean running;
+	private volatile boolean reconnecting;
+	private ScheduledFuture<?> pending;
+	private long backoffNanos;
+	private long lostTime;
+	private volatile long reconnectCount;
+	private volatile long failedAttemptCount;
+	private volatile long lastReconnectGapNanos;
+	private volatile long maxReconnectGapNanos;
+	private volatile long totalReconnectGapNanos;
+
+	/**
+	 * Permet d'instancier le superviseur d'une liaison avec les délais par
+	 * défaut.
+	 * 
+	 * @param client
+	 *            Client de la liaison série à superviser.
+	 */
+	public SerialLinkSupervisor (final SerialLinkClient client) {
+		this(client, DEFAULT_INITIAL_DELAY, DEFAULT_MAX_DELAY, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Permet d'instancier le superviseur d'une liaison.
+	 * 
+	 * @param client
+	 *            Client de la liaison série à superviser.
+	 * @param initialDelay
+	 *            Délai avant la première tentative, doublé à chaque échec.
+	 * @param maxDelay
+	 *            Délai maximal entre deux tentatives.
+	 * @param unit
+	 *            Unité des délais.
+	 */
+	public SerialLinkSupervisor (final SerialLinkClient client, final long initialDelay, final long maxDelay,
+			final TimeUnit unit) {
+		if (client == null) {
+			throw new NullPointerException("Serial link client cannot be null");
+		}
+		if (initialDelay <= 0 || maxDelay < initialDelay) {
+			throw new IllegalArgumentException("Invalid delays : " + initialDelay + ", " + maxDelay);
+		}
+		this.logger = Logger.getLogger(SerialLinkSupervisor.class);
+		this.client = client;
+		this.initialDelayNanos = unit.toNanos(initialDelay);
+		this.maxDelayNanos = unit.toNanos(maxDelay);
+		final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+
+			@Override
+			public Thread newThread (Runnable r) {
+				Thread thread = new Thread(r, "SerialLink-supervisor-" + THREAD_COUNT.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		scheduler.setRemoveOnCancelPolicy(true);
+		this.scheduler = scheduler;
+		this.running = false;
+		this.reconnecting = false;
+		this.pending = null;
+		this.backoffNanos = this.initialDelayNanos;
+		this.lostTime = 0;
+	}
+
+	/**
+	 * Permet de démarrer la supervision. Si le périphérique de la liaison est
+	 * un fichier, son répertoire est surveillé.
+	 */
+	public synchronized void start () {
+		if (this.running) {
+			return;
+		}
+		this.running = true;
+		this.client.addStateListener(this);
+		try {
+			this.watchService = FileSystems.getDefault().newWatchService();
+			this.watcher = new Thread(new Runnable() {
+
+				@Override
+				public void run () {
+					watch();
+				}
+			}, "SerialLink-watcher-" + THREAD_COUNT.incrementAndGet());
+			this.watcher.setDaemon(true);
+			this.watcher.start();
+		} catch (IOException e) {
+			this.logger.warn("Device hot-plug detection unavailable, relying on link errors", e);
+			this.watchService = null;
+		}
+		if (this.client.getState().isOpen()) {
+			watchDevice();
+		}
+	}
+
+	/**
+	 * Permet d'arrêter la supervision. La liaison est laissée dans son état
+	 * courant.
+	 */
+	public synchronized void stop () {
+		if (!this.running) {
+			return;
+		}
+		this.running = false;
+		this.client.removeStateListener(this);
+		cancelPending();
+		this.lostTime = 0;
+		if (this.watchService != null) {
+			try {
+				this.watchService.close();
+			} catch (IOException e) {
+				this.logger.error("Failed to close the device watch service", e);
+			}
+			this.watchService = null;
+			this.watcher = null;
+		}
+		this.scheduler.shutdownNow();
+	}
+
+	/**
+	 * Permet d'abandonner la reconnexion en cours. Si une tentative aboutit
+	 * malgré tout, la liaison est refermée.
+	 */
+	public synchronized void cancel () {
+		cancelPending();
+		this.lostTime = 0;
+	}
+
+	@Override
+	public void onStateChanged (SerialLinkClient client, SerialLinkState oldState, SerialLinkState newState) {
+		if (this.reconnecting && newState != SerialLinkState.DEGRADED) {
+			// Transitions provoquées par la reconnexion elle-même, une perte
+			// de la liaison rouverte restant prise en compte
+			return;
+		}
+		switch (newState) {
+			case DEGRADED:
+				linkLost();
+				break;
+			case OPEN:
+				// La liaison s'est rétablie d'elle-même ou a été rouverte
+				linkRestored();
+				watchDevice();
+				break;
+			case CLOSING:
+				// Fermeture demandée par l'utilisateur
+				synchronized (this) {
+					cancelPending();
+					this.lostTime = 0;
+				}
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * Permet de prendre en compte la perte de la liaison et de programmer la
+	 * première tentative de reconnexion.
+	 */
+	private synchronized void linkLost () {
+		if (!this.running || this.lostTime != 0) {
+			return;
+		}
+		this.lostTime = System.nanoTime();
+		this.backoffNanos = this.initialDelayNanos;
+		this.logger.warn("Serial link " + this.client.getSerialParams().getComId() + " lost, reconnecting");
+		schedule(nextDelay());
+	}
+
+	/**
+	 * Permet de prendre en compte le rétablissement de la liaison sans
+	 * reconnexion.
+	 */
+	private synchronized void linkRestored () {
+		if (this.lostTime != 0) {
+			cancelPending();
+			recordGap(System.nanoTime() - this.lostTime);
+			this.lostTime = 0;
+		}
+	}
+
+	/**
+	 * Permet de programmer une tentative de reconnexion.
+	 * 
+	 * @param delayNanos
+	 *            Délai avant la tentative, en nanosecondes.
+	 */
+	private void schedule (final long delayNanos) {
+		cancelPending();
+		this.pending = this.scheduler.schedule(new Runnable() {
+
+			@Override
+			public void run () {
+				reconnect();
+			}
+		}, delayNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Permet d'annuler la tentative programmée.
+	 */
+	private void cancelPending () {
+		if (this.pending != null) {
+			this.pending.cancel(false);
+			this.pending = null;
+		}
+	}
+
+	/**
+	 * Renvoie le délai avant la prochaine tentative : le délai initial doublé
+	 * à chaque échec et borné, dont seule la première moitié est garantie afin
+	 * que des liaisons perdues ensemble ne retentent pas en même temps.
+	 * 
+	 * @return Délai en nanosecondes.
+	 */
+	private long nextDelay () {
+		final long delay = this.backoffNanos;
+		final long half = delay >>> 1;
+		return half + ThreadLocalRandom.current().nextLong(delay - half + 1);
+	}
+
+	/**
+	 * Permet de doubler le délai entre deux tentatives après un échec, sans
+	 * dépasser le délai maximal.
+	 */
+	private void increaseBackoff () {
+		if (this.backoffNanos > this.maxDelayNanos / 2) {
+			this.backoffNanos = this.maxDelayNanos;
+		} else {
+			this.backoffNanos *= 2;
+		}
+	}
+
+	/**
+	 * Permet de fermer puis de rouvrir la liaison. En cas d'échec, la
+	 * tentative suivante est programmée.
+	 */
+	private void reconnect () {
+		synchronized (this) {
+			this.pending = null;
+			if (!this.running || this.lostTime == 0) {
+				return;
+			}
+		}
+		boolean success = false;
+		this.reconnecting = true;
+		try {
+			this.client.close();
+			this.client.open();
+			success = true;
+		} catch (SerialLinkConnectionException e) {
+			this.logger.debug("Reconnection attempt failed : " + e.getMessage());
+		} finally {
+			this.reconnecting = false;
+		}
+		boolean abandoned = false;
+		synchronized (this) {
+			if (!this.running) {
+				return;
+			}
+			if (this.lostTime == 0) {
+				// Reconnexion abandonnée pendant la tentative
+				abandoned = success;
+				success = false;
+			} else {
+				if (success && this.client.getState() == SerialLinkState.DEGRADED) {
+					// Liaison perdue de nouveau pendant la tentative
+					this.logger.debug("Serial link lost again while reconnecting");
+					success = false;
+				}
+				if (success) {
+					final long gap = System.nanoTime() - this.lostTime;
+					this.lostTime = 0;
+					recordGap(gap);
+					this.logger.info("Serial link " + this.client.getSerialParams().getComId()
+							+ " reconnected after " + TimeUnit.NANOSECONDS.toMillis(gap) + " ms");
+				} else {
+					this.failedAttemptCount++;
+					increaseBackoff();
+					schedule(nextDelay());
+				}
+			}
+		}
+		// Les écouteurs d'état du client reprennent le moniteur du
+		// superviseur : la liaison est fermée hors de celui-ci
+		if (abandoned) {
+			this.client.close();
+		} else if (success) {
+			watchDevice();
+		}
+	}
+
+	/**
+	 * Permet d'enregistrer la durée d'une interruption.
+	 * 
+	 * @param gap
+	 *            Durée de l'interruption, en nanosecondes.
+	 */
+	private void recordGap (final long gap) {
+		this.reconnectCount++;
+		this.lastReconnectGapNanos = gap;
+		this.totalReconnectGapNanos += gap;
+		if (gap > this.maxReconnectGapNanos) {
+			this.maxReconnectGapNanos = gap;
+		}
+	}
+
+	/**
+	 * Permet de surveiller le répertoire du périphérique de la liaison, si
+	 * celui-ci est un fichier.
+	 */
+	private synchronized void watchDevice () {
+		final Path device = getDevicePath(this.client.getSerialParams().getComId());
+		this.device = device;
+		if (device == null || this.watchService == null) {
+			return;
+		}
+		final Path dir = device.getParent();
+		if (dir != null && Files.isDirectory(dir)) {
+			try {
+				dir.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE,
+						StandardWatchEventKinds.ENTRY_DELETE);
+			} catch (IOException e) {
+				this.logger.warn("Cannot watch " + dir, e);
+			}
+		}
+	}
+
+	/**
+	 * Boucle de surveillance des entrées de périphériques.
+	 */
+	private void watch () {
+		final WatchService watchService = this.watchService;
+		try {
+			while (this.running) {
+				final WatchKey key = watchService.take();
+				final Path dir = (Path) key.watchable();
+				for (WatchEvent<?> event : key.pollEvents()) {
+					final Path device = this.device;
+					if (device == null || event.kind() == StandardWatchEventKinds.OVERFLOW) {
+						continue;
+					}
+					if (device.equals(dir.resolve((Path) event.context()))) {
+						deviceChanged(event.kind() == StandardWatchEventKinds.ENTRY_CREATE);
+					}
+				}
+				key.reset();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ClosedWatchServiceException e) {
+			// Arrêt de la supervision
+		}
+	}
+
+	/**
+	 * Permet de prendre en compte l'apparition ou la disparition du
+	 * périphérique de la liaison.
+	 * 
+	 * @param created
+	 *            <code>true</code> si le périphérique est apparu.
+	 */
+	private void deviceChanged (final boolean created) {
+		if (!created) {
+			this.logger.debug("Device " + this.device + " removed");
+			// Le passage à l'état dégradé déclenche la reconnexion
+			this.client.degrade();
+		} else {
+			this.logger.debug("Device " + this.device + " created");
+			synchronized (this) {
+				if (this.running && this.lostTime != 0) {
+					schedule(0);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Renvoie le chemin du périphérique désigné par l'identifiant d'un port.
+	 * 
+	 * @param comId
+	 *            Identifiant du port.
+	 * @return Chemin du périphérique, ou <code>null</code> si le port n'est
+	 *         pas un fichier.
+	 */
+	private static Path getDevicePath (final String comId) {
+		if (comId == null) {
+			return null;
+		}
+		return comId.startsWith("/") ? Paths.get(comId) : null;
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	public SerialLinkClient getClient () {
+		return this.client;
+	}
+
+	public boolean isRunning () {
+		return this.running;
+	}
+
+	/**
+	 * Permet de savoir si une reconnexion est en cours.
+	 * 
+	 * @return <code>true</code> si la liaison a été perdue et n'est pas encore
+	 *         rétablie.
+	 */
+	public synchronized boolean isReconnecting () {
+		return this.lostTime != 0;
+	}
+
+	public long getReconnectCount () {
+		return this.reconnectCount;
+	}
+
+	public long getFailedAttemptCount () {
+		return this.failedAttemptCount;
+	}
+
+	/**
+	 * Renvoie la durée de la dernière interruption, de sa détection au
+	 * rétablissement de la liaison.
+	 * 
+	 * @return Durée en nanosecondes, ou 0 si aucune interruption n'a eu lieu.
+	 */
+	public long getLastReconnectGapNanos () {
+		return this.lastReconnectGapNanos;
+	}
+
+	public long getMaxReconnectGapNanos () {
+		return this.maxReconnectGapNanos;
+	}
+
+	/**
+	 * Renvoie la durée moyenne des interruptions.
+	 * 
+	 * @return Durée moyenne en nanosecondes, ou 0 si aucune interruption n'a
+	 *         eu lieu.
+	 */
+	public long getAverageReconnectGapNanos () {
+		final long count = this.reconnectCount;
+		return count == 0 ? 0 : this.totalReconnectGapNanos / count;
+	}
+}
\ No newline at end of file
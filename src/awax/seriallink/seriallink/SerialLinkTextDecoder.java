@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Décodeur de texte incrémental. Il réutilise un {@link CharsetDecoder} et ses
+ * buffers d'une réception à l'autre, conserve les séquences multi-octets
+ * incomplètes jusqu'à la réception suivante et normalise les fins de ligne en
+ * un seul passage. Seule la chaîne renvoyée est allouée en régime établi.
+ * <p>
+ * Un décodeur n'est pas thread-safe et ne doit décoder qu'un seul flux.
+ * </p>
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class SerialLinkTextDecoder {
+
+	private final Charset charset;
+	private final NewlinePolicy newlinePolicy;
+	private final CharsetDecoder decoder;
+	private ByteBuffer pending;
+	private CharBuffer chars;
+	private char[] text;
+	private boolean pendingCr;
+
+	/**
+	 * Permet d'instancier un décodeur.
+	 * 
+	 * @param charset
+	 *            Jeu de caractères du flux.
+	 * @param newlinePolicy
+	 *            Convention de fin de ligne de l'équipement.
+	 */
+	public SerialLinkTextDecoder (final Charset charset, final NewlinePolicy newlinePolicy) {
+		this.charset = charset;
+		this.newlinePolicy = newlinePolicy;
+		this.decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		this.pending = ByteBuffer.allocate(16);
+		this.chars = CharBuffer.allocate(SerialLinkClient.INITIAL_RECV_BUFFER_SIZE);
+		this.text = new char[SerialLinkClient.INITIAL_RECV_BUFFER_SIZE + 1];
+		this.pendingCr = false;
+	}
+
+	/**
+	 * Permet de décoder les octets compris entre la position et la limite du
+	 * buffer spécifié. Les octets d'une séquence incomplète en fin de buffer
+	 * sont conservés pour l'appel suivant.
+	 * 
+	 * @param data
+	 *            Octets reçus.
+	 * @return Texte décodé et normalisé, éventuellement vide.
+	 */
+	public String decode (final ByteBuffer data) {
+		ByteBuffer in = data;
+		if (this.pending.position() > 0) {
+			// Complétion de la séquence incomplète précédente
+			ensurePendingCapacity(data.remaining());
+			this.pending.put(data);
+			this.pending.flip();
+			in = this.pending;
+		}
+		final int maxChars = (int) Math.ceil(in.remaining() * (double) this.decoder.maxCharsPerByte());
+		if (this.chars.capacity() < maxChars) {
+			this.chars = CharBuffer.allocate(maxChars);
+		}
+		this.chars.clear();
+		this.decoder.decode(in, this.chars, false);
+		// Conservation des octets non décodés
+		if (in == this.pending) {
+			this.pending.compact();
+		} else if (in.hasRemaining()) {
+			ensurePendingCapacity(in.remaining());
+			this.pending.put(in);
+		}
+		this.chars.flip();
+		return normalize(this.chars.array(), this.chars.limit());
+	}
+
+	/**
+	 * Permet d'abandonner les octets et caractères en attente.
+	 */
+	public void reset () {
+		this.decoder.reset();
+		this.pending.clear();
+		this.pendingCr = false;
+	}
+
+	/**
+	 * Permet de normaliser les fins de ligne des caractères décodés selon la
+	 * convention de l'équipement.
+	 * 
+	 * @param src
+	 *            Caractères décodés.
+	 * @param length
+	 *            Nombre de caractères décodés.
+	 * @return Texte normalisé.
+	 */
+	private String normalize (final char[] src, final int length) {
+		if (this.text.length < length + 1) {
+			this.text = new char[length + 1];
+		}
+		final char[] dst = this.text;
+		int count = 0;
+		switch (this.newlinePolicy) {
+			case CR:
+				for (int i = 0; i < length; i++) {
+					final char c = src[i];
+					dst[count++] = c == '\r' ? '\n' : c;
+				}
+				break;
+			case LF:
+				for (int i = 0; i < length; i++) {
+					final char c = src[i];
+					if (c != '\r') {
+						dst[count++] = c;
+					}
+				}
+				break;
+			case CRLF:
+				for (int i = 0; i < length; i++) {
+					final char c = src[i];
+					if (this.pendingCr) {
+						this.pendingCr = false;
+						if (c != '\n') {
+							dst[count++] = '\r';
+						}
+					}
+					if (c == '\r') {
+						// Décision reportée au caractère suivant
+						this.pendingCr = true;
+					} else {
+						dst[count++] = c;
+					}
+				}
+				break;
+			default:
+				System.arraycopy(src, 0, dst, 0, length);
+				count = length;
+				break;
+		}
+		return count == 0 ? "" : new String(dst, 0, count);
+	}
+
+	/**
+	 * Permet de s'assurer que le buffer des octets en attente peut accueillir
+	 * le nombre d'octets spécifié.
+	 * 
+	 * @param count
+	 *            Nombre d'octets à ajouter.
+	 */
+	private void ensurePendingCapacity (final int count) {
+		if (this.pending.remaining() < count) {
+			ByteBuffer newPending = ByteBuffer.allocate(this.pending.position() + count);
+			this.pending.flip();
+			newPending.put(this.pending);
+			this.pending = newPending;
+		}
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	public Charset getCharset () {
+		return this.charset;
+	}
+
+	public NewlinePolicy getNewlinePolicy () {
+		return this.newlinePolicy;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+/**
+ * Mesure du débit d'une ou plusieurs liaisons série entre deux
+ * échantillonnages.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ * @see SerialLinkManager#sampleThroughput()
+ */
+public class SerialLinkThroughput {
+
+	private final String name;
+	private final long bytesReceived;
+	private final long bytesWritten;
+	private final double receiveRate;
+	private final double writeRate;
+
+	/**
+	 * Permet d'instancier une mesure de débit.
+	 * 
+	 * @param name
+	 *            Nom de la liaison mesurée.
+	 * @param bytesReceived
+	 *            Nombre total d'octets reçus.
+	 * @param bytesWritten
+	 *            Nombre total d'octets écrits.
+	 * @param receiveRate
+	 *            Débit en réception sur l'intervalle, en octets par seconde.
+	 * @param writeRate
+	 *            Débit en émission sur l'intervalle, en octets par seconde.
+	 */
+	public SerialLinkThroughput (String name, long bytesReceived, long bytesWritten, double receiveRate,
+			double writeRate) {
+		this.name = name;
+		this.bytesReceived = bytesReceived;
+		this.bytesWritten = bytesWritten;
+		this.receiveRate = receiveRate;
+		this.writeRate = writeRate;
+	}
+
+	@Override
+	public String toString () {
+		return String.format("%s : rx %.0f B/s (%d), tx %.0f B/s (%d)", this.name, this.receiveRate,
+				this.bytesReceived, this.writeRate, this.bytesWritten);
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	public String getName () {
+		return this.name;
+	}
+
+	public long getBytesReceived () {
+		return this.bytesReceived;
+	}
+
+	public long getBytesWritten () {
+		return this.bytesWritten;
+	}
+
+	public double getReceiveRate () {
+		return this.receiveRate;
+	}
+
+	public double getWriteRate () {
+		return this.writeRate;
+	}
+}
\ No newline at end of file
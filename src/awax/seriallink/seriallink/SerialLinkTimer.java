@@ -0,0 +1,302 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Minuterie à roue hachée, destinée à un très grand nombre d'échéances
+ * généralement annulées avant leur expiration (délais de réponse). Une
+ * échéance ne coûte qu'un objet : l'ajout et l'annulation sont en temps
+ * constant et sans verrou, et un unique thread avance la roue d'une case à
+ * chaque tic puis exécute les tâches arrivées à échéance. La précision est
+ * celle du tic.
+ * <p>
+ * Les tâches sont exécutées par le thread de la minuterie et doivent donc
+ * être brèves.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public final class SerialLinkTimer {
+
+	/** Durée par défaut d'un tic en millisecondes. */
+	public static final long DEFAULT_TICK = 10;
+
+	/** Nombre par défaut de cases de la roue. */
+	public static final int DEFAULT_WHEEL_SIZE = 512;
+
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+	private static volatile SerialLinkTimer defaultTimer;
+
+	private final Logger logger;
+	private final long tickNanos;
+	private final Timeout[] wheel;
+	private final int mask;
+	private final ConcurrentLinkedQueue<Timeout> added;
+	private final Thread thread;
+	private final AtomicInteger started;
+	private volatile boolean running;
+	private long startTime;
+	private long tick;
+
+	/**
+	 * Permet d'instancier une minuterie, dont le thread n'est démarré qu'à la
+	 * première échéance.
+	 * 
+	 * @param tick
+	 *            Durée d'un tic.
+	 * @param unit
+	 *            Unité de la durée.
+	 * @param wheelSize
+	 *            Nombre de cases de la roue, arrondi à la puissance de deux
+	 *            supérieure.
+	 */
+	public SerialLinkTimer (final long tick, final TimeUnit unit, final int wheelSize) {
+		if (tick <= 0 || wheelSize <= 0 || wheelSize > 1 << 30) {
+			throw new IllegalArgumentException("Invalid timer : " + tick + " " + unit + ", " + wheelSize);
+		}
+		this.logger = Logger.getLogger(SerialLinkTimer.class);
+		this.tickNanos = unit.toNanos(tick);
+		int size = 1;
+		while (size < wheelSize) {
+			size <<= 1;
+		}
+		this.wheel = new Timeout[size];
+		this.mask = this.wheel.length - 1;
+		this.added = new ConcurrentLinkedQueue<>();
+		this.thread = new Thread(new Runnable() {
+
+			@Override
+			public void run () {
+				SerialLinkTimer.this.run();
+			}
+		}, "SerialLink-timer-" + THREAD_COUNT.incrementAndGet());
+		this.thread.setDaemon(true);
+		this.started = new AtomicInteger();
+		this.running = true;
+		this.startTime = 0;
+		this.tick = 0;
+	}
+
+	/**
+	 * Renvoie la minuterie partagée par les clients, créée au premier appel.
+	 * 
+	 * @return Minuterie partagée.
+	 */
+	public static SerialLinkTimer getDefault () {
+		SerialLinkTimer timer = defaultTimer;
+		if (timer == null) {
+			synchronized (SerialLinkTimer.class) {
+				timer = defaultTimer;
+				if (timer == null) {
+					timer = new SerialLinkTimer(DEFAULT_TICK, TimeUnit.MILLISECONDS, DEFAULT_WHEEL_SIZE);
+					defaultTimer = timer;
+				}
+			}
+		}
+		return timer;
+	}
+
+	/**
+	 * Permet de programmer l'exécution d'une tâche après le délai spécifié.
+	 * 
+	 * @param task
+	 *            Tâche à exécuter par le thread de la minuterie.
+	 * @param delay
+	 *            Délai avant exécution.
+	 * @param unit
+	 *            Unité du délai.
+	 * @return Echéance, permettant d'annuler l'exécution.
+	 */
+	public Timeout newTimeout (final Runnable task, final long delay, final TimeUnit unit) {
+		if (!this.running) {
+			throw new IllegalStateException("Timer is stopped");
+		}
+		if (this.started.get() == 0 && this.started.compareAndSet(0, 1)) {
+			this.startTime = System.nanoTime();
+			this.thread.start();
+		}
+		final Timeout timeout = new Timeout(task, System.nanoTime() + Math.max(0, unit.toNanos(delay)));
+		this.added.add(timeout);
+		return timeout;
+	}
+
+	/**
+	 * Permet d'arrêter la minuterie. Les échéances en attente ne sont pas
+	 * exécutées.
+	 */
+	public void stop () {
+		this.running = false;
+		this.thread.interrupt();
+	}
+
+	/**
+	 * Boucle du thread de la minuterie : à chaque tic, les nouvelles échéances
+	 * sont placées dans la roue, puis la case courante est parcourue.
+	 */
+	private void run () {
+		while (this.running) {
+			final long deadline = this.startTime + (this.tick + 1) * this.tickNanos;
+			long delay;
+			while ((delay = deadline - System.nanoTime()) > 0) {
+				LockSupport.parkNanos(this, delay);
+				if (!this.running) {
+					return;
+				}
+			}
+			transferAdded();
+			expire((int) (this.tick & this.mask));
+			this.tick++;
+		}
+	}
+
+	/**
+	 * Permet de placer les échéances ajoutées depuis le dernier tic dans leur
+	 * case.
+	 */
+	private void transferAdded () {
+		Timeout timeout;
+		while ((timeout = this.added.poll()) != null) {
+			if (timeout.state != Timeout.PENDING) {
+				continue;
+			}
+			final long ticks = Math.max((timeout.deadline - this.startTime) / this.tickNanos, this.tick);
+			timeout.rounds = (ticks - this.tick) / this.wheel.length;
+			final int index = (int) (ticks & this.mask);
+			timeout.next = this.wheel[index];
+			this.wheel[index] = timeout;
+		}
+	}
+
+	/**
+	 * Permet d'exécuter les échéances arrivées à terme dans la case spécifiée
+	 * et d'en retirer les échéances annulées.
+	 * 
+	 * @param index
+	 *            Indice de la case.
+	 */
+	private void expire (final int index) {
+		Timeout previous = null;
+		Timeout timeout = this.wheel[index];
+		while (timeout != null) {
+			final Timeout next = timeout.next;
+			boolean remove = timeout.state != Timeout.PENDING;
+			if (!remove && timeout.rounds <= 0) {
+				remove = true;
+				if (Timeout.STATE.compareAndSet(timeout, Timeout.PENDING, Timeout.EXPIRED)) {
+					try {
+						timeout.task.run();
+					} catch (RuntimeException e) {
+						this.logger.error("A timer task failed", e);
+					}
+				}
+			} else if (!remove) {
+				timeout.rounds--;
+			}
+			if (remove) {
+				if (previous == null) {
+					this.wheel[index] = next;
+				} else {
+					previous.next = next;
+				}
+				timeout.next = null;
+			} else {
+				previous = timeout;
+			}
+			timeout = next;
+		}
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	public long getTickNanos () {
+		return this.tickNanos;
+	}
+
+	public int getWheelSize () {
+		return this.wheel.length;
+	}
+
+	/**
+	 * Echéance programmée sur une minuterie.
+	 */
+	public static final class Timeout {
+
+		private static final int PENDING = 0;
+		private static final int CANCELLED = 1;
+		private static final int EXPIRED = 2;
+
+		private static final AtomicIntegerFieldUpdater<Timeout> STATE = AtomicIntegerFieldUpdater.newUpdater(
+				Timeout.class, "state");
+
+		private final Runnable task;
+		private final long deadline;
+		private volatile int state;
+		private long rounds;
+		private Timeout next;
+
+		/**
+		 * Permet d'instancier une échéance.
+		 * 
+		 * @param task
+		 *            Tâche à exécuter.
+		 * @param deadline
+		 *            Instant d'expiration.
+		 */
+		Timeout (Runnable task, long deadline) {
+			this.task = task;
+			this.deadline = deadline;
+			this.state = PENDING;
+		}
+
+		/**
+		 * Permet d'annuler l'échéance si elle n'a pas encore expiré.
+		 * 
+		 * @return <code>true</code> si l'échéance a été annulée,
+		 *         <code>false</code> si elle avait déjà expiré ou été annulée.
+		 */
+		public boolean cancel () {
+			return STATE.compareAndSet(this, PENDING, CANCELLED);
+		}
+
+		public boolean isCancelled () {
+			return this.state == CANCELLED;
+		}
+
+		public boolean isExpired () {
+			return this.state == EXPIRED;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,682 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.log4j.Logger;
+
+import awax.seriallink.seriallink.transport.SerialTransport;
+
+/**
+ * Thread d'écriture d'un client. Les écritures asynchrones sont placées dans
+ * une file bornée par voie de priorité, puis regroupées par le thread
+ * d'écriture en une seule écriture du transport. Le thread n'est démarré
+ * qu'à la première écriture. La transmission peut être suspendue le temps de
+ * reconfigurer le transport.
+ * <p>
+ * Une écriture est une suite de trames, qui ne sont jamais découpées. Les
+ * trames d'une écriture de la voie {@link TransmitPriority#BULK} sont
+ * transmises par lots de taille bornée : entre deux lots, les écritures en
+ * attente dans les voies prioritaires sont transmises en entier, de sorte
+ * qu'une trame urgente n'attend pas plus que la transmission d'un lot, ou
+ * d'une trame si celle-ci est plus grande.
+ * <p>
+ * Lorsqu'un régulateur est installé, chaque écriture est transmise seule au
+ * rythme de la ligne (voir {@link SerialLinkPacer}), les voies prioritaires
+ * étant servies entre deux trames d'une écriture de la voie
+ * {@link TransmitPriority#BULK}.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+class SerialLinkWriter implements Runnable {
+
+	/** Taille maximale d'un regroupement de petites écritures. */
+	static final int COALESCE_BUFFER_SIZE = 4096;
+
+	/** Intervalle de vérification de la file pendant une vidange. */
+	private static final long DRAIN_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private static final TransmitPriority[] PRIORITIES = TransmitPriority.values();
+
+	private final Logger logger;
+	private final SerialLinkClient client;
+	private final SerialTransport transport;
+	private final String name;
+	private final Lane[] lanes;
+	private final Semaphore queued;
+	private final int bulkBatchSize;
+	private final ArrayList<WriteRequest> batch;
+	private final ReentrantLock transmitLock;
+	private final AtomicInteger pending;
+	private final SerialLinkPacer pacer;
+	private ByteBuffer[] buffers;
+	private volatile WriteRequest partial;
+	private volatile int discardEpoch;
+
+	private Thread thread;
+	private volatile boolean running;
+	private volatile long requestCount;
+	private volatile long writeCount;
+	private volatile long bytesWritten;
+
+	/**
+	 * Permet d'instancier le thread d'écriture.
+	 * 
+	 * @param client
+	 *            Client propriétaire, informé du succès ou de l'échec des
+	 *            écritures.
+	 * @param transport
+	 *            Transport de la liaison série.
+	 * @param capacity
+	 *            Nombre maximal d'écritures en attente dans chaque voie.
+	 * @param bulkBatchSize
+	 *            Taille maximale d'un lot de trames de la voie
+	 *            {@link TransmitPriority#BULK}.
+	 * @param name
+	 *            Nom du thread.
+	 * @param pacer
+	 *            Régulateur de la transmission, ou <code>null</code> pour
+	 *            transmettre sans attendre.
+	 */
+	SerialLinkWriter (final SerialLinkClient client, final SerialTransport transport, final int capacity,
+			final int bulkBatchSize, final String name, final SerialLinkPacer pacer) {
+		this.logger = Logger.getLogger(SerialLinkWriter.class);
+		this.client = client;
+		this.transport = transport;
+		this.name = name;
+		this.lanes = new Lane[PRIORITIES.length];
+		for (int i = 0; i < this.lanes.length; i++) {
+			this.lanes[i] = new Lane(capacity);
+		}
+		this.queued = new Semaphore(0);
+		this.bulkBatchSize = bulkBatchSize;
+		this.batch = new ArrayList<>();
+		this.transmitLock = new ReentrantLock();
+		this.pending = new AtomicInteger();
+		this.pacer = pacer;
+		this.buffers = new ByteBuffer[16];
+		this.partial = null;
+		this.discardEpoch = 0;
+		this.thread = null;
+		this.running = true;
+		this.requestCount = 0;
+		this.writeCount = 0;
+		this.bytesWritten = 0;
+	}
+
+	/**
+	 * Permet de placer une écriture dans la file de la voie spécifiée. Si la
+	 * file est pleine, l'écriture échoue immédiatement afin de ne jamais
+	 * bloquer l'appelant.
+	 * 
+	 * @param frames
+	 *            Trames à écrire, qui ne doivent pas être modifiées avant
+	 *            l'achèvement de l'écriture.
+	 * @param priority
+	 *            Voie de transmission.
+	 * @return Résultat de l'écriture.
+	 */
+	SerialLinkFuture<Void> submit (final ByteBuffer[] frames, final TransmitPriority priority) {
+		final SerialLinkFuture<Void> future = new SerialLinkFuture<>();
+		if (!this.running) {
+			future.fail(new SerialLinkConnectionException("Serial link is closed"));
+			return future;
+		}
+		if (frames.length == 0) {
+			future.complete(null);
+			return future;
+		}
+		ensureStarted();
+		final Lane lane = this.lanes[priority.ordinal()];
+		// Copie des bornes des buffers, avancées par l'écriture du transport
+		final ByteBuffer[] data = new ByteBuffer[frames.length];
+		for (int i = 0; i < frames.length; i++) {
+			data[i] = frames[i].duplicate();
+		}
+		this.pending.incrementAndGet();
+		if (!lane.queue.offer(new WriteRequest(data, future, priority))) {
+			this.pending.decrementAndGet();
+			future.fail(new SerialLinkConnectionException("Write queue is full"));
+			return future;
+		}
+		this.queued.release();
+		final int depth = lane.queue.size();
+		if (depth > lane.maxDepth) {
+			lane.maxDepth = depth;
+		}
+		if (!this.running) {
+			// Arrêt concurrent : la file a pu être vidée avant l'ajout
+			failPending("Serial link is closed");
+		}
+		return future;
+	}
+
+	/**
+	 * Permet de démarrer le thread d'écriture s'il ne l'est pas déjà.
+	 */
+	private synchronized void ensureStarted () {
+		if (this.thread == null) {
+			this.thread = new Thread(this, this.name);
+			this.thread.setDaemon(true);
+			this.thread.start();
+		}
+	}
+
+	/**
+	 * Permet d'arrêter le thread d'écriture. Les écritures en attente échouent.
+	 */
+	void stop () {
+		this.running = false;
+		Thread thread;
+		synchronized (this) {
+			thread = this.thread;
+		}
+		if (thread != null && thread != Thread.currentThread()) {
+			thread.interrupt();
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		failPending("Serial link is closed");
+	}
+
+	/**
+	 * Permet de suspendre la transmission, par exemple le temps de
+	 * reconfigurer le transport. Au retour, aucune écriture n'est en cours
+	 * sur le transport jusqu'à l'appel de {@link #resume()}.
+	 * 
+	 * @param policy
+	 *            Traitement des écritures en attente.
+	 * @param timeoutNanos
+	 *            Délai maximal de la suspension, vidange comprise.
+	 * @return <code>true</code> si la transmission est suspendue,
+	 *         <code>false</code> si le délai a expiré.
+	 * @throws InterruptedException
+	 *             Si l'appelant est interrompu.
+	 */
+	boolean suspend (final ReconfigurePolicy policy, final long timeoutNanos) throws InterruptedException {
+		final long deadline = System.nanoTime() + timeoutNanos;
+		if (policy == ReconfigurePolicy.DRAIN) {
+			while (this.pending.get() > 0) {
+				if (System.nanoTime() - deadline >= 0) {
+					return false;
+				}
+				LockSupport.parkNanos(DRAIN_POLL_NANOS);
+				if (Thread.interrupted()) {
+					throw new InterruptedException();
+				}
+			}
+		}
+		if (!this.transmitLock.tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+			return false;
+		}
+		if (policy == ReconfigurePolicy.DISCARD) {
+			// Les écritures déjà retirées de leur file par le thread
+			// d'écriture échoueront à la reprise
+			this.discardEpoch++;
+			failPending("Write discarded by reconfiguration");
+		}
+		return true;
+	}
+
+	/**
+	 * Permet de reprendre la transmission suspendue par
+	 * {@link #suspend(ReconfigurePolicy, long)}.
+	 */
+	void resume () {
+		this.transmitLock.unlock();
+	}
+
+	/**
+	 * Permet de faire échouer les écritures en attente dans les files, ainsi
+	 * que l'écriture par lots interrompue par une écriture prioritaire. Le
+	 * verrou de transmission est pris afin de ne pas vider les files pendant
+	 * que le thread d'écriture y regroupe des écritures.
+	 * 
+	 * @param message
+	 *            Cause de l'échec.
+	 */
+	private void failPending (final String message) {
+		this.transmitLock.lock();
+		try {
+			final WriteRequest partial = this.partial;
+			if (partial != null) {
+				// Le thread d'écriture l'abandonnera à la reprise
+				this.partial = null;
+				this.pending.decrementAndGet();
+				partial.future.fail(new SerialLinkConnectionException(message));
+			}
+			for (Lane lane : this.lanes) {
+				WriteRequest request;
+				while ((request = lane.queue.poll()) != null) {
+					// Le jeton correspondant est consommé par le thread d'écriture
+					this.pending.decrementAndGet();
+					request.future.fail(new SerialLinkConnectionException(message));
+				}
+			}
+		} finally {
+			this.transmitLock.unlock();
+		}
+	}
+
+	/**
+	 * Permet d'obtenir la prochaine écriture à transmettre : une écriture
+	 * d'une voie plus prioritaire que l'écriture par lots en cours, sinon
+	 * la suite de celle-ci, sinon la première écriture de la voie la plus
+	 * prioritaire.
+	 * 
+	 * @return Ecriture à transmettre, ou <code>null</code> si aucune écriture
+	 *         n'est finalement disponible.
+	 * @throws InterruptedException
+	 *             Si le thread d'écriture est interrompu.
+	 */
+	private WriteRequest next () throws InterruptedException {
+		final WriteRequest partial = this.partial;
+		if (partial != null) {
+			final int lanes = partial.priority.ordinal();
+			for (int i = 0; i < lanes; i++) {
+				if (!this.lanes[i].queue.isEmpty() && this.queued.tryAcquire()) {
+					final WriteRequest request = this.lanes[i].queue.poll();
+					if (request != null) {
+						return request;
+					}
+				}
+			}
+			return partial;
+		}
+		this.queued.acquire();
+		for (Lane lane : this.lanes) {
+			final WriteRequest request = lane.queue.poll();
+			if (request != null) {
+				return request;
+			}
+		}
+		// Ecriture abandonnée entre-temps
+		return null;
+	}
+
+	@Override
+	public void run () {
+		while (this.running) {
+			WriteRequest first;
+			try {
+				first = next();
+			} catch (InterruptedException e) {
+				break;
+			}
+			if (first == null) {
+				continue;
+			}
+			try {
+				this.transmitLock.lockInterruptibly();
+			} catch (InterruptedException e) {
+				if (first != this.partial) {
+					this.pending.decrementAndGet();
+					first.future.fail(new SerialLinkConnectionException("Serial link is closed"));
+				}
+				break;
+			}
+			try {
+				if (first.future.isDone()) {
+					// Ecriture par lots abandonnée pendant la suspension
+					continue;
+				}
+				if (first.epoch != this.discardEpoch) {
+					// Ecriture soumise avant une reconfiguration qui l'a écartée
+					this.pending.decrementAndGet();
+					first.future.fail(new SerialLinkConnectionException("Write discarded by reconfiguration"));
+					continue;
+				}
+				first.start();
+				if (this.pacer != null) {
+					transmitPaced(first);
+				} else {
+					transmit(first);
+				}
+			} finally {
+				this.transmitLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Permet de transmettre une écriture, regroupée avec les suivantes de la
+	 * même voie. Une écriture de la voie {@link TransmitPriority#BULK} n'est
+	 * transmise que par lots de trames entières ; si des trames restent à
+	 * transmettre, l'écriture est conservée afin d'être reprise après les
+	 * écritures des voies prioritaires.
+	 * 
+	 * @param first
+	 *            Première écriture à transmettre.
+	 */
+	private void transmit (final WriteRequest first) {
+		final boolean bulk = first.priority == TransmitPriority.BULK;
+		final int limit = bulk ? this.bulkBatchSize : COALESCE_BUFFER_SIZE;
+		int count = 0;
+		int size = 0;
+		// Trames de la première écriture, au moins une
+		int index = first.index;
+		while (index < first.frames.length) {
+			final int remaining = first.frames[index].remaining();
+			if (bulk && count > 0 && size + remaining > limit) {
+				break;
+			}
+			count = addBuffer(count, first.frames[index++]);
+			size += remaining;
+		}
+		final boolean complete = index == first.frames.length;
+		if (complete) {
+			this.batch.add(first);
+			// Regroupement des écritures suivantes tenant dans le lot
+			final ArrayBlockingQueue<WriteRequest> queue = this.lanes[first.priority.ordinal()].queue;
+			WriteRequest next;
+			while (size < limit && (next = queue.peek()) != null && size + next.remaining() <= limit
+					&& next.epoch == this.discardEpoch && this.queued.tryAcquire()) {
+				this.batch.add(queue.poll());
+				next.start();
+				size += next.remaining();
+				for (ByteBuffer frame : next.frames) {
+					count = addBuffer(count, frame);
+				}
+			}
+		}
+		try {
+			this.transport.write(this.buffers, 0, count);
+			this.writeCount++;
+			this.transport.flush();
+			this.bytesWritten += size;
+			this.client.recover();
+			first.index = index;
+			if (!complete) {
+				this.partial = first;
+			}
+			this.requestCount += this.batch.size();
+			for (WriteRequest request : this.batch) {
+				request.future.complete(null);
+			}
+		} catch (IOException e) {
+			this.logger.error("An error occured while writing on the serial link", e);
+			this.client.degrade();
+			SerialLinkConnectionException error = new SerialLinkConnectionException(e.getMessage(), e);
+			if (!complete) {
+				this.batch.add(first);
+			}
+			for (WriteRequest request : this.batch) {
+				request.future.fail(error);
+			}
+		}
+		if (this.partial == first && first.future.isDone()) {
+			this.partial = null;
+		}
+		this.pending.addAndGet(-this.batch.size());
+		Arrays.fill(this.buffers, 0, count, null);
+		this.batch.clear();
+	}
+
+	/**
+	 * Permet d'ajouter un buffer à l'écriture groupée du transport, le tableau
+	 * des buffers étant agrandi si nécessaire.
+	 * 
+	 * @param count
+	 *            Nombre de buffers déjà ajoutés.
+	 * @param buffer
+	 *            Buffer à ajouter.
+	 * @return Nouveau nombre de buffers.
+	 */
+	private int addBuffer (final int count, final ByteBuffer buffer) {
+		if (count == this.buffers.length) {
+			this.buffers = Arrays.copyOf(this.buffers, count << 1);
+		}
+		this.buffers[count] = buffer;
+		return count + 1;
+	}
+
+	/**
+	 * Permet de transmettre une écriture au rythme autorisé par le
+	 * régulateur, le silence inter-trames étant respecté après chaque trame.
+	 * Une écriture de la voie {@link TransmitPriority#BULK} est transmise
+	 * trame par trame : si des trames restent à transmettre, l'écriture est
+	 * conservée afin d'être reprise après les écritures des voies
+	 * prioritaires.
+	 * 
+	 * @param request
+	 *            Ecriture à transmettre.
+	 */
+	private void transmitPaced (final WriteRequest request) {
+		final boolean bulk = request.priority == TransmitPriority.BULK;
+		try {
+			do {
+				final ByteBuffer data = request.frames[request.index];
+				final int limit = data.limit();
+				this.buffers[0] = data;
+				try {
+					while (data.hasRemaining()) {
+						final int start = data.position();
+						final int count = this.pacer.acquire(data.remaining());
+						data.limit(start + count);
+						while (data.hasRemaining()) {
+							this.transport.write(this.buffers, 0, 1);
+						}
+						data.limit(limit);
+						this.writeCount++;
+						this.transport.flush();
+						this.bytesWritten += count;
+					}
+				} finally {
+					data.limit(limit);
+					this.buffers[0] = null;
+				}
+				this.pacer.endFrame();
+				request.index++;
+			} while (!bulk && request.index < request.frames.length);
+			this.client.recover();
+			if (request.index < request.frames.length) {
+				this.partial = request;
+				return;
+			}
+			this.requestCount++;
+			request.future.complete(null);
+		} catch (IOException e) {
+			this.logger.error("An error occured while writing on the serial link", e);
+			this.client.degrade();
+			request.future.fail(new SerialLinkConnectionException(e.getMessage(), e));
+		} catch (InterruptedException e) {
+			request.future.fail(new SerialLinkConnectionException("Serial link is closed"));
+			// Arrêt du thread d'écriture
+			Thread.currentThread().interrupt();
+		}
+		if (this.partial == request) {
+			this.partial = null;
+		}
+		this.pending.decrementAndGet();
+	}
+
+	/**
+	 * Permet de signaler que le tampon de sortie du transport est vide.
+	 */
+	void outputEmpty () {
+		if (this.pacer != null) {
+			this.pacer.outputEmpty();
+		}
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	SerialLinkPacer getPacer () {
+		return this.pacer;
+	}
+
+	int getBulkBatchSize () {
+		return this.bulkBatchSize;
+	}
+
+	int getQueueDepth () {
+		int depth = 0;
+		for (Lane lane : this.lanes) {
+			depth += lane.queue.size();
+		}
+		return depth;
+	}
+
+	int getQueueDepth (final TransmitPriority priority) {
+		return this.lanes[priority.ordinal()].queue.size();
+	}
+
+	int getMaxQueueDepth () {
+		int depth = 0;
+		for (Lane lane : this.lanes) {
+			depth = Math.max(depth, lane.maxDepth);
+		}
+		return depth;
+	}
+
+	long getAverageLatencyNanos (final TransmitPriority priority) {
+		final Lane lane = this.lanes[priority.ordinal()];
+		final long count = lane.latencyCount;
+		return count == 0 ? 0 : lane.latencyTotal / count;
+	}
+
+	long getMaxLatencyNanos (final TransmitPriority priority) {
+		return this.lanes[priority.ordinal()].latencyMax;
+	}
+
+	long getRequestCount () {
+		return this.requestCount;
+	}
+
+	long getWriteCount () {
+		return this.writeCount;
+	}
+
+	long getBytesWritten () {
+		return this.bytesWritten;
+	}
+
+	/**
+	 * Voie de transmission : file des écritures en attente et mesure du délai
+	 * d'attente, mise à jour par le seul thread d'écriture.
+	 */
+	private static class Lane {
+
+		private final ArrayBlockingQueue<WriteRequest> queue;
+		private volatile int maxDepth;
+		private volatile long latencyCount;
+		private volatile long latencyTotal;
+		private volatile long latencyMax;
+
+		/**
+		 * Permet d'instancier une voie.
+		 * 
+		 * @param capacity
+		 *            Nombre maximal d'écritures en attente.
+		 */
+		Lane (int capacity) {
+			this.queue = new ArrayBlockingQueue<>(capacity);
+			this.maxDepth = 0;
+			this.latencyCount = 0;
+			this.latencyTotal = 0;
+			this.latencyMax = 0;
+		}
+	}
+
+	/**
+	 * Ecriture en attente dans une file.
+	 */
+	private class WriteRequest {
+
+		private final ByteBuffer[] frames;
+		private final SerialLinkFuture<Void> future;
+		private final TransmitPriority priority;
+		private final long submitTime;
+		private final int epoch;
+		private int index;
+		private boolean started;
+
+		/**
+		 * Permet d'instancier une écriture.
+		 * 
+		 * @param frames
+		 *            Trames à écrire.
+		 * @param future
+		 *            Résultat de l'écriture.
+		 * @param priority
+		 *            Voie de transmission.
+		 */
+		WriteRequest (ByteBuffer[] frames, SerialLinkFuture<Void> future, TransmitPriority priority) {
+			this.frames = frames;
+			this.future = future;
+			this.priority = priority;
+			this.submitTime = System.nanoTime();
+			this.epoch = SerialLinkWriter.this.discardEpoch;
+			this.index = 0;
+			this.started = false;
+		}
+
+		/**
+		 * Renvoie le nombre d'octets des trames restant à transmettre.
+		 * 
+		 * @return Nombre d'octets restants.
+		 */
+		int remaining () {
+			int remaining = 0;
+			for (int i = this.index; i < this.frames.length; i++) {
+				remaining += this.frames[i].remaining();
+			}
+			return remaining;
+		}
+
+		/**
+		 * Permet de comptabiliser le délai d'attente de l'écriture dans sa
+		 * voie, au début de sa transmission.
+		 */
+		void start () {
+			if (!this.started) {
+				this.started = true;
+				final Lane lane = SerialLinkWriter.this.lanes[this.priority.ordinal()];
+				final long latency = System.nanoTime() - this.submitTime;
+				lane.latencyCount++;
+				lane.latencyTotal += latency;
+				if (latency > lane.latencyMax) {
+					lane.latencyMax = latency;
+				}
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+/**
+ * Permet de spécifier la voie de transmission d'une écriture asynchrone. Les
+ * voies sont servies par ordre de priorité décroissante ; les écritures d'une
+ * même voie sont transmises dans leur ordre de soumission.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ * @see SerialLinkClient#writeAsync(java.nio.ByteBuffer, TransmitPriority)
+ */
+public enum TransmitPriority {
+	/** Trames de contrôle urgentes (arrêt, réinitialisation). */
+	URGENT,
+	/** Ecritures ordinaires. */
+	NORMAL,
+	/**
+	 * Transferts volumineux, écrits comme une suite de trames ou de morceaux
+	 * bornés entre lesquels les voies prioritaires sont servies.
+	 */
+	BULK;
+}
\ No newline at end of file
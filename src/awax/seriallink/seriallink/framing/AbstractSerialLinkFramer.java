@@ -0,0 +1,237 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.framing;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Base des découpeurs fournis. Elle gère le buffer réutilisable dans lequel
+ * sont accumulées les trames partielles ainsi que la notification des trames,
+ * soit directement depuis le buffer de réception lorsque la trame y est
+ * entièrement contenue, soit depuis le buffer d'accumulation.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public abstract class AbstractSerialLinkFramer implements SerialLinkFramer {
+
+	/** Taille maximale par défaut d'une trame. */
+	public static final int DEFAULT_MAX_FRAME_LENGTH = 4096;
+
+	private static final int INITIAL_FRAME_BUFFER_SIZE = 256;
+
+	private final int maxFrameLength;
+	private ByteBuffer frame;
+	private ByteBuffer frameView;
+	private long frameCount;
+	private long droppedFrameCount;
+
+	/**
+	 * Permet d'instancier un découpeur.
+	 * 
+	 * @param maxFrameLength
+	 *            Taille maximale d'une trame. Les trames plus longues sont
+	 *            abandonnées.
+	 */
+	protected AbstractSerialLinkFramer (final int maxFrameLength) {
+		if (maxFrameLength <= 0) {
+			throw new IllegalArgumentException("Invalid max frame length : " + maxFrameLength);
+		}
+		this.maxFrameLength = maxFrameLength;
+		this.frame = ByteBuffer.allocate(Math.min(maxFrameLength, INITIAL_FRAME_BUFFER_SIZE));
+		this.frameView = this.frame.asReadOnlyBuffer();
+		this.frameCount = 0;
+		this.droppedFrameCount = 0;
+	}
+
+	@Override
+	public void reset () {
+		this.frame.clear();
+	}
+
+	/**
+	 * Renvoie le nombre d'octets de la trame partielle accumulée.
+	 * 
+	 * @return Nombre d'octets en attente.
+	 */
+	protected final int pending () {
+		return this.frame.position();
+	}
+
+	/**
+	 * Permet d'ajouter à la trame partielle les octets du buffer spécifié
+	 * compris entre les deux positions. En cas de dépassement de la taille
+	 * maximale, la trame partielle est abandonnée.
+	 * 
+	 * @param src
+	 *            Buffer source.
+	 * @param from
+	 *            Position du premier octet à ajouter.
+	 * @param to
+	 *            Position suivant le dernier octet à ajouter.
+	 * @return <code>true</code> si les octets ont été ajoutés,
+	 *         <code>false</code> si la trame a été abandonnée.
+	 */
+	protected final boolean append (final ByteBuffer src, final int from, final int to) {
+		if (!ensureCapacity(to - from)) {
+			return false;
+		}
+		final int limit = src.limit();
+		src.limit(to);
+		src.position(from);
+		this.frame.put(src);
+		src.limit(limit);
+		return true;
+	}
+
+	/**
+	 * Permet d'ajouter un octet à la trame partielle. En cas de dépassement de
+	 * la taille maximale, la trame partielle est abandonnée.
+	 * 
+	 * @param b
+	 *            Octet à ajouter.
+	 * @return <code>true</code> si l'octet a été ajouté, <code>false</code> si
+	 *         la trame a été abandonnée.
+	 */
+	protected final boolean append (final byte b) {
+		if (!ensureCapacity(1)) {
+			return false;
+		}
+		this.frame.put(b);
+		return true;
+	}
+
+	/**
+	 * Permet de notifier la trame partielle accumulée puis de la vider. Les
+	 * trames vides ne sont pas notifiées.
+	 * 
+	 * @param sink
+	 *            Destinataire de la trame.
+	 * @param trim
+	 *            Nombre d'octets à ignorer en fin de trame (délimiteur).
+	 */
+	protected final void emitPending (final SerialLinkFrameSink sink, final int trim) {
+		final int length = this.frame.position() - trim;
+		this.frame.clear();
+		if (length > 0) {
+			this.frameView.limit(length);
+			this.frameView.position(0);
+			this.frameCount++;
+			sink.onFrame(this.frameView);
+		}
+	}
+
+	/**
+	 * Permet de notifier une trame entièrement contenue dans le buffer de
+	 * réception, sans copie. La limite du buffer est restaurée après la
+	 * notification. Les trames vides ne sont pas notifiées.
+	 * 
+	 * @param src
+	 *            Buffer de réception.
+	 * @param from
+	 *            Position du premier octet de la trame.
+	 * @param to
+	 *            Position suivant le dernier octet de la trame.
+	 * @param sink
+	 *            Destinataire de la trame.
+	 */
+	protected final void emitInPlace (final ByteBuffer src, final int from, final int to,
+			final SerialLinkFrameSink sink) {
+		if (to - from > this.maxFrameLength) {
+			this.droppedFrameCount++;
+		} else if (to > from) {
+			final int limit = src.limit();
+			src.limit(to);
+			src.position(from);
+			this.frameCount++;
+			sink.onFrame(src);
+			src.limit(limit);
+		}
+	}
+
+	/**
+	 * Permet d'abandonner la trame partielle en cours.
+	 */
+	protected final void drop () {
+		this.frame.clear();
+		this.droppedFrameCount++;
+	}
+
+	/**
+	 * Permet de s'assurer que la trame partielle peut accueillir le nombre
+	 * d'octets spécifié, en agrandissant le buffer dans la limite de la taille
+	 * maximale d'une trame.
+	 * 
+	 * @param count
+	 *            Nombre d'octets à ajouter.
+	 * @return <code>false</code> si la taille maximale est dépassée, auquel
+	 *         cas la trame partielle est abandonnée.
+	 */
+	private boolean ensureCapacity (final int count) {
+		final int required = this.frame.position() + count;
+		if (required > this.maxFrameLength) {
+			drop();
+			return false;
+		}
+		if (required > this.frame.capacity()) {
+			int capacity = this.frame.capacity();
+			while (capacity < required) {
+				capacity <<= 1;
+			}
+			ByteBuffer newFrame = ByteBuffer.allocate(Math.min(capacity, this.maxFrameLength));
+			this.frame.flip();
+			newFrame.put(this.frame);
+			this.frame = newFrame;
+			this.frameView = newFrame.asReadOnlyBuffer();
+		}
+		return true;
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	public int getMaxFrameLength () {
+		return this.maxFrameLength;
+	}
+
+	/**
+	 * Renvoie le nombre de trames notifiées.
+	 * 
+	 * @return Nombre de trames notifiées.
+	 */
+	public long getFrameCount () {
+		return this.frameCount;
+	}
+
+	/**
+	 * Renvoie le nombre de trames abandonnées (trop longues ou malformées).
+	 * 
+	 * @return Nombre de trames abandonnées.
+	 */
+	public long getDroppedFrameCount () {
+		return this.droppedFrameCount;
+	}
+}
\ No newline at end of file
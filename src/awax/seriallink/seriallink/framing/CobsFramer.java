@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.framing;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Découpeur de trames encodées selon l'algorithme COBS (Consistent Overhead
+ * Byte Stuffing) et séparées par un octet nul. Le décodage est effectué au fil
+ * de l'eau, bloc par bloc.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class CobsFramer extends AbstractSerialLinkFramer {
+
+	private int blockRemaining;
+	private boolean pendingZero;
+	private boolean discarding;
+
+	/**
+	 * Permet d'instancier un découpeur avec la taille maximale de trame par
+	 * défaut.
+	 */
+	public CobsFramer () {
+		this(DEFAULT_MAX_FRAME_LENGTH);
+	}
+
+	/**
+	 * Permet d'instancier un découpeur.
+	 * 
+	 * @param maxFrameLength
+	 *            Taille maximale d'une trame décodée.
+	 */
+	public CobsFramer (final int maxFrameLength) {
+		super(maxFrameLength);
+		reset();
+	}
+
+	@Override
+	public void decode (final ByteBuffer data, final SerialLinkFrameSink sink) {
+		final int end = data.limit();
+		int i = data.position();
+		while (i < end) {
+			final int b = data.get(i) & 0xFF;
+			if (b == 0) {
+				// Fin de trame
+				if (this.discarding) {
+					this.discarding = false;
+				} else if (this.blockRemaining > 0) {
+					drop();
+				} else {
+					emitPending(sink, 0);
+				}
+				this.blockRemaining = 0;
+				this.pendingZero = false;
+				i++;
+			} else if (this.blockRemaining == 0) {
+				// Octet de code d'un nouveau bloc
+				if (this.pendingZero && !this.discarding && !append((byte) 0)) {
+					this.discarding = true;
+				}
+				this.blockRemaining = b - 1;
+				this.pendingZero = b != 0xFF;
+				i++;
+			} else {
+				// Ajout en bloc des données du bloc courant
+				int blockEnd = i;
+				final int max = Math.min(end, i + this.blockRemaining);
+				while (blockEnd < max && data.get(blockEnd) != 0) {
+					blockEnd++;
+				}
+				if (!this.discarding && !append(data, i, blockEnd)) {
+					this.discarding = true;
+				}
+				this.blockRemaining -= blockEnd - i;
+				i = blockEnd;
+			}
+		}
+		data.position(end);
+	}
+
+	@Override
+	public void reset () {
+		super.reset();
+		this.blockRemaining = 0;
+		this.pendingZero = false;
+		this.discarding = false;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.framing;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Découpeur de trames terminées par un délimiteur (par exemple CRLF). Le
+ * délimiteur peut être reçu à cheval sur plusieurs réceptions.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class DelimiterFramer extends AbstractSerialLinkFramer {
+
+	private final byte[] delimiter;
+	private final int[] failure;
+	private final boolean stripDelimiter;
+	private int matched;
+	private boolean discarding;
+
+	/**
+	 * Permet d'instancier un découpeur retirant le délimiteur des trames.
+	 * 
+	 * @param delimiter
+	 *            Délimiteur de fin de trame.
+	 */
+	public DelimiterFramer (final byte[] delimiter) {
+		this(delimiter, true, DEFAULT_MAX_FRAME_LENGTH);
+	}
+
+	/**
+	 * Permet d'instancier un découpeur.
+	 * 
+	 * @param delimiter
+	 *            Délimiteur de fin de trame.
+	 * @param stripDelimiter
+	 *            <code>true</code> pour retirer le délimiteur des trames
+	 *            notifiées.
+	 * @param maxFrameLength
+	 *            Taille maximale d'une trame, délimiteur compris.
+	 */
+	public DelimiterFramer (final byte[] delimiter, final boolean stripDelimiter, final int maxFrameLength) {
+		super(maxFrameLength);
+		if (delimiter == null || delimiter.length == 0) {
+			throw new IllegalArgumentException("Delimiter cannot be null or empty");
+		}
+		this.delimiter = delimiter.clone();
+		this.failure = buildFailureTable(this.delimiter);
+		this.stripDelimiter = stripDelimiter;
+		this.matched = 0;
+		this.discarding = false;
+	}
+
+	@Override
+	public void decode (final ByteBuffer data, final SerialLinkFrameSink sink) {
+		final byte[] delimiter = this.delimiter;
+		final int trim = this.stripDelimiter ? delimiter.length : 0;
+		final int end = data.limit();
+		int start = data.position();
+		for (int i = start; i < end; i++) {
+			final byte b = data.get(i);
+			while (this.matched > 0 && b != delimiter[this.matched]) {
+				this.matched = this.failure[this.matched - 1];
+			}
+			if (b == delimiter[this.matched]) {
+				this.matched++;
+			}
+			if (this.matched == delimiter.length) {
+				this.matched = 0;
+				if (this.discarding) {
+					// Fin de la trame abandonnée
+					this.discarding = false;
+				} else if (pending() == 0) {
+					emitInPlace(data, start, i + 1 - trim, sink);
+				} else if (append(data, start, i + 1)) {
+					emitPending(sink, trim);
+				}
+				start = i + 1;
+			}
+		}
+		// Conservation de la trame partielle
+		if (start < end && !this.discarding && !append(data, start, end)) {
+			this.discarding = true;
+		}
+		data.position(end);
+	}
+
+	@Override
+	public void reset () {
+		super.reset();
+		this.matched = 0;
+		this.discarding = false;
+	}
+
+	/**
+	 * Permet de construire la table de repli permettant de reconnaître le
+	 * délimiteur sans revenir en arrière dans le flux.
+	 * 
+	 * @param pattern
+	 *            Délimiteur.
+	 * @return Table de repli.
+	 */
+	private static int[] buildFailureTable (final byte[] pattern) {
+		int[] table = new int[pattern.length];
+		int k = 0;
+		for (int i = 1; i < pattern.length; i++) {
+			while (k > 0 && pattern[i] != pattern[k]) {
+				k = table[k - 1];
+			}
+			if (pattern[i] == pattern[k]) {
+				k++;
+			}
+			table[i] = k;
+		}
+		return table;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.framing;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Découpeur de trames de taille fixe.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class FixedLengthFramer extends AbstractSerialLinkFramer {
+
+	private final int frameLength;
+
+	/**
+	 * Permet d'instancier un découpeur.
+	 * 
+	 * @param frameLength
+	 *            Taille des trames.
+	 */
+	public FixedLengthFramer (final int frameLength) {
+		super(frameLength);
+		this.frameLength = frameLength;
+	}
+
+	@Override
+	public void decode (final ByteBuffer data, final SerialLinkFrameSink sink) {
+		final int end = data.limit();
+		int i = data.position();
+		while (i < end) {
+			final int missing = this.frameLength - pending();
+			final int count = Math.min(missing, end - i);
+			if (pending() == 0 && count == missing) {
+				emitInPlace(data, i, i + count, sink);
+			} else if (append(data, i, i + count) && pending() == this.frameLength) {
+				emitPending(sink, 0);
+			}
+			i += count;
+		}
+		data.position(end);
+	}
+
+	public int getFrameLength () {
+		return this.frameLength;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.framing;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Découpeur de trames préfixées par leur longueur codée sur 1, 2 ou 4 octets.
+ * Le préfixe n'est pas inclus dans les trames notifiées.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class LengthPrefixedFramer extends AbstractSerialLinkFramer {
+
+	private final int prefixLength;
+	private final boolean bigEndian;
+	private int headerRead;
+	private long headerValue;
+	private int bodyLength;
+	private long skipRemaining;
+
+	/**
+	 * Permet d'instancier un découpeur à préfixe big-endian.
+	 * 
+	 * @param prefixLength
+	 *            Taille du préfixe en octets (1, 2 ou 4).
+	 */
+	public LengthPrefixedFramer (final int prefixLength) {
+		this(prefixLength, ByteOrder.BIG_ENDIAN, DEFAULT_MAX_FRAME_LENGTH);
+	}
+
+	/**
+	 * Permet d'instancier un découpeur.
+	 * 
+	 * @param prefixLength
+	 *            Taille du préfixe en octets (1, 2 ou 4).
+	 * @param order
+	 *            Ordre des octets du préfixe.
+	 * @param maxFrameLength
+	 *            Taille maximale d'une trame, hors préfixe.
+	 */
+	public LengthPrefixedFramer (final int prefixLength, final ByteOrder order, final int maxFrameLength) {
+		super(maxFrameLength);
+		if (prefixLength != 1 && prefixLength != 2 && prefixLength != 4) {
+			throw new IllegalArgumentException("Invalid prefix length : " + prefixLength);
+		}
+		this.prefixLength = prefixLength;
+		this.bigEndian = ByteOrder.BIG_ENDIAN.equals(order);
+		reset();
+	}
+
+	@Override
+	public void decode (final ByteBuffer data, final SerialLinkFrameSink sink) {
+		final int end = data.limit();
+		int i = data.position();
+		while (i < end) {
+			if (this.skipRemaining > 0) {
+				// Trame trop longue en cours d'abandon
+				final int count = (int) Math.min(this.skipRemaining, end - i);
+				this.skipRemaining -= count;
+				i += count;
+			} else if (this.bodyLength < 0) {
+				// Lecture du préfixe
+				final long b = data.get(i++) & 0xFF;
+				if (this.bigEndian) {
+					this.headerValue = (this.headerValue << 8) | b;
+				} else {
+					this.headerValue |= b << (8 * this.headerRead);
+				}
+				if (++this.headerRead == this.prefixLength) {
+					startBody(this.headerValue);
+				}
+			} else {
+				// Lecture du corps
+				final int missing = this.bodyLength - pending();
+				final int count = Math.min(missing, end - i);
+				if (pending() == 0 && count == missing) {
+					emitInPlace(data, i, i + count, sink);
+					this.bodyLength = -1;
+				} else if (append(data, i, i + count) && pending() == this.bodyLength) {
+					emitPending(sink, 0);
+					this.bodyLength = -1;
+				}
+				i += count;
+			}
+		}
+		data.position(end);
+	}
+
+	@Override
+	public void reset () {
+		super.reset();
+		this.headerRead = 0;
+		this.headerValue = 0;
+		this.bodyLength = -1;
+		this.skipRemaining = 0;
+	}
+
+	/**
+	 * Permet de démarrer la lecture du corps d'une trame dont le préfixe vient
+	 * d'être reçu.
+	 * 
+	 * @param length
+	 *            Longueur annoncée par le préfixe.
+	 */
+	private void startBody (final long length) {
+		this.headerRead = 0;
+		this.headerValue = 0;
+		if (length > getMaxFrameLength()) {
+			drop();
+			this.skipRemaining = length;
+		} else if (length > 0) {
+			this.bodyLength = (int) length;
+		}
+	}
+
+	public int getPrefixLength () {
+		return this.prefixLength;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.framing;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Découpeur incrémental du flux de réception en trames. Un découpeur conserve
+ * l'état d'une trame partielle d'une réception à l'autre et notifie chaque
+ * trame complète au {@link SerialLinkFrameSink} spécifié.
+ * <p>
+ * Les découpeurs ne sont pas thread-safe : ils sont appelés depuis le seul
+ * thread de réception du client.
+ * </p>
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public interface SerialLinkFramer {
+
+	/**
+	 * Permet de consommer les octets compris entre la position et la limite du
+	 * buffer spécifié. A la sortie de la méthode, la position du buffer est
+	 * placée sur sa limite. Le buffer peut être en lecture seule.
+	 * 
+	 * @param data
+	 *            Octets reçus.
+	 * @param sink
+	 *            Destinataire des trames complètes.
+	 */
+	public void decode (ByteBuffer data, SerialLinkFrameSink sink);
+
+	/**
+	 * Permet d'abandonner la trame partielle en cours de réception.
+	 */
+	public void reset ();
+}
\ No newline at end of file
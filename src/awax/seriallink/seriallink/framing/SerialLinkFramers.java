@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.framing;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteOrder;
+import java.util.Properties;
+import java.util.ServiceLoader;
+
+/**
+ * Fabrique des découpeurs de trames. Les découpeurs fournis sont référencés
+ * par les noms {@link #DELIMITER}, {@link #LENGTH_PREFIXED}, {@link #FIXED},
+ * {@link #SLIP} et {@link #COBS} ; les découpeurs personnalisés sont
+ * recherchés parmi les {@link SerialLinkFramerProvider} déclarés.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public final class SerialLinkFramers {
+
+	public static final String DELIMITER = "delimiter";
+	public static final String LENGTH_PREFIXED = "length";
+	public static final String FIXED = "fixed";
+	public static final String SLIP = "slip";
+	public static final String COBS = "cobs";
+
+	/**
+	 * Options reconnues par les découpeurs fournis.
+	 */
+	public static final String OPT_DELIMITER = "delimiter";
+	public static final String OPT_STRIP_DELIMITER = "stripDelimiter";
+	public static final String OPT_PREFIX_LENGTH = "prefixLength";
+	public static final String OPT_BYTE_ORDER = "byteOrder";
+	public static final String OPT_FRAME_LENGTH = "frameLength";
+	public static final String OPT_MAX_FRAME_LENGTH = "maxFrameLength";
+
+	/**
+	 * Classe utilitaire non instanciable.
+	 */
+	private SerialLinkFramers () {
+	}
+
+	/**
+	 * Permet d'instancier le découpeur référencé par le nom spécifié.
+	 * 
+	 * @param name
+	 *            Nom du découpeur.
+	 * @param options
+	 *            Options du découpeur, peut être <code>null</code>.
+	 * @return Nouveau découpeur.
+	 */
+	public static SerialLinkFramer create (final String name, Properties options) {
+		if (options == null) {
+			options = new Properties();
+		}
+		final int maxLength = getInt(options, OPT_MAX_FRAME_LENGTH, AbstractSerialLinkFramer.DEFAULT_MAX_FRAME_LENGTH);
+		if (DELIMITER.equalsIgnoreCase(name)) {
+			byte[] delimiter = unescape(options.getProperty(OPT_DELIMITER, "\\r\\n"));
+			boolean strip = Boolean.parseBoolean(options.getProperty(OPT_STRIP_DELIMITER, "true"));
+			return new DelimiterFramer(delimiter, strip, maxLength);
+		} else if (LENGTH_PREFIXED.equalsIgnoreCase(name)) {
+			String order = options.getProperty(OPT_BYTE_ORDER, ByteOrder.BIG_ENDIAN.toString());
+			return new LengthPrefixedFramer(getInt(options, OPT_PREFIX_LENGTH, 2),
+					ByteOrder.LITTLE_ENDIAN.toString().equalsIgnoreCase(order) ? ByteOrder.LITTLE_ENDIAN
+							: ByteOrder.BIG_ENDIAN, maxLength);
+		} else if (FIXED.equalsIgnoreCase(name)) {
+			return new FixedLengthFramer(getInt(options, OPT_FRAME_LENGTH, 0));
+		} else if (SLIP.equalsIgnoreCase(name)) {
+			return new SlipFramer(maxLength);
+		} else if (COBS.equalsIgnoreCase(name)) {
+			return new CobsFramer(maxLength);
+		}
+		// Recherche parmi les découpeurs personnalisés
+		for (SerialLinkFramerProvider provider : ServiceLoader.load(SerialLinkFramerProvider.class)) {
+			if (provider.getName().equalsIgnoreCase(name)) {
+				return provider.createFramer(options);
+			}
+		}
+		throw new IllegalArgumentException("Unknown framer : " + name);
+	}
+
+	/**
+	 * Permet de convertir une chaîne contenant des séquences d'échappement
+	 * (<code>\r</code>, <code>\n</code>, <code>\t</code>, <code>\0</code>,
+	 * <code>\\</code> et <code>\xHH</code>) en tableau d'octets.
+	 * 
+	 * @param str
+	 *            Chaîne à convertir.
+	 * @return Octets correspondants.
+	 */
+	public static byte[] unescape (final String str) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(str.length());
+		for (int i = 0; i < str.length(); i++) {
+			char c = str.charAt(i);
+			if (c == '\\' && i + 1 < str.length()) {
+				char next = str.charAt(++i);
+				switch (next) {
+					case 'r':
+						out.write('\r');
+						break;
+					case 'n':
+						out.write('\n');
+						break;
+					case 't':
+						out.write('\t');
+						break;
+					case '0':
+						out.write(0);
+						break;
+					case 'x':
+						if (i + 2 >= str.length()) {
+							throw new IllegalArgumentException("Invalid escape sequence : " + str);
+						}
+						out.write(Integer.parseInt(str.substring(i + 1, i + 3), 16));
+						i += 2;
+						break;
+					default:
+						out.write(next);
+						break;
+				}
+			} else {
+				out.write(c);
+			}
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * Renvoie la valeur entière de l'option spécifiée.
+	 * 
+	 * @param options
+	 *            Options du découpeur.
+	 * @param key
+	 *            Nom de l'option.
+	 * @param defaultValue
+	 *            Valeur par défaut.
+	 * @return Valeur de l'option.
+	 */
+	private static int getInt (final Properties options, final String key, final int defaultValue) {
+		String value = options.getProperty(key);
+		return value == null ? defaultValue : Integer.parseInt(value.trim());
+	}
+}
\ No newline at end of file
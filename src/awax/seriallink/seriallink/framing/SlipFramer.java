@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.framing;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Découpeur de trames encodées selon le protocole SLIP (RFC 1055). Les
+ * séquences d'échappement sont décodées lors de l'accumulation de la trame.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class SlipFramer extends AbstractSerialLinkFramer {
+
+	public static final byte END = (byte) 0xC0;
+	public static final byte ESC = (byte) 0xDB;
+	public static final byte ESC_END = (byte) 0xDC;
+	public static final byte ESC_ESC = (byte) 0xDD;
+
+	private boolean escaped;
+	private boolean discarding;
+
+	/**
+	 * Permet d'instancier un découpeur avec la taille maximale de trame par
+	 * défaut.
+	 */
+	public SlipFramer () {
+		this(DEFAULT_MAX_FRAME_LENGTH);
+	}
+
+	/**
+	 * Permet d'instancier un découpeur.
+	 * 
+	 * @param maxFrameLength
+	 *            Taille maximale d'une trame décodée.
+	 */
+	public SlipFramer (final int maxFrameLength) {
+		super(maxFrameLength);
+		this.escaped = false;
+		this.discarding = false;
+	}
+
+	@Override
+	public void decode (final ByteBuffer data, final SerialLinkFrameSink sink) {
+		final int end = data.limit();
+		int run = data.position();
+		for (int i = run; i < end; i++) {
+			final byte b = data.get(i);
+			if (b != END && b != ESC && !this.escaped) {
+				continue;
+			}
+			// Ajout en bloc des octets ordinaires précédents
+			if (i > run && !this.discarding && !append(data, run, i)) {
+				this.discarding = true;
+			}
+			run = i + 1;
+			if (b == END) {
+				if (!this.discarding) {
+					emitPending(sink, 0);
+				}
+				this.escaped = false;
+				this.discarding = false;
+			} else if (this.escaped) {
+				this.escaped = false;
+				final byte decoded = b == ESC_END ? END : b == ESC_ESC ? ESC : b;
+				if (!this.discarding && !append(decoded)) {
+					this.discarding = true;
+				}
+			} else {
+				this.escaped = true;
+			}
+		}
+		if (run < end && !this.discarding && !append(data, run, end)) {
+			this.discarding = true;
+		}
+		data.position(end);
+	}
+
+	@Override
+	public void reset () {
+		super.reset();
+		this.escaped = false;
+		this.discarding = false;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.modbus;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Calcul du CRC-16 Modbus (polynôme 0xA001 réfléchi, valeur initiale 0xFFFF)
+ * par table : un accès à la table par octet au lieu de huit décalages
+ * conditionnels.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public final class ModbusCrc {
+
+	private static final int[] TABLE = new int[256];
+
+	static {
+		for (int i = 0; i < TABLE.length; i++) {
+			int crc = i;
+			for (int bit = 0; bit < 8; bit++) {
+				crc = (crc & 1) != 0 ? (crc >>> 1) ^ 0xA001 : crc >>> 1;
+			}
+			TABLE[i] = crc;
+		}
+	}
+
+	/**
+	 * Constructeur privé, classe utilitaire.
+	 */
+	private ModbusCrc () {
+	}
+
+	/**
+	 * Permet de calculer le CRC des octets spécifiés.
+	 * 
+	 * @param data
+	 *            Tableau contenant les octets.
+	 * @param offset
+	 *            Position du premier octet.
+	 * @param length
+	 *            Nombre d'octets.
+	 * @return CRC sur 16 bits, dont l'octet de poids faible est transmis en
+	 *         premier.
+	 */
+	public static int compute (final byte[] data, final int offset, final int length) {
+		int crc = 0xFFFF;
+		for (int i = offset, end = offset + length; i < end; i++) {
+			crc = (crc >>> 8) ^ TABLE[(crc ^ data[i]) & 0xFF];
+		}
+		return crc;
+	}
+
+	/**
+	 * Permet de calculer le CRC des octets spécifiés, sans modifier la
+	 * position du buffer.
+	 * 
+	 * @param data
+	 *            Buffer contenant les octets.
+	 * @param offset
+	 *            Position absolue du premier octet.
+	 * @param length
+	 *            Nombre d'octets.
+	 * @return CRC sur 16 bits.
+	 * @see #compute(byte[], int, int)
+	 */
+	public static int compute (final ByteBuffer data, final int offset, final int length) {
+		if (data.hasArray()) {
+			return compute(data.array(), data.arrayOffset() + offset, length);
+		}
+		int crc = 0xFFFF;
+		for (int i = offset, end = offset + length; i < end; i++) {
+			crc = (crc >>> 8) ^ TABLE[(crc ^ data.get(i)) & 0xFF];
+		}
+		return crc;
+	}
+}
\ No newline at end of file
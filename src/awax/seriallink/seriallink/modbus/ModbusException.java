@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.modbus;
+
+import awax.seriallink.seriallink.SerialLinkConnectionException;
+
+/**
+ * Permet de créer une exception notifiant l'échec d'une transaction Modbus :
+ * réponse d'exception de l'esclave, réponse absente ou corrompue.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class ModbusException extends SerialLinkConnectionException {
+
+	private static final long serialVersionUID = 4172033861420515763L;
+
+	/** Code d'exception : fonction non supportée par l'esclave. */
+	public static final int ILLEGAL_FUNCTION = 0x01;
+
+	/** Code d'exception : adresse de donnée invalide. */
+	public static final int ILLEGAL_DATA_ADDRESS = 0x02;
+
+	/** Code d'exception : valeur de donnée invalide. */
+	public static final int ILLEGAL_DATA_VALUE = 0x03;
+
+	/** Code d'exception : défaillance de l'esclave. */
+	public static final int SLAVE_DEVICE_FAILURE = 0x04;
+
+	private final int exceptionCode;
+
+	/**
+	 * Permet de construire une exception ne provenant pas de l'esclave
+	 * (délai de réponse expiré, CRC invalide...).
+	 * 
+	 * @param message
+	 *            Message d'erreur associé à l'exception.
+	 */
+	public ModbusException (String message) {
+		super(message);
+		this.exceptionCode = 0;
+	}
+
+	/**
+	 * Permet de construire une exception à partir d'une réponse d'exception
+	 * de l'esclave.
+	 * 
+	 * @param message
+	 *            Message d'erreur associé à l'exception.
+	 * @param exceptionCode
+	 *            Code d'exception renvoyé par l'esclave.
+	 */
+	public ModbusException (String message, int exceptionCode) {
+		super(message + " (exception code " + exceptionCode + ")");
+		this.exceptionCode = exceptionCode;
+	}
+
+	/**
+	 * Renvoie le code d'exception renvoyé par l'esclave.
+	 * 
+	 * @return Code d'exception, ou 0 si l'erreur ne provient pas de
+	 *         l'esclave.
+	 */
+	public int getExceptionCode () {
+		return this.exceptionCode;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,754 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.modbus;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import awax.seriallink.seriallink.ReceiveMode;
+import awax.seriallink.seriallink.SerialLinkClient;
+import awax.seriallink.seriallink.SerialLinkConnectionException;
+import awax.seriallink.seriallink.SerialLinkDataEvent;
+import awax.seriallink.seriallink.SerialLinkDataListener;
+import awax.seriallink.seriallink.SerialLinkParameters;
+
+/**
+ * Maître Modbus RTU s'appuyant sur un client de liaison série. Les
+ * transactions sont exécutées l'une après l'autre par le thread appelant,
+ * comme l'impose le bus : la requête est émise après un silence de 3,5 temps
+ * caractère, puis la réponse est attendue jusqu'à sa longueur attendue,
+ * déduite du code fonction, ou jusqu'à expiration du délai de réponse.
+ * <p>
+ * Les trames sont encodées et décodées dans des buffers réutilisés, et les
+ * données lues sont copiées dans les tableaux fournis par l'appelant. Le
+ * maître s'abonne aux données brutes du client : aucun découpeur ne doit
+ * être installé, et le mode de réception {@link ReceiveMode#GAP} réduit la
+ * latence (voir {@link #configure(SerialLinkParameters)}).
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class ModbusMaster implements SerialLinkDataListener {
+
+	/** Lecture de bobines. */
+	public static final int READ_COILS = 0x01;
+
+	/** Lecture d'entrées discrètes. */
+	public static final int READ_DISCRETE_INPUTS = 0x02;
+
+	/** Lecture de registres de maintien. */
+	public static final int READ_HOLDING_REGISTERS = 0x03;
+
+	/** Lecture de registres d'entrée. */
+	public static final int READ_INPUT_REGISTERS = 0x04;
+
+	/** Ecriture d'une bobine. */
+	public static final int WRITE_SINGLE_COIL = 0x05;
+
+	/** Ecriture d'un registre. */
+	public static final int WRITE_SINGLE_REGISTER = 0x06;
+
+	/** Ecriture de plusieurs registres. */
+	public static final int WRITE_MULTIPLE_REGISTERS = 0x10;
+
+	/** Nombre maximal de registres lus par requête. */
+	public static final int MAX_READ_REGISTERS = 125;
+
+	/** Nombre maximal de registres écrits par requête. */
+	public static final int MAX_WRITE_REGISTERS = 123;
+
+	/** Nombre maximal de bits lus par requête. */
+	public static final int MAX_READ_BITS = 2000;
+
+	/** Adresse de diffusion, sans réponse des esclaves. */
+	public static final int BROADCAST = 0;
+
+	/** Délai de réponse par défaut en millisecondes. */
+	public static final long DEFAULT_RESPONSE_TIMEOUT = 1000;
+
+	/** Délai par défaut laissé aux esclaves après une diffusion, en millisecondes. */
+	public static final long DEFAULT_TURNAROUND_DELAY = 100;
+
+	/** Taille maximale d'une trame RTU. */
+	private static final int MAX_ADU_LENGTH = 256;
+
+	/** Silence inter-trames fixé par la norme au-delà de 19200 bauds. */
+	private static final long FIXED_SILENCE_NANOS = TimeUnit.MICROSECONDS.toNanos(1750);
+
+	private final SerialLinkClient client;
+	private final ReentrantLock transactionLock;
+	private final ReentrantLock responseLock;
+	private final Condition responded;
+	private final byte[] request;
+	private final ByteBuffer requestView;
+	private final byte[] response;
+	private int responseLength;
+	private int expectedLength;
+	private boolean waiting;
+	private long lastReceive;
+	private volatile long idleTime;
+	private volatile long responseTimeoutNanos;
+	private volatile long turnaroundNanos;
+
+	private volatile long transactionCount;
+	private volatile long responseCount;
+	private volatile long timeoutCount;
+	private volatile long crcErrorCount;
+	private volatile long exceptionCount;
+	private volatile long transactionNanos;
+
+	/**
+	 * Permet d'instancier un maître sur le client spécifié, auquel il
+	 * s'abonne.
+	 * 
+	 * @param client
+	 *            Client de la liaison série.
+	 */
+	public ModbusMaster (final SerialLinkClient client) {
+		this.client = client;
+		this.transactionLock = new ReentrantLock();
+		this.responseLock = new ReentrantLock();
+		this.responded = this.responseLock.newCondition();
+		this.request = new byte[MAX_ADU_LENGTH];
+		this.requestView = ByteBuffer.wrap(this.request);
+		this.response = new byte[MAX_ADU_LENGTH];
+		this.responseLength = 0;
+		this.expectedLength = -1;
+		this.waiting = false;
+		this.lastReceive = 0;
+		this.idleTime = System.nanoTime();
+		this.responseTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_RESPONSE_TIMEOUT);
+		this.turnaroundNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_TURNAROUND_DELAY);
+		this.transactionCount = 0;
+		this.responseCount = 0;
+		this.timeoutCount = 0;
+		this.crcErrorCount = 0;
+		this.exceptionCount = 0;
+		this.transactionNanos = 0;
+		client.addSerialDataListener(this);
+	}
+
+	/**
+	 * Permet d'adapter des paramètres de liaison à Modbus RTU : la réception
+	 * est notifiée après un silence de 1,5 temps caractère, délai
+	 * inter-caractères de la norme.
+	 * 
+	 * @param params
+	 *            Paramètres de la liaison à adapter.
+	 */
+	public static void configure (final SerialLinkParameters params) {
+		params.setReceiveMode(ReceiveMode.GAP);
+		params.setGapChars(1.5);
+	}
+
+	/**
+	 * Renvoie la durée du silence séparant deux trames (3,5 temps caractère,
+	 * fixée à 1,75 ms au-delà de 19200 bauds).
+	 * 
+	 * @param params
+	 *            Paramètres de la liaison.
+	 * @return Durée du silence inter-trames en nanosecondes.
+	 */
+	public static long getSilenceNanos (final SerialLinkParameters params) {
+		if (params.getBaudRate() > 19200) {
+			return FIXED_SILENCE_NANOS;
+		}
+		return (long) Math.ceil(3.5 * params.getCharTimeNanos());
+	}
+
+	/**
+	 * Permet de se désabonner du client.
+	 */
+	public void close () {
+		this.client.removeSerialDataListener(this);
+	}
+
+	/**
+	 * Permet de lire des registres de maintien.
+	 * 
+	 * @param slave
+	 *            Adresse de l'esclave, hors {@link #BROADCAST}.
+	 * @param address
+	 *            Adresse du premier registre.
+	 * @param quantity
+	 *            Nombre de registres, au plus {@link #MAX_READ_REGISTERS}.
+	 * @param dst
+	 *            Tableau recevant les valeurs non signées des registres.
+	 * @param offset
+	 *            Position de la première valeur dans le tableau.
+	 * @throws SerialLinkConnectionException
+	 *             Si la transaction échoue ({@link ModbusException} si
+	 *             l'esclave ne répond pas ou répond en erreur).
+	 */
+	public void readHoldingRegisters (final int slave, final int address, final int quantity, final int[] dst,
+			final int offset) throws SerialLinkConnectionException {
+		readRegisters(READ_HOLDING_REGISTERS, slave, address, quantity, dst, offset);
+	}
+
+	/**
+	 * Permet de lire des registres d'entrée.
+	 * 
+	 * @param slave
+	 *            Adresse de l'esclave, hors {@link #BROADCAST}.
+	 * @param address
+	 *            Adresse du premier registre.
+	 * @param quantity
+	 *            Nombre de registres, au plus {@link #MAX_READ_REGISTERS}.
+	 * @param dst
+	 *            Tableau recevant les valeurs non signées des registres.
+	 * @param offset
+	 *            Position de la première valeur dans le tableau.
+	 * @throws SerialLinkConnectionException
+	 *             Si la transaction échoue.
+	 * @see #readHoldingRegisters(int, int, int, int[], int)
+	 */
+	public void readInputRegisters (final int slave, final int address, final int quantity, final int[] dst,
+			final int offset) throws SerialLinkConnectionException {
+		readRegisters(READ_INPUT_REGISTERS, slave, address, quantity, dst, offset);
+	}
+
+	/**
+	 * Permet de lire des registres avec le code fonction spécifié.
+	 * 
+	 * @param function
+	 *            {@link #READ_HOLDING_REGISTERS} ou
+	 *            {@link #READ_INPUT_REGISTERS}.
+	 * @param slave
+	 *            Adresse de l'esclave, hors {@link #BROADCAST}.
+	 * @param address
+	 *            Adresse du premier registre.
+	 * @param quantity
+	 *            Nombre de registres.
+	 * @param dst
+	 *            Tableau recevant les valeurs non signées des registres.
+	 * @param offset
+	 *            Position de la première valeur dans le tableau.
+	 * @throws SerialLinkConnectionException
+	 *             Si la transaction échoue.
+	 */
+	public void readRegisters (final int function, final int slave, final int address, final int quantity,
+			final int[] dst, final int offset) throws SerialLinkConnectionException {
+		if (function != READ_HOLDING_REGISTERS && function != READ_INPUT_REGISTERS) {
+			throw new IllegalArgumentException("Invalid register read function : " + function);
+		}
+		checkReadSlave(slave);
+		checkRange(address, quantity, MAX_READ_REGISTERS);
+		this.transactionLock.lock();
+		try {
+			int length = encodeHeader(slave, function, address, quantity);
+			transact(length);
+			if ((this.response[2] & 0xFF) != quantity * 2) {
+				throw new ModbusException("Invalid byte count in response : " + (this.response[2] & 0xFF));
+			}
+			for (int i = 0; i < quantity; i++) {
+				dst[offset + i] = (this.response[3 + 2 * i] & 0xFF) << 8 | this.response[4 + 2 * i] & 0xFF;
+			}
+		} finally {
+			this.transactionLock.unlock();
+		}
+	}
+
+	/**
+	 * Permet de lire des bobines.
+	 * 
+	 * @param slave
+	 *            Adresse de l'esclave, hors {@link #BROADCAST}.
+	 * @param address
+	 *            Adresse de la première bobine.
+	 * @param quantity
+	 *            Nombre de bobines, au plus {@link #MAX_READ_BITS}.
+	 * @param dst
+	 *            Tableau recevant l'état des bobines.
+	 * @param offset
+	 *            Position du premier état dans le tableau.
+	 * @throws SerialLinkConnectionException
+	 *             Si la transaction échoue.
+	 */
+	public void readCoils (final int slave, final int address, final int quantity, final boolean[] dst,
+			final int offset) throws SerialLinkConnectionException {
+		readBits(READ_COILS, slave, address, quantity, dst, offset);
+	}
+
+	/**
+	 * Permet de lire des entrées discrètes.
+	 * 
+	 * @param slave
+	 *            Adresse de l'esclave, hors {@link #BROADCAST}.
+	 * @param address
+	 *            Adresse de la première entrée.
+	 * @param quantity
+	 *            Nombre d'entrées, au plus {@link #MAX_READ_BITS}.
+	 * @param dst
+	 *            Tableau recevant l'état des entrées.
+	 * @param offset
+	 *            Position du premier état dans le tableau.
+	 * @throws SerialLinkConnectionException
+	 *             Si la transaction échoue.
+	 */
+	public void readDiscreteInputs (final int slave, final int address, final int quantity, final boolean[] dst,
+			final int offset) throws SerialLinkConnectionException {
+		readBits(READ_DISCRETE_INPUTS, slave, address, quantity, dst, offset);
+	}
+
+	/**
+	 * Permet de lire des bits avec le code fonction spécifié.
+	 * 
+	 * @param function
+	 *            Code fonction.
+	 * @param slave
+	 *            Adresse de l'esclave, hors {@link #BROADCAST}.
+	 * @param address
+	 *            Adresse du premier bit.
+	 * @param quantity
+	 *            Nombre de bits.
+	 * @param dst
+	 *            Tableau recevant les bits.
+	 * @param offset
+	 *            Position du premier bit dans le tableau.
+	 * @throws SerialLinkConnectionException
+	 *             Si la transaction échoue.
+	 */
+	private void readBits (final int function, final int slave, final int address, final int quantity,
+			final boolean[] dst, final int offset) throws SerialLinkConnectionException {
+		checkReadSlave(slave);
+		checkRange(address, quantity, MAX_READ_BITS);
+		this.transactionLock.lock();
+		try {
+			int length = encodeHeader(slave, function, address, quantity);
+			transact(length);
+			if ((this.response[2] & 0xFF) != (quantity + 7) / 8) {
+				throw new ModbusException("Invalid byte count in response : " + (this.response[2] & 0xFF));
+			}
+			for (int i = 0; i < quantity; i++) {
+				dst[offset + i] = (this.response[3 + (i >> 3)] & 1 << (i & 7)) != 0;
+			}
+		} finally {
+			this.transactionLock.unlock();
+		}
+	}
+
+	/**
+	 * Permet d'écrire un registre.
+	 * 
+	 * @param slave
+	 *            Adresse de l'esclave, ou {@link #BROADCAST}.
+	 * @param address
+	 *            Adresse du registre.
+	 * @param value
+	 *            Valeur sur 16 bits.
+	 * @throws SerialLinkConnectionException
+	 *             Si la transaction échoue.
+	 */
+	public void writeSingleRegister (final int slave, final int address, final int value)
+			throws SerialLinkConnectionException {
+		checkRange(address, 1, 1);
+		this.transactionLock.lock();
+		try {
+			transact(encodeHeader(slave, WRITE_SINGLE_REGISTER, address, value & 0xFFFF));
+		} finally {
+			this.transactionLock.unlock();
+		}
+	}
+
+	/**
+	 * Permet d'écrire une bobine.
+	 * 
+	 * @param slave
+	 *            Adresse de l'esclave, ou {@link #BROADCAST}.
+	 * @param address
+	 *            Adresse de la bobine.
+	 * @param value
+	 *            Etat de la bobine.
+	 * @throws SerialLinkConnectionException
+	 *             Si la transaction échoue.
+	 */
+	public void writeSingleCoil (final int slave, final int address, final boolean value)
+			throws SerialLinkConnectionException {
+		checkRange(address, 1, 1);
+		this.transactionLock.lock();
+		try {
+			transact(encodeHeader(slave, WRITE_SINGLE_COIL, address, value ? 0xFF00 : 0x0000));
+		} finally {
+			this.transactionLock.unlock();
+		}
+	}
+
+	/**
+	 * Permet d'écrire plusieurs registres consécutifs.
+	 * 
+	 * @param slave
+	 *            Adresse de l'esclave, ou {@link #BROADCAST}.
+	 * @param address
+	 *            Adresse du premier registre.
+	 * @param src
+	 *            Tableau contenant les valeurs sur 16 bits.
+	 * @param offset
+	 *            Position de la première valeur dans le tableau.
+	 * @param quantity
+	 *            Nombre de registres, au plus {@link #MAX_WRITE_REGISTERS}.
+	 * @throws SerialLinkConnectionException
+	 *             Si la transaction échoue.
+	 */
+	public void writeMultipleRegisters (final int slave, final int address, final int[] src, final int offset,
+			final int quantity) throws SerialLinkConnectionException {
+		checkRange(address, quantity, MAX_WRITE_REGISTERS);
+		this.transactionLock.lock();
+		try {
+			int length = encodeHeader(slave, WRITE_MULTIPLE_REGISTERS, address, quantity);
+			this.request[length++] = (byte) (quantity * 2);
+			for (int i = 0; i < quantity; i++) {
+				this.request[length++] = (byte) (src[offset + i] >> 8);
+				this.request[length++] = (byte) src[offset + i];
+			}
+			transact(length);
+		} finally {
+			this.transactionLock.unlock();
+		}
+	}
+
+	/**
+	 * Permet de vérifier l'adresse de l'esclave d'une lecture. Une lecture
+	 * attend une réponse et ne peut donc pas être diffusée.
+	 * 
+	 * @param slave
+	 *            Adresse de l'esclave.
+	 */
+	static void checkReadSlave (final int slave) {
+		if (slave == BROADCAST) {
+			throw new IllegalArgumentException("Modbus reads cannot be broadcast");
+		}
+		if (slave < 1 || slave > 247) {
+			throw new IllegalArgumentException("Invalid Modbus slave address : " + slave);
+		}
+	}
+
+	/**
+	 * Permet de vérifier une plage d'adresses.
+	 * 
+	 * @param address
+	 *            Adresse de début.
+	 * @param quantity
+	 *            Nombre d'éléments.
+	 * @param max
+	 *            Nombre maximal d'éléments par requête.
+	 */
+	private static void checkRange (final int address, final int quantity, final int max) {
+		if (address < 0 || quantity <= 0 || quantity > max || address + quantity > 0x10000) {
+			throw new IllegalArgumentException("Invalid Modbus range : " + address + ", " + quantity);
+		}
+	}
+
+	/**
+	 * Permet d'encoder l'en-tête commun à la plupart des requêtes : adresse
+	 * de l'esclave, code fonction et deux mots de 16 bits.
+	 * 
+	 * @param slave
+	 *            Adresse de l'esclave.
+	 * @param function
+	 *            Code fonction.
+	 * @param word1
+	 *            Premier mot (adresse).
+	 * @param word2
+	 *            Second mot (quantité ou valeur).
+	 * @return Longueur de la requête encodée, sans CRC.
+	 */
+	private int encodeHeader (final int slave, final int function, final int word1, final int word2) {
+		if (slave < 0 || slave > 247) {
+			throw new IllegalArgumentException("Invalid Modbus slave address : " + slave);
+		}
+		this.request[0] = (byte) slave;
+		this.request[1] = (byte) function;
+		this.request[2] = (byte) (word1 >> 8);
+		this.request[3] = (byte) word1;
+		this.request[4] = (byte) (word2 >> 8);
+		this.request[5] = (byte) word2;
+		return 6;
+	}
+
+	/**
+	 * Permet d'exécuter une transaction : ajout du CRC, respect du silence
+	 * inter-trames, émission de la requête puis attente et validation de la
+	 * réponse, laissée dans le buffer de réponse.
+	 * 
+	 * @param length
+	 *            Longueur de la requête encodée, sans CRC.
+	 * @throws SerialLinkConnectionException
+	 *             Si la transaction échoue.
+	 */
+	private void transact (int length) throws SerialLinkConnectionException {
+		final int crc = ModbusCrc.compute(this.request, 0, length);
+		this.request[length++] = (byte) crc;
+		this.request[length++] = (byte) (crc >> 8);
+		final SerialLinkParameters params = this.client.getSerialParams();
+		final long silence = getSilenceNanos(params);
+		final boolean broadcast = this.request[0] == BROADCAST;
+		final long start = System.nanoTime();
+
+		// Silence inter-trames depuis la dernière activité du bus
+		long delay;
+		while ((delay = this.idleTime - System.nanoTime()) > 0) {
+			LockSupport.parkNanos(delay);
+		}
+		this.responseLock.lock();
+		try {
+			this.responseLength = 0;
+			this.expectedLength = -1;
+			this.waiting = !broadcast;
+		} finally {
+			this.responseLock.unlock();
+		}
+		this.requestView.limit(length);
+		this.requestView.position(0);
+		try {
+			this.client.writeAsync(this.requestView).get();
+		} catch (ExecutionException e) {
+			stopWaiting();
+			if (e.getCause() instanceof SerialLinkConnectionException) {
+				throw (SerialLinkConnectionException) e.getCause();
+			}
+			throw new SerialLinkConnectionException(e.getMessage(), e.getCause());
+		} catch (InterruptedException e) {
+			stopWaiting();
+			Thread.currentThread().interrupt();
+			throw new SerialLinkConnectionException("Interrupted while writing a Modbus request", e);
+		}
+		// Les octets confiés au pilote restent à émettre
+		final long sent = System.nanoTime() + length * params.getCharTimeNanos();
+		this.transactionCount++;
+		if (broadcast) {
+			this.idleTime = sent + this.turnaroundNanos;
+			return;
+		}
+		final int responseLength = awaitResponse(sent + this.responseTimeoutNanos);
+		this.idleTime = this.lastReceive + silence;
+		this.responseCount++;
+		this.transactionNanos += System.nanoTime() - start;
+		decodeResponse(responseLength);
+	}
+
+	/**
+	 * Permet d'attendre la réponse complète de l'esclave.
+	 * 
+	 * @param deadline
+	 *            Instant d'expiration du délai de réponse.
+	 * @return Longueur de la réponse reçue.
+	 * @throws SerialLinkConnectionException
+	 *             Si le délai expire ou si l'attente est interrompue.
+	 */
+	private int awaitResponse (final long deadline) throws SerialLinkConnectionException {
+		this.responseLock.lock();
+		try {
+			while (this.expectedLength < 0 || this.responseLength < this.expectedLength) {
+				final long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					this.waiting = false;
+					this.timeoutCount++;
+					throw new ModbusException("No response from slave " + (this.request[0] & 0xFF));
+				}
+				this.responded.awaitNanos(remaining);
+			}
+			this.waiting = false;
+			return this.expectedLength;
+		} catch (InterruptedException e) {
+			this.waiting = false;
+			Thread.currentThread().interrupt();
+			throw new SerialLinkConnectionException("Interrupted while waiting for a Modbus response", e);
+		} finally {
+			this.responseLock.unlock();
+		}
+	}
+
+	/**
+	 * Permet d'abandonner l'attente de la réponse.
+	 */
+	private void stopWaiting () {
+		this.responseLock.lock();
+		try {
+			this.waiting = false;
+		} finally {
+			this.responseLock.unlock();
+		}
+	}
+
+	/**
+	 * Permet de valider la réponse reçue : CRC, adresse de l'esclave et code
+	 * fonction.
+	 * 
+	 * @param length
+	 *            Longueur de la réponse.
+	 * @throws ModbusException
+	 *             Si la réponse est invalide ou est une réponse d'exception.
+	 */
+	private void decodeResponse (final int length) throws ModbusException {
+		final int crc = ModbusCrc.compute(this.response, 0, length - 2);
+		if ((this.response[length - 2] & 0xFF | (this.response[length - 1] & 0xFF) << 8) != crc) {
+			this.crcErrorCount++;
+			throw new ModbusException("Invalid CRC in response from slave " + (this.request[0] & 0xFF));
+		}
+		if (this.response[0] != this.request[0]) {
+			throw new ModbusException("Response from unexpected slave " + (this.response[0] & 0xFF));
+		}
+		if (this.response[1] == (byte) (this.request[1] | 0x80)) {
+			this.exceptionCount++;
+			throw new ModbusException("Exception response from slave " + (this.request[0] & 0xFF),
+					this.response[2] & 0xFF);
+		}
+		if (this.response[1] != this.request[1]) {
+			throw new ModbusException("Unexpected function in response : " + (this.response[1] & 0xFF));
+		}
+	}
+
+	@Override
+	public void onData (final SerialLinkDataEvent event) {
+		final ByteBuffer data = event.getData();
+		this.responseLock.lock();
+		try {
+			// L'horodatage de l'évènement est celui du début de la rafale reçue :
+			// le silence court à partir de la notification, postérieure au
+			// dernier octet
+			this.lastReceive = System.nanoTime();
+			if (!this.waiting) {
+				// Octets hors transaction : le bus reste occupé
+				this.idleTime = Math.max(this.idleTime, this.lastReceive
+						+ getSilenceNanos(event.getParameters()));
+				return;
+			}
+			final int count = Math.min(data.remaining(), MAX_ADU_LENGTH - this.responseLength);
+			data.get(this.response, this.responseLength, count);
+			this.responseLength += count;
+			if (this.expectedLength < 0) {
+				this.expectedLength = getExpectedLength();
+			}
+			if (this.expectedLength >= 0 && this.responseLength >= this.expectedLength) {
+				this.responded.signal();
+			}
+		} finally {
+			this.responseLock.unlock();
+		}
+	}
+
+	/**
+	 * Permet de déduire la longueur de la réponse de ses premiers octets.
+	 * 
+	 * @return Longueur attendue, ou -1 si elle n'est pas encore connue.
+	 */
+	private int getExpectedLength () {
+		if (this.responseLength < 2) {
+			return -1;
+		}
+		final int function = this.response[1] & 0xFF;
+		if ((function & 0x80) != 0) {
+			return 5;
+		}
+		switch (function) {
+			case READ_COILS:
+			case READ_DISCRETE_INPUTS:
+			case READ_HOLDING_REGISTERS:
+			case READ_INPUT_REGISTERS:
+				return this.responseLength < 3 ? -1 : Math.min(5 + (this.response[2] & 0xFF), MAX_ADU_LENGTH);
+			default:
+				return 8;
+		}
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	public SerialLinkClient getClient () {
+		return this.client;
+	}
+
+	public long getResponseTimeout (final TimeUnit unit) {
+		return unit.convert(this.responseTimeoutNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Permet de spécifier le délai de réponse des esclaves, compté à partir de
+	 * la fin de l'émission de la requête.
+	 * 
+	 * @param timeout
+	 *            Délai de réponse.
+	 * @param unit
+	 *            Unité du délai.
+	 */
+	public void setResponseTimeout (final long timeout, final TimeUnit unit) {
+		if (timeout <= 0) {
+			throw new IllegalArgumentException("Invalid response timeout : " + timeout);
+		}
+		this.responseTimeoutNanos = unit.toNanos(timeout);
+	}
+
+	/**
+	 * Permet de spécifier le délai laissé aux esclaves pour traiter une
+	 * requête diffusée avant la requête suivante.
+	 * 
+	 * @param delay
+	 *            Délai après diffusion.
+	 * @param unit
+	 *            Unité du délai.
+	 */
+	public void setTurnaroundDelay (final long delay, final TimeUnit unit) {
+		if (delay < 0) {
+			throw new IllegalArgumentException("Invalid turnaround delay : " + delay);
+		}
+		this.turnaroundNanos = unit.toNanos(delay);
+	}
+
+	public long getTransactionCount () {
+		return this.transactionCount;
+	}
+
+	public long getResponseCount () {
+		return this.responseCount;
+	}
+
+	public long getTimeoutCount () {
+		return this.timeoutCount;
+	}
+
+	public long getCrcErrorCount () {
+		return this.crcErrorCount;
+	}
+
+	public long getExceptionCount () {
+		return this.exceptionCount;
+	}
+
+	/**
+	 * Renvoie la durée moyenne d'une transaction avec réponse, silence
+	 * inter-trames compris.
+	 * 
+	 * @return Durée moyenne en nanosecondes.
+	 */
+	public long getAverageTransactionNanos () {
+		final long count = this.responseCount;
+		return count == 0 ? 0 : this.transactionNanos / count;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.modbus;
+
+/**
+ * Lecture périodique de registres planifiée sur un {@link ModbusPoller}.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public final class ModbusPoll {
+
+	private final ModbusPoller poller;
+	private final int slave;
+	private final int function;
+	private final int address;
+	private final int quantity;
+	private final long periodNanos;
+	private final ModbusPollListener listener;
+	long deadline;
+	volatile boolean cancelled;
+
+	/**
+	 * Permet d'instancier une lecture périodique.
+	 * 
+	 * @param poller
+	 *            Planificateur de la lecture.
+	 * @param slave
+	 *            Adresse de l'esclave.
+	 * @param function
+	 *            Code fonction de lecture de registres.
+	 * @param address
+	 *            Adresse du premier registre.
+	 * @param quantity
+	 *            Nombre de registres.
+	 * @param periodNanos
+	 *            Période de la lecture en nanosecondes.
+	 * @param listener
+	 *            Ecouteur des valeurs lues.
+	 */
+	ModbusPoll (ModbusPoller poller, int slave, int function, int address, int quantity, long periodNanos,
+			ModbusPollListener listener) {
+		this.poller = poller;
+		this.slave = slave;
+		this.function = function;
+		this.address = address;
+		this.quantity = quantity;
+		this.periodNanos = periodNanos;
+		this.listener = listener;
+		this.deadline = 0;
+		this.cancelled = false;
+	}
+
+	/**
+	 * Permet d'annuler la lecture périodique.
+	 */
+	public void cancel () {
+		this.poller.cancel(this);
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	public int getSlave () {
+		return this.slave;
+	}
+
+	public int getFunction () {
+		return this.function;
+	}
+
+	public int getAddress () {
+		return this.address;
+	}
+
+	public int getQuantity () {
+		return this.quantity;
+	}
+
+	public long getPeriodNanos () {
+		return this.periodNanos;
+	}
+
+	public ModbusPollListener getListener () {
+		return this.listener;
+	}
+
+	public boolean isCancelled () {
+		return this.cancelled;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.modbus;
+
+import awax.seriallink.seriallink.SerialLinkConnectionException;
+
+/**
+ * Ecouteur des lectures périodiques d'un {@link ModbusPoller}. Les méthodes
+ * sont appelées par le thread du planificateur et doivent donc être brèves.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public interface ModbusPollListener {
+
+	/**
+	 * Cette méthode est appelée à chaque lecture réussie. Le tableau est
+	 * réutilisé par le planificateur : les valeurs ne sont valides que
+	 * pendant l'appel.
+	 * 
+	 * @param poll
+	 *            Lecture périodique concernée.
+	 * @param values
+	 *            Tableau contenant les valeurs non signées des registres.
+	 * @param offset
+	 *            Position de la valeur du premier registre de la lecture.
+	 */
+	public void onRegisters (ModbusPoll poll, int[] values, int offset);
+
+	/**
+	 * Cette méthode est appelée lorsque la lecture échoue.
+	 * 
+	 * @param poll
+	 *            Lecture périodique concernée.
+	 * @param e
+	 *            Cause de l'échec.
+	 */
+	public void onError (ModbusPoll poll, SerialLinkConnectionException e);
+}
\ No newline at end of file
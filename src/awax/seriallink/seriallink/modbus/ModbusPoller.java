@@ -0,0 +1,429 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.modbus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.log4j.Logger;
+
+import awax.seriallink.seriallink.SerialLinkConnectionException;
+
+/**
+ * Planificateur de lectures périodiques de registres sur un maître Modbus.
+ * Les lectures sont ordonnées par échéance ; lorsqu'une échéance arrive, les
+ * lectures du même esclave et du même code fonction dont l'échéance tombe
+ * dans la fenêtre de regroupement sont servies ensemble, les plages de
+ * registres adjacentes ou chevauchantes étant fusionnées en une seule
+ * requête. Une lecture en retard est replanifiée à partir de l'instant
+ * courant, sans rattrapage des périodes manquées.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class ModbusPoller implements Runnable {
+
+	/** Fenêtre de regroupement par défaut en millisecondes. */
+	public static final long DEFAULT_MERGE_WINDOW = 10;
+
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+	/** Ordre des lectures servies ensemble : esclave, fonction, adresse. */
+	private static final Comparator<ModbusPoll> RANGE_ORDER = new Comparator<ModbusPoll>() {
+
+		@Override
+		public int compare (ModbusPoll p1, ModbusPoll p2) {
+			if (p1.getSlave() != p2.getSlave()) {
+				return p1.getSlave() < p2.getSlave() ? -1 : 1;
+			}
+			if (p1.getFunction() != p2.getFunction()) {
+				return p1.getFunction() < p2.getFunction() ? -1 : 1;
+			}
+			return p1.getAddress() < p2.getAddress() ? -1 : p1.getAddress() == p2.getAddress() ? 0 : 1;
+		}
+	};
+
+	private final Logger logger;
+	private final ModbusMaster master;
+	private final ReentrantLock lock;
+	private final Condition changed;
+	private final PriorityQueue<ModbusPoll> schedule;
+	private final ArrayList<ModbusPoll> due;
+	private final int[] values;
+	private volatile long mergeWindowNanos;
+	private volatile int maxGap;
+	private Thread thread;
+	private volatile boolean running;
+
+	private volatile long requestCount;
+	private volatile long pollCount;
+	private volatile long lateCount;
+	private volatile long maxLatenessNanos;
+
+	/**
+	 * Permet d'instancier un planificateur sur le maître spécifié.
+	 * 
+	 * @param master
+	 *            Maître Modbus exécutant les lectures.
+	 */
+	public ModbusPoller (final ModbusMaster master) {
+		this.logger = Logger.getLogger(ModbusPoller.class);
+		this.master = master;
+		this.lock = new ReentrantLock();
+		this.changed = this.lock.newCondition();
+		this.schedule = new PriorityQueue<>(16, new Comparator<ModbusPoll>() {
+
+			@Override
+			public int compare (ModbusPoll p1, ModbusPoll p2) {
+				return Long.signum(p1.deadline - p2.deadline);
+			}
+		});
+		this.due = new ArrayList<>();
+		this.values = new int[ModbusMaster.MAX_READ_REGISTERS];
+		this.mergeWindowNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_MERGE_WINDOW);
+		this.maxGap = 0;
+		this.thread = null;
+		this.running = false;
+		this.requestCount = 0;
+		this.pollCount = 0;
+		this.lateCount = 0;
+		this.maxLatenessNanos = 0;
+	}
+
+	/**
+	 * Permet de planifier la lecture périodique de registres, dont la
+	 * première échéance est immédiate.
+	 * 
+	 * @param slave
+	 *            Adresse de l'esclave, hors {@link ModbusMaster#BROADCAST}.
+	 * @param function
+	 *            {@link ModbusMaster#READ_HOLDING_REGISTERS} ou
+	 *            {@link ModbusMaster#READ_INPUT_REGISTERS}.
+	 * @param address
+	 *            Adresse du premier registre.
+	 * @param quantity
+	 *            Nombre de registres, au plus
+	 *            {@link ModbusMaster#MAX_READ_REGISTERS}.
+	 * @param period
+	 *            Période de la lecture.
+	 * @param unit
+	 *            Unité de la période.
+	 * @param listener
+	 *            Ecouteur des valeurs lues.
+	 * @return Lecture périodique, permettant son annulation.
+	 */
+	public ModbusPoll schedule (final int slave, final int function, final int address, final int quantity,
+			final long period, final TimeUnit unit, final ModbusPollListener listener) {
+		if (function != ModbusMaster.READ_HOLDING_REGISTERS && function != ModbusMaster.READ_INPUT_REGISTERS) {
+			throw new IllegalArgumentException("Invalid register read function : " + function);
+		}
+		ModbusMaster.checkReadSlave(slave);
+		if (address < 0 || quantity <= 0 || quantity > ModbusMaster.MAX_READ_REGISTERS
+				|| address + quantity > 0x10000 || period <= 0 || listener == null) {
+			throw new IllegalArgumentException("Invalid Modbus poll : " + address + ", " + quantity + ", " + period);
+		}
+		final ModbusPoll poll = new ModbusPoll(this, slave, function, address, quantity, unit.toNanos(period),
+				listener);
+		this.lock.lock();
+		try {
+			poll.deadline = System.nanoTime();
+			this.schedule.add(poll);
+			this.changed.signal();
+		} finally {
+			this.lock.unlock();
+		}
+		return poll;
+	}
+
+	/**
+	 * Permet d'annuler une lecture périodique.
+	 * 
+	 * @param poll
+	 *            Lecture à annuler.
+	 */
+	void cancel (final ModbusPoll poll) {
+		this.lock.lock();
+		try {
+			poll.cancelled = true;
+			this.schedule.remove(poll);
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Permet de démarrer le thread du planificateur.
+	 */
+	public synchronized void start () {
+		if (this.thread == null) {
+			this.running = true;
+			this.thread = new Thread(this, "SerialLink-modbus-" + THREAD_COUNT.incrementAndGet());
+			this.thread.setDaemon(true);
+			this.thread.start();
+		}
+	}
+
+	/**
+	 * Permet d'arrêter le thread du planificateur, après la transaction en
+	 * cours.
+	 */
+	public void stop () {
+		Thread thread;
+		synchronized (this) {
+			thread = this.thread;
+			this.thread = null;
+			this.running = false;
+		}
+		if (thread != null) {
+			this.lock.lock();
+			try {
+				this.changed.signal();
+			} finally {
+				this.lock.unlock();
+			}
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Override
+	public void run () {
+		while (this.running) {
+			try {
+				if (!collectDue()) {
+					continue;
+				}
+			} catch (InterruptedException e) {
+				break;
+			}
+			Collections.sort(this.due, RANGE_ORDER);
+			int first = 0;
+			while (first < this.due.size()) {
+				first = serve(first);
+			}
+			reschedule();
+		}
+	}
+
+	/**
+	 * Permet d'attendre la prochaine échéance puis de retirer du planning les
+	 * lectures échues ou échéant dans la fenêtre de regroupement.
+	 * 
+	 * @return <code>true</code> si des lectures sont à servir.
+	 * @throws InterruptedException
+	 *             Si le thread est interrompu.
+	 */
+	private boolean collectDue () throws InterruptedException {
+		this.lock.lock();
+		try {
+			if (!this.running) {
+				return false;
+			}
+			final ModbusPoll next = this.schedule.peek();
+			if (next == null) {
+				this.changed.await();
+				return false;
+			}
+			final long now = System.nanoTime();
+			final long delay = next.deadline - now;
+			if (delay > 0) {
+				this.changed.awaitNanos(delay);
+				return false;
+			}
+			final long horizon = now + this.mergeWindowNanos;
+			ModbusPoll poll;
+			while ((poll = this.schedule.peek()) != null && poll.deadline - horizon <= 0) {
+				this.due.add(this.schedule.poll());
+				if (now - poll.deadline > 0) {
+					final long lateness = now - poll.deadline;
+					if (lateness > this.maxLatenessNanos) {
+						this.maxLatenessNanos = lateness;
+					}
+				}
+			}
+			return true;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Permet de servir les lectures échues à partir de l'indice spécifié, en
+	 * fusionnant les plages du même esclave et du même code fonction tant
+	 * qu'elles tiennent dans une requête.
+	 * 
+	 * @param first
+	 *            Indice de la première lecture à servir.
+	 * @return Indice de la première lecture non servie.
+	 */
+	private int serve (final int first) {
+		final ModbusPoll head = this.due.get(first);
+		final int start = head.getAddress();
+		int end = start + head.getQuantity();
+		int last = first + 1;
+		while (last < this.due.size()) {
+			final ModbusPoll poll = this.due.get(last);
+			final int pollEnd = poll.getAddress() + poll.getQuantity();
+			if (poll.getSlave() != head.getSlave() || poll.getFunction() != head.getFunction()
+					|| poll.getAddress() > end + this.maxGap
+					|| Math.max(end, pollEnd) - start > ModbusMaster.MAX_READ_REGISTERS) {
+				break;
+			}
+			end = Math.max(end, pollEnd);
+			last++;
+		}
+		SerialLinkConnectionException error = null;
+		try {
+			this.requestCount++;
+			this.master.readRegisters(head.getFunction(), head.getSlave(), start, end - start, this.values, 0);
+		} catch (SerialLinkConnectionException e) {
+			error = e;
+		}
+		for (int i = first; i < last; i++) {
+			final ModbusPoll poll = this.due.get(i);
+			this.pollCount++;
+			try {
+				if (error == null) {
+					poll.getListener().onRegisters(poll, this.values, poll.getAddress() - start);
+				} else {
+					poll.getListener().onError(poll, error);
+				}
+			} catch (RuntimeException e) {
+				this.logger.error("An error occured in a Modbus poll listener", e);
+			}
+		}
+		return last;
+	}
+
+	/**
+	 * Permet de replanifier les lectures servies à leur échéance suivante.
+	 */
+	private void reschedule () {
+		final long now = System.nanoTime();
+		this.lock.lock();
+		try {
+			for (ModbusPoll poll : this.due) {
+				if (poll.cancelled) {
+					continue;
+				}
+				poll.deadline += poll.getPeriodNanos();
+				if (poll.deadline - now < 0) {
+					// Période manquée : pas de rattrapage
+					this.lateCount++;
+					poll.deadline = now;
+				}
+				this.schedule.add(poll);
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		this.due.clear();
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	public long getMergeWindow (final TimeUnit unit) {
+		return unit.convert(this.mergeWindowNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Permet de spécifier la fenêtre de regroupement : les lectures échéant
+	 * dans cette fenêtre après l'échéance courante sont servies en avance
+	 * afin d'être fusionnées.
+	 * 
+	 * @param window
+	 *            Durée de la fenêtre.
+	 * @param unit
+	 *            Unité de la durée.
+	 */
+	public void setMergeWindow (final long window, final TimeUnit unit) {
+		if (window < 0) {
+			throw new IllegalArgumentException("Invalid merge window : " + window);
+		}
+		this.mergeWindowNanos = unit.toNanos(window);
+	}
+
+	public int getMaxGap () {
+		return this.maxGap;
+	}
+
+	/**
+	 * Permet de spécifier le nombre maximal de registres non demandés lus
+	 * entre deux plages fusionnées. Lire quelques registres inutiles coûte
+	 * moins qu'une requête supplémentaire ; 0 par défaut.
+	 * 
+	 * @param maxGap
+	 *            Nombre maximal de registres intercalaires.
+	 */
+	public void setMaxGap (final int maxGap) {
+		if (maxGap < 0) {
+			throw new IllegalArgumentException("Invalid gap : " + maxGap);
+		}
+		this.maxGap = maxGap;
+	}
+
+	/**
+	 * Renvoie le nombre de requêtes émises par le planificateur.
+	 * 
+	 * @return Nombre de requêtes.
+	 */
+	public long getRequestCount () {
+		return this.requestCount;
+	}
+
+	/**
+	 * Renvoie le nombre de lectures servies. Comparé au nombre de requêtes,
+	 * il mesure l'efficacité de la fusion des plages.
+	 * 
+	 * @return Nombre de lectures servies.
+	 */
+	public long getPollCount () {
+		return this.pollCount;
+	}
+
+	/**
+	 * Renvoie le nombre de périodes manquées faute de temps de bus.
+	 * 
+	 * @return Nombre de périodes manquées.
+	 */
+	public long getLateCount () {
+		return this.lateCount;
+	}
+
+	public long getMaxLatenessNanos () {
+		return this.maxLatenessNanos;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,316 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.modbus;
+
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import awax.seriallink.seriallink.transport.VirtualSerialPort;
+
+/**
+ * Esclave Modbus RTU simulé sur un port virtuel, tenant lieu d'équipement
+ * pour les essais et les mesures de débit du maître. L'esclave expose une
+ * table de registres de maintien, une table de registres d'entrée et une
+ * table de bobines, lues et écrites par les fonctions 0x01, 0x03 à 0x06 et
+ * 0x10.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class VirtualModbusSlave implements Runnable {
+
+	/** Délai d'attente au-delà duquel une trame incomplète est abandonnée. */
+	private static final long FRAME_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+	private final VirtualSerialPort port;
+	private final int unitId;
+	private final int[] holdingRegisters;
+	private final int[] inputRegisters;
+	private final boolean[] coils;
+	private final byte[] frame;
+	private final ByteBuffer rx;
+	private final ByteBuffer tx;
+	private int frameLength;
+	private Thread thread;
+	private volatile boolean running;
+	private volatile long requestCount;
+
+	/**
+	 * Permet d'instancier un esclave simulé.
+	 * 
+	 * @param port
+	 *            Port virtuel de l'esclave, homologue du port du maître.
+	 * @param unitId
+	 *            Adresse de l'esclave.
+	 * @param size
+	 *            Nombre de registres et de bobines de chaque table.
+	 */
+	public VirtualModbusSlave (final VirtualSerialPort port, final int unitId, final int size) {
+		this.port = port;
+		this.unitId = unitId;
+		this.holdingRegisters = new int[size];
+		this.inputRegisters = new int[size];
+		this.coils = new boolean[size];
+		this.frame = new byte[256];
+		this.rx = ByteBuffer.allocate(256);
+		this.tx = ByteBuffer.allocate(256);
+		this.frameLength = 0;
+		this.thread = null;
+		this.running = false;
+		this.requestCount = 0;
+	}
+
+	/**
+	 * Permet de démarrer le thread de l'esclave.
+	 */
+	public synchronized void start () {
+		if (this.thread == null) {
+			this.running = true;
+			this.thread = new Thread(this, "SerialLink-modbus-slave-" + THREAD_COUNT.incrementAndGet());
+			this.thread.setDaemon(true);
+			this.thread.start();
+		}
+	}
+
+	/**
+	 * Permet d'arrêter le thread de l'esclave.
+	 */
+	public void stop () {
+		Thread thread;
+		synchronized (this) {
+			thread = this.thread;
+			this.thread = null;
+			this.running = false;
+		}
+		if (thread != null) {
+			thread.interrupt();
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Override
+	public void run () {
+		try {
+			while (this.running) {
+				this.rx.clear();
+				final int count = this.port.read(this.rx, FRAME_TIMEOUT_NANOS, TimeUnit.NANOSECONDS);
+				if (count == 0) {
+					// Silence : trame incomplète abandonnée
+					this.frameLength = 0;
+					continue;
+				}
+				for (int i = 0; i < count; i++) {
+					if (this.frameLength < this.frame.length) {
+						this.frame[this.frameLength++] = this.rx.get(i);
+					}
+					final int expected = getRequestLength();
+					if (expected > 0 && this.frameLength >= expected) {
+						handle(expected);
+						this.frameLength = 0;
+					}
+				}
+			}
+		} catch (InterruptedIOException e) {
+			// Arrêt de l'esclave
+		}
+	}
+
+	/**
+	 * Permet de déduire la longueur de la requête de ses premiers octets.
+	 * 
+	 * @return Longueur attendue, ou -1 si elle n'est pas encore connue.
+	 */
+	private int getRequestLength () {
+		if (this.frameLength < 2) {
+			return -1;
+		}
+		if (this.frame[1] == ModbusMaster.WRITE_MULTIPLE_REGISTERS) {
+			return this.frameLength < 7 ? -1 : 9 + (this.frame[6] & 0xFF);
+		}
+		return 8;
+	}
+
+	/**
+	 * Permet de traiter une requête complète et d'y répondre.
+	 * 
+	 * @param length
+	 *            Longueur de la requête.
+	 * @throws InterruptedIOException
+	 *             Si l'esclave est arrêté pendant l'émission de la réponse.
+	 */
+	private void handle (final int length) throws InterruptedIOException {
+		final int unit = this.frame[0] & 0xFF;
+		if (unit != this.unitId && unit != ModbusMaster.BROADCAST) {
+			return;
+		}
+		final int crc = ModbusCrc.compute(this.frame, 0, length - 2);
+		if ((this.frame[length - 2] & 0xFF | (this.frame[length - 1] & 0xFF) << 8) != crc) {
+			return;
+		}
+		this.requestCount++;
+		final int function = this.frame[1] & 0xFF;
+		final int address = (this.frame[2] & 0xFF) << 8 | this.frame[3] & 0xFF;
+		final int value = (this.frame[4] & 0xFF) << 8 | this.frame[5] & 0xFF;
+		this.tx.clear();
+		this.tx.put((byte) this.unitId).put((byte) function);
+		switch (function) {
+			case ModbusMaster.READ_COILS:
+				if (!inRange(address, value, this.coils.length)) {
+					break;
+				}
+				this.tx.put((byte) ((value + 7) / 8));
+				for (int i = 0; i < value; i += 8) {
+					int bits = 0;
+					for (int bit = 0; bit < 8 && i + bit < value; bit++) {
+						bits |= this.coils[address + i + bit] ? 1 << bit : 0;
+					}
+					this.tx.put((byte) bits);
+				}
+				break;
+			case ModbusMaster.READ_HOLDING_REGISTERS:
+			case ModbusMaster.READ_INPUT_REGISTERS:
+				final int[] table = function == ModbusMaster.READ_HOLDING_REGISTERS ? this.holdingRegisters
+						: this.inputRegisters;
+				if (!inRange(address, value, table.length)) {
+					break;
+				}
+				this.tx.put((byte) (value * 2));
+				for (int i = 0; i < value; i++) {
+					this.tx.putShort((short) table[address + i]);
+				}
+				break;
+			case ModbusMaster.WRITE_SINGLE_COIL:
+				if (!inRange(address, 1, this.coils.length)) {
+					break;
+				}
+				this.coils[address] = value == 0xFF00;
+				this.tx.put(this.frame, 2, 4);
+				break;
+			case ModbusMaster.WRITE_SINGLE_REGISTER:
+				if (!inRange(address, 1, this.holdingRegisters.length)) {
+					break;
+				}
+				this.holdingRegisters[address] = value;
+				this.tx.put(this.frame, 2, 4);
+				break;
+			case ModbusMaster.WRITE_MULTIPLE_REGISTERS:
+				if (!inRange(address, value, this.holdingRegisters.length)) {
+					break;
+				}
+				for (int i = 0; i < value; i++) {
+					this.holdingRegisters[address + i] = (this.frame[7 + 2 * i] & 0xFF) << 8
+							| this.frame[8 + 2 * i] & 0xFF;
+				}
+				this.tx.put(this.frame, 2, 4);
+				break;
+			default:
+				exception(function, ModbusException.ILLEGAL_FUNCTION);
+				break;
+		}
+		if (unit == ModbusMaster.BROADCAST) {
+			return;
+		}
+		final int crcOut = ModbusCrc.compute(this.tx, 0, this.tx.position());
+		this.tx.put((byte) crcOut).put((byte) (crcOut >> 8));
+		this.tx.flip();
+		this.port.write(this.tx, true);
+	}
+
+	/**
+	 * Permet de vérifier une plage d'adresses, une réponse d'exception étant
+	 * préparée si elle est invalide.
+	 * 
+	 * @param address
+	 *            Adresse de début.
+	 * @param quantity
+	 *            Nombre d'éléments.
+	 * @param size
+	 *            Taille de la table.
+	 * @return <code>true</code> si la plage est valide.
+	 */
+	private boolean inRange (final int address, final int quantity, final int size) {
+		if (quantity > 0 && address + quantity <= size) {
+			return true;
+		}
+		exception(this.frame[1] & 0xFF, ModbusException.ILLEGAL_DATA_ADDRESS);
+		return false;
+	}
+
+	/**
+	 * Permet de préparer une réponse d'exception.
+	 * 
+	 * @param function
+	 *            Code fonction de la requête.
+	 * @param code
+	 *            Code d'exception.
+	 */
+	private void exception (final int function, final int code) {
+		this.tx.clear();
+		this.tx.put((byte) this.unitId).put((byte) (function | 0x80)).put((byte) code);
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	/**
+	 * Renvoie la table des registres de maintien, modifiable directement.
+	 * 
+	 * @return Registres de maintien.
+	 */
+	public int[] getHoldingRegisters () {
+		return this.holdingRegisters;
+	}
+
+	/**
+	 * Renvoie la table des registres d'entrée, modifiable directement.
+	 * 
+	 * @return Registres d'entrée.
+	 */
+	public int[] getInputRegisters () {
+		return this.inputRegisters;
+	}
+
+	/**
+	 * Renvoie la table des bobines, modifiable directement.
+	 * 
+	 * @return Bobines.
+	 */
+	public boolean[] getCoils () {
+		return this.coils;
+	}
+
+	public long getRequestCount () {
+		return this.requestCount;
+	}
+}
\ No newline at end of file
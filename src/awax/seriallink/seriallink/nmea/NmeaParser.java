@@ -0,0 +1,314 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.nmea;
+
+import java.nio.ByteBuffer;
+
+import org.apache.log4j.Logger;
+
+import awax.seriallink.seriallink.SerialLinkDataEvent;
+import awax.seriallink.seriallink.SerialLinkDataListener;
+import awax.seriallink.seriallink.SerialLinkListenerRegistry;
+
+/**
+ * Analyseur de phrases NMEA 0183 branché sur la réception d'un client, en
+ * tant qu'abonné aux données brutes. Les octets reçus sont assemblés en
+ * phrases quel que soit leur découpage, la somme de contrôle est vérifiée au
+ * fil de l'eau, puis chaque phrase valide est notifiée aux écouteurs via un
+ * curseur réutilisé ({@link NmeaSentence}) : aucune allocation n'est faite
+ * par phrase.
+ * <p>
+ * Les octets précédant le caractère de début d'une phrase (blocs de
+ * marquage, lignes parasites) sont ignorés. L'analyseur n'est pas
+ * thread-safe : il doit être alimenté par un seul thread, celui de réception
+ * du client.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class NmeaParser implements SerialLinkDataListener {
+
+	/** Longueur maximale par défaut d'une phrase, au-delà des 82 caractères de la norme. */
+	public static final int DEFAULT_MAX_LENGTH = 128;
+
+	private static final int IDLE = 0;
+	private static final int BODY = 1;
+	private static final int CHECKSUM_HIGH = 2;
+	private static final int CHECKSUM_LOW = 3;
+
+	private final Logger logger;
+	private final SerialLinkListenerRegistry<NmeaSentenceListener> listeners;
+	private final NmeaSentence sentence;
+	private final byte[] data;
+	private int state;
+	private int length;
+	private int checksum;
+	private int expected;
+	private volatile boolean checksumRequired;
+
+	private volatile long sentenceCount;
+	private volatile long checksumErrorCount;
+	private volatile long malformedCount;
+
+	/**
+	 * Permet d'instancier un analyseur acceptant des phrases d'au plus
+	 * {@link #DEFAULT_MAX_LENGTH} caractères.
+	 */
+	public NmeaParser () {
+		this(DEFAULT_MAX_LENGTH);
+	}
+
+	/**
+	 * Permet d'instancier un analyseur.
+	 * 
+	 * @param maxLength
+	 *            Longueur maximale d'une phrase.
+	 */
+	public NmeaParser (final int maxLength) {
+		if (maxLength < 8) {
+			throw new IllegalArgumentException("Invalid NMEA sentence length : " + maxLength);
+		}
+		this.logger = Logger.getLogger(NmeaParser.class);
+		this.listeners = new SerialLinkListenerRegistry<>(NmeaSentenceListener.class);
+		this.sentence = new NmeaSentence(maxLength);
+		this.data = this.sentence.getData();
+		this.state = IDLE;
+		this.length = 0;
+		this.checksum = 0;
+		this.expected = 0;
+		this.checksumRequired = true;
+		this.sentenceCount = 0;
+		this.checksumErrorCount = 0;
+		this.malformedCount = 0;
+	}
+
+	@Override
+	public void onData (final SerialLinkDataEvent event) {
+		parse(event.getData(), event.getTimestamp());
+	}
+
+	/**
+	 * Permet d'analyser les octets compris entre la position et la limite du
+	 * buffer spécifié, sans modifier sa position.
+	 * 
+	 * @param buffer
+	 *            Octets reçus.
+	 * @param timestamp
+	 *            Instant de réception.
+	 */
+	public void parse (final ByteBuffer buffer, final long timestamp) {
+		if (buffer.hasArray()) {
+			final int offset = buffer.arrayOffset();
+			parse(buffer.array(), offset + buffer.position(), buffer.remaining(), timestamp);
+		} else {
+			for (int i = buffer.position(); i < buffer.limit(); i++) {
+				accept(buffer.get(i), timestamp);
+			}
+		}
+	}
+
+	/**
+	 * Permet d'analyser les octets spécifiés.
+	 * 
+	 * @param bytes
+	 *            Tableau contenant les octets reçus.
+	 * @param offset
+	 *            Position du premier octet.
+	 * @param count
+	 *            Nombre d'octets.
+	 * @param timestamp
+	 *            Instant de réception.
+	 */
+	public void parse (final byte[] bytes, final int offset, final int count, final long timestamp) {
+		for (int i = offset, end = offset + count; i < end; i++) {
+			accept(bytes[i], timestamp);
+		}
+	}
+
+	/**
+	 * Permet de faire avancer l'automate d'un octet.
+	 * 
+	 * @param c
+	 *            Octet reçu.
+	 * @param timestamp
+	 *            Instant de réception.
+	 */
+	private void accept (final byte c, final long timestamp) {
+		switch (this.state) {
+			case IDLE:
+				if (c == '$' || c == '!') {
+					start(c);
+				}
+				break;
+			case BODY:
+				if (c == '*') {
+					this.state = CHECKSUM_HIGH;
+				} else if (c == '\r' || c == '\n') {
+					// Phrase sans somme de contrôle
+					this.state = IDLE;
+					if (this.checksumRequired) {
+						this.checksumErrorCount++;
+					} else {
+						dispatch(timestamp);
+					}
+				} else if (c == '$' || c == '!') {
+					this.malformedCount++;
+					start(c);
+				} else if (this.length == this.data.length) {
+					this.malformedCount++;
+					this.state = IDLE;
+				} else {
+					this.data[this.length++] = c;
+					this.checksum ^= c;
+				}
+				break;
+			case CHECKSUM_HIGH:
+			case CHECKSUM_LOW:
+				final int digit = Character.digit(c, 16);
+				if (digit < 0) {
+					this.malformedCount++;
+					this.state = IDLE;
+					if (c == '$' || c == '!') {
+						start(c);
+					}
+				} else if (this.state == CHECKSUM_HIGH) {
+					this.expected = digit << 4;
+					this.state = CHECKSUM_LOW;
+				} else {
+					this.state = IDLE;
+					if ((this.expected | digit) == (this.checksum & 0xFF)) {
+						dispatch(timestamp);
+					} else {
+						this.checksumErrorCount++;
+					}
+				}
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * Permet de commencer une nouvelle phrase.
+	 * 
+	 * @param c
+	 *            Caractère de début.
+	 */
+	private void start (final byte c) {
+		this.data[0] = c;
+		this.length = 1;
+		this.checksum = 0;
+		this.state = BODY;
+	}
+
+	/**
+	 * Permet de notifier les écouteurs de la phrase assemblée.
+	 * 
+	 * @param timestamp
+	 *            Instant de réception.
+	 */
+	private void dispatch (final long timestamp) {
+		this.sentenceCount++;
+		this.sentence.split(this.length, timestamp);
+		final NmeaSentenceListener[] listeners = this.listeners.snapshot();
+		for (int i = 0; i < listeners.length; i++) {
+			try {
+				listeners[i].onSentence(this.sentence);
+			} catch (RuntimeException e) {
+				this.logger.error("An error occured in a NMEA sentence listener", e);
+			}
+		}
+	}
+
+	/**
+	 * Permet de réinitialiser l'automate, la phrase en cours étant abandonnée.
+	 */
+	public void reset () {
+		this.state = IDLE;
+		this.length = 0;
+	}
+
+	/**
+	 * Permet d'ajouter un écouteur des phrases reçues.
+	 * 
+	 * @param listener
+	 *            Ecouteur à ajouter.
+	 */
+	public void addSentenceListener (final NmeaSentenceListener listener) {
+		if (listener != null) {
+			this.listeners.add(listener);
+		}
+	}
+
+	/**
+	 * Permet de retirer un écouteur des phrases reçues.
+	 * 
+	 * @param listener
+	 *            Ecouteur à retirer.
+	 * @return <code>true</code> si l'écouteur a été retiré.
+	 */
+	public boolean removeSentenceListener (final NmeaSentenceListener listener) {
+		return this.listeners.remove(listener);
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	public boolean isChecksumRequired () {
+		return this.checksumRequired;
+	}
+
+	/**
+	 * Permet d'accepter les phrases dépourvues de somme de contrôle, que la
+	 * norme tolère pour certains types. Les phrases comportant une somme de
+	 * contrôle invalide restent rejetées.
+	 * 
+	 * @param checksumRequired
+	 *            <code>false</code> pour accepter les phrases sans somme de
+	 *            contrôle.
+	 */
+	public void setChecksumRequired (final boolean checksumRequired) {
+		this.checksumRequired = checksumRequired;
+	}
+
+	public long getSentenceCount () {
+		return this.sentenceCount;
+	}
+
+	public long getChecksumErrorCount () {
+		return this.checksumErrorCount;
+	}
+
+	/**
+	 * Renvoie le nombre de phrases abandonnées parce que tronquées, trop
+	 * longues ou mal formées.
+	 * 
+	 * @return Nombre de phrases mal formées.
+	 */
+	public long getMalformedCount () {
+		return this.malformedCount;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,457 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.nmea;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Curseur sur une phrase NMEA 0183 reçue, réutilisé d'une phrase à l'autre
+ * par l'analyseur. Les champs sont lus directement dans les octets reçus :
+ * les nombres, heures et coordonnées sont décodés sans chaîne de caractères
+ * intermédiaire.
+ * <p>
+ * Le champ 0 est le champ d'adresse (identifiant de l'émetteur et type de
+ * phrase, par exemple <code>GPGGA</code>), les champs de données commencent
+ * à l'indice 1. La somme de contrôle n'est pas un champ.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public final class NmeaSentence {
+
+	private static final long[] POW10 = new long[19];
+
+	static {
+		POW10[0] = 1;
+		for (int i = 1; i < POW10.length; i++) {
+			POW10[i] = POW10[i - 1] * 10;
+		}
+	}
+
+	private final byte[] data;
+	private final int[] fieldStart;
+	private final int[] fieldEnd;
+	private int length;
+	private int fieldCount;
+	private long timestamp;
+	private int scale;
+
+	/**
+	 * Permet d'instancier un curseur.
+	 * 
+	 * @param maxLength
+	 *            Longueur maximale d'une phrase.
+	 */
+	NmeaSentence (final int maxLength) {
+		this.data = new byte[maxLength];
+		// Une phrase de maxLength caractères compte au plus maxLength champs
+		this.fieldStart = new int[maxLength];
+		this.fieldEnd = new int[maxLength];
+		this.length = 0;
+		this.fieldCount = 0;
+		this.timestamp = 0;
+		this.scale = 0;
+	}
+
+	/**
+	 * Permet de découper la phrase contenue dans le buffer en champs.
+	 * 
+	 * @param length
+	 *            Longueur de la phrase, sans somme de contrôle, à partir du
+	 *            caractère de début.
+	 * @param timestamp
+	 *            Instant de réception.
+	 */
+	void split (final int length, final long timestamp) {
+		this.length = length;
+		this.timestamp = timestamp;
+		this.fieldCount = 0;
+		int start = 1;
+		for (int i = 1; i <= length; i++) {
+			if (i == length || this.data[i] == ',') {
+				this.fieldStart[this.fieldCount] = start;
+				this.fieldEnd[this.fieldCount] = i;
+				this.fieldCount++;
+				start = i + 1;
+			}
+		}
+	}
+
+	/**
+	 * Permet de vérifier que le type de la phrase est celui spécifié, quel
+	 * que soit l'émetteur.
+	 * 
+	 * @param type
+	 *            Type de phrase, par exemple <code>GGA</code> ou
+	 *            <code>VDM</code>.
+	 * @return <code>true</code> si le champ d'adresse se termine par le type
+	 *         spécifié.
+	 */
+	public boolean isType (final String type) {
+		final int end = this.fieldEnd[0];
+		final int start = end - type.length();
+		if (start < this.fieldStart[0]) {
+			return false;
+		}
+		for (int i = 0; i < type.length(); i++) {
+			if (this.data[start + i] != type.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Permet de comparer un champ à la chaîne spécifiée.
+	 * 
+	 * @param field
+	 *            Indice du champ.
+	 * @param value
+	 *            Valeur attendue.
+	 * @return <code>true</code> si le champ est égal à la valeur.
+	 */
+	public boolean fieldEquals (final int field, final String value) {
+		final int start = this.fieldStart[checkField(field)];
+		if (this.fieldEnd[field] - start != value.length()) {
+			return false;
+		}
+		for (int i = 0; i < value.length(); i++) {
+			if (this.data[start + i] != value.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Permet de savoir si un champ est vide ou absent.
+	 * 
+	 * @param field
+	 *            Indice du champ.
+	 * @return <code>true</code> si le champ est vide ou absent.
+	 */
+	public boolean isEmpty (final int field) {
+		return field >= this.fieldCount || this.fieldEnd[field] == this.fieldStart[field];
+	}
+
+	/**
+	 * Renvoie le premier caractère d'un champ, par exemple un indicateur
+	 * (<code>A</code>/<code>V</code>, <code>N</code>/<code>S</code>...).
+	 * 
+	 * @param field
+	 *            Indice du champ.
+	 * @return Premier caractère, ou <code>0</code> si le champ est vide.
+	 */
+	public char getChar (final int field) {
+		return isEmpty(field) ? 0 : (char) (this.data[this.fieldStart[field]] & 0xFF);
+	}
+
+	/**
+	 * Renvoie la valeur entière d'un champ.
+	 * 
+	 * @param field
+	 *            Indice du champ.
+	 * @param defaultValue
+	 *            Valeur renvoyée si le champ est vide.
+	 * @return Valeur du champ.
+	 * @throws NumberFormatException
+	 *             Si le champ n'est pas un entier ou dépasse la capacité d'un
+	 *             <code>long</code>.
+	 */
+	public long getLong (final int field, final long defaultValue) {
+		if (isEmpty(field)) {
+			return defaultValue;
+		}
+		int i = this.fieldStart[field];
+		final int end = this.fieldEnd[field];
+		final boolean negative = this.data[i] == '-';
+		if (negative || this.data[i] == '+') {
+			i++;
+		}
+		if (i == end) {
+			throw invalid(field);
+		}
+		// Accumulation en négatif pour accepter Long.MIN_VALUE
+		final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long value = 0;
+		for (; i < end; i++) {
+			final int digit = this.data[i] - '0';
+			if (digit < 0 || digit > 9 || value < (limit + digit) / 10) {
+				throw invalid(field);
+			}
+			value = value * 10 - digit;
+		}
+		return negative ? value : -value;
+	}
+
+	/**
+	 * Renvoie la valeur entière d'un champ.
+	 * 
+	 * @param field
+	 *            Indice du champ.
+	 * @param defaultValue
+	 *            Valeur renvoyée si le champ est vide.
+	 * @return Valeur du champ.
+	 * @throws NumberFormatException
+	 *             Si le champ n'est pas un entier ou dépasse la capacité d'un
+	 *             <code>int</code>.
+	 * @see #getLong(int, long)
+	 */
+	public int getInt (final int field, final int defaultValue) {
+		final long value = getLong(field, defaultValue);
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			throw invalid(field);
+		}
+		return (int) value;
+	}
+
+	/**
+	 * Renvoie la valeur décimale d'un champ (notation à virgule fixe, sans
+	 * exposant).
+	 * 
+	 * @param field
+	 *            Indice du champ.
+	 * @return Valeur du champ, ou {@link Double#NaN} si le champ est vide.
+	 * @throws NumberFormatException
+	 *             Si le champ n'est pas un nombre décimal.
+	 */
+	public double getDouble (final int field) {
+		if (isEmpty(field)) {
+			return Double.NaN;
+		}
+		final long mantissa = parseDecimal(field);
+		return (double) mantissa / POW10[this.scale];
+	}
+
+	/**
+	 * Renvoie la latitude codée dans un champ <code>ddmm.mmmm</code> suivi du
+	 * champ d'hémisphère <code>N</code>/<code>S</code>.
+	 * 
+	 * @param field
+	 *            Indice du champ de latitude.
+	 * @return Latitude en degrés décimaux, négative au sud, ou
+	 *         {@link Double#NaN} si le champ est vide.
+	 */
+	public double getLatitude (final int field) {
+		return getCoordinate(field, 'S');
+	}
+
+	/**
+	 * Renvoie la longitude codée dans un champ <code>dddmm.mmmm</code> suivi
+	 * du champ d'hémisphère <code>E</code>/<code>W</code>.
+	 * 
+	 * @param field
+	 *            Indice du champ de longitude.
+	 * @return Longitude en degrés décimaux, négative à l'ouest, ou
+	 *         {@link Double#NaN} si le champ est vide.
+	 */
+	public double getLongitude (final int field) {
+		return getCoordinate(field, 'W');
+	}
+
+	/**
+	 * Permet de décoder une coordonnée en degrés et minutes décimales. Les
+	 * degrés et les minutes sont séparés sur la mantisse entière, sans
+	 * arrondi intermédiaire.
+	 * 
+	 * @param field
+	 *            Indice du champ.
+	 * @param negative
+	 *            Indicateur d'hémisphère négatif.
+	 * @return Coordonnée en degrés décimaux.
+	 */
+	private double getCoordinate (final int field, final char negative) {
+		if (isEmpty(field)) {
+			return Double.NaN;
+		}
+		final long mantissa = parseDecimal(field);
+		final long unit = POW10[this.scale];
+		final long degrees = mantissa / (100 * unit);
+		final double minutes = (double) (mantissa - degrees * 100 * unit) / unit;
+		final double value = degrees + minutes / 60;
+		return getChar(field + 1) == negative ? -value : value;
+	}
+
+	/**
+	 * Renvoie l'heure codée dans un champ <code>hhmmss.ss</code>.
+	 * 
+	 * @param field
+	 *            Indice du champ.
+	 * @return Nombre de millisecondes depuis minuit, ou -1 si le champ est
+	 *         vide.
+	 */
+	public int getTimeMillis (final int field) {
+		if (isEmpty(field)) {
+			return -1;
+		}
+		final long mantissa = parseDecimal(field);
+		final long unit = POW10[this.scale];
+		final long seconds = mantissa / unit;
+		final long millis = (mantissa - seconds * unit) * 1000 / unit;
+		final long hh = seconds / 10000;
+		final long mm = seconds / 100 % 100;
+		final long ss = seconds % 100;
+		return (int) (((hh * 60 + mm) * 60 + ss) * 1000 + millis);
+	}
+
+	/**
+	 * Permet de décoder un nombre décimal en mantisse entière, le nombre de
+	 * décimales étant laissé dans {@link #scale}.
+	 * 
+	 * @param field
+	 *            Indice du champ.
+	 * @return Mantisse signée.
+	 */
+	private long parseDecimal (final int field) {
+		int i = this.fieldStart[field];
+		final int end = this.fieldEnd[field];
+		final boolean negative = this.data[i] == '-';
+		if (negative || this.data[i] == '+') {
+			i++;
+		}
+		long mantissa = 0;
+		int digits = 0;
+		int scale = -1;
+		for (; i < end; i++) {
+			final byte c = this.data[i];
+			if (c == '.' && scale < 0) {
+				scale = 0;
+				continue;
+			}
+			final int digit = c - '0';
+			if (digit < 0 || digit > 9) {
+				throw invalid(field);
+			}
+			if (digits == 18) {
+				// Précision d'un double dépassée : décimales ignorées
+				if (scale < 0) {
+					throw invalid(field);
+				}
+				continue;
+			}
+			mantissa = mantissa * 10 + digit;
+			digits++;
+			if (scale >= 0) {
+				scale++;
+			}
+		}
+		if (digits == 0) {
+			throw invalid(field);
+		}
+		this.scale = Math.max(scale, 0);
+		return negative ? -mantissa : mantissa;
+	}
+
+	/**
+	 * Permet de copier un champ dans le tampon spécifié, lorsqu'une chaîne est
+	 * nécessaire (identifiants, charge utile AIS...).
+	 * 
+	 * @param field
+	 *            Indice du champ.
+	 * @param sb
+	 *            Tampon de destination.
+	 * @return Tampon de destination.
+	 */
+	public StringBuilder appendField (final int field, final StringBuilder sb) {
+		for (int i = this.fieldStart[checkField(field)]; i < this.fieldEnd[field]; i++) {
+			sb.append((char) (this.data[i] & 0xFF));
+		}
+		return sb;
+	}
+
+	/**
+	 * Permet de vérifier l'indice d'un champ.
+	 * 
+	 * @param field
+	 *            Indice du champ.
+	 * @return Indice du champ.
+	 */
+	private int checkField (final int field) {
+		if (field < 0 || field >= this.fieldCount) {
+			throw new IndexOutOfBoundsException("Invalid NMEA field : " + field);
+		}
+		return field;
+	}
+
+	/**
+	 * Permet de créer l'exception signalant un champ numérique invalide.
+	 * 
+	 * @param field
+	 *            Indice du champ.
+	 * @return Exception à lever.
+	 */
+	private NumberFormatException invalid (final int field) {
+		return new NumberFormatException("Invalid NMEA number in field " + field + " : "
+				+ appendField(field, new StringBuilder()));
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	/**
+	 * Renvoie le tableau contenant la phrase, à partir de son caractère de
+	 * début (<code>$</code> ou <code>!</code>) et sans somme de contrôle.
+	 * 
+	 * @return Octets de la phrase, valides pendant la notification.
+	 */
+	byte[] getData () {
+		return this.data;
+	}
+
+	/**
+	 * Renvoie le caractère de début de la phrase : <code>$</code> pour les
+	 * phrases de données, <code>!</code> pour les phrases encapsulées (AIS).
+	 * 
+	 * @return Caractère de début.
+	 */
+	public char getStartChar () {
+		return (char) this.data[0];
+	}
+
+	public int getFieldCount () {
+		return this.fieldCount;
+	}
+
+	public int getLength () {
+		return this.length;
+	}
+
+	/**
+	 * Renvoie l'instant de réception des données contenant la fin de la
+	 * phrase.
+	 * 
+	 * @return Instant de réception, en nanosecondes selon
+	 *         <code>System.nanoTime()</code>.
+	 */
+	public long getTimestamp () {
+		return this.timestamp;
+	}
+
+	@Override
+	public String toString () {
+		return new String(this.data, 0, this.length, StandardCharsets.ISO_8859_1);
+	}
+}
\ No newline at end of file
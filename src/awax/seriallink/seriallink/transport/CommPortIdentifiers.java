@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.transport;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.comm.CommPortIdentifier;
+import javax.comm.NoSuchPortException;
+
+/**
+ * Cache des identifiants de ports javax.comm. L'énumération des ports par la
+ * bibliothèque native est coûteuse : elle n'est réalisée qu'une fois, puis
+ * après chaque invalidation du cache.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public final class CommPortIdentifiers {
+
+	private static final ConcurrentMap<String, CommPortIdentifier> IDENTIFIERS = new ConcurrentHashMap<>();
+	private static volatile List<String> serialPorts = null;
+
+	/**
+	 * Classe utilitaire non instanciable.
+	 */
+	private CommPortIdentifiers () {
+	}
+
+	/**
+	 * Renvoie l'identifiant du port spécifié, depuis le cache si possible.
+	 * 
+	 * @param name
+	 *            Nom du port.
+	 * @return Identifiant du port.
+	 * @throws NoSuchPortException
+	 *             Si le port n'existe pas.
+	 */
+	public static CommPortIdentifier get (final String name) throws NoSuchPortException {
+		CommPortIdentifier portId = IDENTIFIERS.get(name);
+		if (portId == null) {
+			portId = CommPortIdentifier.getPortIdentifier(name);
+			IDENTIFIERS.put(name, portId);
+		}
+		return portId;
+	}
+
+	/**
+	 * Renvoie les noms des ports série connus de la bibliothèque native.
+	 * 
+	 * @return Noms des ports série.
+	 */
+	public static List<String> listSerialPorts () {
+		List<String> ports = serialPorts;
+		if (ports == null) {
+			ports = new ArrayList<>();
+			Enumeration<?> identifiers = CommPortIdentifier.getPortIdentifiers();
+			while (identifiers != null && identifiers.hasMoreElements()) {
+				CommPortIdentifier portId = (CommPortIdentifier) identifiers.nextElement();
+				if (portId.getPortType() == CommPortIdentifier.PORT_SERIAL) {
+					IDENTIFIERS.put(portId.getName(), portId);
+					ports.add(portId.getName());
+				}
+			}
+			ports = Collections.unmodifiableList(ports);
+			serialPorts = ports;
+		}
+		return ports;
+	}
+
+	/**
+	 * Permet de retirer un port du cache, par exemple lorsque son ouverture a
+	 * échoué.
+	 * 
+	 * @param name
+	 *            Nom du port.
+	 */
+	public static void invalidate (final String name) {
+		IDENTIFIERS.remove(name);
+		serialPorts = null;
+	}
+
+	/**
+	 * Permet de vider le cache, par exemple lorsqu'un périphérique a été
+	 * branché ou débranché.
+	 */
+	public static void invalidateAll () {
+		IDENTIFIERS.clear();
+		serialPorts = null;
+	}
+}
\ No newline at end of file
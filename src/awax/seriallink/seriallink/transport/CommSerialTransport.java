@@ -0,0 +1,432 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.TooManyListenersException;
+import java.util.concurrent.TimeUnit;
+
+import javax.comm.CommPortIdentifier;
+import javax.comm.CommPortOwnershipListener;
+import javax.comm.NoSuchPortException;
+import javax.comm.PortInUseException;
+import javax.comm.SerialPort;
+import javax.comm.SerialPortEvent;
+import javax.comm.SerialPortEventListener;
+import javax.comm.UnsupportedCommOperationException;
+
+import org.apache.log4j.Logger;
+
+import awax.seriallink.seriallink.ReceiveMode;
+import awax.seriallink.seriallink.SerialLinkConnectionException;
+import awax.seriallink.seriallink.SerialLinkEvent;
+import awax.seriallink.seriallink.SerialLinkParameters;
+
+/**
+ * Transport s'appuyant sur l'API javax.comm et sa librairie native. Un timeout
+ * sur l'ouverture du port est appliqué pour permettre aux autres applications
+ * de libérer le port s'il est ouvert mais plus utilisé.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class CommSerialTransport implements SerialTransport, SerialPortEventListener, CommPortOwnershipListener {
+
+	/** Nom du transport. */
+	public static final String NAME = "comm";
+
+	/** Délai d'attente de libération du port par une autre application. */
+	public static final int OPEN_TIMEOUT = 2000;
+
+	/** Taille du buffer de copie des écritures regroupées ou hors tas. */
+	private static final int STAGING_BUFFER_SIZE = 4096;
+
+	private final Logger logger;
+	private final byte[] staging;
+
+	private CommPortIdentifier portId;
+	private volatile SerialPort serialPort;
+	private InputStream input;
+	private OutputStream output;
+	private volatile boolean dataNotification;
+	private volatile SerialTransportListener listener;
+
+	/**
+	 * Permet d'instancier un transport javax.comm non ouvert.
+	 */
+	public CommSerialTransport () {
+		this.logger = Logger.getLogger(CommSerialTransport.class);
+		this.staging = new byte[STAGING_BUFFER_SIZE];
+		this.portId = null;
+		this.serialPort = null;
+		this.input = null;
+		this.output = null;
+		this.dataNotification = true;
+		this.listener = null;
+	}
+
+	@Override
+	public String getName () {
+		return NAME;
+	}
+
+	@Override
+	public void open (final String appName, final SerialLinkParameters params) throws SerialLinkConnectionException {
+		if (this.serialPort != null) {
+			return;
+		}
+		boolean error = false;
+		try {
+			this.logger.debug("Getting port identifier " + params.getComId());
+			this.portId = CommPortIdentifiers.get(params.getComId());
+			if (this.portId.getPortType() != CommPortIdentifier.PORT_SERIAL) {
+
+				throw new SerialLinkConnectionException(this.portId.getName() + " is not a serial port");
+			}
+			// Permet d'ouvrir la connexion avec un timeout permettant à une
+			// autre application de libérer le port si elle ne s'en sert plus
+			this.logger.debug("Opening port " + params.getComId());
+			this.serialPort = (SerialPort) this.portId.open(appName, OPEN_TIMEOUT);
+
+			// Paramètrage de la liaison série
+			configure(params);
+
+			// Récupération des flux d'entrée/sortie
+			this.input = this.serialPort.getInputStream();
+			this.output = this.serialPort.getOutputStream();
+
+			this.serialPort.notifyOnBreakInterrupt(true);
+			this.serialPort.notifyOnDataAvailable(this.dataNotification);
+			this.portId.addPortOwnershipListener(this);
+			this.serialPort.addEventListener(this);
+		} catch (NoSuchPortException e) {
+			error = true;
+			throw new SerialLinkConnectionException(e.getMessage(), e);
+		} catch (PortInUseException e) {
+			error = true;
+			throw new SerialLinkConnectionException(e.getMessage(), e);
+		} catch (IOException e) {
+			error = true;
+			throw new SerialLinkConnectionException(e.getMessage(), e);
+		} catch (TooManyListenersException e) {
+			error = true;
+			throw new SerialLinkConnectionException(e.getMessage(), e);
+		} catch (UnsatisfiedLinkError e) {
+			error = true;
+			throw new SerialLinkConnectionException("An error occured in the native library :\n\n" + e.getMessage(), e);
+		} catch (SerialLinkConnectionException e) {
+			error = true;
+			throw e;
+		} catch (Exception e) {
+			error = true;
+			throw new SerialLinkConnectionException(e.getMessage(), e);
+		} finally {
+			if (error) {
+				// L'identifiant peut ne plus correspondre à un périphérique
+				CommPortIdentifiers.invalidate(params.getComId());
+				close();
+			}
+		}
+	}
+
+	@Override
+	public void configure (final SerialLinkParameters params) throws SerialLinkConnectionException {
+		final SerialPort serialPort = this.serialPort;
+		if (serialPort == null) {
+			throw new SerialLinkConnectionException("Serial port is closed");
+		}
+		try {
+			serialPort.setSerialPortParams(params.getBaudRate(), params.getDatabits(), params.getStopbits(),
+					params.getParity());
+			int flowControl = params.getFlowControlIn() | params.getFlowControlOut();
+			serialPort.setFlowControlMode(flowControl);
+			if (serialPort.getFlowControlMode() != flowControl) {
+				throw new SerialLinkConnectionException("Failed to update flow control mode");
+			}
+			// Détection de la fin de réception
+			if (params.getReceiveMode() == ReceiveMode.THRESHOLD) {
+				serialPort.enableReceiveThreshold(1);
+				long gapMillis = TimeUnit.NANOSECONDS.toMillis(params.getGapNanos() + 999999);
+				serialPort.enableReceiveTimeout((int) Math.max(1, gapMillis));
+			} else {
+				serialPort.disableReceiveThreshold();
+				serialPort.enableReceiveTimeout(params.getRecvTimeout());
+			}
+		} catch (UnsupportedCommOperationException e) {
+			throw new SerialLinkConnectionException("Unsupported parameters for serial link", e);
+		}
+	}
+
+	@Override
+	public void close () {
+		final SerialPort serialPort = this.serialPort;
+		if (serialPort == null) {
+			return;
+		}
+		this.serialPort = null;
+		try {
+			if (this.output != null) {
+				this.output.close();
+			}
+			if (this.input != null) {
+				this.input.close();
+			}
+		} catch (IOException e) {
+			this.logger.error("An error occured while closing the serial link", e);
+		}
+		serialPort.close();
+		this.portId.removePortOwnershipListener(this);
+		this.input = null;
+		this.output = null;
+	}
+
+	@Override
+	public boolean isOpen () {
+		return this.serialPort != null;
+	}
+
+	@Override
+	public void setListener (final SerialTransportListener listener) {
+		this.listener = listener;
+	}
+
+	@Override
+	public void setNotification (final int eventType, final boolean enable) {
+		if (eventType == SerialLinkEvent.DATA_AVAILABLE) {
+			this.dataNotification = enable;
+		}
+		final SerialPort serialPort = this.serialPort;
+		if (serialPort == null) {
+			return;
+		}
+		switch (eventType) {
+			case SerialLinkEvent.DATA_AVAILABLE:
+				serialPort.notifyOnDataAvailable(enable);
+				break;
+			case SerialLinkEvent.OUTPUT_BUFFER_EMPTY:
+				serialPort.notifyOnOutputEmpty(enable);
+				break;
+			case SerialLinkEvent.BI:
+				serialPort.notifyOnBreakInterrupt(enable);
+				break;
+			case SerialLinkEvent.FE:
+				serialPort.notifyOnFramingError(enable);
+				break;
+			case SerialLinkEvent.OE:
+				serialPort.notifyOnOverrunError(enable);
+				break;
+			case SerialLinkEvent.PE:
+				serialPort.notifyOnParityError(enable);
+				break;
+			case SerialLinkEvent.CTS:
+				serialPort.notifyOnCTS(enable);
+				break;
+			case SerialLinkEvent.DSR:
+				serialPort.notifyOnDSR(enable);
+				break;
+			case SerialLinkEvent.RI:
+				serialPort.notifyOnRingIndicator(enable);
+				break;
+			case SerialLinkEvent.CD:
+				serialPort.notifyOnCarrierDetect(enable);
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown event type : " + eventType);
+		}
+	}
+
+	@Override
+	public int available () throws IOException {
+		return checkInput().available();
+	}
+
+	@Override
+	public int read (final ByteBuffer dst) throws IOException {
+		final InputStream input = checkInput();
+		if (!dst.hasRemaining()) {
+			return 0;
+		}
+		if (dst.hasArray()) {
+			final int count = input.read(dst.array(), dst.arrayOffset() + dst.position(), dst.remaining());
+			if (count > 0) {
+				dst.position(dst.position() + count);
+			}
+			return count;
+		}
+		final int count = input.read(this.staging, 0, Math.min(dst.remaining(), this.staging.length));
+		if (count > 0) {
+			dst.put(this.staging, 0, count);
+		}
+		return count;
+	}
+
+	@Override
+	public long write (final ByteBuffer[] srcs, final int offset, final int length) throws IOException {
+		final OutputStream output = checkOutput();
+		long total = 0;
+		for (int i = offset; i < offset + length; i++) {
+			total += srcs[i].remaining();
+		}
+		if (length > 1 && total <= this.staging.length) {
+			// Regroupement en un seul appel au pilote
+			int position = 0;
+			for (int i = offset; i < offset + length; i++) {
+				final int remaining = srcs[i].remaining();
+				srcs[i].get(this.staging, position, remaining);
+				position += remaining;
+			}
+			output.write(this.staging, 0, position);
+			return total;
+		}
+		for (int i = offset; i < offset + length; i++) {
+			final ByteBuffer src = srcs[i];
+			if (src.hasArray()) {
+				output.write(src.array(), src.arrayOffset() + src.position(), src.remaining());
+				src.position(src.limit());
+			} else {
+				while (src.hasRemaining()) {
+					final int count = Math.min(src.remaining(), this.staging.length);
+					src.get(this.staging, 0, count);
+					output.write(this.staging, 0, count);
+				}
+			}
+		}
+		return total;
+	}
+
+	@Override
+	public void flush () throws IOException {
+		checkOutput().flush();
+	}
+
+	@Override
+	public void sendBreak (final int millis) {
+		final SerialPort serialPort = this.serialPort;
+		if (serialPort != null) {
+			serialPort.sendBreak(millis);
+		}
+	}
+
+	@Override
+	public void setDTR (final boolean dtr) {
+		final SerialPort serialPort = this.serialPort;
+		if (serialPort != null) {
+			serialPort.setDTR(dtr);
+		}
+	}
+
+	@Override
+	public void setRTS (final boolean rts) {
+		final SerialPort serialPort = this.serialPort;
+		if (serialPort != null) {
+			serialPort.setRTS(rts);
+		}
+	}
+
+	@Override
+	public boolean isDTR () {
+		final SerialPort serialPort = this.serialPort;
+		return serialPort != null && serialPort.isDTR();
+	}
+
+	@Override
+	public boolean isRTS () {
+		final SerialPort serialPort = this.serialPort;
+		return serialPort != null && serialPort.isRTS();
+	}
+
+	@Override
+	public boolean isCTS () {
+		final SerialPort serialPort = this.serialPort;
+		return serialPort != null && serialPort.isCTS();
+	}
+
+	@Override
+	public boolean isDSR () {
+		final SerialPort serialPort = this.serialPort;
+		return serialPort != null && serialPort.isDSR();
+	}
+
+	@Override
+	public boolean isRI () {
+		final SerialPort serialPort = this.serialPort;
+		return serialPort != null && serialPort.isRI();
+	}
+
+	@Override
+	public boolean isCD () {
+		final SerialPort serialPort = this.serialPort;
+		return serialPort != null && serialPort.isCD();
+	}
+
+	@Override
+	public void serialEvent (final SerialPortEvent e) {
+		final SerialTransportListener listener = this.listener;
+		if (listener != null) {
+			listener.onTransportEvent(e.getEventType(), e.getNewValue());
+		}
+	}
+
+	@Override
+	public void ownershipChange (final int type) {
+		final SerialTransportListener listener = this.listener;
+		if (listener != null) {
+			listener.onOwnershipChange(type);
+		}
+	}
+
+	/**
+	 * Renvoie le flux d'entrée du port ouvert.
+	 * 
+	 * @return Flux d'entrée du port.
+	 * @throws IOException
+	 *             Si le port est fermé.
+	 */
+	private InputStream checkInput () throws IOException {
+		final InputStream input = this.input;
+		if (input == null) {
+			throw new IOException("Serial port is closed");
+		}
+		return input;
+	}
+
+	/**
+	 * Renvoie le flux de sortie du port ouvert.
+	 * 
+	 * @return Flux de sortie du port.
+	 * @throws IOException
+	 *             Si le port est fermé.
+	 */
+	private OutputStream checkOutput () throws IOException {
+		final OutputStream output = this.output;
+		if (output == null) {
+			throw new IOException("Serial port is closed");
+		}
+		return output;
+	}
+}
\ No newline at end of file
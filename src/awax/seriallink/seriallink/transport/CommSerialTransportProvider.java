@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.transport;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Fournisseur du transport javax.comm, utilisé pour les noms de port ne
+ * comportant pas de schéma (<code>/dev/ttyUSB0</code>, <code>COM1</code>).
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class CommSerialTransportProvider implements SerialTransportProvider, SerialPortEnumerator {
+
+	@Override
+	public String getName () {
+		return CommSerialTransport.NAME;
+	}
+
+	@Override
+	public boolean accepts (final String portName) {
+		return portName != null && !portName.contains("://");
+	}
+
+	@Override
+	public SerialTransport createTransport () {
+		return new CommSerialTransport();
+	}
+
+	@Override
+	public List<String> listPorts () {
+		try {
+			return new ArrayList<>(CommPortIdentifiers.listSerialPorts());
+		} catch (UnsatisfiedLinkError e) {
+			Logger.getLogger(CommSerialTransportProvider.class).debug("javax.comm native library unavailable");
+			return Collections.emptyList();
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.transport;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import awax.seriallink.seriallink.SerialLinkConnectionException;
+import awax.seriallink.seriallink.SerialLinkEvent;
+import awax.seriallink.seriallink.SerialLinkParameters;
+
+/**
+ * Interface décrivant le transport d'une liaison série : ouverture et
+ * paramétrage du port, lecture et écriture des octets, évènements d'état de la
+ * ligne et signaux de contrôle du modem. Le client de la liaison série ne
+ * dépend que de cette interface, ce qui permet de substituer à l'API
+ * javax.comm un autre accès au port.
+ * <p>
+ * Les lectures sont effectuées par un seul thread à la fois, de même que les
+ * écritures ; une lecture et une écriture peuvent en revanche être
+ * concurrentes.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public interface SerialTransport {
+
+	/**
+	 * Renvoie le nom du transport.
+	 * 
+	 * @return Nom du transport.
+	 */
+	public String getName ();
+
+	/**
+	 * Permet d'ouvrir le port spécifié par les paramètres puis de le
+	 * paramétrer. Les évènements {@link SerialLinkEvent#DATA_AVAILABLE} et
+	 * {@link SerialLinkEvent#BI} sont notifiés dès l'ouverture, sauf si la
+	 * notification des données reçues a été désactivée avant l'ouverture.
+	 * 
+	 * @param appName
+	 *            Nom de l'application réservant le port.
+	 * @param params
+	 *            Paramètres de la liaison série.
+	 * @throws SerialLinkConnectionException
+	 *             Si le port ne peut pas être ouvert ou paramétré.
+	 */
+	public void open (String appName, SerialLinkParameters params) throws SerialLinkConnectionException;
+
+	/**
+	 * Permet d'appliquer les paramètres spécifiés au port ouvert : vitesse,
+	 * format des caractères, contrôle de flux et détection de fin de
+	 * réception.
+	 * 
+	 * @param params
+	 *            Paramètres de la liaison série.
+	 * @throws SerialLinkConnectionException
+	 *             Si les paramètres ne sont pas supportés.
+	 */
+	public void configure (SerialLinkParameters params) throws SerialLinkConnectionException;
+
+	/**
+	 * Permet de fermer le port. Sans effet si le port n'est pas ouvert.
+	 */
+	public void close ();
+
+	/**
+	 * Permet de dire si le port est ouvert.
+	 * 
+	 * @return <code>true</code> si le port est ouvert, <code>false</code>
+	 *         sinon.
+	 */
+	public boolean isOpen ();
+
+	/**
+	 * Permet de spécifier l'écouteur des évènements du port, avant son
+	 * ouverture.
+	 * 
+	 * @param listener
+	 *            Ecouteur des évènements du port.
+	 */
+	public void setListener (SerialTransportListener listener);
+
+	/**
+	 * Permet d'activer ou de désactiver la notification d'un type
+	 * d'évènement. La notification {@link SerialLinkEvent#DATA_AVAILABLE}
+	 * peut être désactivée avant l'ouverture, afin qu'aucune donnée ne soit
+	 * notifiée lorsque les lectures sont faites par un autre thread.
+	 * 
+	 * @param eventType
+	 *            Type d'évènement, parmi les constantes de
+	 *            {@link SerialLinkEvent}.
+	 * @param enable
+	 *            <code>true</code> pour notifier les évènements de ce type.
+	 */
+	public void setNotification (int eventType, boolean enable);
+
+	/**
+	 * Renvoie le nombre d'octets pouvant être lus sans bloquer.
+	 * 
+	 * @return Nombre d'octets disponibles.
+	 * @throws IOException
+	 *             Si une erreur survient sur le port.
+	 */
+	public int available () throws IOException;
+
+	/**
+	 * Permet de lire au plus <code>dst.remaining()</code> octets dans le
+	 * buffer spécifié, à partir de sa position qui est avancée du nombre
+	 * d'octets lus. Sans données disponibles, la lecture bloque au plus selon
+	 * la détection de fin de réception paramétrée.
+	 * 
+	 * @param dst
+	 *            Buffer de destination.
+	 * @return Nombre d'octets lus, <code>0</code> ou <code>-1</code> si aucune
+	 *         donnée n'a été reçue avant l'expiration du délai.
+	 * @throws IOException
+	 *             Si une erreur survient sur le port.
+	 */
+	public int read (ByteBuffer dst) throws IOException;
+
+	/**
+	 * Permet d'écrire en une seule opération les octets restants des buffers
+	 * spécifiés, dont les positions sont avancées du nombre d'octets écrits.
+	 * 
+	 * @param srcs
+	 *            Buffers à écrire.
+	 * @param offset
+	 *            Indice du premier buffer à écrire.
+	 * @param length
+	 *            Nombre de buffers à écrire.
+	 * @return Nombre d'octets écrits.
+	 * @throws IOException
+	 *             Si une erreur survient sur le port.
+	 */
+	public long write (ByteBuffer[] srcs, int offset, int length) throws IOException;
+
+	/**
+	 * Permet de transmettre au port les octets écrits et encore en attente.
+	 * 
+	 * @throws IOException
+	 *             Si une erreur survient sur le port.
+	 */
+	public void flush () throws IOException;
+
+	/**
+	 * Permet d'envoyer un signal de break de la durée spécifiée.
+	 * 
+	 * @param millis
+	 *            Durée du break en millisecondes.
+	 */
+	public void sendBreak (int millis);
+
+	/**
+	 * Permet de positionner le signal DTR.
+	 * 
+	 * @param dtr
+	 *            Etat du signal.
+	 */
+	public void setDTR (boolean dtr);
+
+	/**
+	 * Permet de positionner le signal RTS.
+	 * 
+	 * @param rts
+	 *            Etat du signal.
+	 */
+	public void setRTS (boolean rts);
+
+	public boolean isDTR ();
+
+	public boolean isRTS ();
+
+	public boolean isCTS ();
+
+	public boolean isDSR ();
+
+	public boolean isRI ();
+
+	public boolean isCD ();
+}
\ No newline at end of file
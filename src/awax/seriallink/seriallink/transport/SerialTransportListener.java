@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.transport;
+
+import awax.seriallink.seriallink.SerialLinkEvent;
+
+/**
+ * Interface permettant d'être notifié des évènements survenant sur le port
+ * d'un {@link SerialTransport}.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public interface SerialTransportListener {
+
+	/**
+	 * Méthode appelée lorsqu'un évènement survient sur le port : données
+	 * disponibles, buffer d'émission vide, erreur de ligne ou changement d'un
+	 * signal du modem.
+	 * 
+	 * @param eventType
+	 *            Type d'évènement, parmi les constantes de
+	 *            {@link SerialLinkEvent}.
+	 * @param newValue
+	 *            Nouvel état de la ligne ou du signal concerné.
+	 */
+	public void onTransportEvent (int eventType, boolean newValue);
+
+	/**
+	 * Méthode appelée lorsqu'une autre application demande ou obtient la
+	 * propriété du port.
+	 * 
+	 * @param type
+	 *            Type de changement de propriété.
+	 */
+	public void onOwnershipChange (int type);
+}
\ No newline at end of file
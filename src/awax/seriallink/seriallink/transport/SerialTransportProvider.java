@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.transport;
+
+/**
+ * Fournisseur de transports personnalisés. Les implémentations sont
+ * découvertes via {@link java.util.ServiceLoader} et doivent être déclarées
+ * dans un fichier
+ * <code>META-INF/services/awax.seriallink.seriallink.transport.SerialTransportProvider</code>
+ * .
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public interface SerialTransportProvider {
+
+	/**
+	 * Renvoie le nom sous lequel le transport est référencé.
+	 * 
+	 * @return Nom du transport.
+	 */
+	public String getName ();
+
+	/**
+	 * Permet de dire si ce transport prend en charge le port spécifié lorsque
+	 * aucun transport n'est imposé par les paramètres de la liaison série.
+	 * 
+	 * @param portName
+	 *            Nom du port, par exemple <code>/dev/ttyUSB0</code>.
+	 * @return <code>true</code> si le transport prend en charge le port.
+	 */
+	public boolean accepts (String portName);
+
+	/**
+	 * Permet d'instancier un nouveau transport, non ouvert.
+	 * 
+	 * @return Nouveau transport.
+	 */
+	public SerialTransport createTransport ();
+}
\ No newline at end of file
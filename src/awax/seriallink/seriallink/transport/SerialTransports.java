@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.transport;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.ServiceLoader;
+
+import awax.seriallink.seriallink.SerialLinkConnectionException;
+import awax.seriallink.seriallink.SerialLinkParameters;
+
+/**
+ * Fabrique des transports. Le transport est choisi par son nom s'il est imposé
+ * par les paramètres de la liaison série, sinon d'après le nom du port : les
+ * transports fournis sont consultés en premier, puis les
+ * {@link SerialTransportProvider} déclarés. Les fournisseurs déclarés ne sont
+ * recherchés qu'une fois.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public final class SerialTransports {
+
+	private static volatile List<SerialTransportProvider> providers = null;
+
+	/**
+	 * Classe utilitaire non instanciable.
+	 */
+	private SerialTransports () {
+	}
+
+	/**
+	 * Permet d'instancier le transport correspondant aux paramètres spécifiés.
+	 * 
+	 * @param params
+	 *            Paramètres de la liaison série.
+	 * @return Nouveau transport, non ouvert.
+	 * @throws SerialLinkConnectionException
+	 *             Si aucun transport ne correspond aux paramètres.
+	 */
+	public static SerialTransport create (final SerialLinkParameters params) throws SerialLinkConnectionException {
+		final String name = params.getTransport();
+		final String portName = params.getComId();
+		for (SerialTransportProvider provider : getProviders()) {
+			if (name != null ? provider.getName().equalsIgnoreCase(name) : provider.accepts(portName)) {
+				return provider.createTransport();
+			}
+		}
+		if (name != null) {
+			throw new SerialLinkConnectionException("Unknown transport : " + name);
+		}
+		throw new SerialLinkConnectionException("No transport available for port " + portName);
+	}
+
+	/**
+	 * Renvoie les fournisseurs de transports disponibles, les transports
+	 * fournis en premier.
+	 * 
+	 * @return Liste des fournisseurs de transports.
+	 */
+	public static List<SerialTransportProvider> getProviders () {
+		List<SerialTransportProvider> providers = SerialTransports.providers;
+		if (providers == null) {
+			providers = new ArrayList<>();
+			providers.add(new CommSerialTransportProvider());
+			providers.add(new VirtualSerialTransportProvider());
+			for (SerialTransportProvider provider : ServiceLoader.load(SerialTransportProvider.class)) {
+				providers.add(provider);
+			}
+			providers = Collections.unmodifiableList(providers);
+			SerialTransports.providers = providers;
+		}
+		return providers;
+	}
+
+	/**
+	 * Renvoie les ports actuellement présents, énumérés par les fournisseurs
+	 * qui en sont capables. Un port énuméré par plusieurs fournisseurs n'est
+	 * renvoyé qu'une fois.
+	 * 
+	 * @return Noms des ports, dans l'ordre des fournisseurs.
+	 * @see SerialPortEnumerator
+	 */
+	public static List<String> listPorts () {
+		List<String> ports = new ArrayList<>();
+		Set<String> names = new HashSet<>();
+		for (SerialTransportProvider provider : getProviders()) {
+			if (provider instanceof SerialPortEnumerator) {
+				for (String port : ((SerialPortEnumerator) provider).listPorts()) {
+					if (names.add(port)) {
+						ports.add(port);
+					}
+				}
+			}
+		}
+		return ports;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,512 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.transport;
+
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import awax.seriallink.seriallink.SerialLinkEvent;
+
+/**
+ * Sens de transmission d'une paire de ports virtuels : buffer circulaire des
+ * octets à destination d'un port et file de ses évènements de ligne. Les
+ * octets écrits ne deviennent lisibles qu'au rythme du temps caractère si le
+ * cadencement est activé. Le buffer simule l'ensemble des buffers des pilotes
+ * entre les deux ports : s'il est plein, l'écrivain est bloqué lorsque le
+ * contrôle de flux est actif, sinon les octets en excès sont perdus et un
+ * évènement {@link SerialLinkEvent#OE} est émis.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+final class VirtualSerialLine {
+
+	/** Nombre maximal de rafales de transmission suivies. */
+	private static final int MAX_CHUNKS = 256;
+
+	/** Nombre maximal d'évènements de ligne en attente. */
+	private static final int MAX_EVENTS = 64;
+
+	/** Attente minimale entre deux octets cadencés. */
+	private static final long MIN_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
+	private final ReentrantLock lock;
+	private final Condition changed;
+
+	private byte[] buffer;
+	private int mask;
+	private long writeSeq;
+	private long readSeq;
+	private long droppedBytes;
+
+	private long charNanos;
+	private long busyUntil;
+	private final long[] chunkSeq;
+	private final long[] chunkTime;
+	private int chunkHead;
+	private int chunkCount;
+
+	private final int[] eventTypes;
+	private final boolean[] eventValues;
+	private final long[] eventDue;
+	private int eventHead;
+	private int eventCount;
+
+	/**
+	 * Permet d'instancier un sens de transmission.
+	 * 
+	 * @param bufferSize
+	 *            Taille du buffer en octets, arrondie à la puissance de deux
+	 *            supérieure.
+	 */
+	VirtualSerialLine (final int bufferSize) {
+		this.lock = new ReentrantLock();
+		this.changed = this.lock.newCondition();
+		this.buffer = new byte[roundCapacity(bufferSize)];
+		this.mask = this.buffer.length - 1;
+		this.writeSeq = 0;
+		this.readSeq = 0;
+		this.droppedBytes = 0;
+		this.charNanos = 0;
+		this.busyUntil = 0;
+		this.chunkSeq = new long[MAX_CHUNKS];
+		this.chunkTime = new long[MAX_CHUNKS];
+		this.chunkHead = 0;
+		this.chunkCount = 0;
+		this.eventTypes = new int[MAX_EVENTS];
+		this.eventValues = new boolean[MAX_EVENTS];
+		this.eventDue = new long[MAX_EVENTS];
+		this.eventHead = 0;
+		this.eventCount = 0;
+	}
+
+	/**
+	 * Permet d'écrire les octets restants du buffer spécifié. Si le buffer de
+	 * la ligne est plein, l'appelant attend que le lecteur libère de la place
+	 * lorsque le contrôle de flux est actif ; sinon les octets en excès sont
+	 * perdus.
+	 * 
+	 * @param src
+	 *            Octets à écrire, entièrement consommés.
+	 * @param flowControl
+	 *            <code>true</code> si le contrôle de flux est actif.
+	 * @return Nombre d'octets effectivement transmis.
+	 * @throws InterruptedIOException
+	 *             Si l'appelant est interrompu pendant l'attente.
+	 */
+	int write (final ByteBuffer src, final boolean flowControl) throws InterruptedIOException {
+		int written = 0;
+		this.lock.lock();
+		try {
+			while (src.hasRemaining()) {
+				int free = this.buffer.length - (int) (this.writeSeq - this.readSeq);
+				if (free == 0) {
+					if (!flowControl) {
+						final int lost = src.remaining();
+						src.position(src.limit());
+						this.droppedBytes += lost;
+						enqueueEvent(SerialLinkEvent.OE, true, System.nanoTime());
+						break;
+					}
+					this.changed.await();
+					continue;
+				}
+				final int count = Math.min(free, src.remaining());
+				final int index = (int) (this.writeSeq & this.mask);
+				final int first = Math.min(count, this.buffer.length - index);
+				src.get(this.buffer, index, first);
+				if (first < count) {
+					src.get(this.buffer, 0, count - first);
+				}
+				schedule(count);
+				this.writeSeq += count;
+				written += count;
+				this.changed.signalAll();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while writing on a virtual serial port");
+		} finally {
+			this.lock.unlock();
+		}
+		return written;
+	}
+
+	/**
+	 * Permet de planifier la transmission des octets qui vont être écrits.
+	 * Une nouvelle rafale est créée si la ligne était inactive, sinon les
+	 * octets prolongent la rafale en cours.
+	 * 
+	 * @param count
+	 *            Nombre d'octets écrits.
+	 */
+	private void schedule (final int count) {
+		if (this.charNanos == 0) {
+			return;
+		}
+		final long now = System.nanoTime();
+		final long start = Math.max(now, this.busyUntil);
+		if ((this.chunkCount == 0 || start > this.busyUntil) && this.chunkCount < MAX_CHUNKS) {
+			final int slot = (this.chunkHead + this.chunkCount) % MAX_CHUNKS;
+			this.chunkSeq[slot] = this.writeSeq;
+			this.chunkTime[slot] = start;
+			this.chunkCount++;
+		}
+		this.busyUntil = start + count * this.charNanos;
+	}
+
+	/**
+	 * Renvoie la séquence du dernier octet transmis à l'instant spécifié. Les
+	 * rafales entièrement transmises sont oubliées. Doit être appelée sous le
+	 * verrou.
+	 * 
+	 * @param now
+	 *            Instant courant en nanosecondes.
+	 * @return Nombre total d'octets transmis.
+	 */
+	private long deliveredSeq (final long now) {
+		while (this.chunkCount > 1 && this.chunkTime[(this.chunkHead + 1) % MAX_CHUNKS] <= now) {
+			this.chunkHead = (this.chunkHead + 1) % MAX_CHUNKS;
+			this.chunkCount--;
+		}
+		if (this.chunkCount == 0) {
+			return this.writeSeq;
+		}
+		final long end =
+				this.chunkCount > 1 ? this.chunkSeq[(this.chunkHead + 1) % MAX_CHUNKS] : this.writeSeq;
+		final long elapsed = now - this.chunkTime[this.chunkHead];
+		final long delivered = elapsed < 0 ? this.chunkSeq[this.chunkHead]
+				: Math.min(end, this.chunkSeq[this.chunkHead] + elapsed / this.charNanos);
+		if (this.chunkCount == 1 && delivered == this.writeSeq) {
+			this.chunkCount = 0;
+		}
+		return delivered;
+	}
+
+	/**
+	 * Renvoie le délai avant la transmission du prochain octet. Doit être
+	 * appelée sous le verrou, après {@link #deliveredSeq(long)}.
+	 * 
+	 * @param now
+	 *            Instant courant en nanosecondes.
+	 * @param delivered
+	 *            Nombre total d'octets transmis.
+	 * @return Délai en nanosecondes, ou {@link Long#MAX_VALUE} si aucun octet
+	 *         n'est en cours de transmission.
+	 */
+	private long nextDelivery (final long now, final long delivered) {
+		if (this.chunkCount == 0 || delivered == this.writeSeq) {
+			return Long.MAX_VALUE;
+		}
+		final long next =
+				this.chunkTime[this.chunkHead] + (delivered - this.chunkSeq[this.chunkHead] + 1) * this.charNanos;
+		return Math.max(MIN_WAIT_NANOS, next - now);
+	}
+
+	/**
+	 * Permet de lire au plus <code>dst.remaining()</code> octets transmis.
+	 * Sans octet transmis, l'appelant attend au plus le délai spécifié.
+	 * 
+	 * @param dst
+	 *            Buffer de destination.
+	 * @param timeoutNanos
+	 *            Délai d'attente maximal en nanosecondes.
+	 * @return Nombre d'octets lus, <code>0</code> si le délai a expiré.
+	 * @throws InterruptedIOException
+	 *             Si l'appelant est interrompu pendant l'attente.
+	 */
+	int read (final ByteBuffer dst, final long timeoutNanos) throws InterruptedIOException {
+		this.lock.lock();
+		try {
+			final long deadline = System.nanoTime() + timeoutNanos;
+			long now = System.nanoTime();
+			long delivered = deliveredSeq(now);
+			while (delivered == this.readSeq) {
+				final long remaining = deadline - now;
+				if (remaining <= 0) {
+					return 0;
+				}
+				this.changed.awaitNanos(Math.min(remaining, nextDelivery(now, delivered)));
+				now = System.nanoTime();
+				delivered = deliveredSeq(now);
+			}
+			final int count = (int) Math.min(dst.remaining(), delivered - this.readSeq);
+			final int index = (int) (this.readSeq & this.mask);
+			final int first = Math.min(count, this.buffer.length - index);
+			dst.put(this.buffer, index, first);
+			if (first < count) {
+				dst.put(this.buffer, 0, count - first);
+			}
+			this.readSeq += count;
+			this.changed.signalAll();
+			return count;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while reading a virtual serial port");
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Renvoie le nombre d'octets transmis et non lus.
+	 * 
+	 * @return Nombre d'octets lisibles sans attendre.
+	 */
+	int available () {
+		this.lock.lock();
+		try {
+			return (int) (deliveredSeq(System.nanoTime()) - this.readSeq);
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Permet d'attendre la transmission de nouveaux octets ou l'échéance d'un
+	 * évènement de ligne.
+	 * 
+	 * @param lastDelivered
+	 *            Nombre total d'octets transmis lors de la précédente attente.
+	 * @param maxNanos
+	 *            Délai d'attente maximal en nanosecondes.
+	 * @return Nombre total d'octets transmis.
+	 * @throws InterruptedException
+	 *             Si l'appelant est interrompu pendant l'attente.
+	 */
+	long awaitActivity (final long lastDelivered, final long maxNanos) throws InterruptedException {
+		this.lock.lock();
+		try {
+			final long deadline = System.nanoTime() + maxNanos;
+			long now = System.nanoTime();
+			long delivered = deliveredSeq(now);
+			while (delivered == lastDelivered && !isEventDue(now)) {
+				final long remaining = deadline - now;
+				if (remaining <= 0) {
+					break;
+				}
+				long wait = Math.min(remaining, nextDelivery(now, delivered));
+				if (this.eventCount > 0) {
+					wait = Math.min(wait, Math.max(MIN_WAIT_NANOS, this.eventDue[this.eventHead] - now));
+				}
+				this.changed.awaitNanos(wait);
+				now = System.nanoTime();
+				delivered = deliveredSeq(now);
+			}
+			return delivered;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Permet de réveiller les threads en attente sur la ligne.
+	 */
+	void wakeUp () {
+		this.lock.lock();
+		try {
+			this.changed.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Permet de placer un évènement de ligne dans la file, à notifier à
+	 * l'échéance spécifiée. Un évènement {@link SerialLinkEvent#OUTPUT_BUFFER_EMPTY}
+	 * en fin de file est repoussé plutôt que dupliqué. Si la file est pleine,
+	 * l'évènement est perdu.
+	 * 
+	 * @param type
+	 *            Type d'évènement.
+	 * @param value
+	 *            Nouvel état de la ligne.
+	 * @param due
+	 *            Echéance de l'évènement en nanosecondes.
+	 */
+	void postEvent (final int type, final boolean value, final long due) {
+		this.lock.lock();
+		try {
+			enqueueEvent(type, value, due);
+			this.changed.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Permet de placer un évènement dans la file. Doit être appelée sous le
+	 * verrou.
+	 * 
+	 * @param type
+	 *            Type d'évènement.
+	 * @param value
+	 *            Nouvel état de la ligne.
+	 * @param due
+	 *            Echéance de l'évènement en nanosecondes.
+	 */
+	private void enqueueEvent (final int type, final boolean value, final long due) {
+		if (this.eventCount > 0) {
+			final int last = (this.eventHead + this.eventCount - 1) % MAX_EVENTS;
+			if (type == SerialLinkEvent.OUTPUT_BUFFER_EMPTY && this.eventTypes[last] == type) {
+				this.eventDue[last] = due;
+				return;
+			}
+		}
+		if (this.eventCount < MAX_EVENTS) {
+			final int slot = (this.eventHead + this.eventCount) % MAX_EVENTS;
+			this.eventTypes[slot] = type;
+			this.eventValues[slot] = value;
+			this.eventDue[slot] = due;
+			this.eventCount++;
+		}
+	}
+
+	/**
+	 * Permet de dire si l'évènement en tête de file est échu. Doit être
+	 * appelée sous le verrou.
+	 * 
+	 * @param now
+	 *            Instant courant en nanosecondes.
+	 * @return <code>true</code> si un évènement est à notifier.
+	 */
+	private boolean isEventDue (final long now) {
+		return this.eventCount > 0 && this.eventDue[this.eventHead] <= now;
+	}
+
+	/**
+	 * Permet de retirer l'évènement en tête de file s'il est échu.
+	 * 
+	 * @return Type de l'évènement décalé d'un bit, le bit de poids faible
+	 *         portant le nouvel état de la ligne, ou <code>-1</code> si aucun
+	 *         évènement n'est échu.
+	 */
+	int pollEvent () {
+		this.lock.lock();
+		try {
+			if (!isEventDue(System.nanoTime())) {
+				return -1;
+			}
+			final int event = this.eventTypes[this.eventHead] << 1 | (this.eventValues[this.eventHead] ? 1 : 0);
+			this.eventHead = (this.eventHead + 1) % MAX_EVENTS;
+			this.eventCount--;
+			return event;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Renvoie l'instant auquel les octets écrits auront tous été transmis.
+	 * 
+	 * @return Instant de fin de transmission en nanosecondes.
+	 */
+	long getBusyUntil () {
+		this.lock.lock();
+		try {
+			return Math.max(System.nanoTime(), this.busyUntil);
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	/**
+	 * Permet de spécifier le temps caractère cadençant la transmission.
+	 * 
+	 * @param charNanos
+	 *            Temps caractère en nanosecondes, ou <code>0</code> pour une
+	 *            transmission instantanée.
+	 */
+	void setCharNanos (final long charNanos) {
+		this.lock.lock();
+		try {
+			// Les octets en cours de transmission sont considérés transmis
+			this.chunkCount = 0;
+			this.busyUntil = 0;
+			this.charNanos = Math.max(0, charNanos);
+			this.changed.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	int getBufferSize () {
+		return this.buffer.length;
+	}
+
+	/**
+	 * Permet de modifier la taille du buffer en conservant les octets non lus.
+	 * 
+	 * @param bufferSize
+	 *            Taille du buffer en octets, arrondie à la puissance de deux
+	 *            supérieure.
+	 */
+	void setBufferSize (final int bufferSize) {
+		this.lock.lock();
+		try {
+			final int pending = (int) (this.writeSeq - this.readSeq);
+			final byte[] newBuffer = new byte[roundCapacity(Math.max(bufferSize, pending))];
+			for (int i = 0; i < pending; i++) {
+				newBuffer[(int) ((this.readSeq + i) & (newBuffer.length - 1))] =
+						this.buffer[(int) ((this.readSeq + i) & this.mask)];
+			}
+			this.buffer = newBuffer;
+			this.mask = newBuffer.length - 1;
+			this.changed.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	long getDroppedBytes () {
+		this.lock.lock();
+		try {
+			return this.droppedBytes;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Permet d'arrondir une capacité à la puissance de deux supérieure.
+	 * 
+	 * @param capacity
+	 *            Capacité demandée.
+	 * @return Capacité arrondie.
+	 */
+	private static int roundCapacity (final int capacity) {
+		if (capacity <= 0 || capacity > (1 << 30)) {
+			throw new IllegalArgumentException("Invalid buffer size : " + capacity);
+		}
+		return capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+	}
+}
\ No newline at end of file
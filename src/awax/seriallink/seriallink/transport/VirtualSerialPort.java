@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.transport;
+
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import awax.seriallink.seriallink.SerialLinkEvent;
+
+/**
+ * Extrémité d'une paire de ports série virtuels, reliée à son homologue comme
+ * par un câble null-modem : les octets écrits sur un port sont reçus par
+ * l'autre, et les signaux RTS et DTR d'un port sont vus comme CTS, DSR et CD
+ * par l'autre. Un port peut être ouvert par un client de liaison série via
+ * le transport virtuel, ou piloté directement par les méthodes de cette
+ * classe pour simuler un équipement.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ * @see VirtualSerialPorts
+ */
+public class VirtualSerialPort {
+
+	/** Taille par défaut du buffer de réception d'un port. */
+	public static final int DEFAULT_BUFFER_SIZE = 4096;
+
+	private final String name;
+	private final VirtualSerialLine rx;
+	private final AtomicBoolean inUse;
+	private VirtualSerialPort peer;
+	private volatile boolean pacing;
+	private volatile boolean rts;
+	private volatile boolean dtr;
+	private volatile boolean ring;
+
+	/**
+	 * Permet d'instancier un port virtuel non relié.
+	 * 
+	 * @param name
+	 *            Nom du port.
+	 * @param bufferSize
+	 *            Taille du buffer de réception en octets.
+	 */
+	VirtualSerialPort (final String name, final int bufferSize) {
+		this.name = name;
+		this.rx = new VirtualSerialLine(bufferSize);
+		this.inUse = new AtomicBoolean(false);
+		this.peer = this;
+		this.pacing = true;
+		this.rts = false;
+		this.dtr = false;
+		this.ring = false;
+	}
+
+	/**
+	 * Permet d'écrire des octets à destination du port homologue, comme le
+	 * ferait un équipement.
+	 * 
+	 * @param src
+	 *            Octets à écrire, entièrement consommés.
+	 * @param flowControl
+	 *            <code>true</code> pour attendre que le port homologue libère
+	 *            de la place, <code>false</code> pour perdre les octets en
+	 *            excès.
+	 * @return Nombre d'octets effectivement transmis.
+	 * @throws InterruptedIOException
+	 *             Si l'appelant est interrompu pendant l'attente.
+	 */
+	public int write (final ByteBuffer src, final boolean flowControl) throws InterruptedIOException {
+		return this.peer.rx.write(src, flowControl);
+	}
+
+	/**
+	 * Permet de lire les octets reçus par ce port, comme le ferait un
+	 * équipement.
+	 * 
+	 * @param dst
+	 *            Buffer de destination.
+	 * @param timeout
+	 *            Délai d'attente maximal si aucun octet n'est reçu.
+	 * @param unit
+	 *            Unité du délai.
+	 * @return Nombre d'octets lus, <code>0</code> si le délai a expiré.
+	 * @throws InterruptedIOException
+	 *             Si l'appelant est interrompu pendant l'attente.
+	 */
+	public int read (final ByteBuffer dst, final long timeout, final TimeUnit unit) throws InterruptedIOException {
+		return this.rx.read(dst, unit.toNanos(timeout));
+	}
+
+	/**
+	 * Renvoie le nombre d'octets reçus et non lus.
+	 * 
+	 * @return Nombre d'octets lisibles sans attendre.
+	 */
+	public int available () {
+		return this.rx.available();
+	}
+
+	/**
+	 * Permet de simuler un évènement de ligne sur ce port, par exemple une
+	 * erreur de trame ({@link SerialLinkEvent#FE}), de parité
+	 * ({@link SerialLinkEvent#PE}), un débordement ({@link SerialLinkEvent#OE}),
+	 * un break ({@link SerialLinkEvent#BI}) ou une sonnerie
+	 * ({@link SerialLinkEvent#RI}).
+	 * 
+	 * @param type
+	 *            Type d'évènement.
+	 * @param value
+	 *            Nouvel état de la ligne.
+	 */
+	public void injectEvent (final int type, final boolean value) {
+		if (type == SerialLinkEvent.RI) {
+			this.ring = value;
+		}
+		this.rx.postEvent(type, value, System.nanoTime());
+	}
+
+	/**
+	 * Permet de positionner le signal RTS, vu comme CTS par le port
+	 * homologue.
+	 * 
+	 * @param rts
+	 *            Etat du signal.
+	 */
+	public void setRTS (final boolean rts) {
+		if (this.rts != rts) {
+			this.rts = rts;
+			this.peer.rx.postEvent(SerialLinkEvent.CTS, rts, System.nanoTime());
+		}
+	}
+
+	/**
+	 * Permet de positionner le signal DTR, vu comme DSR et CD par le port
+	 * homologue.
+	 * 
+	 * @param dtr
+	 *            Etat du signal.
+	 */
+	public void setDTR (final boolean dtr) {
+		if (this.dtr != dtr) {
+			this.dtr = dtr;
+			final long now = System.nanoTime();
+			this.peer.rx.postEvent(SerialLinkEvent.DSR, dtr, now);
+			this.peer.rx.postEvent(SerialLinkEvent.CD, dtr, now);
+		}
+	}
+
+	/**
+	 * Permet de réserver le port pour un transport.
+	 * 
+	 * @return <code>true</code> si le port était libre.
+	 */
+	boolean acquire () {
+		return this.inUse.compareAndSet(false, true);
+	}
+
+	/**
+	 * Permet de libérer le port.
+	 */
+	void release () {
+		this.inUse.set(false);
+	}
+
+	/**
+	 * Permet de relier ce port à son homologue.
+	 * 
+	 * @param peer
+	 *            Port homologue.
+	 */
+	void connect (final VirtualSerialPort peer) {
+		this.peer = peer;
+	}
+
+	/*
+	 * Accesseurs
+	 */
+
+	public String getName () {
+		return this.name;
+	}
+
+	public VirtualSerialPort getPeer () {
+		return this.peer;
+	}
+
+	VirtualSerialLine getReceiveLine () {
+		return this.rx;
+	}
+
+	public boolean isInUse () {
+		return this.inUse.get();
+	}
+
+	public int getBufferSize () {
+		return this.rx.getBufferSize();
+	}
+
+	/**
+	 * Permet de modifier la taille du buffer de réception du port, qui simule
+	 * les buffers des pilotes entre les deux ports.
+	 * 
+	 * @param bufferSize
+	 *            Taille du buffer en octets, arrondie à la puissance de deux
+	 *            supérieure.
+	 */
+	public void setBufferSize (final int bufferSize) {
+		this.rx.setBufferSize(bufferSize);
+	}
+
+	public boolean isPacing () {
+		return this.pacing;
+	}
+
+	/**
+	 * Permet d'activer le cadencement de la transmission au rythme du taux de
+	 * transfert, appliqué aux deux sens de la paire lors du paramétrage du
+	 * port. Sans cadencement, les octets sont transmis instantanément.
+	 * 
+	 * @param pacing
+	 *            <code>true</code> pour cadencer la transmission.
+	 */
+	public void setPacing (final boolean pacing) {
+		this.pacing = pacing;
+	}
+
+	public boolean isRTS () {
+		return this.rts;
+	}
+
+	public boolean isDTR () {
+		return this.dtr;
+	}
+
+	public boolean isRI () {
+		return this.ring;
+	}
+
+	/**
+	 * Renvoie le nombre d'octets perdus par débordement du buffer de
+	 * réception de ce port.
+	 * 
+	 * @return Nombre d'octets perdus.
+	 */
+	public long getDroppedBytes () {
+		return this.rx.getDroppedBytes();
+	}
+}
\ No newline at end of file
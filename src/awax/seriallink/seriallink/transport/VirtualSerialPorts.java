@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.transport;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registre des ports série virtuels. Un port enregistré sous le nom
+ * <code>a</code> est ouvert par un client de liaison série avec le nom de
+ * port <code>virtual://a</code>.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public final class VirtualSerialPorts {
+
+	private static final ConcurrentMap<String, VirtualSerialPort> PORTS = new ConcurrentHashMap<>();
+
+	/**
+	 * Classe utilitaire non instanciable.
+	 */
+	private VirtualSerialPorts () {
+	}
+
+	/**
+	 * Permet de créer une paire de ports reliés entre eux.
+	 * 
+	 * @param name
+	 *            Nom du premier port.
+	 * @param peerName
+	 *            Nom du second port.
+	 * @return Premier port, le second étant obtenu par
+	 *         {@link VirtualSerialPort#getPeer()}.
+	 */
+	public static VirtualSerialPort createPair (final String name, final String peerName) {
+		VirtualSerialPort port = new VirtualSerialPort(name, VirtualSerialPort.DEFAULT_BUFFER_SIZE);
+		VirtualSerialPort peer = new VirtualSerialPort(peerName, VirtualSerialPort.DEFAULT_BUFFER_SIZE);
+		port.connect(peer);
+		peer.connect(port);
+		register(port);
+		try {
+			register(peer);
+		} catch (IllegalStateException e) {
+			PORTS.remove(name, port);
+			throw e;
+		}
+		return port;
+	}
+
+	/**
+	 * Permet de créer un port en boucle, recevant les octets qu'il écrit.
+	 * 
+	 * @param name
+	 *            Nom du port.
+	 * @return Port créé.
+	 */
+	public static VirtualSerialPort createLoopback (final String name) {
+		VirtualSerialPort port = new VirtualSerialPort(name, VirtualSerialPort.DEFAULT_BUFFER_SIZE);
+		register(port);
+		return port;
+	}
+
+	/**
+	 * Renvoie le port enregistré sous le nom spécifié.
+	 * 
+	 * @param name
+	 *            Nom du port, avec ou sans le préfixe
+	 *            {@link VirtualSerialTransport#SCHEME}.
+	 * @return Port virtuel, ou <code>null</code> s'il n'existe pas.
+	 */
+	public static VirtualSerialPort get (String name) {
+		if (name.startsWith(VirtualSerialTransport.SCHEME)) {
+			name = name.substring(VirtualSerialTransport.SCHEME.length());
+		}
+		return PORTS.get(name);
+	}
+
+	/**
+	 * Renvoie les noms des ports enregistrés, triés.
+	 * 
+	 * @return Noms des ports, sans préfixe.
+	 */
+	public static List<String> getNames () {
+		List<String> names = new ArrayList<>(PORTS.keySet());
+		Collections.sort(names);
+		return names;
+	}
+
+	/**
+	 * Permet de retirer du registre un port et son homologue.
+	 * 
+	 * @param name
+	 *            Nom de l'un des ports.
+	 */
+	public static void remove (final String name) {
+		VirtualSerialPort port = get(name);
+		if (port != null) {
+			PORTS.remove(port.getName(), port);
+			PORTS.remove(port.getPeer().getName(), port.getPeer());
+		}
+	}
+
+	/**
+	 * Permet d'enregistrer un port.
+	 * 
+	 * @param port
+	 *            Port à enregistrer.
+	 */
+	private static void register (final VirtualSerialPort port) {
+		if (PORTS.putIfAbsent(port.getName(), port) != null) {
+			throw new IllegalStateException("Virtual port already exists : " + port.getName());
+		}
+	}
+}
\ No newline at end of file
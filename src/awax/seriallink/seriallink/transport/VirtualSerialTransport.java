@@ -0,0 +1,323 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.transport;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import javax.comm.SerialPort;
+
+import org.apache.log4j.Logger;
+
+import awax.seriallink.seriallink.ReceiveMode;
+import awax.seriallink.seriallink.SerialLinkConnectionException;
+import awax.seriallink.seriallink.SerialLinkEvent;
+import awax.seriallink.seriallink.SerialLinkParameters;
+
+/**
+ * Transport ouvrant un {@link VirtualSerialPort} du registre
+ * {@link VirtualSerialPorts}, sans aucun matériel. La transmission est
+ * cadencée au rythme du taux de transfert paramétré si le port le demande, et
+ * le contrôle de flux RTS/CTS ou XON/XOFF en émission suspend l'écriture tant
+ * que le port homologue n'a pas libéré de place. Un thread notifie les
+ * évènements du port comme le ferait un pilote.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class VirtualSerialTransport implements SerialTransport, Runnable {
+
+	/** Nom du transport. */
+	public static final String NAME = "virtual";
+
+	/** Préfixe des noms de port désignant ce transport. */
+	public static final String SCHEME = "virtual://";
+
+	/** Attente maximale du thread de notification entre deux vérifications. */
+	private static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private final Logger logger;
+	private final boolean[] notifications;
+
+	private volatile VirtualSerialPort port;
+	private volatile long recvTimeoutNanos;
+	private volatile boolean flowControl;
+	private volatile boolean running;
+	private volatile SerialTransportListener listener;
+	private Thread notifier;
+
+	/**
+	 * Permet d'instancier un transport virtuel non ouvert.
+	 */
+	public VirtualSerialTransport () {
+		this.logger = Logger.getLogger(VirtualSerialTransport.class);
+		this.notifications = new boolean[16];
+		this.notifications[SerialLinkEvent.DATA_AVAILABLE] = true;
+		this.notifications[SerialLinkEvent.BI] = true;
+		this.port = null;
+		this.recvTimeoutNanos = 0;
+		this.flowControl = false;
+		this.running = false;
+		this.listener = null;
+		this.notifier = null;
+	}
+
+	@Override
+	public String getName () {
+		return NAME;
+	}
+
+	@Override
+	public void open (final String appName, final SerialLinkParameters params) throws SerialLinkConnectionException {
+		if (this.port != null) {
+			return;
+		}
+		final VirtualSerialPort port = VirtualSerialPorts.get(params.getComId());
+		if (port == null) {
+			throw new SerialLinkConnectionException("No such virtual port : " + params.getComId());
+		}
+		if (!port.acquire()) {
+			throw new SerialLinkConnectionException("Virtual port in use : " + port.getName());
+		}
+		this.port = port;
+		configure(params);
+		this.running = true;
+		this.notifier = new Thread(this, "SerialLink-virtual-" + port.getName());
+		this.notifier.setDaemon(true);
+		this.notifier.start();
+	}
+
+	@Override
+	public void configure (final SerialLinkParameters params) throws SerialLinkConnectionException {
+		final VirtualSerialPort port = this.port;
+		if (port == null) {
+			throw new SerialLinkConnectionException("Serial port is closed");
+		}
+		if (params.getBaudRate() <= 0) {
+			throw new SerialLinkConnectionException("Unsupported parameters for serial link");
+		}
+		final long charNanos = port.isPacing() ? params.getCharTimeNanos() : 0;
+		port.getReceiveLine().setCharNanos(charNanos);
+		port.getPeer().getReceiveLine().setCharNanos(charNanos);
+		this.flowControl = params.getFlowControlOut() != SerialPort.FLOWCONTROL_NONE;
+		if (params.getReceiveMode() == ReceiveMode.THRESHOLD) {
+			this.recvTimeoutNanos = params.getGapNanos();
+		} else {
+			this.recvTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(params.getRecvTimeout());
+		}
+	}
+
+	@Override
+	public void close () {
+		final VirtualSerialPort port = this.port;
+		if (port == null) {
+			return;
+		}
+		this.running = false;
+		port.getReceiveLine().wakeUp();
+		final Thread notifier = this.notifier;
+		this.notifier = null;
+		if (notifier != null && notifier != Thread.currentThread()) {
+			try {
+				notifier.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		this.port = null;
+		port.release();
+	}
+
+	@Override
+	public boolean isOpen () {
+		return this.port != null;
+	}
+
+	@Override
+	public void setListener (final SerialTransportListener listener) {
+		this.listener = listener;
+	}
+
+	@Override
+	public void setNotification (final int eventType, final boolean enable) {
+		if (eventType <= 0 || eventType >= this.notifications.length) {
+			throw new IllegalArgumentException("Unknown event type : " + eventType);
+		}
+		this.notifications[eventType] = enable;
+	}
+
+	@Override
+	public int available () throws IOException {
+		return checkPort().available();
+	}
+
+	@Override
+	public int read (final ByteBuffer dst) throws IOException {
+		return checkPort().getReceiveLine().read(dst, this.recvTimeoutNanos);
+	}
+
+	@Override
+	public long write (final ByteBuffer[] srcs, final int offset, final int length) throws IOException {
+		final VirtualSerialPort port = checkPort();
+		long total = 0;
+		for (int i = offset; i < offset + length; i++) {
+			total += srcs[i].remaining();
+			port.write(srcs[i], this.flowControl);
+		}
+		if (this.notifications[SerialLinkEvent.OUTPUT_BUFFER_EMPTY]) {
+			port.getReceiveLine().postEvent(SerialLinkEvent.OUTPUT_BUFFER_EMPTY, true,
+					port.getPeer().getReceiveLine().getBusyUntil());
+		}
+		return total;
+	}
+
+	@Override
+	public void flush () {
+		// Les octets sont placés directement dans le buffer du port homologue
+	}
+
+	@Override
+	public void sendBreak (final int millis) {
+		final VirtualSerialPort port = this.port;
+		if (port != null) {
+			port.getPeer().injectEvent(SerialLinkEvent.BI, true);
+		}
+	}
+
+	@Override
+	public void setDTR (final boolean dtr) {
+		final VirtualSerialPort port = this.port;
+		if (port != null) {
+			port.setDTR(dtr);
+		}
+	}
+
+	@Override
+	public void setRTS (final boolean rts) {
+		final VirtualSerialPort port = this.port;
+		if (port != null) {
+			port.setRTS(rts);
+		}
+	}
+
+	@Override
+	public boolean isDTR () {
+		final VirtualSerialPort port = this.port;
+		return port != null && port.isDTR();
+	}
+
+	@Override
+	public boolean isRTS () {
+		final VirtualSerialPort port = this.port;
+		return port != null && port.isRTS();
+	}
+
+	@Override
+	public boolean isCTS () {
+		final VirtualSerialPort port = this.port;
+		return port != null && port.getPeer().isRTS();
+	}
+
+	@Override
+	public boolean isDSR () {
+		final VirtualSerialPort port = this.port;
+		return port != null && port.getPeer().isDTR();
+	}
+
+	@Override
+	public boolean isRI () {
+		final VirtualSerialPort port = this.port;
+		return port != null && port.isRI();
+	}
+
+	@Override
+	public boolean isCD () {
+		return isDSR();
+	}
+
+	/**
+	 * Notification des évènements du port. L'évènement
+	 * {@link SerialLinkEvent#DATA_AVAILABLE} est notifié à chaque réception
+	 * de nouveaux octets, les évènements de ligne à leur échéance.
+	 */
+	@Override
+	public void run () {
+		final VirtualSerialLine line = this.port.getReceiveLine();
+		long notified = -1;
+		while (this.running) {
+			try {
+				int event;
+				while ((event = line.pollEvent()) >= 0) {
+					fire(event >> 1, (event & 1) != 0);
+				}
+				final long delivered = line.awaitActivity(notified, MAX_WAIT_NANOS);
+				if (this.running && delivered != notified) {
+					notified = delivered;
+					if (line.available() > 0) {
+						fire(SerialLinkEvent.DATA_AVAILABLE, true);
+					}
+				}
+			} catch (InterruptedException e) {
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Permet de notifier un évènement à l'écouteur si sa notification est
+	 * activée.
+	 * 
+	 * @param type
+	 *            Type d'évènement.
+	 * @param value
+	 *            Nouvel état de la ligne.
+	 */
+	private void fire (final int type, final boolean value) {
+		final SerialTransportListener listener = this.listener;
+		if (listener != null && type > 0 && type < this.notifications.length && this.notifications[type]) {
+			try {
+				listener.onTransportEvent(type, value);
+			} catch (RuntimeException e) {
+				this.logger.error("An error occured in a serial link listener", e);
+			}
+		}
+	}
+
+	/**
+	 * Renvoie le port ouvert.
+	 * 
+	 * @return Port virtuel.
+	 * @throws IOException
+	 *             Si le port est fermé.
+	 */
+	private VirtualSerialPort checkPort () throws IOException {
+		final VirtualSerialPort port = this.port;
+		if (port == null) {
+			throw new IOException("Serial port is closed");
+		}
+		return port;
+	}
+}
\ No newline at end of file
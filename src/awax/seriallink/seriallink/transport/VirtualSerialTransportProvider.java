@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.transport;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fournisseur du transport virtuel, utilisé pour les noms de port préfixés par
+ * <code>virtual://</code>.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class VirtualSerialTransportProvider implements SerialTransportProvider, SerialPortEnumerator {
+
+	@Override
+	public String getName () {
+		return VirtualSerialTransport.NAME;
+	}
+
+	@Override
+	public boolean accepts (final String portName) {
+		return portName != null && portName.startsWith(VirtualSerialTransport.SCHEME);
+	}
+
+	@Override
+	public SerialTransport createTransport () {
+		return new VirtualSerialTransport();
+	}
+
+	@Override
+	public List<String> listPorts () {
+		List<String> ports = new ArrayList<>();
+		for (String name : VirtualSerialPorts.getNames()) {
+			ports.add(VirtualSerialTransport.SCHEME + name);
+		}
+		return ports;
+	}
+}
\ No newline at end of file
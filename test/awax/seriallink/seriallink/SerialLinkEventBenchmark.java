@@ -0,0 +1,339 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import awax.seriallink.seriallink.transport.VirtualSerialPort;
+import awax.seriallink.seriallink.transport.VirtualSerialPorts;
+
+/**
+ * Mesure des allocations du chemin de réception par message, sur une ligne
+ * virtuelle.
+ * <p>
+ * Le test vérifie d'abord que tous les écouteurs d'une même réception
+ * reçoivent la même instance de {@link SerialLinkEvent}, et que les octets
+ * alloués par message n'augmentent pas avec le nombre d'écouteurs. Il compare
+ * ensuite un abonné asynchrone qui copie chaque évènement à un abonné
+ * asynchrone dont les évènements sont recyclés, ce dernier ne devant plus
+ * allouer ni évènement ni copie des données en régime établi. Les
+ * allocations sont mesurées sur le thread de réception du client, qui exécute
+ * aussi la ligne virtuelle. Il se lance directement par sa méthode
+ * <code>main</code>, avec en argument optionnel le nombre de messages, et se
+ * termine avec un code de retour non nul en cas d'échec.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class SerialLinkEventBenchmark {
+
+	private static final int WARMUP = 500;
+	private static final int LISTENERS = 8;
+	private static final int BAUD_RATE = 115200;
+	private static final long RECEIVE_TIMEOUT = 1000;
+
+	/**
+	 * Octets alloués par message tolérés pour chaque écouteur supplémentaire,
+	 * inférieurs à la taille d'un {@link SerialLinkEvent}.
+	 */
+	private static final long SHARED_TOLERANCE = 16;
+
+	/**
+	 * Octets alloués par message tolérés avec le recyclage des évènements, en
+	 * plus des allocations de la ligne virtuelle et d'un abonné synchrone :
+	 * la remise de la tâche de vidage à l'exécuteur lorsque la file était
+	 * vide alloue un noeud de sa file de tâches.
+	 */
+	private static final long POOLED_TOLERANCE = 64;
+
+	private static final byte[] MESSAGE =
+			"$GPGGA,123519,4807.038,N,01131.000,E,1,08,0.9,545.4,M,46.9,M,,*47\r\n".getBytes(StandardCharsets.US_ASCII);
+
+	private final com.sun.management.ThreadMXBean threads;
+	private final Semaphore received;
+	private final AtomicInteger failures;
+	private volatile Thread receiver;
+
+	/**
+	 * Permet d'instancier le test.
+	 */
+	public SerialLinkEventBenchmark () {
+		this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		this.received = new Semaphore(0);
+		this.failures = new AtomicInteger(0);
+		this.receiver = null;
+	}
+
+	/**
+	 * Point d'entrée du test.
+	 * 
+	 * @param args
+	 *            Nombre de messages mesurés, optionnel.
+	 * @throws Exception
+	 *             Si la liaison ne peut pas être ouverte.
+	 */
+	public static void main (final String[] args) throws Exception {
+		final int messages = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+		final boolean success = new SerialLinkEventBenchmark().run(messages);
+		System.exit(success ? 0 : 1);
+	}
+
+	/**
+	 * Permet d'exécuter le test.
+	 * 
+	 * @param messages
+	 *            Nombre de messages mesurés pour chaque configuration.
+	 * @return <code>true</code> si le test a réussi.
+	 * @throws Exception
+	 *             Si la liaison ne peut pas être ouverte.
+	 */
+	public boolean run (final int messages) throws Exception {
+		if (!this.threads.isThreadAllocatedMemorySupported()) {
+			System.err.println("FAILURE: per-thread allocation measurement is not supported by this JVM");
+			return false;
+		}
+		this.threads.setThreadAllocatedMemoryEnabled(true);
+
+		final long baseline = measureBaseline(messages);
+		final long single = measureShared(1, messages);
+		final long shared = measureShared(LISTENERS, messages);
+		final long copied = measureAsync(false, messages);
+		final long pooled = measureAsync(true, messages);
+
+		System.out.printf("data listener: %d B per message%n", baseline);
+		System.out.printf("event listeners: %d B per message with 1 listener, %d B with %d listeners%n", single,
+				shared, LISTENERS);
+		System.out.printf("async listener: %d B per message with copied events, %d B with pooled events%n", copied,
+				pooled);
+		if (shared - single > (LISTENERS - 1) * SHARED_TOLERANCE) {
+			fail("Allocations grow with the number of listeners");
+		}
+		if (pooled + MESSAGE.length > copied) {
+			fail("Pooled events do not save the copy of the received data");
+		}
+		if (pooled - baseline > POOLED_TOLERANCE) {
+			fail("Pooled events allocate " + (pooled - baseline) + " B per message in steady state");
+		}
+		return this.failures.get() == 0;
+	}
+
+	/**
+	 * Permet de mesurer les allocations par message avec un seul abonné
+	 * synchrone aux données brutes, qui ne reflètent que la ligne virtuelle et
+	 * la lecture.
+	 * 
+	 * @param messages
+	 *            Nombre de messages mesurés.
+	 * @return Octets alloués par message sur le thread de réception.
+	 * @throws Exception
+	 *             Si la liaison ne peut pas être ouverte.
+	 */
+	private long measureBaseline (final int messages) throws Exception {
+		final SerialLinkClient client = createClient(false);
+		client.addSerialDataListener(new SerialLinkDataListener() {
+
+			@Override
+			public void onData (SerialLinkDataEvent event) {
+				received();
+			}
+		});
+		return measure(client, messages);
+	}
+
+	/**
+	 * Permet de mesurer les allocations par message avec des écouteurs
+	 * synchrones, en vérifiant qu'ils partagent le même évènement.
+	 * 
+	 * @param count
+	 *            Nombre d'écouteurs.
+	 * @param messages
+	 *            Nombre de messages mesurés.
+	 * @return Octets alloués par message sur le thread de réception.
+	 * @throws Exception
+	 *             Si la liaison ne peut pas être ouverte.
+	 */
+	private long measureShared (final int count, final int messages) throws Exception {
+		final SerialLinkEvent[] seen = new SerialLinkEvent[count];
+		final SerialLinkClient client = createClient(false);
+		for (int i = 0; i < count; i++) {
+			final int index = i;
+			client.addSerialEventListener(new SerialLinkEventListener() {
+
+				@Override
+				public void onNotify (SerialLinkEvent event) {
+					seen[index] = event;
+					if (index == count - 1) {
+						for (int j = 0; j < index; j++) {
+							if (seen[j] != event) {
+								fail("Listener " + j + " received another event than listener " + index);
+							}
+						}
+						received();
+					}
+				}
+			});
+		}
+		return measure(client, messages);
+	}
+
+	/**
+	 * Permet de mesurer les allocations par message avec un abonné asynchrone.
+	 * 
+	 * @param pooling
+	 *            <code>true</code> pour recycler les évènements mis en file.
+	 * @param messages
+	 *            Nombre de messages mesurés.
+	 * @return Octets alloués par message sur le thread de réception.
+	 * @throws Exception
+	 *             Si la liaison ne peut pas être ouverte.
+	 */
+	private long measureAsync (final boolean pooling, final int messages) throws Exception {
+		final SerialLinkClient client = createClient(pooling);
+		client.addSerialDataListener(new SerialLinkDataListener() {
+
+			@Override
+			public void onData (SerialLinkDataEvent event) {
+				if (event.getLength() != MESSAGE.length) {
+					fail("Received " + event.getLength() + " bytes instead of " + MESSAGE.length);
+				}
+				received();
+			}
+		}, 64, OverflowPolicy.BLOCK, null);
+		return measure(client, messages);
+	}
+
+	/**
+	 * Permet de créer un client ouvert sur une nouvelle paire de ports
+	 * virtuels.
+	 * 
+	 * @param pooling
+	 *            <code>true</code> pour recycler les évènements des abonnés
+	 *            asynchrones.
+	 * @return Client ouvert.
+	 */
+	private SerialLinkClient createClient (final boolean pooling) {
+		final String name = "event-bench-" + System.nanoTime();
+		VirtualSerialPorts.createPair(name, name + "-device");
+		final SerialLinkParameters params = new SerialLinkParameters();
+		params.setComId("virtual://" + name);
+		params.setBaudRate(BAUD_RATE);
+		params.setReceiveMode(ReceiveMode.GAP);
+		final SerialLinkClient client = new SerialLinkClient("SerialLinkEventBenchmark", params);
+		client.setEventPooling(pooling);
+		return client;
+	}
+
+	/**
+	 * Permet d'envoyer les messages un par un depuis le port distant et de
+	 * mesurer les octets alloués par le thread de réception.
+	 * 
+	 * @param client
+	 *            Client dont les abonnés sont enregistrés.
+	 * @param messages
+	 *            Nombre de messages mesurés.
+	 * @return Octets alloués par message sur le thread de réception, ou
+	 *         <code>-1</code> si un message n'a pas été reçu.
+	 * @throws Exception
+	 *             Si la liaison ne peut pas être ouverte.
+	 */
+	private long measure (final SerialLinkClient client, final int messages) throws Exception {
+		final VirtualSerialPort device =
+				VirtualSerialPorts.get(client.getSerialParams().getComId().substring("virtual://".length()))
+						.getPeer();
+		client.addSerialDataListener(new SerialLinkDataListener() {
+
+			@Override
+			public void onData (SerialLinkDataEvent event) {
+				SerialLinkEventBenchmark.this.receiver = Thread.currentThread();
+			}
+		});
+		client.open();
+		try {
+			if (!send(device, WARMUP)) {
+				return -1;
+			}
+			final long id = this.receiver.getId();
+			final long before = this.threads.getThreadAllocatedBytes(id);
+			if (!send(device, messages)) {
+				return -1;
+			}
+			final long after = this.threads.getThreadAllocatedBytes(id);
+			return (after - before) / messages;
+		} finally {
+			client.close();
+			VirtualSerialPorts.remove(device.getPeer().getName());
+			VirtualSerialPorts.remove(device.getName());
+		}
+	}
+
+	/**
+	 * Permet d'envoyer des messages un par un, chacun étant attendu avant
+	 * l'envoi du suivant pour être reçu seul.
+	 * 
+	 * @param device
+	 *            Port distant.
+	 * @param messages
+	 *            Nombre de messages.
+	 * @return <code>true</code> si tous les messages ont été reçus.
+	 * @throws Exception
+	 *             Si l'écriture est interrompue.
+	 */
+	private boolean send (final VirtualSerialPort device, final int messages) throws Exception {
+		final ByteBuffer buffer = ByteBuffer.wrap(MESSAGE);
+		for (int i = 0; i < messages; i++) {
+			buffer.clear();
+			device.write(buffer, false);
+			if (!this.received.tryAcquire(RECEIVE_TIMEOUT, TimeUnit.MILLISECONDS)) {
+				fail("Message " + i + " was not received within " + RECEIVE_TIMEOUT + " ms");
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Permet de compter un message reçu.
+	 */
+	private void received () {
+		this.received.release();
+	}
+
+	/**
+	 * Permet de signaler un échec.
+	 * 
+	 * @param message
+	 *            Description de l'échec.
+	 */
+	private void fail (final String message) {
+		if (this.failures.incrementAndGet() <= 10) {
+			System.err.println("FAILURE: " + message);
+		}
+	}
+}
\ No newline at end of file
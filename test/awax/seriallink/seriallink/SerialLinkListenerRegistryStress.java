@@ -0,0 +1,278 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test de charge du registre d'abonnés : des threads ajoutent et retirent
+ * des abonnés en continu pendant que d'autres threads distribuent à haut
+ * débit sur les instantanés du registre.
+ * <p>
+ * Le test vérifie que les abonnés permanents sont vus exactement une fois et
+ * dans leur ordre d'ajout par chaque distribution, qu'aucun ajout ou retrait
+ * n'est perdu, et qu'aucune exception n'est levée. Il se lance directement
+ * par sa méthode <code>main</code>, avec en arguments optionnels la durée en
+ * secondes, le nombre de threads de distribution et le nombre de threads de
+ * modification, et se termine avec un code de retour non nul en cas d'échec.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class SerialLinkListenerRegistryStress {
+
+	private static final int PERMANENT_COUNT = 4;
+	private static final int TRANSIENT_PER_MUTATOR = 8;
+
+	private final SerialLinkListenerRegistry<Listener> registry;
+	private final Listener[] permanents;
+	private final AtomicBoolean running;
+	private final AtomicInteger failures;
+	private final AtomicLong dispatches;
+	private final AtomicLong mutations;
+
+	/**
+	 * Permet d'instancier le test avec un registre contenant uniquement les
+	 * abonnés permanents.
+	 */
+	public SerialLinkListenerRegistryStress () {
+		this.registry = new SerialLinkListenerRegistry<>(Listener.class);
+		this.permanents = new Listener[PERMANENT_COUNT];
+		this.running = new AtomicBoolean(true);
+		this.failures = new AtomicInteger(0);
+		this.dispatches = new AtomicLong(0);
+		this.mutations = new AtomicLong(0);
+		for (int i = 0; i < PERMANENT_COUNT; i++) {
+			this.permanents[i] = new Listener(-1, i);
+			this.registry.add(this.permanents[i]);
+		}
+	}
+
+	/**
+	 * Point d'entrée du test.
+	 * 
+	 * @param args
+	 *            Durée en secondes, nombre de threads de distribution et
+	 *            nombre de threads de modification, tous optionnels.
+	 * @throws InterruptedException
+	 *             Si le thread principal est interrompu.
+	 */
+	public static void main (final String[] args) throws InterruptedException {
+		final int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+		final int dispatchers = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+		final int mutators = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+		final boolean success = new SerialLinkListenerRegistryStress().run(seconds, dispatchers, mutators);
+		System.exit(success ? 0 : 1);
+	}
+
+	/**
+	 * Permet d'exécuter le test.
+	 * 
+	 * @param seconds
+	 *            Durée du test en secondes.
+	 * @param dispatchers
+	 *            Nombre de threads de distribution.
+	 * @param mutators
+	 *            Nombre de threads de modification.
+	 * @return <code>true</code> si le test a réussi.
+	 * @throws InterruptedException
+	 *             Si le thread appelant est interrompu.
+	 */
+	public boolean run (final int seconds, final int dispatchers, final int mutators) throws InterruptedException {
+		final CountDownLatch start = new CountDownLatch(1);
+		final Thread[] threads = new Thread[dispatchers + mutators];
+		for (int i = 0; i < dispatchers; i++) {
+			threads[i] = new Thread(new Dispatcher(start), "Dispatcher-" + i);
+		}
+		for (int i = 0; i < mutators; i++) {
+			threads[dispatchers + i] = new Thread(new Mutator(start, i), "Mutator-" + i);
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		start.countDown();
+		TimeUnit.SECONDS.sleep(seconds);
+		this.running.set(false);
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		checkFinalState();
+
+		System.out.println(this.dispatches.get() + " dispatches, " + this.mutations.get() + " mutations, "
+				+ this.failures.get() + " failures");
+		return this.failures.get() == 0;
+	}
+
+	/**
+	 * Permet de vérifier qu'une fois les modifications terminées, le registre
+	 * ne contient plus que les abonnés permanents, dans leur ordre d'ajout.
+	 */
+	private void checkFinalState () {
+		final Listener[] snapshot = this.registry.snapshot();
+		if (snapshot.length != PERMANENT_COUNT) {
+			fail("Final registry holds " + snapshot.length + " listeners instead of " + PERMANENT_COUNT);
+			return;
+		}
+		for (int i = 0; i < PERMANENT_COUNT; i++) {
+			if (snapshot[i] != this.permanents[i]) {
+				fail("Final registry holds " + snapshot[i] + " at index " + i);
+			}
+		}
+	}
+
+	/**
+	 * Permet de signaler un échec.
+	 * 
+	 * @param message
+	 *            Description de l'échec.
+	 */
+	private void fail (final String message) {
+		if (this.failures.incrementAndGet() <= 10) {
+			System.err.println("FAILURE: " + message);
+		}
+	}
+
+	/**
+	 * Abonné de test, identifié par le thread qui l'a créé et un numéro.
+	 */
+	private static final class Listener {
+
+		private final int owner;
+		private final int index;
+		private final AtomicLong calls;
+
+		Listener (final int owner, final int index) {
+			this.owner = owner;
+			this.index = index;
+			this.calls = new AtomicLong(0);
+		}
+
+		void onData () {
+			this.calls.incrementAndGet();
+		}
+
+		@Override
+		public String toString () {
+			return "Listener[" + this.owner + ", " + this.index + "]";
+		}
+	}
+
+	/**
+	 * Distribue en continu sur les instantanés du registre, en vérifiant la
+	 * présence, l'unicité et l'ordre des abonnés permanents.
+	 */
+	private final class Dispatcher implements Runnable {
+
+		private final CountDownLatch start;
+
+		Dispatcher (final CountDownLatch start) {
+			this.start = start;
+		}
+
+		@Override
+		public void run () {
+			try {
+				this.start.await();
+				long count = 0;
+				while (SerialLinkListenerRegistryStress.this.running.get()) {
+					final Listener[] snapshot = SerialLinkListenerRegistryStress.this.registry.snapshot();
+					int expected = 0;
+					for (int i = 0; i < snapshot.length; i++) {
+						final Listener listener = snapshot[i];
+						if (listener == null) {
+							fail("Null listener at index " + i + " of a snapshot of " + snapshot.length);
+							continue;
+						}
+						listener.onData();
+						if (listener.owner < 0) {
+							if (listener.index != expected) {
+								fail("Permanent listener " + listener.index + " seen instead of " + expected);
+							}
+							expected = listener.index + 1;
+						}
+					}
+					if (expected != PERMANENT_COUNT) {
+						fail("Snapshot misses permanent listeners: " + expected + " of " + PERMANENT_COUNT);
+					}
+					count++;
+				}
+				SerialLinkListenerRegistryStress.this.dispatches.addAndGet(count);
+			} catch (RuntimeException | InterruptedException e) {
+				fail("Dispatcher error: " + e);
+			}
+		}
+	}
+
+	/**
+	 * Ajoute et retire en continu ses propres abonnés, en vérifiant après
+	 * chaque opération que le registre reflète l'état attendu.
+	 */
+	private final class Mutator implements Runnable {
+
+		private final CountDownLatch start;
+		private final Listener[] own;
+
+		Mutator (final CountDownLatch start, final int owner) {
+			this.start = start;
+			this.own = new Listener[TRANSIENT_PER_MUTATOR];
+			for (int i = 0; i < TRANSIENT_PER_MUTATOR; i++) {
+				this.own[i] = new Listener(owner, i);
+			}
+		}
+
+		@Override
+		public void run () {
+			final SerialLinkListenerRegistry<Listener> registry = SerialLinkListenerRegistryStress.this.registry;
+			try {
+				this.start.await();
+				long count = 0;
+				while (SerialLinkListenerRegistryStress.this.running.get()) {
+					for (Listener listener : this.own) {
+						registry.add(listener);
+						if (!registry.contains(listener)) {
+							fail("Lost add of " + listener);
+						}
+					}
+					for (Listener listener : this.own) {
+						if (!registry.remove(listener)) {
+							fail("Lost listener " + listener + " before its removal");
+						}
+						if (registry.contains(listener)) {
+							fail("Lost removal of " + listener);
+						}
+					}
+					count += 2 * this.own.length;
+				}
+				SerialLinkListenerRegistryStress.this.mutations.addAndGet(count);
+			} catch (RuntimeException | InterruptedException e) {
+				fail("Mutator error: " + e);
+			}
+		}
+	}
+}
\ No newline at end of file
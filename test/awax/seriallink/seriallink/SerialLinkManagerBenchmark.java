@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import awax.seriallink.seriallink.transport.VirtualSerialPort;
+import awax.seriallink.seriallink.transport.VirtualSerialPorts;
+
+/**
+ * Mesure de la mémoire et du temps CPU par port d'un
+ * {@link SerialLinkManager} rattaché à un {@link SerialLinkReactor}, pour un
+ * nombre croissant de ports virtuels.
+ * <p>
+ * Pour chaque nombre de ports, le test ouvre toutes les liaisons en parallèle
+ * et mesure le tas retenu par port inactif, qui doit rester borné. Il envoie
+ * ensuite des messages sur chaque port à cadence fixe et mesure le temps CPU
+ * des boucles du réacteur et du processus, puis vérifie via
+ * {@link SerialLinkManager#sampleThroughput()} que tous les octets ont été
+ * reçus. Le nombre de threads de la bibliothèque ne doit pas croître avec le
+ * nombre de ports ; les threads des ports virtuels, qui simulent le pilote, ne
+ * sont pas comptés. Un premier passage de mise en route n'est pas affiché. Il
+ * se lance directement par sa méthode <code>main</code>, avec en arguments
+ * optionnels les nombres de ports séparés par des virgules et la durée de
+ * l'envoi en secondes, et se termine avec un code de retour non nul en cas
+ * d'échec.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class SerialLinkManagerBenchmark {
+
+	/** Messages envoyés par seconde sur chaque port. */
+	private static final int RATE = 20;
+
+	/**
+	 * Nombre de ports du passage de mise en route, qui absorbe les
+	 * initialisations uniques faussant la mesure du tas.
+	 */
+	private static final int WARMUP_PORTS = 10;
+
+	/**
+	 * Tas retenu toléré par port inactif, client, files d'écriture et buffer
+	 * de réception compris.
+	 */
+	private static final long MAX_HEAP_PER_PORT = 64 * 1024;
+
+	private static final byte[] MESSAGE = new byte[32];
+
+	private final com.sun.management.ThreadMXBean threads;
+	private final com.sun.management.OperatingSystemMXBean system;
+	private final MemoryMXBean memory;
+	private final AtomicInteger failures;
+
+	/**
+	 * Permet d'instancier le test.
+	 */
+	public SerialLinkManagerBenchmark () {
+		this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		this.system = (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+		this.memory = ManagementFactory.getMemoryMXBean();
+		this.failures = new AtomicInteger(0);
+	}
+
+	/**
+	 * Point d'entrée du test.
+	 * 
+	 * @param args
+	 *            Nombres de ports séparés par des virgules et durée de l'envoi
+	 *            en secondes, optionnels.
+	 * @throws Exception
+	 *             Si une liaison ne peut pas être ouverte.
+	 */
+	public static void main (final String[] args) throws Exception {
+		final String[] counts = (args.length > 0 ? args[0] : "10,100,400").split(",");
+		final int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+		final SerialLinkManagerBenchmark benchmark = new SerialLinkManagerBenchmark();
+		boolean success = benchmark.run(WARMUP_PORTS, 1, false);
+		for (String count : counts) {
+			success &= benchmark.run(Integer.parseInt(count.trim()), seconds, true);
+		}
+		System.exit(success ? 0 : 1);
+	}
+
+	/**
+	 * Permet d'exécuter le test pour un nombre de ports.
+	 * 
+	 * @param ports
+	 *            Nombre de ports.
+	 * @param seconds
+	 *            Durée de l'envoi en secondes.
+	 * @param print
+	 *            <code>true</code> pour afficher les mesures.
+	 * @return <code>true</code> si le test a réussi.
+	 * @throws Exception
+	 *             Si une liaison ne peut pas être ouverte.
+	 */
+	public boolean run (final int ports, final int seconds, final boolean print) throws Exception {
+		final int failuresBefore = this.failures.get();
+		final String prefix = "manager-bench-" + System.nanoTime() + "-";
+		final VirtualSerialPort[] devices = new VirtualSerialPort[ports];
+		for (int i = 0; i < ports; i++) {
+			devices[i] = VirtualSerialPorts.createPair(prefix + i, prefix + i + "-device").getPeer();
+		}
+		final SerialLinkReactor reactor = new SerialLinkReactor();
+		final SerialLinkManager manager =
+				new SerialLinkManager("SerialLinkManagerBenchmark", reactor, SerialLinkManager.DEFAULT_PARALLELISM);
+		try {
+			final long heapBefore = usedHeap();
+			for (int i = 0; i < ports; i++) {
+				final SerialLinkParameters params = new SerialLinkParameters();
+				params.setComId("virtual://" + prefix + i);
+				manager.add(prefix + i, params);
+			}
+			final long openStart = System.nanoTime();
+			manager.openAll().get(30, TimeUnit.SECONDS);
+			final long openNanos = System.nanoTime() - openStart;
+			final long heapPerPort = (usedHeap() - heapBefore) / ports;
+			final int libraryThreads = countLibraryThreads();
+
+			manager.sampleThroughput();
+			final long cpuBefore = this.system.getProcessCpuTime();
+			final long reactorBefore = reactorCpuTime();
+			final long sent = send(devices, seconds);
+			final long reactorNanos = reactorCpuTime() - reactorBefore;
+			final long cpuNanos = this.system.getProcessCpuTime() - cpuBefore;
+			final long received = awaitReceived(manager, sent);
+
+			if (print) {
+				System.out.printf("%d ports: opened in %.0f ms, %d B of heap per idle port, %d library threads, "
+						+ "reactor %.1f us and process %.1f us of CPU per port per second, %d/%d bytes received%n",
+						ports, openNanos / 1e6, heapPerPort, libraryThreads, reactorNanos / 1e3 / ports / seconds,
+						cpuNanos / 1e3 / ports / seconds, received, sent);
+			}
+			if (heapPerPort > MAX_HEAP_PER_PORT) {
+				fail(heapPerPort + " B of heap per idle port");
+			}
+			if (libraryThreads > reactor.getThreadCount() + SerialLinkManager.DEFAULT_PARALLELISM) {
+				fail(libraryThreads + " library threads for " + ports + " ports");
+			}
+			if (received != sent) {
+				fail("Received " + received + " bytes instead of " + sent);
+			}
+		} finally {
+			manager.shutdown();
+			for (int i = 0; i < ports; i++) {
+				VirtualSerialPorts.remove(prefix + i);
+				VirtualSerialPorts.remove(prefix + i + "-device");
+			}
+		}
+		return this.failures.get() == failuresBefore;
+	}
+
+	/**
+	 * Permet d'envoyer des messages à cadence fixe sur chaque port.
+	 * 
+	 * @param devices
+	 *            Ports distants.
+	 * @param seconds
+	 *            Durée de l'envoi en secondes.
+	 * @return Nombre d'octets envoyés.
+	 * @throws Exception
+	 *             Si l'envoi est interrompu.
+	 */
+	private long send (final VirtualSerialPort[] devices, final int seconds) throws Exception {
+		final ByteBuffer buffer = ByteBuffer.wrap(MESSAGE);
+		final long period = TimeUnit.SECONDS.toNanos(1) / RATE;
+		final long start = System.nanoTime();
+		long sent = 0;
+		for (int round = 0; round < seconds * RATE; round++) {
+			for (VirtualSerialPort device : devices) {
+				buffer.clear();
+				sent += device.write(buffer, false);
+			}
+			final long wait = start + (round + 1) * period - System.nanoTime();
+			if (wait > 0) {
+				TimeUnit.NANOSECONDS.sleep(wait);
+			}
+		}
+		return sent;
+	}
+
+	/**
+	 * Permet d'attendre que le gestionnaire ait reçu le nombre d'octets
+	 * spécifié, au plus quelques secondes.
+	 * 
+	 * @param manager
+	 *            Gestionnaire des liaisons.
+	 * @param expected
+	 *            Nombre d'octets attendus.
+	 * @return Nombre d'octets reçus.
+	 * @throws InterruptedException
+	 *             Si le thread appelant est interrompu.
+	 */
+	private static long awaitReceived (final SerialLinkManager manager, final long expected)
+			throws InterruptedException {
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		long received;
+		do {
+			TimeUnit.MILLISECONDS.sleep(50);
+			manager.sampleThroughput();
+			received = manager.getTotalThroughput().getBytesReceived();
+		} while (received < expected && System.nanoTime() < deadline);
+		return received;
+	}
+
+	/**
+	 * Renvoie le tas occupé juste après un ramasse-miettes. La plus petite de
+	 * plusieurs mesures est retenue, les autres threads continuant d'allouer.
+	 * 
+	 * @return Nombre d'octets occupés.
+	 * @throws InterruptedException
+	 *             Si le thread appelant est interrompu.
+	 */
+	private long usedHeap () throws InterruptedException {
+		long used = Long.MAX_VALUE;
+		for (int i = 0; i < 5; i++) {
+			System.gc();
+			used = Math.min(used, this.memory.getHeapMemoryUsage().getUsed());
+			TimeUnit.MILLISECONDS.sleep(20);
+		}
+		return used;
+	}
+
+	/**
+	 * Renvoie le nombre de threads vivants créés par la bibliothèque, hors
+	 * threads des ports virtuels.
+	 * 
+	 * @return Nombre de threads.
+	 */
+	private static int countLibraryThreads () {
+		int count = 0;
+		for (Thread thread : Thread.getAllStackTraces().keySet()) {
+			if (thread.getName().startsWith("SerialLink-") && !thread.getName().startsWith("SerialLink-virtual-")) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Renvoie le temps CPU cumulé des boucles du réacteur.
+	 * 
+	 * @return Temps CPU en nanosecondes.
+	 */
+	private long reactorCpuTime () {
+		long total = 0;
+		for (Thread thread : Thread.getAllStackTraces().keySet()) {
+			if (thread.getName().startsWith("SerialLink-reactor-")) {
+				total += Math.max(0, this.threads.getThreadCpuTime(thread.getId()));
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Permet de signaler un échec.
+	 * 
+	 * @param message
+	 *            Description de l'échec.
+	 */
+	private void fail (final String message) {
+		if (this.failures.incrementAndGet() <= 10) {
+			System.err.println("FAILURE: " + message);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.modbus;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import awax.seriallink.seriallink.SerialLinkClient;
+import awax.seriallink.seriallink.SerialLinkConnectionException;
+import awax.seriallink.seriallink.SerialLinkParameters;
+import awax.seriallink.seriallink.transport.VirtualSerialPort;
+import awax.seriallink.seriallink.transport.VirtualSerialPorts;
+
+/**
+ * Mesure du débit du maître Modbus face à un {@link VirtualModbusSlave} sur
+ * une ligne virtuelle cadencée au débit de la liaison.
+ * <p>
+ * Le test enchaîne des lectures de 10 registres de maintien et vérifie les
+ * valeurs lues. La durée moyenne d'une transaction ne peut être inférieure
+ * à la transmission de la requête et de la réponse suivie du silence
+ * inter-trames : une durée plus courte signifie que le silence n'est pas
+ * respecté. Il mesure ensuite le regroupement des lectures périodiques de
+ * 40 blocs adjacents de 5 registres par le {@link ModbusPoller}. Il se lance
+ * directement par sa méthode <code>main</code>, avec en arguments optionnels
+ * le débit et le nombre de lectures, et se termine avec un code de retour non
+ * nul en cas d'échec.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class ModbusMasterBenchmark {
+
+	private static final int SLAVE = 7;
+	private static final int QUANTITY = 10;
+	private static final int POLL_COUNT = 40;
+	private static final int POLL_QUANTITY = 5;
+	private static final long POLL_PERIOD = 100;
+
+	/** Longueur d'une requête de lecture, CRC compris. */
+	private static final int REQUEST_LENGTH = 8;
+
+	/** Longueur de la réponse à une lecture de 10 registres, CRC compris. */
+	private static final int RESPONSE_LENGTH = 5 + 2 * QUANTITY;
+
+	/**
+	 * Point d'entrée du test.
+	 * 
+	 * @param args
+	 *            Débit de la liaison et nombre de lectures, optionnels.
+	 * @throws Exception
+	 *             Si la liaison ne peut pas être ouverte.
+	 */
+	public static void main (final String[] args) throws Exception {
+		final int baudRate = args.length > 0 ? Integer.parseInt(args[0]) : 115200;
+		final int reads = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+		final boolean success = run(baudRate, reads);
+		System.exit(success ? 0 : 1);
+	}
+
+	/**
+	 * Permet d'exécuter le test.
+	 * 
+	 * @param baudRate
+	 *            Débit de la liaison.
+	 * @param reads
+	 *            Nombre de lectures chronométrées.
+	 * @return <code>true</code> si le test a réussi.
+	 * @throws Exception
+	 *             Si la liaison ne peut pas être ouverte.
+	 */
+	public static boolean run (final int baudRate, final int reads) throws Exception {
+		final String name = "modbus-bench-" + System.nanoTime();
+		final VirtualSerialPort host = VirtualSerialPorts.createPair(name, name + "-slave");
+		host.setPacing(true);
+		host.getPeer().setPacing(true);
+		final VirtualModbusSlave slave = new VirtualModbusSlave(host.getPeer(), SLAVE, 1000);
+		slave.start();
+		final SerialLinkParameters params = new SerialLinkParameters();
+		params.setComId("virtual://" + name);
+		params.setBaudRate(baudRate);
+		ModbusMaster.configure(params);
+		final SerialLinkClient client = new SerialLinkClient("ModbusMasterBenchmark", params);
+		client.open();
+		final ModbusMaster master = new ModbusMaster(client);
+		boolean success = true;
+		try {
+			final int[] values = new int[POLL_COUNT * POLL_QUANTITY];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = i * 300;
+			}
+			for (int offset = 0; offset < values.length; offset += ModbusMaster.MAX_WRITE_REGISTERS) {
+				final int count = Math.min(ModbusMaster.MAX_WRITE_REGISTERS, values.length - offset);
+				master.writeMultipleRegisters(SLAVE, offset, values, offset, count);
+			}
+			success &= benchmarkReads(master, values, reads);
+			success &= benchmarkPoller(master, values);
+		} finally {
+			master.close();
+			client.close();
+			slave.stop();
+		}
+		return success;
+	}
+
+	/**
+	 * Permet de chronométrer des lectures successives et de vérifier le
+	 * respect du silence inter-trames.
+	 * 
+	 * @param master
+	 *            Maître Modbus.
+	 * @param values
+	 *            Valeurs écrites dans l'esclave.
+	 * @param reads
+	 *            Nombre de lectures.
+	 * @return <code>true</code> si les valeurs et les durées sont correctes.
+	 * @throws SerialLinkConnectionException
+	 *             Si une lecture échoue.
+	 */
+	private static boolean benchmarkReads (final ModbusMaster master, final int[] values, final int reads)
+			throws SerialLinkConnectionException {
+		final SerialLinkParameters params = master.getClient().getSerialParams();
+		final int[] dst = new int[QUANTITY];
+		int mismatches = 0;
+		// Mise en route
+		master.readHoldingRegisters(SLAVE, 0, QUANTITY, dst, 0);
+		final long start = System.nanoTime();
+		for (int i = 0; i < reads; i++) {
+			final int address = (i * QUANTITY) % (values.length - QUANTITY);
+			master.readHoldingRegisters(SLAVE, address, QUANTITY, dst, 0);
+			for (int j = 0; j < QUANTITY; j++) {
+				if (dst[j] != values[address + j]) {
+					mismatches++;
+				}
+			}
+		}
+		final long cycle = (System.nanoTime() - start) / reads;
+		final long minimum = (REQUEST_LENGTH + RESPONSE_LENGTH) * params.getCharTimeNanos()
+				+ ModbusMaster.getSilenceNanos(params);
+
+		System.out.printf("%d baud: %d reads of %d registers, %.0f reads/s, %.2f ms per read (minimum %.2f ms)%n",
+				params.getBaudRate(), reads, QUANTITY, 1e9 / cycle, cycle / 1e6, minimum / 1e6);
+		boolean success = true;
+		if (mismatches > 0) {
+			System.err.println("FAILURE: " + mismatches + " registers read with a wrong value");
+			success = false;
+		}
+		if (cycle < minimum) {
+			System.err.println("FAILURE: transactions shorter than the wire time plus the inter-frame silence");
+			success = false;
+		}
+		return success;
+	}
+
+	/**
+	 * Permet de mesurer le regroupement des lectures périodiques.
+	 * 
+	 * @param master
+	 *            Maître Modbus.
+	 * @param values
+	 *            Valeurs écrites dans l'esclave.
+	 * @return <code>true</code> si toutes les lectures ont abouti avec les
+	 *         bonnes valeurs.
+	 * @throws InterruptedException
+	 *             Si le thread appelant est interrompu.
+	 */
+	private static boolean benchmarkPoller (final ModbusMaster master, final int[] values)
+			throws InterruptedException {
+		final AtomicLong ok = new AtomicLong();
+		final AtomicLong errors = new AtomicLong();
+		final ModbusPollListener listener = new ModbusPollListener() {
+
+			@Override
+			public void onRegisters (ModbusPoll poll, int[] registers, int offset) {
+				boolean valid = true;
+				for (int i = 0; i < poll.getQuantity(); i++) {
+					valid &= registers[offset + i] == values[poll.getAddress() + i];
+				}
+				(valid ? ok : errors).incrementAndGet();
+			}
+
+			@Override
+			public void onError (ModbusPoll poll, SerialLinkConnectionException e) {
+				errors.incrementAndGet();
+			}
+		};
+		final ModbusPoller poller = new ModbusPoller(master);
+		for (int i = 0; i < POLL_COUNT; i++) {
+			poller.schedule(SLAVE, ModbusMaster.READ_HOLDING_REGISTERS, i * POLL_QUANTITY, POLL_QUANTITY,
+					POLL_PERIOD, TimeUnit.MILLISECONDS, listener);
+		}
+		poller.start();
+		TimeUnit.SECONDS.sleep(2);
+		poller.stop();
+
+		System.out.printf("poller: %d polls served by %d requests, max lateness %.1f ms, %d errors%n",
+				poller.getPollCount(), poller.getRequestCount(), poller.getMaxLatenessNanos() / 1e6,
+				errors.get());
+		if (errors.get() > 0 || ok.get() == 0) {
+			System.err.println("FAILURE: periodic reads failed or returned wrong values");
+			return false;
+		}
+		return true;
+	}
+}
\ No newline at end of file
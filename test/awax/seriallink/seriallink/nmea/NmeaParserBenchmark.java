@@ -0,0 +1,300 @@
+/*******************************************************************************
+ * MIT License
+ *
+ * Copyright (c) 2017 Julien Le Sauce
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *******************************************************************************/
+package awax.seriallink.seriallink.nmea;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Mesure du débit et des allocations de {@link NmeaParser}, comparés à un
+ * décodage par {@link String#split(String)} du même flux.
+ * <p>
+ * Le flux alterne des phrases <code>GGA</code> et <code>RMC</code> valides et
+ * est fourni par blocs de 64 octets, comme des lectures successives. Les deux
+ * décodages extraient l'heure, les coordonnées et une valeur numérique de
+ * chaque phrase ; leurs résultats doivent concorder. Les allocations sont
+ * mesurées sur le thread du test. Il se lance directement par sa méthode
+ * <code>main</code>, avec en arguments optionnels le nombre de phrases du flux
+ * et le nombre de passes mesurées, et se termine avec un code de retour non
+ * nul en cas d'échec.
+ * 
+ * @author AwaX
+ * @created 17 oct. 2026
+ * @version 1.0
+ */
+public class NmeaParserBenchmark {
+
+	private static final int CHUNK = 64;
+	private static final int WARMUP_PASSES = 5;
+
+	/** Octets alloués tolérés par phrase pour l'analyseur. */
+	private static final long PARSER_TOLERANCE = 8;
+
+	private static final String[] TEMPLATES = {
+			"GPGGA,%02d%02d%02d.%02d,48%02d.%03d,N,011%02d.%03d,E,1,%02d,0.9,%d.%d,M,46.9,M,,",
+			"GPRMC,%02d%02d%02d.%02d,A,48%02d.%03d,N,011%02d.%03d,W,%03d.%d,084.4,230394,003.1,W" };
+
+	private final com.sun.management.ThreadMXBean threads;
+	private final byte[] stream;
+	private final int sentences;
+	private double parserSum;
+	private long parserCount;
+
+	/**
+	 * Permet d'instancier le test avec un flux du nombre de phrases spécifié.
+	 * 
+	 * @param sentences
+	 *            Nombre de phrases du flux.
+	 */
+	public NmeaParserBenchmark (final int sentences) {
+		this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		this.sentences = sentences;
+		this.stream = createStream(sentences);
+	}
+
+	/**
+	 * Point d'entrée du test.
+	 * 
+	 * @param args
+	 *            Nombre de phrases du flux et nombre de passes mesurées,
+	 *            optionnels.
+	 */
+	public static void main (final String[] args) {
+		final int sentences = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+		final int passes = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+		final boolean success = new NmeaParserBenchmark(sentences).run(passes);
+		System.exit(success ? 0 : 1);
+	}
+
+	/**
+	 * Permet d'exécuter le test.
+	 * 
+	 * @param passes
+	 *            Nombre de passes mesurées sur le flux.
+	 * @return <code>true</code> si le test a réussi.
+	 */
+	public boolean run (final int passes) {
+		if (!this.threads.isThreadAllocatedMemorySupported()) {
+			System.err.println("FAILURE: per-thread allocation measurement is not supported by this JVM");
+			return false;
+		}
+		this.threads.setThreadAllocatedMemoryEnabled(true);
+		final NmeaParser parser = new NmeaParser();
+		parser.addSentenceListener(new NmeaSentenceListener() {
+
+			@Override
+			public void onSentence (NmeaSentence sentence) {
+				NmeaParserBenchmark.this.parserSum += decode(sentence);
+				NmeaParserBenchmark.this.parserCount++;
+			}
+		});
+
+		for (int i = 0; i < WARMUP_PASSES; i++) {
+			runParser(parser);
+			runSplit();
+		}
+		final long id = Thread.currentThread().getId();
+		this.parserSum = 0;
+		this.parserCount = 0;
+		long bytes = this.threads.getThreadAllocatedBytes(id);
+		long start = System.nanoTime();
+		for (int i = 0; i < passes; i++) {
+			runParser(parser);
+		}
+		final long parserNanos = System.nanoTime() - start;
+		final long parserBytes = this.threads.getThreadAllocatedBytes(id) - bytes;
+
+		double splitSum = 0;
+		long splitCount = 0;
+		bytes = this.threads.getThreadAllocatedBytes(id);
+		start = System.nanoTime();
+		for (int i = 0; i < passes; i++) {
+			final double[] result = runSplit();
+			splitSum += result[0];
+			splitCount += (long) result[1];
+		}
+		final long splitNanos = System.nanoTime() - start;
+		final long splitBytes = this.threads.getThreadAllocatedBytes(id) - bytes;
+
+		final long total = (long) this.sentences * passes;
+		System.out.printf("NmeaParser: %.2f M sentences/s, %.1f B per sentence%n", total * 1e3 / parserNanos,
+				(double) parserBytes / total);
+		System.out.printf("String.split: %.2f M sentences/s, %.1f B per sentence%n", total * 1e3 / splitNanos,
+				(double) splitBytes / total);
+
+		boolean success = true;
+		if (this.parserCount != total || splitCount != total || parser.getChecksumErrorCount() != 0
+				|| parser.getMalformedCount() != 0) {
+			System.err.println("FAILURE: " + this.parserCount + " sentences parsed and " + splitCount
+					+ " split instead of " + total);
+			success = false;
+		}
+		if (Math.abs(this.parserSum - splitSum) > 1e-6 * total) {
+			System.err.println("FAILURE: decoded values differ, " + this.parserSum + " instead of " + splitSum);
+			success = false;
+		}
+		if (parserBytes / total > PARSER_TOLERANCE) {
+			System.err.println("FAILURE: the parser allocates " + parserBytes / total + " B per sentence");
+			success = false;
+		}
+		return success;
+	}
+
+	/**
+	 * Permet de fournir le flux à l'analyseur par blocs.
+	 * 
+	 * @param parser
+	 *            Analyseur.
+	 */
+	private void runParser (final NmeaParser parser) {
+		for (int offset = 0; offset < this.stream.length; offset += CHUNK) {
+			parser.parse(this.stream, offset, Math.min(CHUNK, this.stream.length - offset), 0);
+		}
+	}
+
+	/**
+	 * Permet de décoder le flux par blocs à la manière d'un abonné aux
+	 * messages texte : chaque bloc est converti en chaîne, les lignes sont
+	 * reconstituées, leur somme de contrôle vérifiée puis leurs champs
+	 * découpés par {@link String#split(String)}.
+	 * 
+	 * @return Somme des valeurs décodées et nombre de phrases.
+	 */
+	private double[] runSplit () {
+		final StringBuilder pending = new StringBuilder();
+		double sum = 0;
+		long count = 0;
+		for (int offset = 0; offset < this.stream.length; offset += CHUNK) {
+			final int length = Math.min(CHUNK, this.stream.length - offset);
+			pending.append(new String(this.stream, offset, length, StandardCharsets.US_ASCII));
+			int end;
+			while ((end = pending.indexOf("\n")) >= 0) {
+				final String line = pending.substring(0, end).trim();
+				pending.delete(0, end + 1);
+				final int star = line.lastIndexOf('*');
+				if (!line.startsWith("$") || star < 0) {
+					continue;
+				}
+				final String body = line.substring(1, star);
+				int checksum = 0;
+				for (int i = 0; i < body.length(); i++) {
+					checksum ^= body.charAt(i);
+				}
+				if (checksum != Integer.parseInt(line.substring(star + 1), 16)) {
+					continue;
+				}
+				sum += decode(body.split(",", -1));
+				count++;
+			}
+		}
+		return new double[] { sum, count };
+	}
+
+	/**
+	 * Permet d'extraire les valeurs d'une phrase via le curseur de
+	 * l'analyseur.
+	 * 
+	 * @param sentence
+	 *            Phrase analysée.
+	 * @return Somme des valeurs extraites.
+	 */
+	private static double decode (final NmeaSentence sentence) {
+		if (sentence.isType("GGA")) {
+			return sentence.getTimeMillis(1) + sentence.getLatitude(2) + sentence.getLongitude(4)
+					+ sentence.getInt(7, 0) + sentence.getDouble(9);
+		}
+		return sentence.getTimeMillis(1) + sentence.getLatitude(3) + sentence.getLongitude(5)
+				+ sentence.getDouble(7);
+	}
+
+	/**
+	 * Permet d'extraire les valeurs d'une phrase découpée en chaînes.
+	 * 
+	 * @param fields
+	 *            Champs de la phrase.
+	 * @return Somme des valeurs extraites.
+	 */
+	private static double decode (final String[] fields) {
+		if (fields[0].endsWith("GGA")) {
+			return parseTime(fields[1]) + parseCoordinate(fields[2], fields[3]) + parseCoordinate(fields[4], fields[5])
+					+ Integer.parseInt(fields[7]) + Double.parseDouble(fields[9]);
+		}
+		return parseTime(fields[1]) + parseCoordinate(fields[3], fields[4]) + parseCoordinate(fields[5], fields[6])
+				+ Double.parseDouble(fields[7]);
+	}
+
+	/**
+	 * Permet de décoder une heure <code>hhmmss.ss</code> en millisecondes.
+	 * 
+	 * @param field
+	 *            Champ de l'heure.
+	 * @return Nombre de millisecondes depuis minuit.
+	 */
+	private static double parseTime (final String field) {
+		final int hh = Integer.parseInt(field.substring(0, 2));
+		final int mm = Integer.parseInt(field.substring(2, 4));
+		final double ss = Double.parseDouble(field.substring(4));
+		return (hh * 60 + mm) * 60000 + Math.round(ss * 1000);
+	}
+
+	/**
+	 * Permet de décoder une coordonnée en degrés et minutes décimales.
+	 * 
+	 * @param field
+	 *            Champ de la coordonnée.
+	 * @param hemisphere
+	 *            Champ de l'hémisphère.
+	 * @return Coordonnée en degrés décimaux.
+	 */
+	private static double parseCoordinate (final String field, final String hemisphere) {
+		final double raw = Double.parseDouble(field);
+		final double degrees = Math.floor(raw / 100);
+		final double value = degrees + (raw - degrees * 100) / 60;
+		return hemisphere.equals("S") || hemisphere.equals("W") ? -value : value;
+	}
+
+	/**
+	 * Permet de créer un flux de phrases valides, chacune terminée par sa
+	 * somme de contrôle et un retour à la ligne.
+	 * 
+	 * @param sentences
+	 *            Nombre de phrases.
+	 * @return Octets du flux.
+	 */
+	private static byte[] createStream (final int sentences) {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream(sentences * 80);
+		for (int i = 0; i < sentences; i++) {
+			final String body = String.format(TEMPLATES[i % TEMPLATES.length], i / 3600 % 24, i / 60 % 60, i % 60,
+					i % 100, i % 60, i % 1000, (i + 7) % 60, (i * 7) % 1000, i % 13, i % 1000, i % 10);
+			int checksum = 0;
+			for (int j = 0; j < body.length(); j++) {
+				checksum ^= body.charAt(j);
+			}
+			final byte[] bytes = String.format("$%s*%02X\r\n", body, checksum).getBytes(StandardCharsets.US_ASCII);
+			out.write(bytes, 0, bytes.length);
+		}
+		return out.toByteArray();
+	}
+}
\ No newline at end of file